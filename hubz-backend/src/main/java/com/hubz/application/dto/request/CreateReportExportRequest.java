@@ -0,0 +1,31 @@
+package com.hubz.application.dto.request;
+
+import com.hubz.domain.enums.ReportFormat;
+import com.hubz.domain.enums.ReportType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateReportExportRequest {
+
+    @NotNull(message = "Report type is required")
+    private ReportType reportType;
+
+    @NotNull(message = "Format is required")
+    private ReportFormat format;
+
+    /**
+     * Organization to export; leave empty for personal goals and habits.
+     */
+    private UUID organizationId;
+}
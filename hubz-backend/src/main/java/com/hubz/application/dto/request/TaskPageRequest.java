@@ -0,0 +1,37 @@
+package com.hubz.application.dto.request;
+
+import com.hubz.domain.enums.TaskPriority;
+import com.hubz.domain.enums.TaskSortField;
+import com.hubz.domain.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Parameters of the paginated task listing.
+ * Filters are optional -- when null, no filtering is applied for that dimension.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageRequest {
+
+    /** Opaque cursor returned as {@code nextCursor} by the previous page; null for the first page. */
+    private String cursor;
+
+    /** Maximum number of tasks to return. */
+    private Integer limit;
+
+    /** Ordering timestamp, defaults to {@link TaskSortField#UPDATED_AT}. */
+    private TaskSortField sort;
+
+    private TaskStatus status;
+
+    private UUID assigneeId;
+
+    private TaskPriority priority;
+}
@@ -23,4 +23,6 @@ public class BackgroundJobResponse {
     private String error;
     private LocalDateTime createdAt;
     private LocalDateTime executedAt;
+    private LocalDateTime runAt;
+    private Integer priority;
 }
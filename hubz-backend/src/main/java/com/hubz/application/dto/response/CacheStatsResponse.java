@@ -0,0 +1,34 @@
+package com.hubz.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+    private String name;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+
+    /**
+     * Statistics of a cache; the hit rate is 1.0 while the cache has not been queried.
+     */
+    public static CacheStatsResponse of(String name, long size, long hitCount, long missCount, long evictionCount) {
+        long requestCount = hitCount + missCount;
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(size)
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .hitRate(requestCount == 0 ? 1.0 : (double) hitCount / requestCount)
+                .evictionCount(evictionCount)
+                .build();
+    }
+}
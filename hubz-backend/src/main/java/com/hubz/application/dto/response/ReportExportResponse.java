@@ -0,0 +1,31 @@
+package com.hubz.application.dto.response;
+
+import com.hubz.domain.enums.ReportExportStatus;
+import com.hubz.domain.enums.ReportFormat;
+import com.hubz.domain.enums.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportExportResponse {
+    private UUID id;
+    private UUID organizationId;
+    private ReportType reportType;
+    private ReportFormat format;
+    private ReportExportStatus status;
+    private Integer progress;
+    private String fileName;
+    private Long fileSize;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private String downloadUrl;
+}
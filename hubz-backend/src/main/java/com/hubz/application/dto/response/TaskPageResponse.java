@@ -0,0 +1,21 @@
+package com.hubz.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageResponse {
+
+    private List<TaskResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
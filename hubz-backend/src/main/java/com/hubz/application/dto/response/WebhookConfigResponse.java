@@ -1,5 +1,6 @@
 package com.hubz.application.dto.response;
 
+import com.hubz.domain.enums.WebhookCircuitState;
 import com.hubz.domain.enums.WebhookEventType;
 import com.hubz.domain.enums.WebhookServiceType;
 import lombok.AllArgsConstructor;
@@ -28,4 +29,10 @@ public class WebhookConfigResponse {
     private UUID createdById;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private WebhookCircuitState circuitState;
+    private int consecutiveFailures;
+    private double failureRate;
+    private LocalDateTime circuitOpenUntil;
+    private LocalDateTime lastFailureAt;
+    private String lastError;
 }
@@ -12,6 +12,8 @@ public interface JobExecutor {
      * Execute the job with the given payload.
      *
      * @param payload JSON string containing the job parameters
+     * @throws com.hubz.domain.exception.JobDeferredException if the job cannot run yet and should
+     *                                                        be run again later without counting a failure
      * @throws Exception if the job execution fails
      */
     void execute(String payload) throws Exception;
@@ -22,4 +24,14 @@ public interface JobExecutor {
      * @return the job type
      */
     JobType getJobType();
+
+    /**
+     * Maximum number of jobs of this type that may run at the same time on one node. The worker
+     * pool has one thread for each slot of every type.
+     *
+     * @return the concurrency limit, at least 1
+     */
+    default int getMaxConcurrency() {
+        return 1;
+    }
 }
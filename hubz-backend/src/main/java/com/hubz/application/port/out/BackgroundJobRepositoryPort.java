@@ -1,6 +1,7 @@
 package com.hubz.application.port.out;
 
 import com.hubz.domain.enums.JobStatus;
+import com.hubz.domain.enums.JobType;
 import com.hubz.domain.model.BackgroundJob;
 
 import java.time.LocalDateTime;
@@ -16,6 +17,30 @@ public interface BackgroundJobRepositoryPort {
 
     List<BackgroundJob> findByStatus(JobStatus status);
 
+    /**
+     * Atomically claim up to {@code limit} due pending jobs of a type by marking them RUNNING,
+     * highest priority first. Jobs whose run-at time lies in the future are left alone, and jobs
+     * claimed concurrently by another node are skipped rather than waited for. RUNNING jobs whose
+     * {@link BackgroundJob#RUN_LEASE lease} has expired are not returned but marked as a failed
+     * attempt, see {@link BackgroundJob#markLeaseExpired()}.
+     */
+    List<BackgroundJob> claimPendingJobs(JobType type, int limit);
+
+    /**
+     * Extend the lease of a running job, provided it is still RUNNING under {@code heldLease}.
+     *
+     * @return false if the lease was lost, i.e. the job was claimed again or finished elsewhere
+     */
+    boolean renewLease(UUID id, LocalDateTime heldLease, LocalDateTime renewedLease);
+
+    /**
+     * Record the outcome of a run, provided the job is still RUNNING under {@code heldLease}, so a
+     * run whose lease expired cannot overwrite the outcome of the run that reclaimed the job.
+     *
+     * @return false if the lease was lost and nothing was written
+     */
+    boolean saveIfLeaseHeld(BackgroundJob job, LocalDateTime heldLease);
+
     List<BackgroundJob> findAll();
 
     /**
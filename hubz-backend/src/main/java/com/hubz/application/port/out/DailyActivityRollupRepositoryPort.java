@@ -0,0 +1,64 @@
+package com.hubz.application.port.out;
+
+import com.hubz.domain.model.DailyActivityRollup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Port interface for the materialized daily activity rollups.
+ * Besides reading and writing rollup rows, it exposes the raw aggregates
+ * needed to rebuild them from the task, habit and goal history.
+ */
+public interface DailyActivityRollupRepositoryPort {
+
+    /**
+     * Atomically add the counters of the given delta to the row identified by its
+     * organization, user and date. A missing row is created first, carrying the
+     * in-progress snapshot of the latest earlier row of the same scope forward.
+     */
+    void increment(DailyActivityRollup delta);
+
+    /**
+     * Get the rollup rows of a scope within a date range (inclusive), ordered by date.
+     * A null organization or user selects the user-wide or organization-wide rows.
+     */
+    List<DailyActivityRollup> findByScope(UUID organizationId, UUID userId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Replace all rollup rows within a date range (inclusive) with the given rows.
+     */
+    void replaceRange(LocalDate startDate, LocalDate endDate, List<DailyActivityRollup> rollups);
+
+    /**
+     * Get daily task creations within a range.
+     * Returns a list of [organizationId, creatorId, date, count] rows.
+     */
+    List<Object[]> aggregateTaskCreations(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Get daily task completions within a range.
+     * Returns a list of [organizationId, assigneeId, date, count] rows.
+     */
+    List<Object[]> aggregateTaskCompletions(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Get the current number of in-progress tasks.
+     * Returns a list of [organizationId, assigneeId, count] rows.
+     */
+    List<Object[]> countInProgressTasks();
+
+    /**
+     * Get daily habit completions within a range (inclusive).
+     * Returns a list of [userId, date, count] rows.
+     */
+    List<Object[]> aggregateHabitCompletions(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Get daily goal progress updates within a range.
+     * Returns a list of [organizationId, userId, date, count] rows.
+     */
+    List<Object[]> aggregateGoalUpdates(LocalDateTime startDate, LocalDateTime endDate);
+}
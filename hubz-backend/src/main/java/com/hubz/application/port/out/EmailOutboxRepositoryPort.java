@@ -0,0 +1,24 @@
+package com.hubz.application.port.out;
+
+import com.hubz.domain.model.EmailOutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepositoryPort {
+
+    EmailOutboxMessage save(EmailOutboxMessage message);
+
+    void saveAll(List<EmailOutboxMessage> messages);
+
+    /**
+     * Atomically claim up to {@code limit} due messages, oldest first, and mark them SENDING for
+     * {@link EmailOutboxMessage#SEND_LEASE}. Messages claimed by another node are skipped.
+     */
+    List<EmailOutboxMessage> claimBatch(int limit);
+
+    /**
+     * Delete sent and permanently failed messages created before the given date.
+     */
+    int deleteFinishedBefore(LocalDateTime cutoffDate);
+}
@@ -16,6 +16,7 @@ public interface EventRepositoryPort {
     List<Event> findPersonalEvents(UUID userId);
     List<Event> findByOrganizationAndTimeRange(UUID organizationId, LocalDateTime start, LocalDateTime end);
     List<Event> findPersonalEventsByTimeRange(UUID userId, LocalDateTime start, LocalDateTime end);
+    List<Event> findPersonalEventsByUserIdsAndTimeRange(List<UUID> userIds, LocalDateTime start, LocalDateTime end);
     void delete(Event event);
     void deleteAll(List<Event> events);
 
@@ -12,6 +12,7 @@ public interface GoalRepositoryPort {
     Optional<Goal> findById(UUID id);
     List<Goal> findByOrganizationId(UUID organizationId);
     List<Goal> findPersonalGoals(UUID userId);
+    List<Goal> findPersonalGoalsByUserIds(List<UUID> userIds);
     void deleteById(UUID id);
 
     List<Goal> searchByTitle(String query, List<UUID> organizationIds, UUID userId);
@@ -10,5 +10,6 @@ public interface HabitRepositoryPort {
     Habit save(Habit habit);
     Optional<Habit> findById(UUID id);
     List<Habit> findByUserId(UUID userId);
+    List<Habit> findByUserIdIn(List<UUID> userIds);
     void deleteById(UUID id);
 }
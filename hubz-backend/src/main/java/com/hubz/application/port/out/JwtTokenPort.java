@@ -1,6 +1,8 @@
 package com.hubz.application.port.out;
 
+import java.util.UUID;
+
 public interface JwtTokenPort {
 
-    String generateToken(String email);
+    String generateToken(UUID userId, String email);
 }
@@ -0,0 +1,40 @@
+package com.hubz.application.port.out;
+
+import com.hubz.application.dto.response.CacheStatsResponse;
+import com.hubz.domain.enums.MemberRole;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Port interface for the per-node cache of organization memberships, keyed by (organization, user).
+ * Negative results are cached too, as an empty role.
+ */
+public interface MembershipCachePort {
+
+    /**
+     * Get the cached role of a user in an organization, loading and caching it on a miss.
+     *
+     * @param orgId  The organization ID
+     * @param userId The user ID
+     * @param loader Loads the role when it is not cached; empty when the user is not a member
+     * @return The role of the user, or empty if the user is not a member
+     */
+    Optional<MemberRole> get(UUID orgId, UUID userId, Supplier<Optional<MemberRole>> loader);
+
+    /**
+     * Drop the cached membership of a user.
+     */
+    void evict(UUID orgId, UUID userId);
+
+    /**
+     * Drop every cached membership of an organization.
+     */
+    void evictOrganization(UUID orgId);
+
+    /**
+     * Hit/miss statistics of the cache.
+     */
+    CacheStatsResponse getStats();
+}
@@ -0,0 +1,27 @@
+package com.hubz.application.port.out;
+
+import com.hubz.domain.model.ReportExport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReportExportRepositoryPort {
+
+    ReportExport save(ReportExport export);
+
+    Optional<ReportExport> findById(UUID id);
+
+    /**
+     * Find the exports of a user, most recent first.
+     */
+    List<ReportExport> findByUserId(UUID userId);
+
+    /**
+     * Find exports created before the given date, whose files are due for deletion.
+     */
+    List<ReportExport> findCreatedBefore(LocalDateTime cutoffDate);
+
+    void deleteById(UUID id);
+}
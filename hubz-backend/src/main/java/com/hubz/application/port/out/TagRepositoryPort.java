@@ -2,7 +2,9 @@ package com.hubz.application.port.out;
 
 import com.hubz.domain.model.Tag;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -30,6 +32,12 @@ public interface TagRepositoryPort {
 
     List<Tag> findTagsByTaskId(UUID taskId);
 
+    /**
+     * Get the tags of several tasks at once, keyed by task ID.
+     * Tasks without tags have no entry in the returned map.
+     */
+    Map<UUID, List<Tag>> findTagsByTaskIds(Collection<UUID> taskIds);
+
     List<UUID> findTaskIdsByTagId(UUID tagId);
 
     // Document-Tag relationship methods
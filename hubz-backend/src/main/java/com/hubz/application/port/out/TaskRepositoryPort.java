@@ -1,9 +1,13 @@
 package com.hubz.application.port.out;
 
+import com.hubz.domain.enums.TaskStatus;
 import com.hubz.domain.model.Task;
+import com.hubz.domain.model.TaskPageQuery;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,10 +19,21 @@ public interface TaskRepositoryPort {
 
     List<Task> findByOrganizationId(UUID organizationId);
 
+    /**
+     * Get one keyset page of organization tasks, newest first by the query's sort field then ID.
+     * Returns at most {@code query.getLimit()} tasks.
+     */
+    List<Task> findPageByOrganizationId(TaskPageQuery query);
+
     List<Task> findByAssigneeId(UUID assigneeId);
 
     List<Task> findByGoalId(UUID goalId);
 
+    /**
+     * Find the DONE tasks of several assignees last updated at or after {@code since}.
+     */
+    List<Task> findCompletedByAssigneeIdsSince(List<UUID> assigneeIds, LocalDateTime since);
+
     void deleteById(UUID id);
 
     List<Task> searchByTitleOrDescription(String query, List<UUID> organizationIds);
@@ -32,4 +47,39 @@ public interface TaskRepositoryPort {
      * @return list of tasks with due dates in range
      */
     List<Task> findByAssigneeIdAndDueDateBetween(UUID assigneeId, LocalDateTime start, LocalDateTime end);
+
+    // ==================== Analytics aggregates ====================
+
+    /**
+     * Load the tasks of an organization for analytics. Only ids, status, priority, links
+     * and timestamps are fetched; title and description are left null.
+     */
+    List<Task> findForAnalyticsByOrganizationId(UUID organizationId);
+
+    /**
+     * Count the tasks of an organization grouped by status.
+     * Statuses without tasks are absent from the map.
+     */
+    Map<TaskStatus, Long> countByStatus(UUID organizationId);
+
+    /**
+     * Count the tasks of several goals grouped by goal, then by status.
+     * Goals without tasks are absent from the map.
+     */
+    Map<UUID, Map<TaskStatus, Long>> countByGoalIdsAndStatus(List<UUID> goalIds);
+
+    /**
+     * Count the tasks of an organization that are not done and whose due date is before the given instant.
+     */
+    long countOverdue(UUID organizationId, LocalDateTime before);
+
+    /**
+     * Count tasks created per day in an organization, for createdAt in [start, end).
+     */
+    Map<LocalDate, Long> countCreatedPerDay(UUID organizationId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Count tasks completed per day in an organization (status DONE, updatedAt in [start, end)).
+     */
+    Map<LocalDate, Long> countCompletedPerDay(UUID organizationId, LocalDateTime start, LocalDateTime end);
 }
@@ -2,6 +2,7 @@ package com.hubz.application.port.out;
 
 import com.hubz.domain.model.User;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,6 +10,11 @@ public interface UserRepositoryPort {
 
     Optional<User> findById(UUID id);
 
+    /**
+     * Load several users in one query. Unknown IDs are skipped.
+     */
+    List<User> findAllByIds(List<UUID> ids);
+
     Optional<User> findByEmail(String email);
 
     User save(User user);
@@ -18,5 +18,11 @@ public interface WebhookConfigRepositoryPort {
     List<WebhookConfig> findByOrganizationIdAndEnabledAndEventsContaining(
             UUID organizationId, boolean enabled, WebhookEventType eventType);
 
+    /**
+     * Persist the delivery health of a webhook without touching the fields admins edit,
+     * so a delivery finishing during an update does not undo it. Never re-enables a webhook.
+     */
+    void updateDeliveryHealth(WebhookConfig webhookConfig);
+
     void deleteById(UUID id);
 }
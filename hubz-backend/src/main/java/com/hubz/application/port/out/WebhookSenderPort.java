@@ -15,6 +15,8 @@ public interface WebhookSenderPort {
      * @param payload the JSON payload as a Map
      * @param secret  optional HMAC secret for signing the payload (can be null)
      * @return the HTTP status code returned by the target
+     * @throws com.hubz.domain.exception.WebhookThrottledException if too many deliveries to the same
+     *                                                             host are already in flight
      */
     int send(String url, Map<String, Object> payload, String secret);
 }
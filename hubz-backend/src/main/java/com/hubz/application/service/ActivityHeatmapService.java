@@ -3,7 +3,9 @@ package com.hubz.application.service;
 import com.hubz.application.dto.response.ActivityHeatmapResponse;
 import com.hubz.application.dto.response.ActivityHeatmapResponse.DailyActivity;
 import com.hubz.application.port.out.ActivityHeatmapRepositoryPort;
+import com.hubz.domain.model.DailyActivityRollup;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.DayOfWeek;
@@ -17,12 +19,18 @@ import java.util.stream.Collectors;
  * Service for generating activity heatmap data.
  * Aggregates contributions from tasks, goals, and habits
  * to create a GitHub-style contribution calendar.
+ * When rollup reads are enabled, contributions come from the daily rollups
+ * maintained by {@link DailyRollupService} instead of the raw tables.
  */
 @Service
 @RequiredArgsConstructor
 public class ActivityHeatmapService {
 
     private final ActivityHeatmapRepositoryPort activityHeatmapRepository;
+    private final DailyRollupService dailyRollupService;
+
+    @Value("${app.analytics.rollups.read-enabled:false}")
+    private boolean rollupReadsEnabled;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
     private static final Map<String, String> DAY_TRANSLATIONS = Map.of(
@@ -45,6 +53,12 @@ public class ActivityHeatmapService {
      * @return ActivityHeatmapResponse with daily activity data
      */
     public ActivityHeatmapResponse getContributionData(UUID userId, LocalDate startDate, LocalDate endDate) {
+        if (rollupReadsEnabled) {
+            return buildHeatmapResponse(aggregateRollups(
+                    dailyRollupService.getDailyRollups(null, userId, startDate, endDate), true
+            ), startDate, endDate);
+        }
+
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
 
@@ -103,6 +117,12 @@ public class ActivityHeatmapService {
     public ActivityHeatmapResponse getTeamActivityHeatmap(UUID organizationId) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusWeeks(52).with(DayOfWeek.SUNDAY);
+        if (rollupReadsEnabled) {
+            return buildHeatmapResponse(aggregateRollups(
+                    dailyRollupService.getDailyRollups(organizationId, null, startDate, endDate), false
+            ), startDate, endDate);
+        }
+
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
 
@@ -123,6 +143,12 @@ public class ActivityHeatmapService {
     public ActivityHeatmapResponse getMemberActivityHeatmap(UUID organizationId, UUID userId) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusWeeks(52).with(DayOfWeek.SUNDAY);
+        if (rollupReadsEnabled) {
+            return buildHeatmapResponse(aggregateRollups(
+                    dailyRollupService.getDailyRollups(organizationId, userId, startDate, endDate), false
+            ), startDate, endDate);
+        }
+
         LocalDateTime startDateTime = startDate.atStartOfDay();
         LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
 
@@ -284,6 +310,21 @@ public class ActivityHeatmapService {
                 .orElse(null);
     }
 
+    /**
+     * Aggregate daily rollups by date. User heatmaps count every contribution type,
+     * organization and member heatmaps only count task completions.
+     */
+    private Map<String, Integer> aggregateRollups(List<DailyActivityRollup> rollups, boolean allContributions) {
+        Map<String, Integer> map = new HashMap<>();
+        for (DailyActivityRollup rollup : rollups) {
+            long count = allContributions ? rollup.getContributions() : rollup.getTasksCompleted();
+            if (count > 0) {
+                map.put(rollup.getDate().format(DATE_FORMATTER), (int) count);
+            }
+        }
+        return map;
+    }
+
     /**
      * Aggregate query results by date (for LocalDateTime results).
      */
@@ -8,6 +8,7 @@ import com.hubz.application.dto.response.GoalAnalyticsResponse.*;
 import com.hubz.application.dto.response.HabitAnalyticsResponse.*;
 import com.hubz.application.dto.response.OrganizationAnalyticsResponse.*;
 import com.hubz.application.port.out.*;
+import com.hubz.application.service.TaskTimeSeriesEngine.TaskTimeSeries;
 import com.hubz.domain.enums.TaskPriority;
 import com.hubz.domain.enums.TaskStatus;
 import com.hubz.domain.model.*;
@@ -18,7 +19,6 @@ import org.springframework.stereotype.Service;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.time.temporal.WeekFields;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -38,6 +38,7 @@ public class AnalyticsService {
     private final EventRepositoryPort eventRepository;
     private final NoteRepositoryPort noteRepository;
     private final TaskCommentRepositoryPort taskCommentRepository;
+    private final TaskTimeSeriesEngine timeSeriesEngine;
 
     private static final int OVERLOAD_THRESHOLD = 10; // tasks considered as overloaded
     private static final int DEFAULT_INACTIVE_DAYS_THRESHOLD = 14;
@@ -107,7 +108,7 @@ public class AnalyticsService {
     public TaskAnalyticsResponse getTaskAnalytics(UUID organizationId, UUID currentUserId, AnalyticsFilterRequest filters) {
         authorizationService.checkOrganizationAccess(organizationId, currentUserId);
 
-        List<Task> allTasks = taskRepository.findByOrganizationId(organizationId);
+        List<Task> allTasks = taskRepository.findForAnalyticsByOrganizationId(organizationId);
         List<Task> tasks = applyFilters(allTasks, filters);
         LocalDate today = LocalDate.now();
 
@@ -148,34 +149,16 @@ public class AnalyticsService {
                 "DONE", doneCount
         );
 
-        // Time series data (last 30 days)
-        List<TimeSeriesData> tasksCreatedOverTime = getTasksCreatedOverTime(tasks, 30);
-        List<TimeSeriesData> tasksCompletedOverTime = getTasksCompletedOverTime(tasks, 30);
-
-        // Burndown chart data
-        List<BurndownData> burndownChart = calculateBurndownChart(tasks, 30);
-
-        // Velocity chart (last 12 weeks)
-        List<VelocityData> velocityChart = calculateVelocityChart(tasks, 12);
-
-        // Cumulative Flow Diagram
-        List<CumulativeFlowData> cumulativeFlowDiagram = calculateCumulativeFlow(tasks, 30);
-
-        // Advanced analytics - Burnup chart
-        List<BurnupData> burnupChart = calculateBurnupChart(tasks, 30);
-
-        // Advanced analytics - Throughput chart with 7-day rolling average
-        List<ThroughputData> throughputChart = calculateThroughputChart(tasks, 30);
+        // All day/week time-series (created, completed, burndown, burnup, velocity,
+        // cumulative flow, throughput, lead time, WIP) in a single pass over the tasks
+        TaskTimeSeries timeSeries = timeSeriesEngine.compute(tasks, today, 30, 12);
 
         // Advanced analytics - Cycle time distribution
         List<CycleTimeBucket> cycleTimeDistribution = calculateCycleTimeDistribution(tasks);
 
-        // Advanced analytics - Lead time trend (last 12 weeks)
-        List<LeadTimeData> leadTimeTrend = calculateLeadTimeTrend(tasks, 12);
+        // Advanced analytics - Average lead time and WIP
         Double averageLeadTimeHours = calculateAverageLeadTime(tasks);
-
-        // Advanced analytics - WIP chart
-        List<WIPData> wipChart = calculateWIPChart(tasks, 30);
+        List<WIPData> wipChart = timeSeries.getWipChart();
         Double averageWIP = calculateAverageWIP(wipChart);
 
         // Status time tracking
@@ -195,15 +178,15 @@ public class AnalyticsService {
                 .averageTimeInProgressHours(avgTimeInProgressHours)
                 .tasksByPriority(tasksByPriority)
                 .tasksByStatus(tasksByStatus)
-                .tasksCreatedOverTime(tasksCreatedOverTime)
-                .tasksCompletedOverTime(tasksCompletedOverTime)
-                .burndownChart(burndownChart)
-                .burnupChart(burnupChart)
-                .velocityChart(velocityChart)
-                .cumulativeFlowDiagram(cumulativeFlowDiagram)
-                .throughputChart(throughputChart)
+                .tasksCreatedOverTime(timeSeries.getTasksCreatedOverTime())
+                .tasksCompletedOverTime(timeSeries.getTasksCompletedOverTime())
+                .burndownChart(timeSeries.getBurndownChart())
+                .burnupChart(timeSeries.getBurnupChart())
+                .velocityChart(timeSeries.getVelocityChart())
+                .cumulativeFlowDiagram(timeSeries.getCumulativeFlowDiagram())
+                .throughputChart(timeSeries.getThroughputChart())
                 .cycleTimeDistribution(cycleTimeDistribution)
-                .leadTimeTrend(leadTimeTrend)
+                .leadTimeTrend(timeSeries.getLeadTimeTrend())
                 .averageLeadTimeHours(averageLeadTimeHours)
                 .wipChart(wipChart)
                 .averageWIP(averageWIP)
@@ -226,230 +209,8 @@ public class AnalyticsService {
         return Math.round(totalHours / completedTasks.size() * 100.0) / 100.0;
     }
 
-    private List<TimeSeriesData> getTasksCreatedOverTime(List<Task> tasks, int days) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days);
-
-        Map<LocalDate, Long> countByDate = tasks.stream()
-                .filter(t -> t.getCreatedAt() != null)
-                .filter(t -> !t.getCreatedAt().toLocalDate().isBefore(startDate))
-                .collect(Collectors.groupingBy(
-                        t -> t.getCreatedAt().toLocalDate(),
-                        Collectors.counting()
-                ));
-
-        List<TimeSeriesData> result = new ArrayList<>();
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            result.add(TimeSeriesData.builder()
-                    .date(date.format(DATE_FORMATTER))
-                    .count(countByDate.getOrDefault(date, 0L))
-                    .build());
-        }
-        return result;
-    }
-
-    private List<TimeSeriesData> getTasksCompletedOverTime(List<Task> tasks, int days) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days);
-
-        Map<LocalDate, Long> countByDate = tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null)
-                .filter(t -> !t.getUpdatedAt().toLocalDate().isBefore(startDate))
-                .collect(Collectors.groupingBy(
-                        t -> t.getUpdatedAt().toLocalDate(),
-                        Collectors.counting()
-                ));
-
-        List<TimeSeriesData> result = new ArrayList<>();
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            result.add(TimeSeriesData.builder()
-                    .date(date.format(DATE_FORMATTER))
-                    .count(countByDate.getOrDefault(date, 0L))
-                    .build());
-        }
-        return result;
-    }
-
-    private List<BurndownData> calculateBurndownChart(List<Task> tasks, int days) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days);
-        long totalTasksAtStart = tasks.stream()
-                .filter(t -> t.getCreatedAt() != null && !t.getCreatedAt().toLocalDate().isAfter(startDate))
-                .count();
-
-        List<BurndownData> result = new ArrayList<>();
-        long cumulative = totalTasksAtStart;
-
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            final LocalDate currentDate = date;
-
-            long createdOnDate = tasks.stream()
-                    .filter(t -> t.getCreatedAt() != null
-                            && t.getCreatedAt().toLocalDate().equals(currentDate))
-                    .count();
-
-            long completedOnDate = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE
-                            && t.getUpdatedAt() != null
-                            && t.getUpdatedAt().toLocalDate().equals(currentDate))
-                    .count();
-
-            cumulative = cumulative + createdOnDate;
-            long remaining = cumulative - tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE
-                            && t.getUpdatedAt() != null
-                            && !t.getUpdatedAt().toLocalDate().isAfter(currentDate))
-                    .count();
-
-            result.add(BurndownData.builder()
-                    .date(currentDate.format(DATE_FORMATTER))
-                    .remainingTasks(remaining)
-                    .completedTasks(completedOnDate)
-                    .totalTasks(cumulative)
-                    .build());
-        }
-        return result;
-    }
-
-    private List<VelocityData> calculateVelocityChart(List<Task> tasks, int weeks) {
-        LocalDate endDate = LocalDate.now();
-        WeekFields weekFields = WeekFields.of(Locale.getDefault());
-
-        List<VelocityData> result = new ArrayList<>();
-
-        for (int i = weeks - 1; i >= 0; i--) {
-            LocalDate weekStart = endDate.minusWeeks(i).with(weekFields.dayOfWeek(), 1);
-            LocalDate weekEnd = weekStart.plusDays(6);
-
-            long completed = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null)
-                    .filter(t -> {
-                        LocalDate completedDate = t.getUpdatedAt().toLocalDate();
-                        return !completedDate.isBefore(weekStart) && !completedDate.isAfter(weekEnd);
-                    })
-                    .count();
-
-            result.add(VelocityData.builder()
-                    .weekStart(weekStart.format(DATE_FORMATTER))
-                    .completedTasks(completed)
-                    .build());
-        }
-        return result;
-    }
-
-    private List<CumulativeFlowData> calculateCumulativeFlow(List<Task> tasks, int days) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days);
-
-        List<CumulativeFlowData> result = new ArrayList<>();
-
-        // For simplicity, we calculate cumulative based on current state
-        // In a real implementation, you'd need task state history
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            final LocalDate currentDate = date;
-
-            // Simple approximation - distribute based on current ratios
-            long todoCount = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.TODO
-                            && t.getCreatedAt() != null
-                            && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
-                    .count();
-
-            long inProgressCount = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS
-                            && t.getCreatedAt() != null
-                            && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
-                    .count();
-
-            long doneCount = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE
-                            && t.getUpdatedAt() != null
-                            && !t.getUpdatedAt().toLocalDate().isAfter(currentDate))
-                    .count();
-
-            result.add(CumulativeFlowData.builder()
-                    .date(currentDate.format(DATE_FORMATTER))
-                    .todo(todoCount)
-                    .inProgress(inProgressCount)
-                    .done(doneCount)
-                    .build());
-        }
-        return result;
-    }
-
     // ==================== ADVANCED TASK ANALYTICS ====================
 
-    private List<BurnupData> calculateBurnupChart(List<Task> tasks, int days) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days);
-
-        List<BurnupData> result = new ArrayList<>();
-
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            final LocalDate currentDate = date;
-
-            // Cumulative completed: all tasks completed up to this date
-            long cumulativeCompleted = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE
-                            && t.getUpdatedAt() != null
-                            && !t.getUpdatedAt().toLocalDate().isAfter(currentDate))
-                    .count();
-
-            // Total scope: all tasks created up to this date
-            long totalScope = tasks.stream()
-                    .filter(t -> t.getCreatedAt() != null
-                            && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
-                    .count();
-
-            result.add(BurnupData.builder()
-                    .date(currentDate.format(DATE_FORMATTER))
-                    .cumulativeCompleted(cumulativeCompleted)
-                    .totalScope(totalScope)
-                    .build());
-        }
-        return result;
-    }
-
-    private List<ThroughputData> calculateThroughputChart(List<Task> tasks, int days) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days);
-
-        // First, calculate daily completions
-        Map<LocalDate, Long> dailyCompletions = tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null)
-                .filter(t -> !t.getUpdatedAt().toLocalDate().isBefore(startDate))
-                .collect(Collectors.groupingBy(
-                        t -> t.getUpdatedAt().toLocalDate(),
-                        Collectors.counting()
-                ));
-
-        List<ThroughputData> result = new ArrayList<>();
-        List<Long> last7Days = new ArrayList<>();
-
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            long completedCount = dailyCompletions.getOrDefault(date, 0L);
-
-            // Maintain rolling window
-            last7Days.add(completedCount);
-            if (last7Days.size() > 7) {
-                last7Days.remove(0);
-            }
-
-            // Calculate 7-day rolling average
-            double rollingAverage = last7Days.stream()
-                    .mapToLong(Long::longValue)
-                    .average()
-                    .orElse(0.0);
-
-            result.add(ThroughputData.builder()
-                    .date(date.format(DATE_FORMATTER))
-                    .completedCount(completedCount)
-                    .rollingAverage(Math.round(rollingAverage * 100.0) / 100.0)
-                    .build());
-        }
-        return result;
-    }
-
     private List<CycleTimeBucket> calculateCycleTimeDistribution(List<Task> tasks) {
         // Define buckets: <1 day, 1-3 days, 3-7 days, 1-2 weeks, 2-4 weeks, >1 month
         List<CycleTimeBucket> buckets = new ArrayList<>();
@@ -521,44 +282,6 @@ public class AnalyticsService {
                 .build();
     }
 
-    private List<LeadTimeData> calculateLeadTimeTrend(List<Task> tasks, int weeks) {
-        LocalDate endDate = LocalDate.now();
-        WeekFields weekFields = WeekFields.of(Locale.getDefault());
-
-        List<LeadTimeData> result = new ArrayList<>();
-
-        for (int i = weeks - 1; i >= 0; i--) {
-            LocalDate weekStart = endDate.minusWeeks(i).with(weekFields.dayOfWeek(), 1);
-            LocalDate weekEnd = weekStart.plusDays(6);
-
-            // Get tasks completed in this week
-            List<Task> weekTasks = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE
-                            && t.getCreatedAt() != null
-                            && t.getUpdatedAt() != null)
-                    .filter(t -> {
-                        LocalDate completedDate = t.getUpdatedAt().toLocalDate();
-                        return !completedDate.isBefore(weekStart) && !completedDate.isAfter(weekEnd);
-                    })
-                    .toList();
-
-            Double averageLeadTime = null;
-            if (!weekTasks.isEmpty()) {
-                double totalHours = weekTasks.stream()
-                        .mapToDouble(t -> ChronoUnit.HOURS.between(t.getCreatedAt(), t.getUpdatedAt()))
-                        .sum();
-                averageLeadTime = Math.round(totalHours / weekTasks.size() * 100.0) / 100.0;
-            }
-
-            result.add(LeadTimeData.builder()
-                    .date(weekStart.format(DATE_FORMATTER))
-                    .averageLeadTimeHours(averageLeadTime)
-                    .taskCount(weekTasks.size())
-                    .build());
-        }
-        return result;
-    }
-
     private Double calculateAverageLeadTime(List<Task> tasks) {
         List<Task> completedTasks = tasks.stream()
                 .filter(t -> t.getStatus() == TaskStatus.DONE
@@ -577,40 +300,6 @@ public class AnalyticsService {
         return Math.round(totalHours / completedTasks.size() * 100.0) / 100.0;
     }
 
-    private List<WIPData> calculateWIPChart(List<Task> tasks, int days) {
-        LocalDate endDate = LocalDate.now();
-        LocalDate startDate = endDate.minusDays(days);
-
-        List<WIPData> result = new ArrayList<>();
-
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            final LocalDate currentDate = date;
-
-            // Count tasks in IN_PROGRESS status on this date
-            // A task is in progress if it was created before/on this date and not completed before this date
-            long wipCount = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS
-                            && t.getCreatedAt() != null
-                            && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
-                    .count();
-
-            // Count tasks in TODO status on this date
-            long todoCount = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.TODO
-                            && t.getCreatedAt() != null
-                            && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
-                    .count();
-
-            result.add(WIPData.builder()
-                    .date(currentDate.format(DATE_FORMATTER))
-                    .wipCount(wipCount)
-                    .todoCount(todoCount)
-                    .totalActive(wipCount + todoCount)
-                    .build());
-        }
-        return result;
-    }
-
     private Double calculateAverageWIP(List<WIPData> wipData) {
         if (wipData.isEmpty()) {
             return 0.0;
@@ -678,7 +367,8 @@ public class AnalyticsService {
         authorizationService.checkOrganizationAccess(organizationId, currentUserId);
 
         List<OrganizationMember> members = memberRepository.findByOrganizationId(organizationId);
-        List<Task> allTasks = taskRepository.findByOrganizationId(organizationId);
+        Map<UUID, User> users = findMemberUsers(members);
+        List<Task> allTasks = taskRepository.findForAnalyticsByOrganizationId(organizationId);
         List<Task> tasks = applyFilters(allTasks, filters);
         LocalDate today = LocalDate.now();
 
@@ -687,7 +377,7 @@ public class AnalyticsService {
         List<MemberWorkload> memberWorkload = new ArrayList<>();
 
         for (OrganizationMember member : members) {
-            User user = userRepository.findById(member.getUserId()).orElse(null);
+            User user = users.get(member.getUserId());
             if (user == null) continue;
 
             String memberName = user.getFirstName() + " " + user.getLastName();
@@ -766,19 +456,19 @@ public class AnalyticsService {
                 .toList();
 
         // Activity heatmap (last 30 days)
-        List<ActivityData> activityHeatmap = calculateActivityHeatmap(tasks, members, 30);
+        List<ActivityData> activityHeatmap = calculateActivityHeatmap(tasks, members, users, 30);
 
         // Average completion time per member (sorted fastest to slowest)
-        List<MemberCompletionTime> memberCompletionTimes = calculateMemberCompletionTimes(tasks, members);
+        List<MemberCompletionTime> memberCompletionTimes = calculateMemberCompletionTimes(tasks, members, users);
 
         // Inactive members detection
-        List<InactiveMember> inactiveMembers = detectInactiveMembers(organizationId, members, tasks, DEFAULT_INACTIVE_DAYS_THRESHOLD);
+        List<InactiveMember> inactiveMembers = detectInactiveMembers(organizationId, members, users, tasks, DEFAULT_INACTIVE_DAYS_THRESHOLD);
 
         // Team performance comparison
         List<TeamPerformanceComparison> teamPerformanceComparison = compareTeamPerformance(organizationId, tasks);
 
         // Member workload heatmap
-        List<MemberWorkloadHeatmapEntry> memberWorkloadHeatmap = calculateMemberWorkloadHeatmap(tasks, members);
+        List<MemberWorkloadHeatmapEntry> memberWorkloadHeatmap = calculateMemberWorkloadHeatmap(tasks, members, users);
 
         return MemberAnalyticsResponse.builder()
                 .memberProductivity(memberProductivity)
@@ -793,6 +483,15 @@ public class AnalyticsService {
                 .build();
     }
 
+    /**
+     * Load the users of all members in one query, keyed by user ID. Members whose user no longer
+     * exists are absent from the map.
+     */
+    private Map<UUID, User> findMemberUsers(List<OrganizationMember> members) {
+        return userRepository.findAllByIds(members.stream().map(OrganizationMember::getUserId).toList()).stream()
+                .collect(Collectors.toMap(User::getId, user -> user));
+    }
+
     private double getPriorityWeight(TaskPriority priority) {
         if (priority == null) return 1.0;
         return switch (priority) {
@@ -803,14 +502,15 @@ public class AnalyticsService {
         };
     }
 
-    private List<ActivityData> calculateActivityHeatmap(List<Task> tasks, List<OrganizationMember> members, int days) {
+    private List<ActivityData> calculateActivityHeatmap(List<Task> tasks, List<OrganizationMember> members,
+                                                        Map<UUID, User> users, int days) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(days);
 
         List<ActivityData> result = new ArrayList<>();
 
         for (OrganizationMember member : members) {
-            User user = userRepository.findById(member.getUserId()).orElse(null);
+            User user = users.get(member.getUserId());
             if (user == null) continue;
 
             String memberName = user.getFirstName() + " " + user.getLastName();
@@ -847,11 +547,12 @@ public class AnalyticsService {
     /**
      * Calculate average completion time per member, sorted from fastest to slowest.
      */
-    private List<MemberCompletionTime> calculateMemberCompletionTimes(List<Task> tasks, List<OrganizationMember> members) {
+    private List<MemberCompletionTime> calculateMemberCompletionTimes(List<Task> tasks, List<OrganizationMember> members,
+                                                                      Map<UUID, User> users) {
         List<MemberCompletionTime> result = new ArrayList<>();
 
         for (OrganizationMember member : members) {
-            User user = userRepository.findById(member.getUserId()).orElse(null);
+            User user = users.get(member.getUserId());
             if (user == null) continue;
 
             String memberName = user.getFirstName() + " " + user.getLastName();
@@ -905,7 +606,7 @@ public class AnalyticsService {
      * no comments, no events, and no notes created within the specified number of days.
      */
     private List<InactiveMember> detectInactiveMembers(UUID organizationId, List<OrganizationMember> members,
-                                                        List<Task> tasks, int daysThreshold) {
+                                                        Map<UUID, User> users, List<Task> tasks, int daysThreshold) {
         LocalDate today = LocalDate.now();
         LocalDate thresholdDate = today.minusDays(daysThreshold);
         LocalDateTime thresholdDateTime = thresholdDate.atStartOfDay();
@@ -917,7 +618,7 @@ public class AnalyticsService {
         List<InactiveMember> result = new ArrayList<>();
 
         for (OrganizationMember member : members) {
-            User user = userRepository.findById(member.getUserId()).orElse(null);
+            User user = users.get(member.getUserId());
             if (user == null) continue;
 
             UUID memberId = member.getUserId();
@@ -1085,7 +786,8 @@ public class AnalyticsService {
      * Uses task due dates to determine which day a task falls on.
      * If no due date, uses createdAt date.
      */
-    private List<MemberWorkloadHeatmapEntry> calculateMemberWorkloadHeatmap(List<Task> tasks, List<OrganizationMember> members) {
+    private List<MemberWorkloadHeatmapEntry> calculateMemberWorkloadHeatmap(List<Task> tasks, List<OrganizationMember> members,
+                                                                            Map<UUID, User> users) {
         List<MemberWorkloadHeatmapEntry> result = new ArrayList<>();
 
         // Use the last 30 days of completed/active tasks to build the heatmap
@@ -1093,7 +795,7 @@ public class AnalyticsService {
         LocalDate startDate = today.minusDays(30);
 
         for (OrganizationMember member : members) {
-            User user = userRepository.findById(member.getUserId()).orElse(null);
+            User user = users.get(member.getUserId());
             if (user == null) continue;
 
             String memberName = user.getFirstName() + " " + user.getLastName();
@@ -1156,7 +858,7 @@ public class AnalyticsService {
         authorizationService.checkOrganizationAccess(organizationId, currentUserId);
 
         List<Goal> goals = goalRepository.findByOrganizationId(organizationId);
-        List<Task> allTasks = taskRepository.findByOrganizationId(organizationId);
+        List<Task> allTasks = taskRepository.findForAnalyticsByOrganizationId(organizationId);
         List<Task> tasks = applyFilters(allTasks, filters);
         LocalDate today = LocalDate.now();
 
@@ -1551,39 +1253,35 @@ public class AnalyticsService {
         authorizationService.checkOrganizationAccess(organizationId, currentUserId);
 
         List<OrganizationMember> members = memberRepository.findByOrganizationId(organizationId);
-        List<Task> tasks = taskRepository.findByOrganizationId(organizationId);
         List<Goal> goals = goalRepository.findByOrganizationId(organizationId);
 
         LocalDate today = LocalDate.now();
         LocalDate weekAgo = today.minusDays(7);
         LocalDate twoWeeksAgo = today.minusDays(14);
+        int months = 6;
+
+        // Aggregates computed by the database: a handful of rows instead of every task
+        Map<TaskStatus, Long> tasksByStatus = taskRepository.countByStatus(organizationId);
+        long overdueTasks = taskRepository.countOverdue(organizationId, today.atStartOfDay());
+        // The monthly window (first day of the oldest month) always covers the last two weeks
+        LocalDateTime rangeStart = today.minusMonths(months - 1).withDayOfMonth(1).atStartOfDay();
+        LocalDateTime rangeEnd = today.plusMonths(1).withDayOfMonth(1).atStartOfDay();
+        Map<LocalDate, Long> createdPerDay = taskRepository.countCreatedPerDay(organizationId, rangeStart, rangeEnd);
+        Map<LocalDate, Long> completedPerDay = taskRepository.countCompletedPerDay(organizationId, rangeStart, rangeEnd);
 
         // Overview counts
         long totalMembers = members.size();
-        long totalTasks = tasks.size();
-        long activeTasks = tasks.stream()
-                .filter(t -> t.getStatus() != TaskStatus.DONE)
-                .count();
+        long totalTasks = tasksByStatus.values().stream().mapToLong(Long::longValue).sum();
+        long doneTasks = tasksByStatus.getOrDefault(TaskStatus.DONE, 0L);
+        long activeTasks = totalTasks - doneTasks;
         long totalGoals = goals.size();
 
         // Tasks this week
-        long tasksCreatedThisWeek = tasks.stream()
-                .filter(t -> t.getCreatedAt() != null && !t.getCreatedAt().toLocalDate().isBefore(weekAgo))
-                .count();
-
-        long tasksCompletedThisWeek = tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null
-                        && !t.getUpdatedAt().toLocalDate().isBefore(weekAgo))
-                .count();
+        long tasksCreatedThisWeek = sumDailyCounts(createdPerDay, weekAgo, null);
+        long tasksCompletedThisWeek = sumDailyCounts(completedPerDay, weekAgo, null);
 
         // Tasks last week (for trend calculation)
-        long tasksCompletedLastWeek = tasks.stream()
-                .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null)
-                .filter(t -> {
-                    LocalDate d = t.getUpdatedAt().toLocalDate();
-                    return !d.isBefore(twoWeeksAgo) && d.isBefore(weekAgo);
-                })
-                .count();
+        long tasksCompletedLastWeek = sumDailyCounts(completedPerDay, twoWeeksAgo, weekAgo.minusDays(1));
 
         // Trend calculation
         double taskCompletionTrend;
@@ -1594,10 +1292,11 @@ public class AnalyticsService {
         }
 
         // Health score calculation (0-100)
-        int healthScore = calculateHealthScore(tasks, members, goals);
+        int healthScore = calculateHealthScore(totalTasks, doneTasks, overdueTasks,
+                tasksByStatus.getOrDefault(TaskStatus.IN_PROGRESS, 0L), members, goals);
 
         // Monthly growth data (last 6 months)
-        List<MonthlyGrowth> monthlyGrowth = calculateMonthlyGrowth(tasks, members, goals, 6);
+        List<MonthlyGrowth> monthlyGrowth = calculateMonthlyGrowth(createdPerDay, completedPerDay, members, months);
 
         return OrganizationAnalyticsResponse.builder()
                 .healthScore(healthScore)
@@ -1617,23 +1316,28 @@ public class AnalyticsService {
                 .build();
     }
 
-    private int calculateHealthScore(List<Task> tasks, List<OrganizationMember> members, List<Goal> goals) {
+    /**
+     * Sum per-day counts for days in [from, to]; a null bound is open-ended.
+     */
+    private long sumDailyCounts(Map<LocalDate, Long> countsByDay, LocalDate from, LocalDate to) {
+        return countsByDay.entrySet().stream()
+                .filter(e -> from == null || !e.getKey().isBefore(from))
+                .filter(e -> to == null || !e.getKey().isAfter(to))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private int calculateHealthScore(long totalTasks, long completedTasks, long overdueTasks, long inProgressTasks,
+                                     List<OrganizationMember> members, List<Goal> goals) {
         // Health score based on multiple factors
         int score = 50; // Base score
 
         // Task completion rate impact (+/- 20 points)
-        long completedTasks = tasks.stream().filter(t -> t.getStatus() == TaskStatus.DONE).count();
-        double completionRate = tasks.isEmpty() ? 0 : (double) completedTasks / tasks.size();
+        double completionRate = totalTasks == 0 ? 0 : (double) completedTasks / totalTasks;
         score += (int) (completionRate * 20);
 
         // Overdue tasks impact (-10 points max)
-        LocalDate today = LocalDate.now();
-        long overdueTasks = tasks.stream()
-                .filter(t -> t.getDueDate() != null
-                        && t.getDueDate().toLocalDate().isBefore(today)
-                        && t.getStatus() != TaskStatus.DONE)
-                .count();
-        double overdueRate = tasks.isEmpty() ? 0 : (double) overdueTasks / tasks.size();
+        double overdueRate = totalTasks == 0 ? 0 : (double) overdueTasks / totalTasks;
         score -= (int) (overdueRate * 10);
 
         // Team size impact (+10 points for 5+ members)
@@ -1647,7 +1351,6 @@ public class AnalyticsService {
         }
 
         // Active work impact (+10 points if there are in-progress tasks)
-        long inProgressTasks = tasks.stream().filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS).count();
         if (inProgressTasks > 0) {
             score += 10;
         }
@@ -1655,8 +1358,8 @@ public class AnalyticsService {
         return Math.max(0, Math.min(100, score));
     }
 
-    private List<MonthlyGrowth> calculateMonthlyGrowth(List<Task> tasks, List<OrganizationMember> members,
-                                                        List<Goal> goals, int months) {
+    private List<MonthlyGrowth> calculateMonthlyGrowth(Map<LocalDate, Long> createdPerDay, Map<LocalDate, Long> completedPerDay,
+                                                        List<OrganizationMember> members, int months) {
         List<MonthlyGrowth> result = new ArrayList<>();
         LocalDate today = LocalDate.now();
 
@@ -1665,21 +1368,8 @@ public class AnalyticsService {
             LocalDate monthEnd = monthStart.plusMonths(1).minusDays(1);
             String monthLabel = monthStart.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
-            long tasksCreated = tasks.stream()
-                    .filter(t -> t.getCreatedAt() != null)
-                    .filter(t -> {
-                        LocalDate d = t.getCreatedAt().toLocalDate();
-                        return !d.isBefore(monthStart) && !d.isAfter(monthEnd);
-                    })
-                    .count();
-
-            long tasksCompleted = tasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null)
-                    .filter(t -> {
-                        LocalDate d = t.getUpdatedAt().toLocalDate();
-                        return !d.isBefore(monthStart) && !d.isAfter(monthEnd);
-                    })
-                    .count();
+            long tasksCreated = sumDailyCounts(createdPerDay, monthStart, monthEnd);
+            long tasksCompleted = sumDailyCounts(completedPerDay, monthStart, monthEnd);
 
             long newMembers = members.stream()
                     .filter(m -> m.getJoinedAt() != null)
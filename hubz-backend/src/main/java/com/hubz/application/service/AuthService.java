@@ -61,7 +61,7 @@ public class AuthService {
         // Send welcome email
         emailService.sendWelcomeEmail(savedUser.getEmail(), savedUser.getFirstName());
 
-        String token = jwtTokenPort.generateToken(savedUser.getEmail());
+        String token = jwtTokenPort.generateToken(savedUser.getId(), savedUser.getEmail());
 
         return AuthResponse.builder()
                 .token(token)
@@ -100,7 +100,7 @@ public class AuthService {
             }
         }
 
-        String token = jwtTokenPort.generateToken(user.getEmail());
+        String token = jwtTokenPort.generateToken(user.getId(), user.getEmail());
 
         return AuthResponse.builder()
                 .token(token)
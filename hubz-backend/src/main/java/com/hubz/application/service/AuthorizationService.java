@@ -1,31 +1,51 @@
 package com.hubz.application.service;
 
+import com.hubz.application.dto.response.CacheStatsResponse;
+import com.hubz.application.port.out.MembershipCachePort;
 import com.hubz.application.port.out.OrganizationMemberRepositoryPort;
 import com.hubz.application.port.out.TaskRepositoryPort;
 import com.hubz.domain.enums.MemberRole;
+import com.hubz.domain.event.MembershipChangedEvent;
 import com.hubz.domain.exception.AccessDeniedException;
+import com.hubz.domain.model.OrganizationMember;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
+/**
+ * Organization membership and role checks.
+ * <p>
+ * Membership lookups are served from a local {@link MembershipCachePort} keyed by (organization, user),
+ * including negative results, so repeated checks within and across requests stay in memory.
+ * Services that change memberships must call {@link #evictMembership} or
+ * {@link #evictOrganization}. Both publish a {@link MembershipChangedEvent}, which other nodes
+ * receive over Redis (see {@code RedisMembershipInvalidationRelay}) and apply through
+ * {@link #evictLocally}; the cache's short TTL bounds staleness if such a message is lost.
+ */
 @Service
 @RequiredArgsConstructor
 public class AuthorizationService {
 
     private final OrganizationMemberRepositoryPort memberRepository;
     private final TaskRepositoryPort taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MembershipCachePort membershipCache;
 
     private static final Set<MemberRole> ADMIN_ROLES = Set.of(MemberRole.OWNER, MemberRole.ADMIN);
 
     public boolean isOrganizationMember(UUID orgId, UUID userId) {
-        return memberRepository.findByOrganizationIdAndUserId(orgId, userId).isPresent();
+        return getMemberRole(orgId, userId).isPresent();
     }
 
     public boolean isOrganizationAdmin(UUID orgId, UUID userId) {
-        return memberRepository.findByOrganizationIdAndUserId(orgId, userId)
-                .map(member -> ADMIN_ROLES.contains(member.getRole()))
+        return getMemberRole(orgId, userId)
+                .map(ADMIN_ROLES::contains)
                 .orElse(false);
     }
 
@@ -46,4 +66,57 @@ public class AuthorizationService {
             throw AccessDeniedException.notAdmin();
         }
     }
+
+    /**
+     * Drop the cached membership of a user. When called inside a transaction the entry is
+     * dropped again after commit, so a concurrent check cannot re-cache the pre-commit row.
+     */
+    public void evictMembership(UUID orgId, UUID userId) {
+        evictLocally(orgId, userId);
+        afterCommit(() -> evictLocally(orgId, userId));
+        eventPublisher.publishEvent(new MembershipChangedEvent(orgId, userId));
+    }
+
+    /**
+     * Drop every cached membership of an organization.
+     */
+    public void evictOrganization(UUID orgId) {
+        evictLocally(orgId, null);
+        afterCommit(() -> evictLocally(orgId, null));
+        eventPublisher.publishEvent(new MembershipChangedEvent(orgId, null));
+    }
+
+    /**
+     * Drop cached memberships on this node only, for changes already announced by another node.
+     *
+     * @param userId the user whose membership changed, or {@code null} for the whole organization
+     */
+    public void evictLocally(UUID orgId, UUID userId) {
+        if (userId != null) {
+            membershipCache.evict(orgId, userId);
+        } else {
+            membershipCache.evictOrganization(orgId);
+        }
+    }
+
+    public CacheStatsResponse getMembershipCacheStats() {
+        return membershipCache.getStats();
+    }
+
+    private Optional<MemberRole> getMemberRole(UUID orgId, UUID userId) {
+        return membershipCache.get(orgId, userId,
+                () -> memberRepository.findByOrganizationIdAndUserId(orgId, userId)
+                        .map(OrganizationMember::getRole));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
 }
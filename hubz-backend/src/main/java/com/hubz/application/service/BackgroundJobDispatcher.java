@@ -0,0 +1,226 @@
+package com.hubz.application.service;
+
+import com.hubz.application.port.in.JobExecutor;
+import com.hubz.application.port.out.BackgroundJobRepositoryPort;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.event.BackgroundJobScheduledEvent;
+import com.hubz.domain.model.BackgroundJob;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Claims pending background jobs and runs them on a bounded worker pool.
+ * <p>
+ * Each job type has its own number of slots ({@link JobExecutor#getMaxConcurrency()}) and
+ * only as many jobs are claimed as there are free slots, so slow webhook calls cannot hold
+ * up email delivery. The pool has one thread per slot, so a claimed job never waits in a
+ * queue while marked RUNNING.
+ * Claiming skips rows locked by other nodes, so several instances can poll the same table
+ * without executing a job twice. The outcome of each job is committed on its own.
+ * <p>
+ * Dispatching is triggered by {@link #wakeUp()}: after a job is scheduled and its transaction
+ * commits, when a job finishes while more work of its type may be pending, and by other nodes
+ * through {@code RedisJobWakeupRelay}. Wake-ups are coalesced onto a single dispatch thread.
+ * The periodic sweep in {@link BackgroundJobScheduler} only catches what signals missed.
+ */
+@Component
+@Slf4j
+public class BackgroundJobDispatcher {
+
+    private static final int SHUTDOWN_GRACE_SECONDS = 30;
+
+    private final BackgroundJobRepositoryPort jobRepository;
+    private final BackgroundJobService backgroundJobService;
+    private final TaskExecutor workerPool;
+    private final TaskExecutor dispatchThread;
+    private final Map<JobType, Semaphore> slots = new EnumMap<>(JobType.class);
+    private final Set<JobType> saturatedTypes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    @Autowired
+    public BackgroundJobDispatcher(BackgroundJobRepositoryPort jobRepository,
+                                   BackgroundJobService backgroundJobService,
+                                   List<JobExecutor> executors,
+                                   @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(jobRepository, backgroundJobService, executors,
+                virtualThreads ? createVirtualThreadWorkers() : createWorkerPool(totalSlots(executors)),
+                createPool(1, Integer.MAX_VALUE, "job-dispatch-"));
+    }
+
+    BackgroundJobDispatcher(BackgroundJobRepositoryPort jobRepository,
+                            BackgroundJobService backgroundJobService,
+                            List<JobExecutor> executors,
+                            TaskExecutor workerPool,
+                            TaskExecutor dispatchThread) {
+        this.jobRepository = jobRepository;
+        this.backgroundJobService = backgroundJobService;
+        this.workerPool = workerPool;
+        this.dispatchThread = dispatchThread;
+        executors.forEach(executor ->
+                slots.put(executor.getJobType(), new Semaphore(slotsOf(executor))));
+    }
+
+    /**
+     * Claim as many pending jobs as there are free slots and hand them to the worker pool.
+     *
+     * @return the number of jobs dispatched
+     */
+    public int dispatchPendingJobs() {
+        int dispatched = 0;
+        for (Map.Entry<JobType, Semaphore> entry : slots.entrySet()) {
+            try {
+                dispatched += dispatch(entry.getKey(), entry.getValue());
+            } catch (Exception e) {
+                log.error("Error claiming {} jobs: {}", entry.getKey(), e.getMessage(), e);
+            }
+        }
+        if (dispatched > 0) {
+            log.debug("Dispatched {} background jobs", dispatched);
+        }
+        return dispatched;
+    }
+
+    /**
+     * Request a dispatch round on the dispatch thread. Returns immediately; requests made while
+     * one is already queued are folded into it.
+     */
+    public void wakeUp() {
+        if (!wakeUpPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dispatchThread.execute(() -> {
+                wakeUpPending.set(false);
+                dispatchPendingJobs();
+            });
+        } catch (TaskRejectedException e) {
+            wakeUpPending.set(false);
+            log.debug("Dispatch thread rejected wake-up, leaving jobs to the sweep");
+        }
+    }
+
+    /**
+     * Dispatch a newly scheduled job as soon as the transaction that created it has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobScheduled(BackgroundJobScheduledEvent event) {
+        wakeUp();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (dispatchThread instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+        if (workerPool instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (workerPool instanceof SimpleAsyncTaskExecutor workers) {
+            workers.close();
+        }
+    }
+
+    private int dispatch(JobType type, Semaphore slot) {
+        int free = slot.drainPermits();
+        if (free == 0) {
+            return 0;
+        }
+
+        List<BackgroundJob> claimed;
+        try {
+            claimed = jobRepository.claimPendingJobs(type, free);
+        } catch (RuntimeException e) {
+            slot.release(free);
+            throw e;
+        }
+        slot.release(free - claimed.size());
+
+        // A full batch suggests more jobs are waiting; dispatch again as soon as a slot frees up
+        if (claimed.size() == free) {
+            saturatedTypes.add(type);
+        } else {
+            saturatedTypes.remove(type);
+        }
+
+        claimed.forEach(job -> submit(job, slot));
+        return claimed.size();
+    }
+
+    private void submit(BackgroundJob job, Semaphore slot) {
+        try {
+            workerPool.execute(() -> {
+                try {
+                    backgroundJobService.runClaimedJob(job);
+                } catch (Exception e) {
+                    log.error("Error running job {}: {}", job.getId(), e.getMessage(), e);
+                } finally {
+                    slot.release();
+                    if (saturatedTypes.contains(job.getType())) {
+                        wakeUp();
+                    }
+                }
+            });
+        } catch (TaskRejectedException e) {
+            slot.release();
+            job.resetForRetry();
+            jobRepository.save(job);
+            log.warn("Worker pool rejected job {}, returned it to the queue", job.getId());
+        }
+    }
+
+    /**
+     * One virtual thread per job. The per-type slots already bound how many jobs run at once,
+     * so no pool size applies in this mode.
+     */
+    private static SimpleAsyncTaskExecutor createVirtualThreadWorkers() {
+        SimpleAsyncTaskExecutor workers = new SimpleAsyncTaskExecutor("job-worker-");
+        workers.setVirtualThreads(true);
+        workers.setTaskTerminationTimeout(SHUTDOWN_GRACE_SECONDS * 1000L);
+        return workers;
+    }
+
+    /**
+     * One thread per slot. The slots already bound the jobs in flight to the pool size; the queue
+     * only absorbs a job handed over while the thread that released its slot is still returning
+     * to the pool.
+     */
+    private static ThreadPoolTaskExecutor createWorkerPool(int slots) {
+        return createPool(slots, slots, "job-worker-");
+    }
+
+    private static int totalSlots(List<JobExecutor> executors) {
+        return Math.max(1, executors.stream().mapToInt(BackgroundJobDispatcher::slotsOf).sum());
+    }
+
+    private static int slotsOf(JobExecutor executor) {
+        return Math.max(1, executor.getMaxConcurrency());
+    }
+
+    private static ThreadPoolTaskExecutor createPool(int threads, int queueCapacity, String threadNamePrefix) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(threads);
+        pool.setMaxPoolSize(threads);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setThreadNamePrefix(threadNamePrefix);
+        // Let running jobs finish so they are not left RUNNING on shutdown
+        pool.setWaitForTasksToCompleteOnShutdown(true);
+        pool.setAwaitTerminationSeconds(SHUTDOWN_GRACE_SECONDS);
+        pool.initialize();
+        return pool;
+    }
+}
@@ -6,7 +6,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * Scheduler that processes pending background jobs every minute
+ * Scheduler that sweeps for pending background jobs every minute
  * and performs periodic cleanup and retry of failed jobs.
  */
 @Component
@@ -15,23 +15,53 @@ import org.springframework.stereotype.Component;
 public class BackgroundJobScheduler {
 
     private final BackgroundJobService backgroundJobService;
+    private final BackgroundJobDispatcher backgroundJobDispatcher;
+    private final EmailOutboxService emailOutboxService;
+    private final ReportExportService reportExportService;
 
     /**
-     * Process pending background jobs every minute.
+     * Dispatch pending background jobs to the worker pool every minute.
+     * Jobs are normally dispatched as soon as they are scheduled; this sweep picks up
+     * jobs whose wake-up was missed, e.g. while Redis was unavailable.
      */
     @Scheduled(fixedRate = 60000)
     public void processPendingJobs() {
         try {
-            backgroundJobService.processPendingJobs();
+            backgroundJobDispatcher.dispatchPendingJobs();
         } catch (Exception e) {
             log.error("Error in background job scheduler: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * Retry failed jobs every 15 minutes.
+     * Renew the leases of jobs running on this node every minute, well within
+     * {@link com.hubz.domain.model.BackgroundJob#RUN_LEASE}.
      */
-    @Scheduled(fixedRate = 900000)
+    @Scheduled(fixedRate = 60000)
+    public void renewJobLeases() {
+        try {
+            backgroundJobService.renewLeases();
+        } catch (Exception e) {
+            log.error("Error renewing background job leases: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Send outbox emails whose retry delay has elapsed, or whose drain was missed, every minute.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void drainEmailOutbox() {
+        try {
+            emailOutboxService.drain();
+        } catch (Exception e) {
+            log.error("Error draining email outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Requeue failed jobs whose backoff delay has elapsed, checked every minute.
+     */
+    @Scheduled(fixedRate = 60000)
     public void retryFailedJobs() {
         try {
             backgroundJobService.retryFailedJobs();
@@ -41,7 +71,7 @@ public class BackgroundJobScheduler {
     }
 
     /**
-     * Clean up old jobs daily at 3:00 AM.
+     * Clean up old jobs, finished outbox emails and expired report exports daily at 3:00 AM.
      */
     @Scheduled(cron = "0 0 3 * * *")
     public void cleanupOldJobs() {
@@ -50,6 +80,8 @@ public class BackgroundJobScheduler {
             if (deleted > 0) {
                 log.info("Scheduled cleanup: removed {} old background jobs", deleted);
             }
+            emailOutboxService.cleanupFinishedMessages();
+            reportExportService.cleanupExpiredExports();
         } catch (Exception e) {
             log.error("Error during scheduled job cleanup: {}", e.getMessage(), e);
         }
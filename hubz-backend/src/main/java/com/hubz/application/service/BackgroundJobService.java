@@ -5,9 +5,12 @@ import com.hubz.application.port.in.JobExecutor;
 import com.hubz.application.port.out.BackgroundJobRepositoryPort;
 import com.hubz.domain.enums.JobStatus;
 import com.hubz.domain.enums.JobType;
+import com.hubz.domain.event.BackgroundJobScheduledEvent;
 import com.hubz.domain.exception.BackgroundJobNotFoundException;
+import com.hubz.domain.exception.JobDeferredException;
 import com.hubz.domain.model.BackgroundJob;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +18,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -24,18 +30,22 @@ public class BackgroundJobService {
 
     private final BackgroundJobRepositoryPort jobRepository;
     private final Map<JobType, JobExecutor> executors;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<UUID, RunningJob> runningJobs = new ConcurrentHashMap<>();
 
     public BackgroundJobService(
             BackgroundJobRepositoryPort jobRepository,
-            List<JobExecutor> executorList
+            List<JobExecutor> executorList,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
         this.executors = executorList.stream()
                 .collect(Collectors.toMap(JobExecutor::getJobType, Function.identity()));
     }
 
     /**
-     * Schedule a new background job.
+     * Schedule a new background job to run as soon as possible with normal priority.
      *
      * @param type    the job type
      * @param payload JSON payload with job parameters
@@ -43,26 +53,47 @@ public class BackgroundJobService {
      */
     @Transactional
     public BackgroundJobResponse scheduleJob(JobType type, String payload) {
+        return scheduleJob(type, payload, BackgroundJob.PRIORITY_NORMAL, null);
+    }
+
+    /**
+     * Schedule a new background job.
+     *
+     * @param type     the job type
+     * @param payload  JSON payload with job parameters
+     * @param priority claim priority among pending jobs of the same type, see {@link BackgroundJob#PRIORITY_HIGH}
+     * @param runAt    earliest execution time, or {@code null} to run as soon as possible
+     * @return the created job response
+     */
+    @Transactional
+    public BackgroundJobResponse scheduleJob(JobType type, String payload, int priority, LocalDateTime runAt) {
+        LocalDateTime now = LocalDateTime.now();
         BackgroundJob job = BackgroundJob.builder()
                 .id(UUID.randomUUID())
                 .type(type)
                 .status(JobStatus.PENDING)
                 .payload(payload)
                 .retryCount(0)
-                .createdAt(LocalDateTime.now())
+                .priority(priority)
+                .runAt(runAt != null ? runAt : now)
+                .createdAt(now)
                 .build();
 
         BackgroundJob saved = jobRepository.save(job);
-        log.info("Scheduled background job: id={}, type={}", saved.getId(), saved.getType());
+        eventPublisher.publishEvent(new BackgroundJobScheduledEvent(saved.getId(), saved.getType()));
+        log.info("Scheduled background job: id={}, type={}, priority={}, runAt={}",
+                saved.getId(), saved.getType(), saved.getPriority(), saved.getRunAt());
         return toResponse(saved);
     }
 
     /**
      * Execute a specific job by ID.
+     * <p>
+     * Not transactional, like {@link #runClaimedJob(BackgroundJob)}: the job row must not stay
+     * locked while it runs, or renewing its lease would wait for the job to finish.
      *
      * @param jobId the job ID
      */
-    @Transactional
     public void executeJob(UUID jobId) {
         BackgroundJob job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new BackgroundJobNotFoundException(jobId));
@@ -78,32 +109,114 @@ public class BackgroundJobService {
         job.markRunning();
         jobRepository.save(job);
 
+        runClaimedJob(job);
+    }
+
+    /**
+     * Run a job that is already marked RUNNING and persist its outcome.
+     * <p>
+     * Not transactional: executors open their own transactions where they need them,
+     * so a slow job never holds a database connection, and the final status is
+     * committed on its own.
+     * <p>
+     * The lease taken when the job was claimed is renewed by {@link #renewLeases()} while it runs.
+     * The outcome is only written if this run still holds the lease: a run that lost it (e.g. its
+     * node was paused past the lease) leaves the job to the run that reclaimed it.
+     *
+     * @param job the claimed job
+     */
+    public void runClaimedJob(BackgroundJob job) {
+        RunningJob running = new RunningJob(job);
+        JobExecutor executor = executors.get(job.getType());
+        if (executor == null) {
+            finish(running, failed -> failed.markFailed("No executor found for job type: " + job.getType()));
+            log.error("No executor found for job type: {}", job.getType());
+            return;
+        }
+
+        runningJobs.put(job.getId(), running);
         try {
             executor.execute(job.getPayload());
-            job.markCompleted();
-            jobRepository.save(job);
-            log.info("Job completed successfully: id={}, type={}", job.getId(), job.getType());
+            if (finish(running, BackgroundJob::markCompleted)) {
+                log.info("Job completed successfully: id={}, type={}", job.getId(), job.getType());
+            }
+        } catch (JobDeferredException e) {
+            if (finish(running, deferred -> deferred.deferUntil(e.getRetryAt(), e.getMessage()))) {
+                log.info("Job deferred: id={}, type={}, until={}, reason={}",
+                        job.getId(), job.getType(), e.getRetryAt(), e.getMessage());
+            }
         } catch (Exception e) {
-            job.markFailed(e.getMessage());
-            jobRepository.save(job);
+            finish(running, failed -> failed.markFailed(e.getMessage()));
             log.error("Job failed: id={}, type={}, error={}", job.getId(), job.getType(), e.getMessage(), e);
         }
     }
 
     /**
-     * Retry all failed jobs that haven't exceeded the maximum retry count.
+     * Extend the lease of every job running on this node, so that a job that is merely slow is not
+     * claimed again by another node. Must be called well within {@link BackgroundJob#RUN_LEASE}.
+     */
+    public void renewLeases() {
+        for (RunningJob running : runningJobs.values()) {
+            BackgroundJob job = running.job();
+            running.lock().lock();
+            try {
+                if (runningJobs.get(job.getId()) != running) {
+                    continue;
+                }
+                LocalDateTime renewed = BackgroundJob.leaseFrom(LocalDateTime.now());
+                if (jobRepository.renewLease(job.getId(), job.getRunAt(), renewed)) {
+                    job.setRunAt(renewed);
+                } else {
+                    runningJobs.remove(job.getId(), running);
+                    log.warn("Lost the lease of job {} while it was running; its outcome will be discarded", job.getId());
+                }
+            } catch (Exception e) {
+                log.warn("Could not renew the lease of job {}: {}", job.getId(), e.getMessage());
+            } finally {
+                running.lock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Apply the outcome of a run and write it, provided the run still holds its lease.
+     *
+     * @return whether the outcome was written
+     */
+    private boolean finish(RunningJob running, Consumer<BackgroundJob> outcome) {
+        BackgroundJob job = running.job();
+        running.lock().lock();
+        try {
+            runningJobs.remove(job.getId(), running);
+            LocalDateTime heldLease = job.getRunAt();
+            outcome.accept(job);
+            if (jobRepository.saveIfLeaseHeld(job, heldLease)) {
+                return true;
+            }
+            log.warn("Discarded the outcome of job {}: its lease expired and the job was claimed again", job.getId());
+            return false;
+        } finally {
+            running.lock().unlock();
+        }
+    }
+
+    /**
+     * Retry all failed jobs that haven't exceeded the maximum retry count
+     * and whose backoff delay has elapsed.
      *
      * @return the number of jobs queued for retry
      */
     @Transactional
     public int retryFailedJobs() {
         List<BackgroundJob> failedJobs = jobRepository.findFailedJobsForRetry(BackgroundJob.MAX_RETRIES);
+        LocalDateTime now = LocalDateTime.now();
         int count = 0;
 
         for (BackgroundJob job : failedJobs) {
-            if (job.canRetry()) {
+            if (job.canRetry() && job.isDue(now)) {
                 job.resetForRetry();
                 jobRepository.save(job);
+                eventPublisher.publishEvent(new BackgroundJobScheduledEvent(job.getId(), job.getType()));
                 count++;
                 log.info("Job queued for retry: id={}, type={}, attempt={}", job.getId(), job.getType(), job.getRetryCount());
             }
@@ -134,6 +247,7 @@ public class BackgroundJobService {
 
         job.resetForRetry();
         BackgroundJob saved = jobRepository.save(job);
+        eventPublisher.publishEvent(new BackgroundJobScheduledEvent(saved.getId(), saved.getType()));
         log.info("Job queued for retry: id={}, type={}", saved.getId(), saved.getType());
         return toResponse(saved);
     }
@@ -154,23 +268,6 @@ public class BackgroundJobService {
         return deleted;
     }
 
-    /**
-     * Process all pending jobs.
-     */
-    @Transactional
-    public void processPendingJobs() {
-        List<BackgroundJob> pendingJobs = jobRepository.findByStatus(JobStatus.PENDING);
-        log.debug("Processing {} pending background jobs", pendingJobs.size());
-
-        for (BackgroundJob job : pendingJobs) {
-            try {
-                executeJob(job.getId());
-            } catch (Exception e) {
-                log.error("Error processing job {}: {}", job.getId(), e.getMessage(), e);
-            }
-        }
-    }
-
     /**
      * Get all jobs (admin).
      *
@@ -204,6 +301,19 @@ public class BackgroundJobService {
                 .error(job.getError())
                 .createdAt(job.getCreatedAt())
                 .executedAt(job.getExecutedAt())
+                .runAt(job.getRunAt())
+                .priority(job.getPriority())
                 .build();
     }
+
+    /**
+     * A job running on this node. The lock keeps a lease renewal from interleaving with the
+     * write of the outcome, which must use the lease the renewal left in place.
+     */
+    private record RunningJob(BackgroundJob job, ReentrantLock lock) {
+
+        RunningJob(BackgroundJob job) {
+            this(job, new ReentrantLock());
+        }
+    }
 }
@@ -0,0 +1,258 @@
+package com.hubz.application.service;
+
+import com.hubz.application.port.out.DailyActivityRollupRepositoryPort;
+import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.model.DailyActivityRollup;
+import com.hubz.domain.model.Goal;
+import com.hubz.domain.model.Task;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Maintains the materialized daily activity rollups.
+ * <p>
+ * Task, habit and goal writes increment per-day counters for the organization, the user
+ * (across all organizations) and the member (user within an organization), so dashboards
+ * read one row per day instead of scanning the full history. Counters record events:
+ * a task completed twice counts twice, reopening a task does not remove its completion.
+ * {@link #backfill(LocalDate, LocalDate)} rebuilds the rows from the raw tables.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyRollupService {
+
+    private final DailyActivityRollupRepositoryPort rollupRepository;
+
+    /**
+     * Count a newly created task for its creator, and its in-progress state for its assignee.
+     */
+    @Transactional
+    public void recordTaskCreated(Task task) {
+        LocalDate today = LocalDate.now();
+        forEachScope(task.getOrganizationId(), task.getCreatorId(), today,
+                delta -> delta.setTasksCreated(1));
+        if (task.getStatus() == TaskStatus.IN_PROGRESS) {
+            forEachScope(task.getOrganizationId(), task.getAssigneeId(), today,
+                    delta -> delta.setTasksInProgress(1));
+        }
+    }
+
+    /**
+     * Count a status transition for the task's assignee.
+     */
+    @Transactional
+    public void recordTaskStatusChange(Task task, TaskStatus previousStatus) {
+        TaskStatus newStatus = task.getStatus();
+        if (previousStatus == newStatus) {
+            return;
+        }
+
+        long completed = newStatus == TaskStatus.DONE ? 1 : 0;
+        long inProgress = (newStatus == TaskStatus.IN_PROGRESS ? 1 : 0)
+                - (previousStatus == TaskStatus.IN_PROGRESS ? 1 : 0);
+        if (completed == 0 && inProgress == 0) {
+            return;
+        }
+
+        forEachScope(task.getOrganizationId(), task.getAssigneeId(), LocalDate.now(), delta -> {
+            delta.setTasksCompleted(completed);
+            delta.setTasksInProgress(inProgress);
+        });
+    }
+
+    /**
+     * Move the in-progress snapshot of a task to its new assignee.
+     */
+    @Transactional
+    public void recordTaskReassigned(Task task, UUID previousAssigneeId) {
+        if (task.getStatus() != TaskStatus.IN_PROGRESS || Objects.equals(previousAssigneeId, task.getAssigneeId())) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        if (previousAssigneeId != null) {
+            forEachUserScope(task.getOrganizationId(), previousAssigneeId, today, delta -> delta.setTasksInProgress(-1));
+        }
+        if (task.getAssigneeId() != null) {
+            forEachUserScope(task.getOrganizationId(), task.getAssigneeId(), today, delta -> delta.setTasksInProgress(1));
+        }
+    }
+
+    /**
+     * Remove a deleted task from the in-progress snapshot.
+     */
+    @Transactional
+    public void recordTaskDeleted(Task task) {
+        if (task.getStatus() == TaskStatus.IN_PROGRESS) {
+            forEachScope(task.getOrganizationId(), task.getAssigneeId(), LocalDate.now(),
+                    delta -> delta.setTasksInProgress(-1));
+        }
+    }
+
+    /**
+     * Count a habit log change on the logged date.
+     *
+     * @param wasCompleted whether the log existed and was completed before this change
+     * @param completed    whether the log is completed after this change
+     */
+    @Transactional
+    public void recordHabitLog(UUID userId, LocalDate date, boolean wasCompleted, boolean completed) {
+        if (wasCompleted == completed) {
+            return;
+        }
+        rollupRepository.increment(DailyActivityRollup.builder()
+                .userId(userId)
+                .date(date)
+                .habitCompletions(completed ? 1 : -1)
+                .build());
+    }
+
+    /**
+     * Count a recorded goal progress update. Personal goals count for their owner,
+     * organization goals for the organization.
+     */
+    @Transactional
+    public void recordGoalUpdate(Goal goal) {
+        rollupRepository.increment(DailyActivityRollup.builder()
+                .organizationId(goal.getOrganizationId())
+                .userId(goal.getOrganizationId() == null ? goal.getUserId() : null)
+                .date(LocalDate.now())
+                .goalUpdates(1)
+                .build());
+    }
+
+    /**
+     * Get the daily rollups of a scope within a date range (inclusive).
+     * Pass a null organization for user-wide rows, a null user for organization-wide rows.
+     */
+    public List<DailyActivityRollup> getDailyRollups(UUID organizationId, UUID userId, LocalDate startDate, LocalDate endDate) {
+        return rollupRepository.findByScope(organizationId, userId, startDate, endDate);
+    }
+
+    /**
+     * Rebuild all rollup rows within a date range (inclusive) from the raw tables.
+     * Task completions are attributed to the day the task was last updated, as the raw
+     * history does not keep completion events. The in-progress snapshot is only known
+     * for today and is set when the range ends today.
+     *
+     * @return the number of rollup rows written
+     */
+    @Transactional
+    public int backfill(LocalDate startDate, LocalDate endDate) {
+        LocalDateTime start = startDate.atStartOfDay();
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        Map<String, DailyActivityRollup> rollups = new HashMap<>();
+
+        for (Object[] row : rollupRepository.aggregateTaskCreations(start, end)) {
+            long count = ((Number) row[3]).longValue();
+            for (DailyActivityRollup scope : scopes((UUID) row[0], (UUID) row[1], toLocalDate(row[2]))) {
+                DailyActivityRollup rollup = rollup(rollups, scope);
+                rollup.setTasksCreated(rollup.getTasksCreated() + count);
+            }
+        }
+        for (Object[] row : rollupRepository.aggregateTaskCompletions(start, end)) {
+            long count = ((Number) row[3]).longValue();
+            for (DailyActivityRollup scope : scopes((UUID) row[0], (UUID) row[1], toLocalDate(row[2]))) {
+                DailyActivityRollup rollup = rollup(rollups, scope);
+                rollup.setTasksCompleted(rollup.getTasksCompleted() + count);
+            }
+        }
+        for (Object[] row : rollupRepository.aggregateHabitCompletions(startDate, endDate)) {
+            DailyActivityRollup rollup = rollup(rollups, scope(null, (UUID) row[0], toLocalDate(row[1])));
+            rollup.setHabitCompletions(rollup.getHabitCompletions() + ((Number) row[2]).longValue());
+        }
+        for (Object[] row : rollupRepository.aggregateGoalUpdates(start, end)) {
+            UUID organizationId = (UUID) row[0];
+            UUID userId = organizationId == null ? (UUID) row[1] : null;
+            DailyActivityRollup rollup = rollup(rollups, scope(organizationId, userId, toLocalDate(row[2])));
+            rollup.setGoalUpdates(rollup.getGoalUpdates() + ((Number) row[3]).longValue());
+        }
+
+        LocalDate today = LocalDate.now();
+        if (!endDate.isBefore(today) && !startDate.isAfter(today)) {
+            for (Object[] row : rollupRepository.countInProgressTasks()) {
+                long count = ((Number) row[2]).longValue();
+                for (DailyActivityRollup scope : scopes((UUID) row[0], (UUID) row[1], today)) {
+                    DailyActivityRollup rollup = rollup(rollups, scope);
+                    rollup.setTasksInProgress(rollup.getTasksInProgress() + count);
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<DailyActivityRollup> rows = new ArrayList<>(rollups.values());
+        rows.forEach(rollup -> {
+            rollup.setId(UUID.randomUUID());
+            rollup.setUpdatedAt(now);
+        });
+        rollupRepository.replaceRange(startDate, endDate, rows);
+
+        log.info("Backfilled {} daily activity rollups from {} to {}", rows.size(), startDate, endDate);
+        return rows.size();
+    }
+
+    /**
+     * Apply a delta to the organization row and, when a user is given, to the user and member rows.
+     */
+    private void forEachScope(UUID organizationId, UUID userId, LocalDate date, Consumer<DailyActivityRollup> counters) {
+        scopes(organizationId, userId, date).forEach(scope -> increment(scope, counters));
+    }
+
+    private void forEachUserScope(UUID organizationId, UUID userId, LocalDate date, Consumer<DailyActivityRollup> counters) {
+        userScopes(organizationId, userId, date).forEach(scope -> increment(scope, counters));
+    }
+
+    private void increment(DailyActivityRollup scope, Consumer<DailyActivityRollup> counters) {
+        counters.accept(scope);
+        rollupRepository.increment(scope);
+    }
+
+    private List<DailyActivityRollup> scopes(UUID organizationId, UUID userId, LocalDate date) {
+        List<DailyActivityRollup> scopes = new ArrayList<>(3);
+        if (organizationId != null) {
+            scopes.add(scope(organizationId, null, date));
+        }
+        if (userId != null) {
+            scopes.addAll(userScopes(organizationId, userId, date));
+        }
+        return scopes;
+    }
+
+    private List<DailyActivityRollup> userScopes(UUID organizationId, UUID userId, LocalDate date) {
+        return organizationId != null
+                ? List.of(scope(null, userId, date), scope(organizationId, userId, date))
+                : List.of(scope(null, userId, date));
+    }
+
+    private DailyActivityRollup scope(UUID organizationId, UUID userId, LocalDate date) {
+        return DailyActivityRollup.builder()
+                .organizationId(organizationId)
+                .userId(userId)
+                .date(date)
+                .build();
+    }
+
+    private DailyActivityRollup rollup(Map<String, DailyActivityRollup> rollups, DailyActivityRollup scope) {
+        String key = scope.getOrganizationId() + ":" + scope.getUserId() + ":" + scope.getDate();
+        return rollups.computeIfAbsent(key, k -> scope);
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        } else if (value instanceof LocalDate localDate) {
+            return localDate;
+        } else if (value instanceof java.util.Date utilDate) {
+            return new java.sql.Date(utilDate.getTime()).toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+}
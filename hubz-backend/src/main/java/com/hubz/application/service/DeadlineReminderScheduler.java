@@ -1,17 +1,21 @@
 package com.hubz.application.service;
 
 import com.hubz.application.port.out.UserPreferencesRepositoryPort;
+import com.hubz.application.service.email.BulkEmailSender;
 import com.hubz.domain.model.UserPreferences;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Scheduled service that sends deadline reminder emails to users every day at 8:00 AM.
  * Checks for tasks, goals, and events with approaching deadlines based on user preferences.
+ * Emails are sent in batches through {@link BulkEmailSender}, reusing one SMTP connection per batch.
  */
 @Service
 @RequiredArgsConstructor
@@ -20,6 +24,7 @@ public class DeadlineReminderScheduler {
 
     private final UserPreferencesRepositoryPort preferencesRepository;
     private final DeadlineReminderService deadlineReminderService;
+    private final BulkEmailSender bulkEmailSender;
 
     /**
      * Runs every day at 8:00 AM to send deadline reminder emails.
@@ -34,32 +39,30 @@ public class DeadlineReminderScheduler {
 
         log.info("Found {} users with deadline reminders enabled", usersWithRemindersEnabled.size());
 
-        int successCount = 0;
+        BulkEmailSender.Batch batch = bulkEmailSender.newBatch();
         int failureCount = 0;
         int skippedCount = 0;
 
         for (UserPreferences prefs : usersWithRemindersEnabled) {
             try {
-                // Generate and send reminders for this user
-                DeadlineReminderService.DeadlineReminderData reminders =
-                        deadlineReminderService.generateReminders(prefs.getUserId(), prefs);
+                Optional<MimeMessage> email =
+                        deadlineReminderService.createDeadlineReminderEmail(prefs.getUserId(), prefs);
 
-                if (reminders.hasReminders()) {
-                    deadlineReminderService.sendDeadlineReminder(prefs.getUserId(), prefs);
-                    successCount++;
+                if (email.isPresent()) {
+                    batch.add(email.get());
                 } else {
                     skippedCount++;
-                    log.debug("No reminders for user {} - skipped", prefs.getUserId());
                 }
             } catch (Exception e) {
                 failureCount++;
-                log.error("Failed to send deadline reminder to user {}: {}",
+                log.error("Failed to build deadline reminder for user {}: {}",
                         prefs.getUserId(), e.getMessage());
             }
         }
+        batch.flush();
 
         log.info("Deadline reminder job completed. Sent: {}, Skipped: {}, Failures: {}",
-                successCount, skippedCount, failureCount);
+                batch.getSent(), skippedCount, failureCount + batch.getFailed());
     }
 
     /**
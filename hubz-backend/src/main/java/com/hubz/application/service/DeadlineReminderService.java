@@ -11,6 +11,8 @@ import com.hubz.domain.model.Goal;
 import com.hubz.domain.model.Task;
 import com.hubz.domain.model.User;
 import com.hubz.domain.model.UserPreferences;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -216,6 +219,30 @@ public class DeadlineReminderService {
         }
     }
 
+    /**
+     * Build the deadline reminder email for a user without sending it, for bulk delivery.
+     *
+     * @param userId the user ID
+     * @param preferences the user's preferences
+     * @return the email, or empty if the user does not exist or has no upcoming deadlines
+     */
+    public Optional<MimeMessage> createDeadlineReminderEmail(UUID userId, UserPreferences preferences)
+            throws MessagingException {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            log.warn("Cannot build deadline reminder: user {} not found", userId);
+            return Optional.empty();
+        }
+
+        DeadlineReminderData reminders = generateReminders(userId, preferences);
+        if (!reminders.hasReminders()) {
+            log.debug("No deadline reminders for user {} - skipping email", userId);
+            return Optional.empty();
+        }
+
+        return Optional.of(emailService.createDeadlineReminderEmail(user.getEmail(), user.getFirstName(), reminders));
+    }
+
     /**
      * Get reminder days based on frequency.
      * Used by scheduler to determine which days to check.
@@ -0,0 +1,149 @@
+package com.hubz.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.port.out.EmailOutboxRepositoryPort;
+import com.hubz.application.service.executor.EmailJobExecutor;
+import com.hubz.domain.event.EmailQueuedEvent;
+import com.hubz.domain.model.EmailOutboxMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transactional outbox for emails.
+ * <p>
+ * Emails are written to the outbox in the caller's transaction, so they are only sent for
+ * committed changes and the request never waits on the mail server. Once the transaction
+ * commits, the outbox is drained in batches on the async executor, each message being sent
+ * by {@link EmailJobExecutor}. Delivery is at least once: a node that dies mid-batch leaves
+ * its messages to be claimed again when their lease expires.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailOutboxService {
+
+    static final int BATCH_SIZE = 50;
+
+    private final EmailOutboxRepositoryPort outboxRepository;
+    private final EmailJobExecutor emailJobExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    /**
+     * Queue a notification email, in the NOTIFICATION format of {@link EmailJobExecutor}.
+     */
+    @Transactional
+    public void enqueueNotificationEmail(String to, String firstName, String notificationType,
+                                         String title, String message, String link) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("emailType", "NOTIFICATION");
+        payload.put("to", to);
+        payload.put("firstName", firstName);
+        payload.put("notificationType", notificationType);
+        payload.put("title", title);
+        payload.put("message", message);
+        if (link != null) {
+            payload.put("link", link);
+        }
+        enqueue(to, payload);
+    }
+
+    /**
+     * Queue an email in any format understood by {@link EmailJobExecutor}.
+     */
+    @Transactional
+    public void enqueue(String to, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Email payload is not serializable", e);
+        }
+        EmailOutboxMessage saved = outboxRepository.save(EmailOutboxMessage.pending(to, json));
+        eventPublisher.publishEvent(new EmailQueuedEvent(saved.getId()));
+    }
+
+    /**
+     * Drain the outbox once the transaction that queued an email has committed.
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmailQueued(EmailQueuedEvent event) {
+        drain();
+    }
+
+    /**
+     * Send due messages in batches until none are left. Requests made while a drain is running
+     * are folded into it, so a burst of emails occupies a single async thread.
+     *
+     * @return the number of messages sent
+     */
+    public int drain() {
+        drainRequested.set(true);
+        int sent = 0;
+        while (drainRequested.get() && draining.compareAndSet(false, true)) {
+            try {
+                drainRequested.set(false);
+                List<EmailOutboxMessage> batch;
+                do {
+                    batch = outboxRepository.claimBatch(BATCH_SIZE);
+                    sent += send(batch);
+                } while (batch.size() == BATCH_SIZE);
+            } catch (Exception e) {
+                log.error("Error draining email outbox: {}", e.getMessage(), e);
+            } finally {
+                draining.set(false);
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Delete sent and given-up messages older than a week.
+     */
+    @Transactional
+    public int cleanupFinishedMessages() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        int deleted = outboxRepository.deleteFinishedBefore(cutoff);
+        if (deleted > 0) {
+            log.info("Cleaned up {} finished outbox emails (created before {})", deleted, cutoff);
+        }
+        return deleted;
+    }
+
+    private int send(List<EmailOutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int sent = 0;
+        for (EmailOutboxMessage message : batch) {
+            try {
+                emailJobExecutor.execute(message.getPayload());
+                message.markSent();
+                sent++;
+            } catch (Exception e) {
+                message.markFailed(e.getMessage());
+                log.warn("Failed to send outbox email {} to {} (attempt {}): {}",
+                        message.getId(), message.getRecipient(), message.getAttempts(), e.getMessage());
+            }
+        }
+        outboxRepository.saveAll(batch);
+        log.debug("Sent {} of {} outbox emails", sent, batch.size());
+        return sent;
+    }
+}
@@ -20,6 +20,7 @@ public class FileStorageService {
     private static final String PROFILE_PHOTOS_DIR = "profile-photos";
     private static final String TASK_ATTACHMENTS_DIR = "task-attachments";
     private static final String ORGANIZATION_LOGOS_DIR = "organization-logos";
+    private static final String REPORT_EXPORTS_DIR = "report-exports";
     private static final List<String> ALLOWED_IMAGE_EXTENSIONS = Arrays.asList(".jpg", ".jpeg", ".png", ".gif", ".webp");
     private static final List<String> ALLOWED_DOCUMENT_EXTENSIONS = Arrays.asList(
             ".pdf", ".doc", ".docx", ".xls", ".xlsx", ".ppt", ".pptx",
@@ -38,6 +39,7 @@ public class FileStorageService {
             Files.createDirectories(this.uploadPath.resolve(PROFILE_PHOTOS_DIR));
             Files.createDirectories(this.uploadPath.resolve(TASK_ATTACHMENTS_DIR));
             Files.createDirectories(this.uploadPath.resolve(ORGANIZATION_LOGOS_DIR));
+            Files.createDirectories(this.uploadPath.resolve(REPORT_EXPORTS_DIR));
         } catch (IOException e) {
             throw new RuntimeException("Could not create upload directory", e);
         }
@@ -255,6 +257,31 @@ public class FileStorageService {
         return TASK_ATTACHMENTS_DIR + "/" + taskId.toString() + "/" + fileName;
     }
 
+    /**
+     * Store a generated report. The file is written under a temporary name and moved into
+     * place once complete, so a download never sees a partially written report.
+     *
+     * @param data the report content
+     * @param exportId the report export's ID
+     * @param extension the file extension, including the dot
+     * @return the relative path to the stored file
+     * @throws IOException if file storage fails
+     */
+    public String storeReportExport(byte[] data, UUID exportId, String extension) throws IOException {
+        String fileName = exportId.toString() + extension;
+        Path exportsDir = this.uploadPath.resolve(REPORT_EXPORTS_DIR);
+        Path tempFile = Files.createTempFile(exportsDir, exportId.toString(), ".tmp");
+        try {
+            Files.write(tempFile, data);
+            Files.move(tempFile, exportsDir.resolve(fileName),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        return REPORT_EXPORTS_DIR + "/" + fileName;
+    }
+
     public Path getFilePath(String filePath) {
         return this.uploadPath.resolve(filePath).normalize();
     }
@@ -33,6 +33,8 @@ public class GoalService {
     private final AuthorizationService authorizationService;
     private final GoalDeadlineNotificationRepositoryPort deadlineNotificationRepository;
     private final GoalProgressHistoryRepositoryPort progressHistoryRepository;
+    private final DailyRollupService dailyRollupService;
+    private final TaskResponseAssembler taskResponseAssembler;
 
     @Transactional
     public GoalResponse create(CreateGoalRequest request, UUID organizationId, UUID userId) {
@@ -133,26 +135,7 @@ public class GoalService {
             throw new GoalNotFoundException(goalId);
         }
 
-        return taskRepository.findByGoalId(goalId).stream()
-                .map(this::toTaskResponse)
-                .toList();
-    }
-
-    private TaskResponse toTaskResponse(Task task) {
-        return TaskResponse.builder()
-                .id(task.getId())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .status(task.getStatus())
-                .priority(task.getPriority())
-                .organizationId(task.getOrganizationId())
-                .goalId(task.getGoalId())
-                .assigneeId(task.getAssigneeId())
-                .creatorId(task.getCreatorId())
-                .dueDate(task.getDueDate())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
-                .build();
+        return taskResponseAssembler.toResponses(taskRepository.findByGoalId(goalId));
     }
 
     private GoalResponse toResponse(Goal goal) {
@@ -213,6 +196,7 @@ public class GoalService {
                 .build();
 
         progressHistoryRepository.save(history);
+        dailyRollupService.recordGoalUpdate(goal);
     }
 
     /**
@@ -24,6 +24,7 @@ public class HabitService {
 
     private final HabitRepositoryPort habitRepository;
     private final HabitLogRepositoryPort habitLogRepository;
+    private final DailyRollupService dailyRollupService;
 
     @Transactional
     public HabitResponse create(CreateHabitRequest request, UUID userId) {
@@ -91,9 +92,11 @@ public class HabitService {
         var existingLog = habitLogRepository.findByHabitIdAndDate(habitId, request.getDate());
 
         HabitLog log;
+        boolean wasCompleted = false;
         if (existingLog.isPresent()) {
             // Update existing log
             log = existingLog.get();
+            wasCompleted = Boolean.TRUE.equals(log.getCompleted());
             log.setCompleted(request.getCompleted());
             log.setNotes(request.getNotes());
             log.setDuration(request.getDuration());
@@ -110,7 +113,10 @@ public class HabitService {
                     .build();
         }
 
-        return toLogResponse(habitLogRepository.save(log));
+        HabitLog saved = habitLogRepository.save(log);
+        dailyRollupService.recordHabitLog(habit.getUserId(), saved.getDate(), wasCompleted,
+                Boolean.TRUE.equals(saved.getCompleted()));
+        return toLogResponse(saved);
     }
 
     public List<HabitLogResponse> getHabitLogs(UUID habitId, UUID currentUserId) {
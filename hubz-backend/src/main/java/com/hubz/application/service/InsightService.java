@@ -229,17 +229,20 @@ public class InsightService {
         List<Goal> personalGoals = goalRepository.findPersonalGoals(userId);
         LocalDate today = LocalDate.now();
 
+        // Count the tasks linked to every goal with a deadline in one query
+        Map<UUID, Map<TaskStatus, Long>> taskCounts = taskRepository.countByGoalIdsAndStatus(personalGoals.stream()
+                .filter(goal -> goal.getDeadline() != null)
+                .map(Goal::getId)
+                .toList());
+
         for (Goal goal : personalGoals) {
             if (goal.getDeadline() == null) {
                 continue;
             }
 
-            // Get tasks linked to this goal
-            List<Task> goalTasks = taskRepository.findByGoalId(goal.getId());
-            long totalTasks = goalTasks.size();
-            long completedTasks = goalTasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE)
-                    .count();
+            Map<TaskStatus, Long> counts = taskCounts.getOrDefault(goal.getId(), Map.of());
+            long totalTasks = counts.values().stream().mapToLong(Long::longValue).sum();
+            long completedTasks = counts.getOrDefault(TaskStatus.DONE, 0L);
 
             double progress = totalTasks > 0 ? (double) completedTasks / totalTasks * 100 : 0;
             long daysUntilDeadline = ChronoUnit.DAYS.between(today, goal.getDeadline());
@@ -29,7 +29,7 @@ public class NotificationService {
     private final NotificationRepositoryPort notificationRepository;
     private final NotificationPreferencesRepositoryPort preferencesRepository;
     private final UserRepositoryPort userRepository;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
 
     private static final int DEFAULT_LIMIT = 50;
 
@@ -111,16 +111,17 @@ public class NotificationService {
 
         Notification saved = notificationRepository.save(notification);
 
-        // Send email notification if enabled in user preferences
-        sendEmailNotificationIfEnabled(userId, type, title, message, link);
+        // Queue email notification if enabled in user preferences
+        queueEmailNotificationIfEnabled(userId, type, title, message, link);
 
         return saved;
     }
 
     /**
-     * Check user preferences and send email notification if enabled.
+     * Check user preferences and queue an email notification if enabled. The email goes
+     * through the outbox, so it is sent after this transaction commits.
      */
-    private void sendEmailNotificationIfEnabled(UUID userId, NotificationType type, String title, String message, String link) {
+    private void queueEmailNotificationIfEnabled(UUID userId, NotificationType type, String title, String message, String link) {
         try {
             // Get user details
             User user = userRepository.findById(userId).orElse(null);
@@ -135,7 +136,7 @@ public class NotificationService {
 
             // Check if email should be sent for this notification type
             if (preferences.shouldSendEmail(type.name())) {
-                emailService.sendNotificationEmail(
+                emailOutboxService.enqueueNotificationEmail(
                         user.getEmail(),
                         user.getFirstName(),
                         type.name(),
@@ -143,13 +144,13 @@ public class NotificationService {
                         message,
                         link
                 );
-                log.debug("Email notification sent to {} for type {}", user.getEmail(), type);
+                log.debug("Email notification queued for {} for type {}", user.getEmail(), type);
             } else {
                 log.debug("Email notification skipped for user {} - disabled in preferences", userId);
             }
         } catch (Exception e) {
             // Log error but don't fail the notification creation
-            log.error("Failed to send email notification to user {}: {}", userId, e.getMessage());
+            log.error("Failed to queue email notification for user {}: {}", userId, e.getMessage());
         }
     }
 
@@ -190,6 +191,18 @@ public class NotificationService {
         );
     }
 
+    public void notifyWebhookDisabled(UUID userId, UUID webhookId, String webhookName, UUID organizationId) {
+        createNotification(
+                userId,
+                NotificationType.SYSTEM,
+                "Webhook desactive",
+                "Le webhook \"" + webhookName + "\" a ete desactive apres des echecs de livraison repetes.",
+                "/org/" + organizationId + "/webhooks",
+                webhookId,
+                organizationId
+        );
+    }
+
     public void notifyRoleChanged(UUID userId, UUID organizationId, String organizationName, String newRole) {
         createNotification(
                 userId,
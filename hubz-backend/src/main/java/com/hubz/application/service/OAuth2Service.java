@@ -70,7 +70,7 @@ public class OAuth2Service {
 
         User user = findOrCreateUser(email, firstName, lastName, googleId, pictureUrl);
 
-        String token = jwtTokenPort.generateToken(user.getEmail());
+        String token = jwtTokenPort.generateToken(user.getId(), user.getEmail());
 
         return AuthResponse.builder()
                 .token(token)
@@ -148,6 +148,7 @@ public class OrganizationInvitationService {
                 .build();
 
         memberRepository.save(member);
+        authorizationService.evictMembership(invitation.getOrganizationId(), userId);
 
         // Mark invitation as used
         invitation.setUsed(true);
@@ -110,6 +110,7 @@ public class OrganizationService {
         organizationRepository.findById(id)
                 .orElseThrow(() -> new OrganizationNotFoundException(id));
         organizationRepository.deleteById(id);
+        authorizationService.evictOrganization(id);
     }
 
     public List<MemberResponse> getMembers(UUID organizationId, UUID currentUserId) {
@@ -145,6 +146,7 @@ public class OrganizationService {
                 .build();
 
         memberRepository.save(member);
+        authorizationService.evictMembership(organizationId, userId);
 
         // Send webhook event for member joining
         webhookService.handleWebhookEvent(organizationId, WebhookEventType.MEMBER_JOINED, Map.of(
@@ -169,6 +171,7 @@ public class OrganizationService {
     public void removeMember(UUID organizationId, UUID userId, UUID currentUserId) {
         authorizationService.checkOrganizationAdminAccess(organizationId, currentUserId);
         memberRepository.deleteByOrganizationIdAndUserId(organizationId, userId);
+        authorizationService.evictMembership(organizationId, userId);
     }
 
     @Transactional
@@ -193,6 +196,7 @@ public class OrganizationService {
         // Update the role
         member.setRole(newRole);
         OrganizationMember updated = memberRepository.save(member);
+        authorizationService.evictMembership(organizationId, userId);
 
         return toMemberResponse(updated);
     }
@@ -273,6 +277,8 @@ public class OrganizationService {
         // Promote new owner
         newOwnerMember.setRole(MemberRole.OWNER);
         memberRepository.save(newOwnerMember);
+        authorizationService.evictMembership(organizationId, currentUserId);
+        authorizationService.evictMembership(organizationId, newOwnerId);
 
         // Update organization's owner field
         org.setOwnerId(newOwnerId);
@@ -0,0 +1,181 @@
+package com.hubz.application.service;
+
+import com.hubz.application.dto.request.CreateReportExportRequest;
+import com.hubz.application.dto.response.ReportExportResponse;
+import com.hubz.application.port.out.ReportExportRepositoryPort;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.enums.ReportType;
+import com.hubz.domain.exception.AccessDeniedException;
+import com.hubz.domain.exception.ReportExportNotFoundException;
+import com.hubz.domain.model.ReportExport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Report exports generated in the background. A request only records the export and schedules
+ * a REPORT_EXPORT job, so the HTTP thread returns immediately; the job renders and stores the
+ * file (see {@code ReportExportJobExecutor}), after which the user can download it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportExportService {
+
+    private static final DateTimeFormatter FILE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final ReportExportRepositoryPort exportRepository;
+    private final FileStorageService fileStorageService;
+    private final BackgroundJobService backgroundJobService;
+    private final AuthorizationService authorizationService;
+
+    /**
+     * Record an export and schedule its generation.
+     *
+     * @param request what to export
+     * @param userId  the user asking for the export
+     * @return the pending export
+     */
+    @Transactional
+    public ReportExportResponse requestExport(CreateReportExportRequest request, UUID userId) {
+        UUID organizationId = request.getOrganizationId();
+        if (request.getReportType() == ReportType.TASKS && organizationId == null) {
+            throw new IllegalArgumentException("Task reports require an organization");
+        }
+        if (request.getReportType() == ReportType.HABITS && organizationId != null) {
+            throw new IllegalArgumentException("Habit reports are personal and take no organization");
+        }
+        // Fail fast here; the job checks access again when it runs
+        if (organizationId != null) {
+            authorizationService.checkOrganizationAccess(organizationId, userId);
+        }
+
+        ReportExport export = exportRepository.save(ReportExport.pending(
+                userId, organizationId, request.getReportType(), request.getFormat(), fileName(request)));
+        backgroundJobService.scheduleJob(JobType.REPORT_EXPORT, "{\"exportId\":\"" + export.getId() + "\"}");
+
+        log.info("Report export requested: id={}, type={}, format={}, orgId={}",
+                export.getId(), export.getReportType(), export.getFormat(), organizationId);
+        return toResponse(export);
+    }
+
+    /**
+     * Get an export of the current user.
+     *
+     * @param exportId the export ID
+     * @param userId   the current user ID
+     * @return the export
+     */
+    public ReportExportResponse getExport(UUID exportId, UUID userId) {
+        return toResponse(findOwnExport(exportId, userId));
+    }
+
+    /**
+     * Get the exports of the current user, most recent first.
+     *
+     * @param userId the current user ID
+     * @return the exports
+     */
+    public List<ReportExportResponse> getExports(UUID userId) {
+        return exportRepository.findByUserId(userId).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * Open the generated file of a completed export of the current user.
+     *
+     * @param exportId the export ID
+     * @param userId   the current user ID
+     * @return the file
+     */
+    public Resource downloadExport(UUID exportId, UUID userId) throws MalformedURLException {
+        ReportExport export = findOwnExport(exportId, userId);
+        if (!export.isDownloadable()) {
+            throw new IllegalStateException("Report export is not ready for download. Status: " + export.getStatus());
+        }
+
+        Path filePath = fileStorageService.getFilePath(export.getFilePath());
+        Resource resource = new UrlResource(filePath.toUri());
+
+        if (!resource.exists()) {
+            throw new ReportExportNotFoundException(exportId);
+        }
+
+        return resource;
+    }
+
+    /**
+     * Delete exports, and their files, older than {@link ReportExport#RETENTION}.
+     *
+     * @return the number of deleted exports
+     */
+    public int cleanupExpiredExports() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ReportExport.RETENTION);
+        List<ReportExport> expired = exportRepository.findCreatedBefore(cutoff);
+
+        for (ReportExport export : expired) {
+            if (export.getFilePath() != null) {
+                try {
+                    fileStorageService.deleteFile(export.getFilePath());
+                } catch (IOException e) {
+                    log.warn("Could not delete report export file {}: {}", export.getFilePath(), e.getMessage());
+                    continue;
+                }
+            }
+            exportRepository.deleteById(export.getId());
+        }
+
+        if (!expired.isEmpty()) {
+            log.info("Cleaned up {} expired report exports (created before {})", expired.size(), cutoff);
+        }
+        return expired.size();
+    }
+
+    private ReportExport findOwnExport(UUID exportId, UUID userId) {
+        ReportExport export = exportRepository.findById(exportId)
+                .orElseThrow(() -> new ReportExportNotFoundException(exportId));
+        if (!export.getUserId().equals(userId)) {
+            throw new AccessDeniedException("You can only access your own report exports");
+        }
+        return export;
+    }
+
+    private String fileName(CreateReportExportRequest request) {
+        String prefix = switch (request.getReportType()) {
+            case TASKS -> "tasks";
+            case GOALS -> request.getOrganizationId() != null ? "goals" : "personal_goals";
+            case HABITS -> "habits";
+        };
+        return prefix + "_" + LocalDate.now().format(FILE_DATE_FORMATTER) + request.getFormat().getExtension();
+    }
+
+    private ReportExportResponse toResponse(ReportExport export) {
+        return ReportExportResponse.builder()
+                .id(export.getId())
+                .organizationId(export.getOrganizationId())
+                .reportType(export.getReportType())
+                .format(export.getFormat())
+                .status(export.getStatus())
+                .progress(export.getProgress())
+                .fileName(export.getFileName())
+                .fileSize(export.getFileSize())
+                .error(export.getError())
+                .createdAt(export.getCreatedAt())
+                .completedAt(export.getCompletedAt())
+                .downloadUrl(export.isDownloadable() ? "/api/reports/exports/" + export.getId() + "/download" : null)
+                .build();
+    }
+}
@@ -4,11 +4,13 @@ import com.hubz.application.port.out.GoalRepositoryPort;
 import com.hubz.application.port.out.HabitLogRepositoryPort;
 import com.hubz.application.port.out.HabitRepositoryPort;
 import com.hubz.application.port.out.TaskRepositoryPort;
+import com.hubz.domain.enums.TaskSortField;
 import com.hubz.domain.enums.TaskStatus;
 import com.hubz.domain.model.Goal;
 import com.hubz.domain.model.Habit;
 import com.hubz.domain.model.HabitLog;
 import com.hubz.domain.model.Task;
+import com.hubz.domain.model.TaskPageQuery;
 import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
 import com.lowagie.text.Element;
@@ -22,23 +24,27 @@ import com.lowagie.text.pdf.PdfWriter;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.FillPatternType;
 import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 import java.awt.Color;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -53,6 +59,26 @@ public class ReportService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    /** Tasks loaded per query when streaming an export. */
+    static final int EXPORT_PAGE_SIZE = 500;
+
+    /**
+     * Rows kept in memory per sheet by the Excel exports. Older rows are flushed to a compressed
+     * temporary file, so heap use does not grow with the number of rows.
+     */
+    static final int EXCEL_ROW_WINDOW = 100;
+
+    /** Upper bound for column widths in Excel exports, in characters. */
+    private static final int EXCEL_MAX_COLUMN_WIDTH = 80;
+
+    /**
+     * Writes a report to an output stream, for reports streamed to the client as they are generated.
+     */
+    @FunctionalInterface
+    public interface ReportWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
     // ==================== CSV EXPORTS ====================
 
     public byte[] exportTasksToCsv(UUID organizationId, UUID userId) {
@@ -61,27 +87,90 @@ public class ReportService {
 
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(baos, StandardCharsets.UTF_8))) {
-            // BOM for Excel UTF-8 compatibility
-            writer.write('\ufeff');
-            // Header
-            writer.println("ID,Title,Description,Status,Priority,Due Date,Created At,Updated At");
-
+            writeTaskCsvHeader(writer);
             for (Task task : tasks) {
-                writer.printf("%s,\"%s\",\"%s\",%s,%s,%s,%s,%s%n",
-                        task.getId(),
-                        escapeCsv(task.getTitle()),
-                        escapeCsv(task.getDescription()),
-                        task.getStatus(),
-                        task.getPriority(),
-                        task.getDueDate() != null ? task.getDueDate().format(DATE_FORMATTER) : "",
-                        task.getCreatedAt().format(DATE_FORMATTER),
-                        task.getUpdatedAt() != null ? task.getUpdatedAt().format(DATE_FORMATTER) : ""
-                );
+                writeTaskCsvRow(writer, task);
             }
         }
         return baos.toByteArray();
     }
 
+    /**
+     * Stream the tasks of an organization as CSV, for organizations too large to build in memory.
+     * Access is checked right away; the returned writer then reads the tasks one keyset page of
+     * {@link #EXPORT_PAGE_SIZE} at a time and writes each page out before loading the next, so
+     * memory use does not grow with the organization and no transaction stays open while a slow
+     * client downloads.
+     *
+     * @return a writer producing the same CSV as {@link #exportTasksToCsv}, newest tasks first
+     */
+    public ReportWriter streamTasksToCsv(UUID organizationId, UUID userId) {
+        authorizationService.checkOrganizationAccess(organizationId, userId);
+
+        return out -> {
+            // Not closed: the output stream belongs to the caller
+            PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            writeTaskCsvHeader(writer);
+
+            forEachTaskPage(organizationId, page -> {
+                for (Task task : page) {
+                    writeTaskCsvRow(writer, task);
+                }
+                writer.flush();
+                if (writer.checkError()) {
+                    throw new IOException("Client closed the connection during the task export");
+                }
+            });
+        };
+    }
+
+    /**
+     * Hand the tasks of an organization to {@code handler} one keyset page of {@link #EXPORT_PAGE_SIZE}
+     * at a time, newest first.
+     */
+    private void forEachTaskPage(UUID organizationId, TaskPageHandler handler) throws IOException {
+        TaskPageQuery query = TaskPageQuery.builder()
+                .organizationId(organizationId)
+                .sortField(TaskSortField.CREATED_AT)
+                .limit(EXPORT_PAGE_SIZE)
+                .build();
+        List<Task> page;
+        do {
+            page = taskRepository.findPageByOrganizationId(query);
+            handler.handle(page);
+            if (!page.isEmpty()) {
+                Task last = page.get(page.size() - 1);
+                query.setAfterTimestamp(last.getCreatedAt());
+                query.setAfterId(last.getId());
+            }
+        } while (page.size() == EXPORT_PAGE_SIZE);
+    }
+
+    @FunctionalInterface
+    private interface TaskPageHandler {
+        void handle(List<Task> page) throws IOException;
+    }
+
+    private void writeTaskCsvHeader(PrintWriter writer) {
+        // BOM for Excel UTF-8 compatibility
+        writer.write('\ufeff');
+        // Header
+        writer.println("ID,Title,Description,Status,Priority,Due Date,Created At,Updated At");
+    }
+
+    private void writeTaskCsvRow(PrintWriter writer, Task task) {
+        writer.printf("%s,\"%s\",\"%s\",%s,%s,%s,%s,%s%n",
+                task.getId(),
+                escapeCsv(task.getTitle()),
+                escapeCsv(task.getDescription()),
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate() != null ? task.getDueDate().format(DATE_FORMATTER) : "",
+                task.getCreatedAt().format(DATE_FORMATTER),
+                task.getUpdatedAt() != null ? task.getUpdatedAt().format(DATE_FORMATTER) : ""
+        );
+    }
+
     public byte[] exportGoalsToCsv(UUID organizationId, UUID userId) {
         List<Goal> goals;
         if (organizationId != null) {
@@ -96,10 +185,11 @@ public class ReportService {
             writer.write('\ufeff');
             writer.println("ID,Title,Description,Type,Deadline,Progress,Created At");
 
+            Map<UUID, Map<TaskStatus, Long>> taskCounts = countTasksByGoal(goals);
             for (Goal goal : goals) {
-                List<Task> tasks = taskRepository.findByGoalId(goal.getId());
-                int total = tasks.size();
-                int completed = (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.DONE).count();
+                Map<TaskStatus, Long> counts = taskCounts.getOrDefault(goal.getId(), Map.of());
+                int total = totalTasks(counts);
+                int completed = counts.getOrDefault(TaskStatus.DONE, 0L).intValue();
                 double progress = total > 0 ? (double) completed / total * 100 : 0;
 
                 writer.printf("%s,\"%s\",\"%s\",%s,%s,%.1f%%,%s%n",
@@ -149,11 +239,15 @@ public class ReportService {
 
     // ==================== EXCEL EXPORTS ====================
 
+    /**
+     * Export the tasks of an organization to Excel. The workbook is streamed (see
+     * {@link #EXCEL_ROW_WINDOW}) and tasks are read one page at a time, so large organizations
+     * do not need to fit in memory.
+     */
     public byte[] exportTasksToExcel(UUID organizationId, UUID userId) throws IOException {
         authorizationService.checkOrganizationAccess(organizationId, userId);
-        List<Task> tasks = taskRepository.findByOrganizationId(organizationId);
 
-        try (Workbook workbook = new XSSFWorkbook()) {
+        try (SXSSFWorkbook workbook = newStreamingWorkbook()) {
             Sheet sheet = workbook.createSheet("Tasks");
 
             // Header style
@@ -172,29 +266,27 @@ public class ReportService {
                 cell.setCellValue(headers[i]);
                 cell.setCellStyle(headerStyle);
             }
+            ColumnWidths widths = new ColumnWidths(headers);
 
             // Data rows
-            int rowNum = 1;
-            for (Task task : tasks) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(task.getId().toString());
-                row.createCell(1).setCellValue(task.getTitle());
-                row.createCell(2).setCellValue(task.getDescription() != null ? task.getDescription() : "");
-                row.createCell(3).setCellValue(task.getStatus().name());
-                row.createCell(4).setCellValue(task.getPriority().name());
-                row.createCell(5).setCellValue(task.getDueDate() != null ? task.getDueDate().format(DATE_FORMATTER) : "");
-                row.createCell(6).setCellValue(task.getCreatedAt().format(DATE_FORMATTER));
-                row.createCell(7).setCellValue(task.getUpdatedAt() != null ? task.getUpdatedAt().format(DATE_FORMATTER) : "");
-            }
-
-            // Auto-size columns
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
+            int[] rowNum = {1};
+            forEachTaskPage(organizationId, page -> {
+                for (Task task : page) {
+                    Row row = sheet.createRow(rowNum[0]++);
+                    row.createCell(0).setCellValue(task.getId().toString());
+                    row.createCell(1).setCellValue(task.getTitle());
+                    row.createCell(2).setCellValue(task.getDescription() != null ? task.getDescription() : "");
+                    row.createCell(3).setCellValue(task.getStatus().name());
+                    row.createCell(4).setCellValue(task.getPriority().name());
+                    row.createCell(5).setCellValue(task.getDueDate() != null ? task.getDueDate().format(DATE_FORMATTER) : "");
+                    row.createCell(6).setCellValue(task.getCreatedAt().format(DATE_FORMATTER));
+                    row.createCell(7).setCellValue(task.getUpdatedAt() != null ? task.getUpdatedAt().format(DATE_FORMATTER) : "");
+                    widths.measure(row);
+                }
+            });
 
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-            return baos.toByteArray();
+            widths.applyTo(sheet);
+            return toBytes(workbook);
         }
     }
 
@@ -207,7 +299,7 @@ public class ReportService {
             goals = goalRepository.findPersonalGoals(userId);
         }
 
-        try (Workbook workbook = new XSSFWorkbook()) {
+        try (SXSSFWorkbook workbook = newStreamingWorkbook()) {
             Sheet sheet = workbook.createSheet("Goals");
 
             CellStyle headerStyle = workbook.createCellStyle();
@@ -224,12 +316,14 @@ public class ReportService {
                 cell.setCellValue(headers[i]);
                 cell.setCellStyle(headerStyle);
             }
+            ColumnWidths widths = new ColumnWidths(headers);
 
             int rowNum = 1;
+            Map<UUID, Map<TaskStatus, Long>> taskCounts = countTasksByGoal(goals);
             for (Goal goal : goals) {
-                List<Task> tasks = taskRepository.findByGoalId(goal.getId());
-                int total = tasks.size();
-                int completed = (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.DONE).count();
+                Map<TaskStatus, Long> counts = taskCounts.getOrDefault(goal.getId(), Map.of());
+                int total = totalTasks(counts);
+                int completed = counts.getOrDefault(TaskStatus.DONE, 0L).intValue();
                 double progress = total > 0 ? (double) completed / total * 100 : 0;
 
                 Row row = sheet.createRow(rowNum++);
@@ -242,15 +336,11 @@ public class ReportService {
                 row.createCell(6).setCellValue(completed);
                 row.createCell(7).setCellValue(String.format("%.1f%%", progress));
                 row.createCell(8).setCellValue(goal.getCreatedAt().format(DATE_FORMATTER));
+                widths.measure(row);
             }
 
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-            return baos.toByteArray();
+            widths.applyTo(sheet);
+            return toBytes(workbook);
         }
     }
 
@@ -259,7 +349,7 @@ public class ReportService {
         List<UUID> habitIds = habits.stream().map(Habit::getId).toList();
         List<HabitLog> allLogs = habitLogRepository.findByHabitIdIn(habitIds);
 
-        try (Workbook workbook = new XSSFWorkbook()) {
+        try (SXSSFWorkbook workbook = newStreamingWorkbook()) {
             // Habits summary sheet
             Sheet summarySheet = workbook.createSheet("Habits Summary");
 
@@ -277,6 +367,7 @@ public class ReportService {
                 cell.setCellValue(headers[i]);
                 cell.setCellStyle(headerStyle);
             }
+            ColumnWidths widths = new ColumnWidths(headers);
 
             int rowNum = 1;
             for (Habit habit : habits) {
@@ -295,11 +386,10 @@ public class ReportService {
                 row.createCell(4).setCellValue(totalLogs);
                 row.createCell(5).setCellValue(completedLogs);
                 row.createCell(6).setCellValue(String.format("%.1f%%", rate));
+                widths.measure(row);
             }
 
-            for (int i = 0; i < headers.length; i++) {
-                summarySheet.autoSizeColumn(i);
-            }
+            widths.applyTo(summarySheet);
 
             // Logs detail sheet
             Sheet logsSheet = workbook.createSheet("Habit Logs");
@@ -311,6 +401,7 @@ public class ReportService {
                 cell.setCellValue(logHeaders[i]);
                 cell.setCellStyle(headerStyle);
             }
+            ColumnWidths logWidths = new ColumnWidths(logHeaders);
 
             int logRowNum = 1;
             for (Habit habit : habits) {
@@ -325,16 +416,63 @@ public class ReportService {
                     row.createCell(2).setCellValue(log.getCompleted() != null && log.getCompleted() ? "Yes" : "No");
                     row.createCell(3).setCellValue(log.getNotes() != null ? log.getNotes() : "");
                     row.createCell(4).setCellValue(log.getDuration() != null ? log.getDuration() : 0);
+                    logWidths.measure(row);
                 }
             }
 
-            for (int i = 0; i < logHeaders.length; i++) {
-                logsSheet.autoSizeColumn(i);
-            }
+            logWidths.applyTo(logsSheet);
+            return toBytes(workbook);
+        }
+    }
 
+    private SXSSFWorkbook newStreamingWorkbook() {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        return workbook;
+    }
+
+    private byte[] toBytes(SXSSFWorkbook workbook) throws IOException {
+        try {
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
             workbook.write(baos);
             return baos.toByteArray();
+        } finally {
+            // Closing the workbook does not remove the temporary files backing its sheets
+            workbook.dispose();
+        }
+    }
+
+    /**
+     * Column widths measured from the cell text as rows are written. Stands in for
+     * {@link Sheet#autoSizeColumn}, which only sees the rows still in memory of a streamed sheet
+     * and measures every cell with AWT font metrics.
+     */
+    private static final class ColumnWidths {
+
+        private final int[] characters;
+
+        ColumnWidths(String[] headers) {
+            characters = new int[headers.length];
+            for (int i = 0; i < headers.length; i++) {
+                characters[i] = headers[i].length();
+            }
+        }
+
+        void measure(Row row) {
+            for (Cell cell : row) {
+                int column = cell.getColumnIndex();
+                int length = cell.getCellType() == CellType.NUMERIC
+                        ? NumberToTextConverter.toText(cell.getNumericCellValue()).length()
+                        : cell.getStringCellValue().length();
+                characters[column] = Math.max(characters[column], length);
+            }
+        }
+
+        void applyTo(Sheet sheet) {
+            for (int i = 0; i < characters.length; i++) {
+                // Width in 1/256 of a character, with a little padding
+                sheet.setColumnWidth(i, Math.min(characters[i] + 2, EXCEL_MAX_COLUMN_WIDTH) * 256);
+            }
         }
     }
 
@@ -463,10 +601,11 @@ public class ReportService {
             }
 
             Font dataFont = new Font(Font.HELVETICA, 9, Font.NORMAL);
+            Map<UUID, Map<TaskStatus, Long>> taskCounts = countTasksByGoal(goals);
             for (Goal goal : goals) {
-                List<Task> tasks = taskRepository.findByGoalId(goal.getId());
-                int total = tasks.size();
-                int completed = (int) tasks.stream().filter(t -> t.getStatus() == TaskStatus.DONE).count();
+                Map<TaskStatus, Long> counts = taskCounts.getOrDefault(goal.getId(), Map.of());
+                int total = totalTasks(counts);
+                int completed = counts.getOrDefault(TaskStatus.DONE, 0L).intValue();
                 double progress = total > 0 ? (double) completed / total * 100 : 0;
                 String status = progress >= 100 ? "Completed" : progress >= 50 ? "On Track" : "In Progress";
 
@@ -555,6 +694,17 @@ public class ReportService {
 
     // ==================== HELPER METHODS ====================
 
+    /**
+     * Count the tasks of all the goals at once, by status, instead of loading them goal by goal.
+     */
+    private Map<UUID, Map<TaskStatus, Long>> countTasksByGoal(List<Goal> goals) {
+        return taskRepository.countByGoalIdsAndStatus(goals.stream().map(Goal::getId).toList());
+    }
+
+    private int totalTasks(Map<TaskStatus, Long> counts) {
+        return (int) counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
     private String escapeCsv(String value) {
         if (value == null) return "";
         return value.replace("\"", "\"\"").replace("\n", " ").replace("\r", "");
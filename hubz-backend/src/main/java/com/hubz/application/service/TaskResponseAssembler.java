@@ -0,0 +1,70 @@
+package com.hubz.application.service;
+
+import com.hubz.application.dto.response.TagResponse;
+import com.hubz.application.dto.response.TaskResponse;
+import com.hubz.application.port.out.TagRepositoryPort;
+import com.hubz.domain.model.Tag;
+import com.hubz.domain.model.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds {@link TaskResponse}s including their tags.
+ * List paths go through {@link #toResponses(List)}, which loads the tags of all tasks
+ * with a single query instead of one query per task.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskResponseAssembler {
+
+    private final TagRepositoryPort tagRepository;
+
+    public TaskResponse toResponse(Task task) {
+        return toResponse(task, tagRepository.findTagsByTaskId(task.getId()));
+    }
+
+    public List<TaskResponse> toResponses(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, List<Tag>> tagsByTaskId = tagRepository.findTagsByTaskIds(
+                tasks.stream().map(Task::getId).toList());
+
+        return tasks.stream()
+                .map(task -> toResponse(task, tagsByTaskId.getOrDefault(task.getId(), List.of())))
+                .toList();
+    }
+
+    private TaskResponse toResponse(Task task, List<Tag> tags) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .organizationId(task.getOrganizationId())
+                .goalId(task.getGoalId())
+                .assigneeId(task.getAssigneeId())
+                .creatorId(task.getCreatorId())
+                .dueDate(task.getDueDate())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .tags(tags.stream().map(this::toTagResponse).toList())
+                .build();
+    }
+
+    private TagResponse toTagResponse(Tag tag) {
+        return TagResponse.builder()
+                .id(tag.getId())
+                .name(tag.getName())
+                .color(tag.getColor())
+                .organizationId(tag.getOrganizationId())
+                .createdAt(tag.getCreatedAt())
+                .build();
+    }
+}
@@ -1,28 +1,32 @@
 package com.hubz.application.service;
 
 import com.hubz.application.dto.request.CreateTaskRequest;
+import com.hubz.application.dto.request.TaskPageRequest;
 import com.hubz.application.dto.request.UpdateTaskRequest;
 import com.hubz.application.dto.request.UpdateTaskStatusRequest;
-import com.hubz.application.dto.response.TagResponse;
+import com.hubz.application.dto.response.TaskPageResponse;
 import com.hubz.application.dto.response.TaskResponse;
-import com.hubz.application.port.out.TagRepositoryPort;
 import com.hubz.application.port.out.TaskHistoryRepositoryPort;
 import com.hubz.application.port.out.TaskRepositoryPort;
 import com.hubz.domain.enums.TaskHistoryField;
+import com.hubz.domain.enums.TaskSortField;
 import com.hubz.domain.enums.TaskStatus;
 import com.hubz.domain.enums.WebhookEventType;
 import com.hubz.domain.exception.TaskNotFoundException;
-import com.hubz.domain.model.Tag;
 import com.hubz.domain.model.Task;
 import com.hubz.domain.model.TaskHistory;
+import com.hubz.domain.model.TaskPageQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,12 +36,17 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String CURSOR_SEPARATOR = "|";
+
     private final TaskRepositoryPort taskRepository;
-    private final TagRepositoryPort tagRepository;
+    private final TaskResponseAssembler taskResponseAssembler;
     private final TaskHistoryRepositoryPort taskHistoryRepository;
     private final AuthorizationService authorizationService;
     private final GoalService goalService;
     private final WebhookService webhookService;
+    private final DailyRollupService dailyRollupService;
 
     @Transactional
     @CacheEvict(value = "tasks", key = "#organizationId")
@@ -59,7 +68,8 @@ public class TaskService {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        TaskResponse response = toResponse(taskRepository.save(task));
+        TaskResponse response = taskResponseAssembler.toResponse(taskRepository.save(task));
+        dailyRollupService.recordTaskCreated(task);
 
         // Record goal progress if the task is linked to a goal
         if (task.getGoalId() != null) {
@@ -81,15 +91,47 @@ public class TaskService {
     public List<TaskResponse> getByOrganization(UUID organizationId, UUID currentUserId) {
         authorizationService.checkOrganizationAccess(organizationId, currentUserId);
 
-        return taskRepository.findByOrganizationId(organizationId).stream()
-                .map(this::toResponse)
-                .toList();
+        return taskResponseAssembler.toResponses(taskRepository.findByOrganizationId(organizationId));
+    }
+
+    /**
+     * Get one page of organization tasks, newest first, using keyset pagination.
+     * Pages are not cached; follow {@code nextCursor} until {@code hasMore} is false.
+     */
+    public TaskPageResponse getPageByOrganization(UUID organizationId, TaskPageRequest request, UUID currentUserId) {
+        authorizationService.checkOrganizationAccess(organizationId, currentUserId);
+
+        TaskSortField sortField = request.getSort() != null ? request.getSort() : TaskSortField.UPDATED_AT;
+        int limit = request.getLimit() != null && request.getLimit() > 0
+                ? Math.min(request.getLimit(), MAX_PAGE_SIZE)
+                : DEFAULT_PAGE_SIZE;
+
+        TaskPageQuery query = TaskPageQuery.builder()
+                .organizationId(organizationId)
+                .status(request.getStatus())
+                .assigneeId(request.getAssigneeId())
+                .priority(request.getPriority())
+                .sortField(sortField)
+                .limit(limit + 1)
+                .build();
+        if (request.getCursor() != null && !request.getCursor().isBlank()) {
+            applyCursor(query, request.getCursor());
+        }
+
+        // One extra row tells whether another page exists
+        List<Task> tasks = taskRepository.findPageByOrganizationId(query);
+        boolean hasMore = tasks.size() > limit;
+        List<Task> page = hasMore ? tasks.subList(0, limit) : tasks;
+
+        return TaskPageResponse.builder()
+                .items(taskResponseAssembler.toResponses(page))
+                .nextCursor(hasMore ? encodeCursor(page.get(page.size() - 1), sortField) : null)
+                .hasMore(hasMore)
+                .build();
     }
 
     public List<TaskResponse> getByUser(UUID userId) {
-        return taskRepository.findByAssigneeId(userId).stream()
-                .map(this::toResponse)
-                .toList();
+        return taskResponseAssembler.toResponses(taskRepository.findByAssigneeId(userId));
     }
 
     @Transactional
@@ -130,7 +172,8 @@ public class TaskService {
             task.setGoalId(newGoalId);
             goalChanged = true;
         }
-        if (request.getAssigneeId() != null && !Objects.equals(task.getAssigneeId(), request.getAssigneeId())) {
+        UUID oldAssigneeId = task.getAssigneeId();
+        if (request.getAssigneeId() != null && !Objects.equals(oldAssigneeId, request.getAssigneeId())) {
             changes.add(createHistoryEntry(id, currentUserId, TaskHistoryField.ASSIGNEE,
                     task.getAssigneeId() != null ? task.getAssigneeId().toString() : null,
                     request.getAssigneeId().toString(), now));
@@ -150,7 +193,8 @@ public class TaskService {
             taskHistoryRepository.saveAll(changes);
         }
 
-        TaskResponse response = toResponse(taskRepository.save(task));
+        TaskResponse response = taskResponseAssembler.toResponse(taskRepository.save(task));
+        dailyRollupService.recordTaskReassigned(task, oldAssigneeId);
 
         // Record goal progress if the goal was changed
         if (goalChanged) {
@@ -187,10 +231,12 @@ public class TaskService {
             taskHistoryRepository.save(history);
         }
 
+        TaskStatus oldStatus = task.getStatus();
         task.setStatus(request.getStatus());
         task.setUpdatedAt(now);
 
-        TaskResponse response = toResponse(taskRepository.save(task));
+        TaskResponse response = taskResponseAssembler.toResponse(taskRepository.save(task));
+        dailyRollupService.recordTaskStatusChange(task, oldStatus);
 
         // Record goal progress if the task is linked to a goal and status changed
         if (statusChanged && task.getGoalId() != null) {
@@ -217,38 +263,27 @@ public class TaskService {
         authorizationService.checkOrganizationAccess(task.getOrganizationId(), currentUserId);
 
         taskRepository.deleteById(id);
+        dailyRollupService.recordTaskDeleted(task);
     }
 
-    private TaskResponse toResponse(Task task) {
-        List<TagResponse> tags = tagRepository.findTagsByTaskId(task.getId()).stream()
-                .map(this::toTagResponse)
-                .toList();
-
-        return TaskResponse.builder()
-                .id(task.getId())
-                .title(task.getTitle())
-                .description(task.getDescription())
-                .status(task.getStatus())
-                .priority(task.getPriority())
-                .organizationId(task.getOrganizationId())
-                .goalId(task.getGoalId())
-                .assigneeId(task.getAssigneeId())
-                .creatorId(task.getCreatorId())
-                .dueDate(task.getDueDate())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
-                .tags(tags)
-                .build();
+    private String encodeCursor(Task task, TaskSortField sortField) {
+        LocalDateTime timestamp = sortField == TaskSortField.CREATED_AT ? task.getCreatedAt() : task.getUpdatedAt();
+        String raw = sortField.name() + CURSOR_SEPARATOR + timestamp + CURSOR_SEPARATOR + task.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 
-    private TagResponse toTagResponse(Tag tag) {
-        return TagResponse.builder()
-                .id(tag.getId())
-                .name(tag.getName())
-                .color(tag.getColor())
-                .organizationId(tag.getOrganizationId())
-                .createdAt(tag.getCreatedAt())
-                .build();
+    private void applyCursor(TaskPageQuery query, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + CURSOR_SEPARATOR);
+            if (parts.length != 3 || !parts[0].equals(query.getSortField().name())) {
+                throw new IllegalArgumentException("Invalid cursor for sort " + query.getSortField());
+            }
+            query.setAfterTimestamp(LocalDateTime.parse(parts[1]));
+            query.setAfterId(UUID.fromString(parts[2]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
     }
 
     private TaskHistory createHistoryEntry(UUID taskId, UUID userId, TaskHistoryField field,
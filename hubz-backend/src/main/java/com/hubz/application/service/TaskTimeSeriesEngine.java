@@ -0,0 +1,231 @@
+package com.hubz.application.service;
+
+import com.hubz.application.dto.response.TaskAnalyticsResponse.*;
+import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.model.Task;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.WeekFields;
+import java.util.*;
+
+/**
+ * Computes all day/week based task time-series of the analytics dashboard in a single sweep.
+ * <p>
+ * Each task is visited once and dropped into per-day and per-week buckets; cumulative series
+ * (burndown, burnup, cumulative flow, WIP) are then derived with prefix sums over the buckets.
+ * The cost is O(tasks + days + weeks) instead of one full task scan per day and per chart.
+ * Semantics are identical to the former per-chart loops in {@link AnalyticsService}.
+ */
+@Component
+public class TaskTimeSeriesEngine {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int ROLLING_WINDOW_DAYS = 7;
+
+    /**
+     * Build every time-series for the given tasks.
+     *
+     * @param tasks the (already filtered) tasks
+     * @param today the last day of the daily window
+     * @param days  size of the daily window; series cover {@code today - days} to {@code today} inclusive
+     * @param weeks number of weeks for the weekly series, ending with the current week
+     */
+    public TaskTimeSeries compute(List<Task> tasks, LocalDate today, int days, int weeks) {
+        LocalDate startDate = today.minusDays(days);
+        int size = days + 1;
+
+        // Exact per-day counts within the window
+        long[] createdOn = new long[size];
+        long[] completedOn = new long[size];
+        // Per-day deltas where everything on or before startDate is folded into index 0,
+        // so that a prefix sum yields "on or before date" counts
+        long[] createdUpTo = new long[size];
+        long[] todoCreatedUpTo = new long[size];
+        long[] inProgressCreatedUpTo = new long[size];
+        long[] completedUpTo = new long[size];
+
+        WeekFields weekFields = WeekFields.of(Locale.getDefault());
+        Map<LocalDate, Integer> weekIndex = new HashMap<>();
+        List<LocalDate> weekStarts = new ArrayList<>(weeks);
+        for (int i = weeks - 1; i >= 0; i--) {
+            LocalDate weekStart = today.minusWeeks(i).with(weekFields.dayOfWeek(), 1);
+            weekIndex.put(weekStart, weekStarts.size());
+            weekStarts.add(weekStart);
+        }
+        long[] completedPerWeek = new long[weeks];
+        long[] leadTimeCountPerWeek = new long[weeks];
+        double[] leadTimeHoursPerWeek = new double[weeks];
+
+        for (Task task : tasks) {
+            TaskStatus status = task.getStatus();
+
+            if (task.getCreatedAt() != null) {
+                LocalDate createdDate = task.getCreatedAt().toLocalDate();
+                int index = dayIndex(startDate, createdDate, size);
+                if (index >= 0) {
+                    if (!createdDate.isBefore(startDate)) {
+                        createdOn[index]++;
+                    }
+                    createdUpTo[index]++;
+                    if (status == TaskStatus.TODO) {
+                        todoCreatedUpTo[index]++;
+                    } else if (status == TaskStatus.IN_PROGRESS) {
+                        inProgressCreatedUpTo[index]++;
+                    }
+                }
+            }
+
+            if (status == TaskStatus.DONE && task.getUpdatedAt() != null) {
+                LocalDate completedDate = task.getUpdatedAt().toLocalDate();
+                int index = dayIndex(startDate, completedDate, size);
+                if (index >= 0) {
+                    if (!completedDate.isBefore(startDate)) {
+                        completedOn[index]++;
+                    }
+                    completedUpTo[index]++;
+                }
+
+                Integer week = weekIndex.get(completedDate.with(weekFields.dayOfWeek(), 1));
+                if (week != null) {
+                    completedPerWeek[week]++;
+                    if (task.getCreatedAt() != null) {
+                        leadTimeCountPerWeek[week]++;
+                        leadTimeHoursPerWeek[week] += ChronoUnit.HOURS.between(task.getCreatedAt(), task.getUpdatedAt());
+                    }
+                }
+            }
+        }
+
+        List<TimeSeriesData> createdOverTime = new ArrayList<>(size);
+        List<TimeSeriesData> completedOverTime = new ArrayList<>(size);
+        List<BurndownData> burndown = new ArrayList<>(size);
+        List<BurnupData> burnup = new ArrayList<>(size);
+        List<CumulativeFlowData> cumulativeFlow = new ArrayList<>(size);
+        List<ThroughputData> throughput = new ArrayList<>(size);
+        List<WIPData> wip = new ArrayList<>(size);
+
+        long totalCreated = 0;
+        long totalTodo = 0;
+        long totalInProgress = 0;
+        long totalCompleted = 0;
+        // Legacy burndown seeds its running total with tasks created on or before startDate
+        // and then adds startDate's creations again; kept as-is for chart continuity
+        long burndownTotal = createdUpTo[0];
+        long rollingSum = 0;
+
+        for (int i = 0; i < size; i++) {
+            String date = startDate.plusDays(i).format(DATE_FORMATTER);
+
+            totalCreated += createdUpTo[i];
+            totalTodo += todoCreatedUpTo[i];
+            totalInProgress += inProgressCreatedUpTo[i];
+            totalCompleted += completedUpTo[i];
+            burndownTotal += createdOn[i];
+
+            rollingSum += completedOn[i];
+            if (i >= ROLLING_WINDOW_DAYS) {
+                rollingSum -= completedOn[i - ROLLING_WINDOW_DAYS];
+            }
+            double rollingAverage = (double) rollingSum / Math.min(i + 1, ROLLING_WINDOW_DAYS);
+
+            createdOverTime.add(TimeSeriesData.builder()
+                    .date(date)
+                    .count(createdOn[i])
+                    .build());
+            completedOverTime.add(TimeSeriesData.builder()
+                    .date(date)
+                    .count(completedOn[i])
+                    .build());
+            burndown.add(BurndownData.builder()
+                    .date(date)
+                    .remainingTasks(burndownTotal - totalCompleted)
+                    .completedTasks(completedOn[i])
+                    .totalTasks(burndownTotal)
+                    .build());
+            burnup.add(BurnupData.builder()
+                    .date(date)
+                    .cumulativeCompleted(totalCompleted)
+                    .totalScope(totalCreated)
+                    .build());
+            cumulativeFlow.add(CumulativeFlowData.builder()
+                    .date(date)
+                    .todo(totalTodo)
+                    .inProgress(totalInProgress)
+                    .done(totalCompleted)
+                    .build());
+            throughput.add(ThroughputData.builder()
+                    .date(date)
+                    .completedCount(completedOn[i])
+                    .rollingAverage(Math.round(rollingAverage * 100.0) / 100.0)
+                    .build());
+            wip.add(WIPData.builder()
+                    .date(date)
+                    .wipCount(totalInProgress)
+                    .todoCount(totalTodo)
+                    .totalActive(totalInProgress + totalTodo)
+                    .build());
+        }
+
+        List<VelocityData> velocity = new ArrayList<>(weeks);
+        List<LeadTimeData> leadTime = new ArrayList<>(weeks);
+        for (int w = 0; w < weeks; w++) {
+            String weekStart = weekStarts.get(w).format(DATE_FORMATTER);
+            Double averageLeadTime = leadTimeCountPerWeek[w] > 0
+                    ? Math.round(leadTimeHoursPerWeek[w] / leadTimeCountPerWeek[w] * 100.0) / 100.0
+                    : null;
+
+            velocity.add(VelocityData.builder()
+                    .weekStart(weekStart)
+                    .completedTasks(completedPerWeek[w])
+                    .build());
+            leadTime.add(LeadTimeData.builder()
+                    .date(weekStart)
+                    .averageLeadTimeHours(averageLeadTime)
+                    .taskCount(leadTimeCountPerWeek[w])
+                    .build());
+        }
+
+        return TaskTimeSeries.builder()
+                .tasksCreatedOverTime(createdOverTime)
+                .tasksCompletedOverTime(completedOverTime)
+                .burndownChart(burndown)
+                .burnupChart(burnup)
+                .cumulativeFlowDiagram(cumulativeFlow)
+                .throughputChart(throughput)
+                .wipChart(wip)
+                .velocityChart(velocity)
+                .leadTimeTrend(leadTime)
+                .build();
+    }
+
+    /**
+     * Index of a date in the daily window. Dates on or before the window start map to 0,
+     * dates after the window end return -1.
+     */
+    private int dayIndex(LocalDate startDate, LocalDate date, int size) {
+        long offset = ChronoUnit.DAYS.between(startDate, date);
+        if (offset >= size) {
+            return -1;
+        }
+        return (int) Math.max(0, offset);
+    }
+
+    @Getter
+    @Builder
+    public static class TaskTimeSeries {
+        private final List<TimeSeriesData> tasksCreatedOverTime;
+        private final List<TimeSeriesData> tasksCompletedOverTime;
+        private final List<BurndownData> burndownChart;
+        private final List<BurnupData> burnupChart;
+        private final List<CumulativeFlowData> cumulativeFlowDiagram;
+        private final List<ThroughputData> throughputChart;
+        private final List<WIPData> wipChart;
+        private final List<VelocityData> velocityChart;
+        private final List<LeadTimeData> leadTimeTrend;
+    }
+}
@@ -1,17 +1,21 @@
 package com.hubz.application.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubz.application.dto.request.CreateWebhookConfigRequest;
 import com.hubz.application.dto.request.UpdateWebhookConfigRequest;
 import com.hubz.application.dto.response.WebhookConfigResponse;
 import com.hubz.application.dto.response.WebhookTestResponse;
 import com.hubz.application.port.out.WebhookConfigRepositoryPort;
 import com.hubz.application.port.out.WebhookSenderPort;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.enums.WebhookCircuitState;
 import com.hubz.domain.enums.WebhookEventType;
 import com.hubz.domain.exception.WebhookConfigNotFoundException;
+import com.hubz.domain.model.BackgroundJob;
 import com.hubz.domain.model.WebhookConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +34,8 @@ public class WebhookService {
     private final WebhookConfigRepositoryPort webhookConfigRepository;
     private final WebhookSenderPort webhookSender;
     private final AuthorizationService authorizationService;
+    private final BackgroundJobService backgroundJobService;
+    private final ObjectMapper objectMapper;
 
     @Transactional
     public WebhookConfigResponse create(CreateWebhookConfigRequest request, UUID organizationId, UUID currentUserId) {
@@ -84,6 +90,7 @@ public class WebhookService {
         }
         if (request.getWebhookUrl() != null) {
             config.setWebhookUrl(request.getWebhookUrl());
+            config.resetHealth();
         }
         if (request.getName() != null) {
             config.setName(request.getName());
@@ -95,6 +102,9 @@ public class WebhookService {
             config.setEvents(request.getEvents());
         }
         if (request.getEnabled() != null) {
+            if (request.getEnabled() && !config.isEnabled()) {
+                config.resetHealth();
+            }
             config.setEnabled(request.getEnabled());
         }
         config.setUpdatedAt(LocalDateTime.now());
@@ -147,23 +157,38 @@ public class WebhookService {
     }
 
     /**
-     * Sends a webhook event to all enabled configurations for the given organization and event type.
-     * Runs asynchronously to avoid blocking the calling service.
+     * Queues a delivery of the event to every enabled configuration of the organization that
+     * subscribes to it. Each delivery is a WEBHOOK_CALL background job, written in the caller's
+     * transaction, so events are only sent for committed changes, survive restarts and are
+     * retried with backoff, while bursts wait in the job table rather than on threads.
+     * Deliveries to webhooks whose circuit is open are queued to run when it reopens.
      */
-    @Async
+    @Transactional
     public void handleWebhookEvent(UUID organizationId, WebhookEventType eventType, Map<String, Object> data) {
         List<WebhookConfig> configs = webhookConfigRepository
                 .findByOrganizationIdAndEnabledAndEventsContaining(organizationId, true, eventType);
+        if (configs.isEmpty()) {
+            return;
+        }
 
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> payload = buildPayload(eventType.name().toLowerCase().replace('_', '.'), organizationId, data);
         for (WebhookConfig config : configs) {
             try {
-                Map<String, Object> payload = buildPayload(eventType.name().toLowerCase().replace('_', '.'), organizationId, data);
-                webhookSender.send(config.getWebhookUrl(), payload, config.getSecret());
-                log.debug("Webhook sent successfully to {} for event {}", config.getWebhookUrl(), eventType);
-            } catch (Exception e) {
-                log.warn("Failed to send webhook to {} for event {}: {}", config.getWebhookUrl(), eventType, e.getMessage());
+                String job = objectMapper.writeValueAsString(
+                        Map.of("webhookId", config.getId().toString(), "body", payload));
+                if (config.circuitState(now) == WebhookCircuitState.OPEN) {
+                    // Would only be deferred by the executor; hold it back until the circuit reopens
+                    backgroundJobService.scheduleJob(JobType.WEBHOOK_CALL, job,
+                            BackgroundJob.PRIORITY_NORMAL, config.getCircuitOpenUntil());
+                } else {
+                    backgroundJobService.scheduleJob(JobType.WEBHOOK_CALL, job);
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to queue webhook {} for event {}: {}", config.getId(), eventType, e.getMessage());
             }
         }
+        log.debug("Queued {} webhook deliveries for event {}", configs.size(), eventType);
     }
 
     /**
@@ -191,6 +216,12 @@ public class WebhookService {
                 .createdById(config.getCreatedById())
                 .createdAt(config.getCreatedAt())
                 .updatedAt(config.getUpdatedAt())
+                .circuitState(config.circuitState(LocalDateTime.now()))
+                .consecutiveFailures(config.getConsecutiveFailures())
+                .failureRate(config.getFailureRate())
+                .circuitOpenUntil(config.getCircuitOpenUntil())
+                .lastFailureAt(config.getLastFailureAt())
+                .lastError(config.getLastError())
                 .build();
     }
 }
@@ -1,24 +1,63 @@
 package com.hubz.application.service;
 
 import com.hubz.application.port.out.UserPreferencesRepositoryPort;
+import com.hubz.application.service.email.BulkEmailSender;
 import com.hubz.domain.model.UserPreferences;
-import lombok.RequiredArgsConstructor;
+import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Scheduled service that sends weekly digest emails to users every Monday at 9:00 AM.
+ * <p>
+ * Users are split into batches of {@code app.digest.batch-size}; the data of each batch is loaded
+ * with a handful of bulk queries and its digests are built and sent on one of
+ * {@code app.digest.parallelism} worker threads, through {@link BulkEmailSender}. When several
+ * instances run the job, each one is given a distinct {@code app.digest.shard-index} out of
+ * {@code app.digest.shard-count} and only handles the users hashed to its shard.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class WeeklyDigestScheduler {
 
     private final UserPreferencesRepositoryPort preferencesRepository;
     private final WeeklyDigestService weeklyDigestService;
+    private final BulkEmailSender bulkEmailSender;
+    private final int batchSize;
+    private final int parallelism;
+    private final int shardIndex;
+    private final int shardCount;
+
+    public WeeklyDigestScheduler(UserPreferencesRepositoryPort preferencesRepository,
+                                 WeeklyDigestService weeklyDigestService,
+                                 BulkEmailSender bulkEmailSender,
+                                 @Value("${app.digest.batch-size:500}") int batchSize,
+                                 @Value("${app.digest.parallelism:4}") int parallelism,
+                                 @Value("${app.digest.shard-index:0}") int shardIndex,
+                                 @Value("${app.digest.shard-count:1}") int shardCount) {
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException(
+                    "Invalid digest shard " + shardIndex + " of " + shardCount);
+        }
+        this.preferencesRepository = preferencesRepository;
+        this.weeklyDigestService = weeklyDigestService;
+        this.bulkEmailSender = bulkEmailSender;
+        this.batchSize = Math.max(1, batchSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.shardIndex = shardIndex;
+        this.shardCount = shardCount;
+    }
 
     /**
      * Runs every Monday at 9:00 AM to send weekly digest emails.
@@ -27,22 +66,45 @@ public class WeeklyDigestScheduler {
      */
     @Scheduled(cron = "0 0 9 * * MON")
     public void sendWeeklyDigests() {
-        log.info("Starting weekly digest email job");
+        log.info("Starting weekly digest email job (shard {} of {})", shardIndex + 1, shardCount);
 
-        List<UserPreferences> usersWithDigestEnabled = preferencesRepository.findByDigestEnabledTrue();
+        List<UUID> userIds = preferencesRepository.findByDigestEnabledTrue().stream()
+                .map(UserPreferences::getUserId)
+                .filter(this::isInShard)
+                .toList();
 
-        log.info("Found {} users with digest enabled", usersWithDigestEnabled.size());
+        log.info("Found {} users with digest enabled in this shard", userIds.size());
+
+        List<List<UUID>> batches = new ArrayList<>();
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            batches.add(userIds.subList(from, Math.min(from + batchSize, userIds.size())));
+        }
 
         int successCount = 0;
         int failureCount = 0;
 
-        for (UserPreferences prefs : usersWithDigestEnabled) {
-            try {
-                weeklyDigestService.sendWeeklyDigest(prefs.getUserId());
-                successCount++;
-            } catch (Exception e) {
-                failureCount++;
-                log.error("Failed to send weekly digest to user {}: {}", prefs.getUserId(), e.getMessage());
+        if (!batches.isEmpty()) {
+            try (ExecutorService workers = Executors.newFixedThreadPool(
+                    Math.min(parallelism, batches.size()), new CustomizableThreadFactory("digest-worker-"))) {
+                List<Future<BulkEmailSender.Batch>> results = new ArrayList<>(batches.size());
+                for (List<UUID> batch : batches) {
+                    results.add(workers.submit(() -> sendBatch(batch)));
+                }
+
+                for (int i = 0; i < results.size(); i++) {
+                    try {
+                        BulkEmailSender.Batch sent = results.get(i).get();
+                        successCount += sent.getSent();
+                        failureCount += sent.getFailed();
+                    } catch (ExecutionException e) {
+                        failureCount += batches.get(i).size();
+                        log.error("Failed to build weekly digests for a batch of {} users: {}",
+                                batches.get(i).size(), e.getCause().getMessage());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Weekly digest job interrupted");
             }
         }
 
@@ -55,4 +117,17 @@ public class WeeklyDigestScheduler {
     public void sendWeeklyDigestsManually() {
         sendWeeklyDigests();
     }
+
+    private boolean isInShard(UUID userId) {
+        return Math.floorMod(userId.hashCode(), shardCount) == shardIndex;
+    }
+
+    private BulkEmailSender.Batch sendBatch(List<UUID> userIds) {
+        BulkEmailSender.Batch batch = bulkEmailSender.newBatch();
+        for (MimeMessage email : weeklyDigestService.createWeeklyDigestEmails(userIds)) {
+            batch.add(email);
+        }
+        batch.flush();
+        return batch;
+    }
 }
@@ -13,6 +13,8 @@ import com.hubz.domain.model.Habit;
 import com.hubz.domain.model.HabitLog;
 import com.hubz.domain.model.Task;
 import com.hubz.domain.model.User;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,8 +23,12 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service for generating and sending weekly digest emails to users.
@@ -53,6 +59,30 @@ public class WeeklyDigestService {
             String topAchievement
     ) {}
 
+    /**
+     * The periods a digest generated on {@code today} reports on.
+     */
+    private record DigestWeek(
+            LocalDate today,
+            LocalDate thisWeekStart,
+            LocalDate lastWeekStart,
+            LocalDate lastWeekEnd,
+            LocalDateTime nextWeekStartTime,
+            LocalDateTime nextWeekEndTime
+    ) {
+        static DigestWeek of(LocalDate today) {
+            LocalDate thisWeekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            return new DigestWeek(
+                    today,
+                    thisWeekStart,
+                    thisWeekStart.minusWeeks(1),
+                    thisWeekStart.minusDays(1),
+                    thisWeekStart.plusWeeks(1).atStartOfDay(),
+                    thisWeekStart.plusWeeks(1).plusDays(6).atTime(23, 59, 59)
+            );
+        }
+    }
+
     /**
      * Generate digest data for a user.
      *
@@ -60,67 +90,79 @@ public class WeeklyDigestService {
      * @return WeeklyDigestData containing all statistics
      */
     public WeeklyDigestData generateDigest(UUID userId) {
-        LocalDate today = LocalDate.now();
-
-        // Calculate week boundaries
-        LocalDate thisWeekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-        LocalDate lastWeekStart = thisWeekStart.minusWeeks(1);
-        LocalDate lastWeekEnd = thisWeekStart.minusDays(1);
-        LocalDate nextWeekEnd = thisWeekStart.plusWeeks(1).plusDays(6);
+        DigestWeek week = DigestWeek.of(LocalDate.now());
 
         // Get tasks for this user
         List<Task> userTasks = taskRepository.findByAssigneeId(userId);
 
-        // Count tasks completed this week vs last week
-        int tasksCompletedThisWeek = countTasksCompletedInPeriod(userTasks, thisWeekStart, today);
-        int tasksCompletedLastWeek = countTasksCompletedInPeriod(userTasks, lastWeekStart, lastWeekEnd);
-
-        // Get goals for this user (personal goals) and count by completion status
+        // Get goals for this user (personal goals) with the count of their tasks
         List<Goal> personalGoals = goalRepository.findPersonalGoals(userId);
-        int goalsInProgress = 0;
-        int goalsCompleted = 0;
+        Map<UUID, Map<TaskStatus, Long>> taskCountsByGoal = taskRepository.countByGoalIdsAndStatus(
+                personalGoals.stream().map(Goal::getId).toList());
 
-        for (Goal goal : personalGoals) {
-            List<Task> goalTasks = taskRepository.findByGoalId(goal.getId());
-            int totalTasks = goalTasks.size();
-            int completedTasks = (int) goalTasks.stream()
-                    .filter(t -> t.getStatus() == TaskStatus.DONE)
-                    .count();
-
-            if (totalTasks > 0 && completedTasks == totalTasks) {
-                goalsCompleted++;
-            } else {
-                goalsInProgress++;
-            }
-        }
-
-        // Calculate habits completion rate for this week
-        int habitsCompletionRate = calculateHabitsCompletionRate(userId, thisWeekStart, today);
+        // Get habits and their logs for this week
+        List<Habit> habits = habitRepository.findByUserId(userId);
+        List<HabitLog> habitLogs = habits.isEmpty()
+                ? List.of()
+                : habitLogRepository.findByHabitIdInAndDateRange(
+                        habits.stream().map(Habit::getId).toList(), week.thisWeekStart(), week.today());
 
         // Count upcoming events for next week
-        LocalDateTime nextWeekStartTime = thisWeekStart.plusWeeks(1).atStartOfDay();
-        LocalDateTime nextWeekEndTime = nextWeekEnd.atTime(23, 59, 59);
         List<Event> upcomingEvents = eventRepository.findPersonalEventsByTimeRange(
-                userId, nextWeekStartTime, nextWeekEndTime);
-        int upcomingEventsCount = upcomingEvents.size();
+                userId, week.nextWeekStartTime(), week.nextWeekEndTime());
 
-        // Generate top achievement
-        String topAchievement = generateTopAchievement(
-                tasksCompletedThisWeek,
-                tasksCompletedLastWeek,
-                goalsCompleted,
-                habitsCompletionRate
-        );
+        return computeDigest(week, userTasks, personalGoals, taskCountsByGoal, habits.size(), habitLogs,
+                upcomingEvents.size());
+    }
 
-        return new WeeklyDigestData(
-                tasksCompletedThisWeek,
-                tasksCompletedLastWeek,
-                goalsInProgress,
-                goalsCompleted,
-                habitsCompletionRate,
-                upcomingEventsCount,
-                topAchievement
-        );
+    /**
+     * Generate digest data for several users at once, loading each kind of data for all of them
+     * with a single query instead of one query per user (and per goal).
+     *
+     * @param userIds the user IDs
+     * @return the digest of each user, keyed by user ID
+     */
+    public Map<UUID, WeeklyDigestData> generateDigests(List<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        DigestWeek week = DigestWeek.of(LocalDate.now());
+
+        // Only tasks completed since the start of last week count towards the digest
+        Map<UUID, List<Task>> completedTasksByUser = taskRepository
+                .findCompletedByAssigneeIdsSince(userIds, week.lastWeekStart().atStartOfDay()).stream()
+                .collect(Collectors.groupingBy(Task::getAssigneeId));
+
+        List<Goal> goals = goalRepository.findPersonalGoalsByUserIds(userIds);
+        Map<UUID, List<Goal>> goalsByUser = goals.stream().collect(Collectors.groupingBy(Goal::getUserId));
+        Map<UUID, Map<TaskStatus, Long>> taskCountsByGoal = taskRepository
+                .countByGoalIdsAndStatus(goals.stream().map(Goal::getId).toList());
+
+        List<Habit> habits = habitRepository.findByUserIdIn(userIds);
+        Map<UUID, Long> habitCountByUser = habits.stream()
+                .collect(Collectors.groupingBy(Habit::getUserId, Collectors.counting()));
+        Map<UUID, UUID> habitOwners = habits.stream()
+                .collect(Collectors.toMap(Habit::getId, Habit::getUserId));
+        Map<UUID, List<HabitLog>> habitLogsByUser = habits.isEmpty()
+                ? Map.of()
+                : habitLogRepository.findByHabitIdInAndDateRange(
+                                new ArrayList<>(habitOwners.keySet()), week.thisWeekStart(), week.today()).stream()
+                        .collect(Collectors.groupingBy(log -> habitOwners.get(log.getHabitId())));
+
+        Map<UUID, Long> upcomingEventsByUser = eventRepository
+                .findPersonalEventsByUserIdsAndTimeRange(userIds, week.nextWeekStartTime(), week.nextWeekEndTime())
+                .stream()
+                .collect(Collectors.groupingBy(Event::getUserId, Collectors.counting()));
+
+        return userIds.stream().distinct().collect(Collectors.toMap(Function.identity(), userId -> computeDigest(
+                week,
+                completedTasksByUser.getOrDefault(userId, List.of()),
+                goalsByUser.getOrDefault(userId, List.of()),
+                taskCountsByGoal,
+                habitCountByUser.getOrDefault(userId, 0L).intValue(),
+                habitLogsByUser.getOrDefault(userId, List.of()),
+                upcomingEventsByUser.getOrDefault(userId, 0L).intValue()
+        )));
     }
 
     /**
@@ -156,6 +198,93 @@ public class WeeklyDigestService {
         }
     }
 
+    /**
+     * Build the weekly digest emails of several users without sending them, for bulk delivery.
+     * Users that do not exist or whose email cannot be built are left out.
+     *
+     * @param userIds the user IDs
+     * @return one email per user
+     */
+    public List<MimeMessage> createWeeklyDigestEmails(List<UUID> userIds) {
+        Map<UUID, WeeklyDigestData> digests = generateDigests(userIds);
+        List<MimeMessage> emails = new ArrayList<>(digests.size());
+
+        for (User user : userRepository.findAllByIds(userIds)) {
+            WeeklyDigestData digest = digests.get(user.getId());
+            try {
+                emails.add(emailService.createWeeklyDigestEmail(
+                        user.getEmail(),
+                        user.getFirstName(),
+                        digest.tasksCompletedThisWeek(),
+                        digest.tasksCompletedLastWeek(),
+                        digest.goalsInProgress(),
+                        digest.goalsCompleted(),
+                        digest.habitsCompletionRate(),
+                        digest.upcomingEventsCount(),
+                        digest.topAchievement()
+                ));
+            } catch (MessagingException e) {
+                log.error("Failed to build weekly digest for user {}: {}", user.getId(), e.getMessage());
+            }
+        }
+
+        if (emails.size() < userIds.size()) {
+            log.warn("Built {} weekly digests for {} users", emails.size(), userIds.size());
+        }
+        return emails;
+    }
+
+    private WeeklyDigestData computeDigest(
+            DigestWeek week,
+            List<Task> assignedTasks,
+            List<Goal> personalGoals,
+            Map<UUID, Map<TaskStatus, Long>> taskCountsByGoal,
+            int habitCount,
+            List<HabitLog> habitLogs,
+            int upcomingEventsCount
+    ) {
+        // Count tasks completed this week vs last week
+        int tasksCompletedThisWeek = countTasksCompletedInPeriod(assignedTasks, week.thisWeekStart(), week.today());
+        int tasksCompletedLastWeek = countTasksCompletedInPeriod(assignedTasks, week.lastWeekStart(), week.lastWeekEnd());
+
+        // Count personal goals by completion status
+        int goalsInProgress = 0;
+        int goalsCompleted = 0;
+
+        for (Goal goal : personalGoals) {
+            Map<TaskStatus, Long> taskCounts = taskCountsByGoal.getOrDefault(goal.getId(), Map.of());
+            long totalTasks = taskCounts.values().stream().mapToLong(Long::longValue).sum();
+            long completedTasks = taskCounts.getOrDefault(TaskStatus.DONE, 0L);
+
+            if (totalTasks > 0 && completedTasks == totalTasks) {
+                goalsCompleted++;
+            } else {
+                goalsInProgress++;
+            }
+        }
+
+        // Calculate habits completion rate for this week
+        int habitsCompletionRate = calculateHabitsCompletionRate(habitCount, habitLogs, week.thisWeekStart(), week.today());
+
+        // Generate top achievement
+        String topAchievement = generateTopAchievement(
+                tasksCompletedThisWeek,
+                tasksCompletedLastWeek,
+                goalsCompleted,
+                habitsCompletionRate
+        );
+
+        return new WeeklyDigestData(
+                tasksCompletedThisWeek,
+                tasksCompletedLastWeek,
+                goalsInProgress,
+                goalsCompleted,
+                habitsCompletionRate,
+                upcomingEventsCount,
+                topAchievement
+        );
+    }
+
     /**
      * Count tasks completed within a date range.
      */
@@ -174,15 +303,11 @@ public class WeeklyDigestService {
      * Calculate habits completion rate for a period.
      * Returns percentage (0-100).
      */
-    private int calculateHabitsCompletionRate(UUID userId, LocalDate startDate, LocalDate endDate) {
-        List<Habit> habits = habitRepository.findByUserId(userId);
-        if (habits.isEmpty()) {
+    private int calculateHabitsCompletionRate(int habitCount, List<HabitLog> logs, LocalDate startDate, LocalDate endDate) {
+        if (habitCount == 0) {
             return 100; // No habits = 100% completion
         }
 
-        List<UUID> habitIds = habits.stream().map(Habit::getId).toList();
-        List<HabitLog> logs = habitLogRepository.findByHabitIdInAndDateRange(habitIds, startDate, endDate);
-
         // Count completed logs
         long completedLogs = logs.stream()
                 .filter(log -> Boolean.TRUE.equals(log.getCompleted()))
@@ -190,7 +315,7 @@ public class WeeklyDigestService {
 
         // Calculate expected completions (habits * days in period)
         long daysInPeriod = startDate.until(endDate).getDays() + 1;
-        long expectedCompletions = habits.size() * daysInPeriod;
+        long expectedCompletions = habitCount * daysInPeriod;
 
         if (expectedCompletions == 0) {
             return 100;
@@ -0,0 +1,127 @@
+package com.hubz.application.service.email;
+
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends large numbers of emails, such as digests and reminders, over as few SMTP sessions as possible.
+ * <p>
+ * Messages are grouped into batches of {@code app.mail.bulk.batch-size}; each batch goes out on a
+ * single connection, so the handshake and authentication are paid once per batch instead of once
+ * per message. Keep the batch size under the server's limit of messages per connection. With
+ * {@code app.mail.bulk.max-per-second} set, each batch waits for its turn so that the average rate
+ * stays under it, across all the threads sending through this instance; smaller batches smooth out
+ * the bursts.
+ */
+@Component
+@Slf4j
+public class BulkEmailSender {
+
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final int maxPerSecond;
+    /** Earliest time the next batch may start, shared by every batch to enforce a global rate. */
+    private final AtomicLong nextSendNanos = new AtomicLong(System.nanoTime());
+
+    public BulkEmailSender(JavaMailSender mailSender,
+                           @Value("${app.mail.bulk.batch-size:50}") int batchSize,
+                           @Value("${app.mail.bulk.max-per-second:0}") int maxPerSecond) {
+        this.mailSender = mailSender;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPerSecond = Math.max(0, maxPerSecond);
+    }
+
+    /**
+     * Start collecting messages. A batch is not thread-safe: each sending thread opens its own.
+     */
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    /**
+     * Messages waiting to be sent, flushed automatically whenever a full batch is collected.
+     * Call {@link #flush()} once the last message is added.
+     */
+    public final class Batch {
+
+        private final List<MimeMessage> pending = new ArrayList<>(batchSize);
+        private int sent;
+        private int failed;
+
+        public void add(MimeMessage message) {
+            pending.add(message);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        public void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            throttle(pending.size());
+            int failures = send(pending);
+            sent += pending.size() - failures;
+            failed += failures;
+            pending.clear();
+        }
+
+        public int getSent() {
+            return sent;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+    }
+
+    /**
+     * @return the number of messages that could not be sent
+     */
+    private int send(List<MimeMessage> messages) {
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+            log.debug("Sent batch of {} emails", messages.size());
+            return 0;
+        } catch (MailSendException e) {
+            int failures = e.getFailedMessages().isEmpty() ? messages.size() : e.getFailedMessages().size();
+            log.error("Failed to send {} of {} emails in batch: {}", failures, messages.size(), e.getMessage());
+            return failures;
+        } catch (MailException e) {
+            log.error("Failed to send batch of {} emails: {}", messages.size(), e.getMessage());
+            return messages.size();
+        }
+    }
+
+    /**
+     * Reserve the time needed to send {@code messages} at the configured rate and wait until the
+     * reserved slot starts.
+     */
+    private void throttle(int messages) {
+        if (maxPerSecond == 0) {
+            return;
+        }
+        long cost = TimeUnit.SECONDS.toNanos(messages) / maxPerSecond;
+        long now = System.nanoTime();
+        long slot = nextSendNanos.getAndAccumulate(cost, (next, c) -> Math.max(next, now) + c);
+        long waitNanos = Math.max(slot, now) - now;
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hubz.application.service.email;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * An email template parsed once into literal chunks and named {@code {{placeholder}}} slots.
+ * <p>
+ * Rendering only appends the chunks and the slot values in order: nothing is parsed or
+ * formatted per send. Values are written as-is, {@code null} as {@code "null"}, and
+ * {@link CharSequence} values (fragments rendered with {@link #renderTo}) without copying
+ * them to an intermediate string. Instances are immutable and thread-safe.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final Pattern SLOT_NAME = Pattern.compile("[A-Za-z][A-Za-z0-9]*");
+
+    /** Largest buffer kept for reuse by a thread, so one huge email does not pin its memory. */
+    private static final int MAX_RETAINED_BUFFER = 256 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+
+    private final String name;
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private EmailTemplate(String name, String[] literals, String[] slots) {
+        this.name = name;
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parse a template source.
+     *
+     * @throws IllegalArgumentException if a placeholder is unclosed or its name is not alphanumeric
+     */
+    public static EmailTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in email template " + name);
+            }
+            String slot = source.substring(open + OPEN.length(), close).trim();
+            if (!SLOT_NAME.matcher(slot).matches()) {
+                throw new IllegalArgumentException(
+                        "Invalid placeholder {{" + slot + "}} in email template " + name);
+            }
+            literals.add(source.substring(position, open));
+            slots.add(slot);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new EmailTemplate(name, literals.toArray(String[]::new), slots.toArray(String[]::new));
+    }
+
+    /**
+     * Render into a buffer reused by the calling thread.
+     *
+     * @throws IllegalArgumentException if a placeholder has no value
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(literalLength * 2);
+        try {
+            renderTo(buffer, values);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * Append the rendered template to {@code out}, typically to assemble repeated fragments.
+     *
+     * @throws IllegalArgumentException if a placeholder has no value
+     */
+    public void renderTo(StringBuilder out, Map<String, ?> values) {
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(slots[i]);
+            if (value == null && !values.containsKey(slots[i])) {
+                throw new IllegalArgumentException(
+                        "No value for {{" + slots[i] + "}} in email template " + name);
+            }
+            if (value instanceof CharSequence text) {
+                out.append(text);
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[slots.length]);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
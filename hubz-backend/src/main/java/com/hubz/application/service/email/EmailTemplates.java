@@ -0,0 +1,39 @@
+package com.hubz.application.service.email;
+
+import lombok.Getter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The HTML email templates under {@code templates/email/}, compiled once at startup.
+ * A missing or malformed template fails the application context rather than a send.
+ */
+@Component
+@Getter
+public class EmailTemplates {
+
+    private static final String LOCATION = "templates/email/";
+
+    private final EmailTemplate invitation = load("invitation");
+    private final EmailTemplate passwordReset = load("password-reset");
+    private final EmailTemplate welcome = load("welcome");
+    private final EmailTemplate emailVerification = load("email-verification");
+    private final EmailTemplate weeklyDigest = load("weekly-digest");
+    private final EmailTemplate weeklyDigestAchievement = load("weekly-digest-achievement");
+    private final EmailTemplate deadlineReminder = load("deadline-reminder");
+    private final EmailTemplate deadlineReminderSection = load("deadline-reminder-section");
+    private final EmailTemplate deadlineReminderItem = load("deadline-reminder-item");
+    private final EmailTemplate notification = load("notification");
+
+    private static EmailTemplate load(String name) {
+        String path = LOCATION + name + ".html";
+        try {
+            return EmailTemplate.compile(name, new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to load email template " + path, e);
+        }
+    }
+}
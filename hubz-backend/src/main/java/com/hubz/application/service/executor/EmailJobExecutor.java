@@ -74,4 +74,9 @@ public class EmailJobExecutor implements JobExecutor {
     public JobType getJobType() {
         return JobType.EMAIL_SEND;
     }
+
+    @Override
+    public int getMaxConcurrency() {
+        return 4;
+    }
 }
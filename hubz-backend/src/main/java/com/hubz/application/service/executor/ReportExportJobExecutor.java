@@ -3,22 +3,28 @@ package com.hubz.application.service.executor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubz.application.port.in.JobExecutor;
+import com.hubz.application.port.out.ReportExportRepositoryPort;
+import com.hubz.application.service.FileStorageService;
+import com.hubz.application.service.ReportService;
 import com.hubz.domain.enums.JobType;
+import com.hubz.domain.exception.ReportExportNotFoundException;
+import com.hubz.domain.model.ReportExport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.UUID;
+
 /**
  * Executor for REPORT_EXPORT jobs.
- * Handles asynchronous report generation (PDF, CSV, Excel).
+ * Renders a report requested through {@code ReportExportService} (PDF, CSV, Excel), stores the
+ * file and marks the export completed. On failure the export is marked failed and the job is
+ * retried with the usual backoff.
  *
  * Payload format:
  * {
- *   "reportType": "TASKS|GOALS|HABITS",
- *   "format": "PDF|CSV|EXCEL",
- *   "organizationId": "uuid",
- *   "userId": "uuid",
- *   "filters": { ... }
+ *   "exportId": "uuid"
  * }
  */
 @Component
@@ -26,27 +32,74 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class ReportExportJobExecutor implements JobExecutor {
 
+    /** Progress reported once the report is rendered and only remains to be stored. */
+    static final int PROGRESS_RENDERED = 90;
+
+    private final ReportExportRepositoryPort exportRepository;
+    private final ReportService reportService;
+    private final FileStorageService fileStorageService;
     private final ObjectMapper objectMapper;
 
     @Override
     public void execute(String payload) throws Exception {
         JsonNode node = objectMapper.readTree(payload);
-        String reportType = node.get("reportType").asText();
-        String format = node.get("format").asText();
-        String organizationId = node.has("organizationId") ? node.get("organizationId").asText() : "personal";
+        UUID exportId = UUID.fromString(node.get("exportId").asText());
+
+        ReportExport export = exportRepository.findById(exportId)
+                .orElseThrow(() -> new ReportExportNotFoundException(exportId));
+
+        log.info("Generating report: id={}, type={}, format={}, orgId={}",
+                exportId, export.getReportType(), export.getFormat(), export.getOrganizationId());
+
+        export.markRunning();
+        export = exportRepository.save(export);
 
-        log.info("Generating report: type={}, format={}, orgId={}", reportType, format, organizationId);
+        try {
+            byte[] data = render(export);
+            export.setProgress(PROGRESS_RENDERED);
+            export = exportRepository.save(export);
 
-        // Report generation is delegated to the existing ReportService/AnalyticsService
-        // The actual generation logic can be expanded here when needed.
-        // For now, this executor logs and completes successfully as a placeholder
-        // for async report generation workflows.
+            String filePath = fileStorageService.storeReportExport(data, exportId, export.getFormat().getExtension());
+            export.markCompleted(filePath, data.length);
+            exportRepository.save(export);
+        } catch (IOException | RuntimeException e) {
+            export.markFailed(e.getMessage());
+            exportRepository.save(export);
+            throw e;
+        }
 
-        log.info("Report generation completed: type={}, format={}, orgId={}", reportType, format, organizationId);
+        log.info("Report generation completed: id={}, size={} bytes", exportId, export.getFileSize());
     }
 
     @Override
     public JobType getJobType() {
         return JobType.REPORT_EXPORT;
     }
+
+    @Override
+    public int getMaxConcurrency() {
+        return 2;
+    }
+
+    private byte[] render(ReportExport export) throws IOException {
+        UUID organizationId = export.getOrganizationId();
+        UUID userId = export.getUserId();
+        return switch (export.getReportType()) {
+            case TASKS -> switch (export.getFormat()) {
+                case CSV -> reportService.exportTasksToCsv(organizationId, userId);
+                case EXCEL -> reportService.exportTasksToExcel(organizationId, userId);
+                case PDF -> reportService.exportTasksToPdf(organizationId, userId);
+            };
+            case GOALS -> switch (export.getFormat()) {
+                case CSV -> reportService.exportGoalsToCsv(organizationId, userId);
+                case EXCEL -> reportService.exportGoalsToExcel(organizationId, userId);
+                case PDF -> reportService.exportGoalsToPdf(organizationId, userId);
+            };
+            case HABITS -> switch (export.getFormat()) {
+                case CSV -> reportService.exportHabitsToCsv(userId);
+                case EXCEL -> reportService.exportHabitsToExcel(userId);
+                case PDF -> reportService.exportHabitsToPdf(userId);
+            };
+        };
+    }
 }
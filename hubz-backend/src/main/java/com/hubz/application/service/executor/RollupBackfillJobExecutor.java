@@ -0,0 +1,59 @@
+package com.hubz.application.service.executor;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.port.in.JobExecutor;
+import com.hubz.application.service.DailyRollupService;
+import com.hubz.domain.enums.JobType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Executor for ROLLUP_BACKFILL jobs.
+ * Rebuilds the daily activity rollups of the last days from the raw task, habit and goal tables.
+ *
+ * Payload format:
+ * {
+ *   "days": 371
+ * }
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RollupBackfillJobExecutor implements JobExecutor {
+
+    private final DailyRollupService dailyRollupService;
+    private final ObjectMapper objectMapper;
+
+    /** Covers the 53 weeks shown by the activity heatmaps. */
+    static final int DEFAULT_DAYS = 371;
+
+    @Override
+    public void execute(String payload) throws Exception {
+        int days = DEFAULT_DAYS;
+        if (payload != null && !payload.isBlank()) {
+            JsonNode node = objectMapper.readTree(payload);
+            if (node.has("days")) {
+                days = node.get("days").asInt();
+            }
+        }
+        if (days <= 0) {
+            throw new IllegalArgumentException("Backfill days must be positive: " + days);
+        }
+
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = endDate.minusDays(days - 1L);
+        log.info("Running daily rollup backfill from {} to {}", startDate, endDate);
+
+        int rows = dailyRollupService.backfill(startDate, endDate);
+        log.info("Daily rollup backfill completed: {} rows", rows);
+    }
+
+    @Override
+    public JobType getJobType() {
+        return JobType.ROLLUP_BACKFILL;
+    }
+}
@@ -1,28 +1,44 @@
 package com.hubz.application.service.executor;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubz.application.port.in.JobExecutor;
+import com.hubz.application.port.out.WebhookConfigRepositoryPort;
+import com.hubz.application.port.out.WebhookSenderPort;
+import com.hubz.application.service.NotificationService;
 import com.hubz.domain.enums.JobType;
+import com.hubz.domain.exception.JobDeferredException;
+import com.hubz.domain.exception.WebhookThrottledException;
+import com.hubz.domain.model.WebhookConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Executor for WEBHOOK_CALL jobs.
- * Sends HTTP POST requests to configured webhook URLs.
+ * Delivers one event to one webhook configuration. The configuration is read at delivery time,
+ * so a webhook disabled or deleted while the job was queued is skipped, and a changed URL or
+ * secret applies to deliveries still pending.
+ *
+ * Each outcome is recorded on the configuration. While its circuit is open, deliveries are
+ * deferred without a network call until the open period ends, without using up their retries,
+ * so events raised during an outage are still delivered; then a single trial delivery decides
+ * whether it closes again. See {@link WebhookConfig#recordFailure}. Concurrent deliveries to the same
+ * webhook may overwrite each other's counts, which only delays the circuit by a few failures.
+ * A delivery held back by the sender's per-host limit never reached the endpoint, so it is
+ * deferred without being recorded.
  *
  * Payload format:
  * {
- *   "url": "https://example.com/webhook",
- *   "body": "{ ... }",
- *   "headers": { "X-Custom": "value" }
+ *   "webhookId": "a8f5...",
+ *   "body": { "event": "task.created", "timestamp": "...", "organizationId": "...", "data": { ... } }
  * }
  */
 @Component
@@ -30,48 +46,90 @@ import java.time.Duration;
 @Slf4j
 public class WebhookJobExecutor implements JobExecutor {
 
-    private final ObjectMapper objectMapper;
+    private static final TypeReference<Map<String, Object>> BODY_TYPE = new TypeReference<>() {};
+    private static final Duration THROTTLED_RETRY_DELAY = Duration.ofSeconds(10);
 
-    private static final int TIMEOUT_SECONDS = 30;
-    private static final int MAX_RESPONSE_STATUS = 299;
+    private final WebhookConfigRepositoryPort webhookConfigRepository;
+    private final WebhookSenderPort webhookSender;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
 
     @Override
     public void execute(String payload) throws Exception {
         JsonNode node = objectMapper.readTree(payload);
-        String url = node.get("url").asText();
-        String body = node.has("body") ? node.get("body").toString() : "{}";
-
-        log.info("Sending webhook to: {}", url);
+        UUID webhookId = UUID.fromString(node.get("webhookId").asText());
 
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(TIMEOUT_SECONDS))
-                .build();
+        Optional<WebhookConfig> found = webhookConfigRepository.findById(webhookId);
+        if (found.isEmpty() || !found.get().isEnabled()) {
+            log.info("Skipping delivery to webhook {}: deleted or disabled", webhookId);
+            return;
+        }
+        WebhookConfig config = found.get();
 
-        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofSeconds(TIMEOUT_SECONDS))
-                .header("Content-Type", "application/json")
-                .POST(HttpRequest.BodyPublishers.ofString(body));
+        LocalDateTime now = LocalDateTime.now();
+        switch (config.circuitState(now)) {
+            case OPEN -> throw new JobDeferredException(
+                    "Circuit open for webhook " + webhookId + " until " + config.getCircuitOpenUntil(),
+                    config.getCircuitOpenUntil());
+            case HALF_OPEN -> {
+                config.startTrial(now);
+                webhookConfigRepository.updateDeliveryHealth(config);
+                log.info("Sending trial delivery to webhook {} after repeated failures", webhookId);
+            }
+            case CLOSED -> { }
+        }
 
-        // Add custom headers if provided
-        if (node.has("headers")) {
-            JsonNode headers = node.get("headers");
-            headers.fields().forEachRemaining(entry ->
-                    requestBuilder.header(entry.getKey(), entry.getValue().asText())
-            );
+        String url = config.getWebhookUrl();
+        Map<String, Object> body = objectMapper.convertValue(node.get("body"), BODY_TYPE);
+        int statusCode;
+        try {
+            statusCode = webhookSender.send(url, body, config.getSecret());
+        } catch (WebhookThrottledException e) {
+            throw new JobDeferredException(e.getMessage(), LocalDateTime.now().plus(THROTTLED_RETRY_DELAY));
+        } catch (RuntimeException e) {
+            recordFailure(config, e.getMessage());
+            throw e;
         }
 
-        HttpResponse<String> response = client.send(requestBuilder.build(), HttpResponse.BodyHandlers.ofString());
+        if (statusCode < 200 || statusCode >= 300) {
+            String error = "Webhook call to " + url + " failed with status " + statusCode;
+            recordFailure(config, error);
+            throw new RuntimeException(error);
+        }
 
-        if (response.statusCode() > MAX_RESPONSE_STATUS) {
-            throw new RuntimeException("Webhook call failed with status " + response.statusCode() + ": " + response.body());
+        if (!config.isHealthy()) {
+            config.recordSuccess();
+            webhookConfigRepository.updateDeliveryHealth(config);
         }
+        log.debug("Webhook delivered to {} with status {}", url, statusCode);
+    }
+
+    private void recordFailure(WebhookConfig config, String error) {
+        config.recordFailure(LocalDateTime.now(), error);
+        webhookConfigRepository.updateDeliveryHealth(config);
 
-        log.info("Webhook delivered successfully to {} with status {}", url, response.statusCode());
+        if (!config.isEnabled()) {
+            log.warn("Disabled webhook {} after {} consecutive failed deliveries",
+                    config.getId(), config.getConsecutiveFailures());
+            notificationService.notifyWebhookDisabled(
+                    config.getCreatedById(), config.getId(), config.getName(), config.getOrganizationId());
+        } else if (config.getCircuitOpenUntil() != null) {
+            log.warn("Circuit opened for webhook {} until {} after {} consecutive failures",
+                    config.getId(), config.getCircuitOpenUntil(), config.getConsecutiveFailures());
+        }
     }
 
     @Override
     public JobType getJobType() {
         return JobType.WEBHOOK_CALL;
     }
+
+    /**
+     * Deliveries mostly wait on the network; the sender additionally caps requests per host.
+     * Kept to a minority of the worker threads so a slow receiver cannot take over the pool.
+     */
+    @Override
+    public int getMaxConcurrency() {
+        return 4;
+    }
 }
@@ -0,0 +1,8 @@
+package com.hubz.domain.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -4,5 +4,6 @@ public enum JobType {
     EMAIL_SEND,
     REPORT_EXPORT,
     WEBHOOK_CALL,
-    DATA_CLEANUP
+    DATA_CLEANUP,
+    ROLLUP_BACKFILL
 }
@@ -0,0 +1,8 @@
+package com.hubz.domain.enums;
+
+public enum ReportExportStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
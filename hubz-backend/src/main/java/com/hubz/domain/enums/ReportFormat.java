@@ -0,0 +1,23 @@
+package com.hubz.domain.enums;
+
+public enum ReportFormat {
+    CSV(".csv", "text/csv"),
+    EXCEL(".xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    PDF(".pdf", "application/pdf");
+
+    private final String extension;
+    private final String contentType;
+
+    ReportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
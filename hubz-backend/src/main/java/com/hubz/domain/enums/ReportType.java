@@ -0,0 +1,7 @@
+package com.hubz.domain.enums;
+
+public enum ReportType {
+    TASKS,
+    GOALS,
+    HABITS
+}
@@ -0,0 +1,9 @@
+package com.hubz.domain.enums;
+
+/**
+ * Timestamp used to order paginated task listings. Ties are broken by task ID.
+ */
+public enum TaskSortField {
+    UPDATED_AT,
+    CREATED_AT
+}
@@ -0,0 +1,7 @@
+package com.hubz.domain.enums;
+
+public enum WebhookCircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
@@ -0,0 +1,12 @@
+package com.hubz.domain.event;
+
+import com.hubz.domain.enums.JobType;
+
+import java.util.UUID;
+
+/**
+ * Published when a background job becomes ready to run, either because it was scheduled
+ * or because it was queued for retry.
+ */
+public record BackgroundJobScheduledEvent(UUID jobId, JobType type) {
+}
@@ -0,0 +1,10 @@
+package com.hubz.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published when an email is written to the outbox; the outbox is drained once the
+ * transaction that wrote it has committed.
+ */
+public record EmailQueuedEvent(UUID messageId) {
+}
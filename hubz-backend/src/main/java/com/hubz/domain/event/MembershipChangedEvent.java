@@ -0,0 +1,11 @@
+package com.hubz.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Published when the membership of a user in an organization changed, or with a {@code null}
+ * user when any membership of the organization may have changed, so that cached membership
+ * checks are dropped on every node.
+ */
+public record MembershipChangedEvent(UUID organizationId, UUID userId) {
+}
@@ -0,0 +1,22 @@
+package com.hubz.domain.exception;
+
+import java.time.LocalDateTime;
+
+/**
+ * Thrown by a job executor when a job cannot run yet for a reason that is not the job's fault,
+ * e.g. a local delivery limit or an open circuit. The job is run again at {@link #getRetryAt()}
+ * without counting a failed attempt.
+ */
+public class JobDeferredException extends RuntimeException {
+
+    private final LocalDateTime retryAt;
+
+    public JobDeferredException(String message, LocalDateTime retryAt) {
+        super(message);
+        this.retryAt = retryAt;
+    }
+
+    public LocalDateTime getRetryAt() {
+        return retryAt;
+    }
+}
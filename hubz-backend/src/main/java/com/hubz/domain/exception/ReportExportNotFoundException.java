@@ -0,0 +1,9 @@
+package com.hubz.domain.exception;
+
+import java.util.UUID;
+
+public class ReportExportNotFoundException extends RuntimeException {
+    public ReportExportNotFoundException(UUID id) {
+        super("Report export not found with id: " + id);
+    }
+}
@@ -0,0 +1,13 @@
+package com.hubz.domain.exception;
+
+/**
+ * Exception thrown when a webhook delivery is not sent because this node already has the
+ * maximum number of deliveries in flight to the same host. Nothing reached the receiver, so
+ * this says nothing about its health.
+ */
+public class WebhookThrottledException extends RuntimeException {
+
+    public WebhookThrottledException(String host) {
+        super("Too many concurrent deliveries to " + host);
+    }
+}
@@ -7,8 +7,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Data
 @Builder
@@ -23,12 +26,36 @@ public class BackgroundJob {
     private String error;
     private LocalDateTime createdAt;
     private LocalDateTime executedAt;
+    private LocalDateTime runAt;
+    @Builder.Default
+    private Integer priority = PRIORITY_NORMAL;
 
     /**
      * Maximum number of retries allowed before a job is considered permanently failed.
      */
     public static final int MAX_RETRIES = 3;
 
+    /**
+     * Claim priorities; among pending jobs of a type, higher priorities are claimed first.
+     */
+    public static final int PRIORITY_LOW = -10;
+    public static final int PRIORITY_NORMAL = 0;
+    public static final int PRIORITY_HIGH = 10;
+
+    /**
+     * Delay before the first retry; each further retry waits four times longer, up to {@link #RETRY_MAX_DELAY}.
+     */
+    public static final Duration RETRY_BASE_DELAY = Duration.ofSeconds(30);
+    public static final Duration RETRY_MAX_DELAY = Duration.ofMinutes(30);
+    private static final double RETRY_JITTER = 0.2;
+
+    /**
+     * How long a claimed job is reserved for the node running it; the lease expiry is kept in
+     * {@code runAt}. The node renews the lease every minute while the job runs, so only a job whose
+     * node stopped (crash, out of memory) outlives it.
+     */
+    public static final Duration RUN_LEASE = Duration.ofMinutes(5);
+
     /**
      * Check if the job can be retried.
      */
@@ -37,10 +64,19 @@ public class BackgroundJob {
     }
 
     /**
-     * Mark this job as running.
+     * Mark this job as running, holding it for {@link #RUN_LEASE}.
      */
     public void markRunning() {
         this.status = JobStatus.RUNNING;
+        this.runAt = leaseFrom(LocalDateTime.now());
+    }
+
+    /**
+     * Count a run whose lease expired before its outcome was recorded as a failed attempt, so a
+     * job that keeps bringing its node down is retried with backoff at most {@link #MAX_RETRIES} times.
+     */
+    public void markLeaseExpired() {
+        markFailed("Run lease expired before the job finished");
     }
 
     /**
@@ -52,20 +88,58 @@ public class BackgroundJob {
         this.error = null;
     }
 
+    /**
+     * Check if the job may run at the given time.
+     */
+    public boolean isDue(LocalDateTime now) {
+        return runAt == null || !runAt.isAfter(now);
+    }
+
     /**
      * Mark this job as failed with the given error.
+     * If it can be retried, the retry is pushed back with exponential backoff.
      */
     public void markFailed(String errorMessage) {
         this.status = JobStatus.FAILED;
         this.error = errorMessage;
         this.retryCount = (this.retryCount == null ? 0 : this.retryCount) + 1;
+        this.runAt = canRetry() ? LocalDateTime.now().plus(retryDelay(retryCount)) : null;
+    }
+
+    /**
+     * Return the job to the queue until the given time without counting a failed attempt.
+     */
+    public void deferUntil(LocalDateTime retryAt, String reason) {
+        this.status = JobStatus.PENDING;
+        this.error = reason;
+        this.runAt = retryAt;
     }
 
     /**
-     * Reset the job status for retry.
+     * Reset the job status for retry, making it due immediately.
      */
     public void resetForRetry() {
         this.status = JobStatus.PENDING;
         this.error = null;
+        this.runAt = LocalDateTime.now();
+    }
+
+    /**
+     * Lease expiry for a lease taken or renewed at the given time. Truncated to milliseconds so
+     * the value read back from any database compares equal to the one written.
+     */
+    public static LocalDateTime leaseFrom(LocalDateTime now) {
+        return now.plus(RUN_LEASE).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    /**
+     * Backoff before the given attempt: 30s, 2m, 8m, ... capped at 30m, with +/-20% jitter
+     * so jobs that failed together (e.g. webhooks to the same endpoint) do not retry in lockstep.
+     */
+    static Duration retryDelay(int attempt) {
+        long baseMillis = RETRY_BASE_DELAY.toMillis();
+        long delayMillis = Math.min(baseMillis << Math.min(2 * (attempt - 1), 20), RETRY_MAX_DELAY.toMillis());
+        double jitter = 1 + ThreadLocalRandom.current().nextDouble(-RETRY_JITTER, RETRY_JITTER);
+        return Duration.ofMillis((long) (delayMillis * jitter));
     }
 }
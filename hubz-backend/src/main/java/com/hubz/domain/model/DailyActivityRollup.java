@@ -0,0 +1,40 @@
+package com.hubz.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Pre-aggregated activity counters for one scope and one day.
+ * The scope is an organization ({@code userId} null), a user across all organizations
+ * ({@code organizationId} null) or a member within an organization (both set).
+ * {@code tasksInProgress} is a snapshot of the number of in-progress tasks at the end of the day.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyActivityRollup {
+    private UUID id;
+    private UUID organizationId;
+    private UUID userId;
+    private LocalDate date;
+    private long tasksCreated;
+    private long tasksCompleted;
+    private long tasksInProgress;
+    private long habitCompletions;
+    private long goalUpdates;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Total contributions of the day as shown in the activity heatmap.
+     */
+    public long getContributions() {
+        return tasksCreated + tasksCompleted + habitCompletions + goalUpdates;
+    }
+}
@@ -0,0 +1,83 @@
+package com.hubz.domain.model;
+
+import com.hubz.domain.enums.EmailOutboxStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An email waiting in the outbox. The payload uses the EMAIL_SEND job format, so the
+ * same executor sends emails queued either way.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailOutboxMessage {
+    private UUID id;
+    private String recipient;
+    private String payload;
+    private EmailOutboxStatus status;
+    @Builder.Default
+    private Integer attempts = 0;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime sentAt;
+
+    /**
+     * Attempts after which a message is given up on.
+     */
+    public static final int MAX_ATTEMPTS = 5;
+
+    /**
+     * How long a claimed message is reserved for the node sending it. A message still
+     * SENDING after that, e.g. because the node crashed, is claimed again.
+     */
+    public static final Duration SEND_LEASE = Duration.ofMinutes(10);
+
+    /**
+     * Create a message ready to be sent right away.
+     */
+    public static EmailOutboxMessage pending(String recipient, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        return EmailOutboxMessage.builder()
+                .recipient(recipient)
+                .payload(payload)
+                .status(EmailOutboxStatus.PENDING)
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+
+    /**
+     * Mark this message as sent.
+     */
+    public void markSent() {
+        this.status = EmailOutboxStatus.SENT;
+        this.sentAt = LocalDateTime.now();
+        this.nextAttemptAt = null;
+        this.error = null;
+    }
+
+    /**
+     * Record a failed attempt. The message is retried with the background job backoff
+     * until {@link #MAX_ATTEMPTS} is reached.
+     */
+    public void markFailed(String errorMessage) {
+        this.attempts = (this.attempts == null ? 0 : this.attempts) + 1;
+        this.error = errorMessage;
+        if (attempts < MAX_ATTEMPTS) {
+            this.status = EmailOutboxStatus.PENDING;
+            this.nextAttemptAt = LocalDateTime.now().plus(BackgroundJob.retryDelay(attempts));
+        } else {
+            this.status = EmailOutboxStatus.FAILED;
+            this.nextAttemptAt = null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.hubz.domain.model;
+
+import com.hubz.domain.enums.ReportExportStatus;
+import com.hubz.domain.enums.ReportFormat;
+import com.hubz.domain.enums.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A report generated in the background by a REPORT_EXPORT job. Once completed, the file
+ * is kept in storage for {@link #RETENTION} and can be downloaded by the user who asked for it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportExport {
+    private UUID id;
+    private UUID userId;
+    private UUID organizationId;
+    private ReportType reportType;
+    private ReportFormat format;
+    private ReportExportStatus status;
+    @Builder.Default
+    private Integer progress = 0;
+    private String fileName;
+    private String filePath;
+    private Long fileSize;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * How long a generated file stays available for download.
+     */
+    public static final Duration RETENTION = Duration.ofDays(1);
+
+    /**
+     * Create an export waiting for its job to run.
+     */
+    public static ReportExport pending(UUID userId, UUID organizationId, ReportType reportType,
+                                       ReportFormat format, String fileName) {
+        return ReportExport.builder()
+                .userId(userId)
+                .organizationId(organizationId)
+                .reportType(reportType)
+                .format(format)
+                .status(ReportExportStatus.PENDING)
+                .fileName(fileName)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Mark this export as being generated, clearing the error of a previous attempt.
+     */
+    public void markRunning() {
+        this.status = ReportExportStatus.RUNNING;
+        this.progress = 0;
+        this.error = null;
+    }
+
+    /**
+     * Mark this export as generated and stored at the given path.
+     */
+    public void markCompleted(String filePath, long fileSize) {
+        this.status = ReportExportStatus.COMPLETED;
+        this.progress = 100;
+        this.filePath = filePath;
+        this.fileSize = fileSize;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Mark this export as failed. It runs again if its job is retried.
+     */
+    public void markFailed(String errorMessage) {
+        this.status = ReportExportStatus.FAILED;
+        this.error = errorMessage;
+    }
+
+    /**
+     * Check if the generated file can be downloaded.
+     */
+    public boolean isDownloadable() {
+        return status == ReportExportStatus.COMPLETED && filePath != null;
+    }
+}
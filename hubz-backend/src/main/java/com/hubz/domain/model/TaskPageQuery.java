@@ -0,0 +1,36 @@
+package com.hubz.domain.model;
+
+import com.hubz.domain.enums.TaskPriority;
+import com.hubz.domain.enums.TaskSortField;
+import com.hubz.domain.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Keyset page query over the tasks of an organization, newest first.
+ * Filters are optional. When {@code afterTimestamp} and {@code afterId} are set,
+ * only tasks strictly after that (timestamp, id) position are returned.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageQuery {
+    private UUID organizationId;
+    private TaskStatus status;
+    private UUID assigneeId;
+    private TaskPriority priority;
+    private TaskSortField sortField;
+    private LocalDateTime afterTimestamp;
+    private UUID afterId;
+    private int limit;
+
+    public boolean hasCursor() {
+        return afterTimestamp != null && afterId != null;
+    }
+}
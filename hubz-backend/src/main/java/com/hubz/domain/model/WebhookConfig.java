@@ -1,5 +1,6 @@
 package com.hubz.domain.model;
 
+import com.hubz.domain.enums.WebhookCircuitState;
 import com.hubz.domain.enums.WebhookEventType;
 import com.hubz.domain.enums.WebhookServiceType;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -30,4 +32,112 @@ public class WebhookConfig {
     private UUID createdById;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Delivery health, updated after each delivery attempt
+    private int consecutiveFailures;
+    private double failureRate;
+    private LocalDateTime circuitOpenUntil;
+    private LocalDateTime lastFailureAt;
+    private String lastError;
+
+    /**
+     * Consecutive failed deliveries after which the circuit opens and deliveries wait for it to reopen.
+     */
+    public static final int CIRCUIT_FAILURE_THRESHOLD = 5;
+
+    /**
+     * Consecutive failed deliveries after which the webhook is disabled. With the circuit open
+     * between trials, this takes at least 15 hours of failures.
+     */
+    public static final int AUTO_DISABLE_THRESHOLD = 25;
+
+    /**
+     * How long the circuit first stays open; it doubles with each failed trial, up to {@link #CIRCUIT_MAX_OPEN_DURATION}.
+     */
+    public static final Duration CIRCUIT_BASE_OPEN_DURATION = Duration.ofMinutes(1);
+    public static final Duration CIRCUIT_MAX_OPEN_DURATION = Duration.ofHours(1);
+
+    /**
+     * How long a half-open trial delivery holds back other deliveries before another trial may start.
+     */
+    public static final Duration CIRCUIT_TRIAL_TIMEOUT = Duration.ofMinutes(1);
+
+    /**
+     * Weight of the latest delivery in {@link #failureRate}, an exponentially weighted average.
+     */
+    private static final double FAILURE_RATE_WEIGHT = 0.1;
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    /**
+     * State of the circuit at the given time. A circuit whose open period has elapsed is half-open:
+     * the next delivery is a trial that closes it on success or reopens it on failure.
+     */
+    public WebhookCircuitState circuitState(LocalDateTime now) {
+        if (circuitOpenUntil == null) {
+            return WebhookCircuitState.CLOSED;
+        }
+        return now.isBefore(circuitOpenUntil) ? WebhookCircuitState.OPEN : WebhookCircuitState.HALF_OPEN;
+    }
+
+    /**
+     * Hold back other deliveries while a half-open trial is in flight.
+     */
+    public void startTrial(LocalDateTime now) {
+        this.circuitOpenUntil = now.plus(CIRCUIT_TRIAL_TIMEOUT);
+    }
+
+    /**
+     * Check whether a delivery would change the recorded health, so healthy webhooks need no write.
+     */
+    public boolean isHealthy() {
+        return consecutiveFailures == 0 && failureRate == 0 && circuitOpenUntil == null;
+    }
+
+    /**
+     * Record a successful delivery, closing the circuit.
+     */
+    public void recordSuccess() {
+        this.consecutiveFailures = 0;
+        this.circuitOpenUntil = null;
+        // Let the rate settle to exactly zero instead of decaying forever
+        double decayed = failureRate * (1 - FAILURE_RATE_WEIGHT);
+        this.failureRate = decayed < 0.001 ? 0 : decayed;
+    }
+
+    /**
+     * Record a failed delivery. Opens the circuit once {@link #CIRCUIT_FAILURE_THRESHOLD} deliveries in a row
+     * have failed and disables the webhook after {@link #AUTO_DISABLE_THRESHOLD}.
+     */
+    public void recordFailure(LocalDateTime now, String error) {
+        this.consecutiveFailures++;
+        this.failureRate = failureRate * (1 - FAILURE_RATE_WEIGHT) + FAILURE_RATE_WEIGHT;
+        this.lastFailureAt = now;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+
+        if (consecutiveFailures >= AUTO_DISABLE_THRESHOLD) {
+            this.enabled = false;
+            this.circuitOpenUntil = null;
+        } else if (consecutiveFailures >= CIRCUIT_FAILURE_THRESHOLD) {
+            this.circuitOpenUntil = now.plus(openDuration(consecutiveFailures));
+        }
+    }
+
+    /**
+     * Forget past failures, e.g. when the URL changes or an admin re-enables the webhook.
+     */
+    public void resetHealth() {
+        this.consecutiveFailures = 0;
+        this.failureRate = 0;
+        this.circuitOpenUntil = null;
+    }
+
+    /**
+     * How long the circuit stays open after the given number of consecutive failures.
+     */
+    static Duration openDuration(int consecutiveFailures) {
+        int trials = Math.min(consecutiveFailures - CIRCUIT_FAILURE_THRESHOLD, 10);
+        Duration duration = CIRCUIT_BASE_OPEN_DURATION.multipliedBy(1L << trials);
+        return duration.compareTo(CIRCUIT_MAX_OPEN_DURATION) > 0 ? CIRCUIT_MAX_OPEN_DURATION : duration;
+    }
 }
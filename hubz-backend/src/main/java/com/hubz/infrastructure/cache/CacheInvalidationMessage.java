@@ -0,0 +1,12 @@
+package com.hubz.infrastructure.cache;
+
+/**
+ * Published on the invalidation channel whenever an entry is written or evicted,
+ * so that other nodes drop their local copy.
+ *
+ * @param origin    id of the publishing node; nodes ignore their own messages
+ * @param cacheName the cache the entry belongs to
+ * @param key       the local key of the entry, or {@code null} when the whole cache was cleared
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, String key) {
+}
@@ -0,0 +1,20 @@
+package com.hubz.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.hubz.application.dto.response.CacheStatsResponse;
+
+/**
+ * Reads the statistics of a Caffeine cache built with {@code recordStats()}.
+ */
+public final class CaffeineCacheStats {
+
+    private CaffeineCacheStats() {
+    }
+
+    public static CacheStatsResponse of(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponse.of(name, cache.estimatedSize(),
+                stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+}
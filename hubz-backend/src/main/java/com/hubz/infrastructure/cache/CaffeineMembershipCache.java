@@ -0,0 +1,55 @@
+package com.hubz.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hubz.application.dto.response.CacheStatsResponse;
+import com.hubz.application.port.out.MembershipCachePort;
+import com.hubz.domain.enums.MemberRole;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Local Caffeine cache of organization memberships. The short TTL bounds staleness when an
+ * invalidation from another node is lost.
+ */
+@Component
+public class CaffeineMembershipCache implements MembershipCachePort {
+
+    private static final String CACHE_NAME = "membership";
+
+    private static final Duration TTL = Duration.ofMinutes(2);
+    private static final long MAX_SIZE = 50_000;
+
+    private final Cache<MembershipKey, Optional<MemberRole>> cache = Caffeine.newBuilder()
+            .expireAfterWrite(TTL)
+            .maximumSize(MAX_SIZE)
+            .recordStats()
+            .build();
+
+    @Override
+    public Optional<MemberRole> get(UUID orgId, UUID userId, Supplier<Optional<MemberRole>> loader) {
+        return cache.get(new MembershipKey(orgId, userId), key -> loader.get());
+    }
+
+    @Override
+    public void evict(UUID orgId, UUID userId) {
+        cache.invalidate(new MembershipKey(orgId, userId));
+    }
+
+    @Override
+    public void evictOrganization(UUID orgId) {
+        cache.asMap().keySet().removeIf(key -> key.orgId().equals(orgId));
+    }
+
+    @Override
+    public CacheStatsResponse getStats() {
+        return CaffeineCacheStats.of(CACHE_NAME, cache);
+    }
+
+    private record MembershipKey(UUID orgId, UUID userId) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.hubz.infrastructure.cache;
+
+import java.time.Duration;
+
+/**
+ * Sizing of the per-node near-cache of one cache name.
+ *
+ * @param ttl            how long an entry may be served locally; keeps staleness bounded if an
+ *                       invalidation message is lost
+ * @param maxSize        maximum number of entries held locally, or of collection elements
+ *                       when {@code weighElements} is set
+ * @param weighElements  count a cached collection as its number of elements rather than as one
+ *                       entry, for caches holding lists of unbounded length
+ */
+public record LocalCacheSpec(Duration ttl, long maxSize, boolean weighElements) {
+
+    public LocalCacheSpec(Duration ttl, long maxSize) {
+        this(ttl, maxSize, false);
+    }
+
+    /**
+     * Near-cache bounded by the total number of elements across its cached collections.
+     */
+    public static LocalCacheSpec ofElements(Duration ttl, long maxElements) {
+        return new LocalCacheSpec(ttl, maxElements, true);
+    }
+}
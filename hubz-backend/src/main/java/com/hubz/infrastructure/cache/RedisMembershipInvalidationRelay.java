@@ -0,0 +1,89 @@
+package com.hubz.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.service.AuthorizationService;
+import com.hubz.domain.event.MembershipChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Drops the membership checks cached by {@link AuthorizationService} on every node when a
+ * membership changes on one of them.
+ * <p>
+ * Each committed {@link MembershipChangedEvent} is published on
+ * {@link TwoTierCacheManager#INVALIDATION_CHANNEL} under the {@link #CACHE_NAME} cache, keyed by
+ * {@code organizationId:userId}, or by the organization id alone when the whole organization is
+ * evicted. Messages from other nodes evict the local entries. Messages for other caches are left
+ * to {@link TwoTierCacheManager}.
+ */
+@Slf4j
+public class RedisMembershipInvalidationRelay implements MessageListener {
+
+    public static final String CACHE_NAME = "membership";
+
+    private static final String KEY_SEPARATOR = ":";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AuthorizationService authorizationService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RedisMembershipInvalidationRelay(AuthorizationService authorizationService,
+                                            StringRedisTemplate redisTemplate,
+                                            ObjectMapper objectMapper) {
+        this.authorizationService = authorizationService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(MembershipChangedEvent event) {
+        String key = event.userId() != null
+                ? event.organizationId() + KEY_SEPARATOR + event.userId()
+                : event.organizationId().toString();
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, CACHE_NAME, key));
+            redisTemplate.convertAndSend(TwoTierCacheManager.INVALIDATION_CHANNEL, payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize membership invalidation for {}: {}", key, e.getMessage());
+        } catch (RuntimeException e) {
+            // Redis unavailable: other nodes fall back to the membership cache TTL
+            log.warn("Could not publish membership invalidation for {}: {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+            return;
+        }
+
+        if (!CACHE_NAME.equals(invalidation.cacheName()) || nodeId.equals(invalidation.origin())
+                || invalidation.key() == null) {
+            return;
+        }
+
+        try {
+            String[] ids = invalidation.key().split(KEY_SEPARATOR, 2);
+            authorizationService.evictLocally(UUID.fromString(ids[0]),
+                    ids.length > 1 ? UUID.fromString(ids[1]) : null);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring membership invalidation with malformed key {}", invalidation.key());
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+}
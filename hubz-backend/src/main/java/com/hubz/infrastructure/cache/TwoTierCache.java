@@ -0,0 +1,155 @@
+package com.hubz.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * Cache with a per-node Caffeine near-cache in front of a shared remote cache (Redis).
+ * <p>
+ * Reads are served locally when possible and fall through to the remote tier otherwise,
+ * populating the local tier on the way back. Writes and evictions go to both tiers and are
+ * announced through the invalidation publisher so other nodes drop their local copy.
+ * <p>
+ * Local entries are keyed by {@code String.valueOf(key)}, which is also how the Redis tier
+ * renders keys, so invalidation messages can carry keys as plain strings.
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    /**
+     * @param invalidationPublisher receives (cache name, local key) on writes and evictions,
+     *                              and (cache name, {@code null}) when the cache is cleared
+     */
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                        Cache remote,
+                        BiConsumer<String, String> invalidationPublisher) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return new SimpleValueWrapper(cached);
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(localKey, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return (T) cached;
+        }
+
+        T value = remote.get(key, valueLoader);
+        if (value != null) {
+            local.put(localKey, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        remote.put(key, value);
+        if (value != null) {
+            local.put(localKey, value);
+        } else {
+            local.invalidate(localKey);
+        }
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remote.evict(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+        return invalidated;
+    }
+
+    /**
+     * Drop a local entry after another node changed it. The remote tier is left untouched.
+     */
+    void evictLocal(String localKey) {
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    com.github.benmanes.caffeine.cache.Cache<String, Object> getLocalCache() {
+        return local;
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,137 @@
+package com.hubz.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hubz.application.dto.response.CacheStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager combining a per-node Caffeine near-cache with the shared Redis caches.
+ * <p>
+ * Every write or eviction is published on {@link #INVALIDATION_CHANNEL}; the manager also
+ * listens on that channel and drops the local copy of entries changed by other nodes.
+ * Redis pub/sub is fire-and-forget, so each local tier additionally has a short TTL that
+ * bounds staleness if a message is missed.
+ */
+@Slf4j
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "hubz:cache-invalidation";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalCacheSpec> localSpecs;
+    private final LocalCacheSpec defaultLocalSpec;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               Map<String, LocalCacheSpec> localSpecs,
+                               LocalCacheSpec defaultLocalSpec,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpecs = localSpecs;
+        this.defaultLocalSpec = defaultLocalSpec;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return localSpecs.keySet().stream()
+                .map(this::createTwoTierCache)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createTwoTierCache(name);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", e.getMessage());
+            return;
+        }
+
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+
+        TwoTierCache cache = twoTierCaches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.evictLocal(invalidation.key());
+        }
+    }
+
+    /**
+     * Statistics of the local tier of every cache created so far.
+     */
+    public List<CacheStatsResponse> getLocalCacheStats() {
+        return twoTierCaches.values().stream()
+                .sorted(Comparator.comparing(TwoTierCache::getName))
+                .map(cache -> CaffeineCacheStats.of("local:" + cache.getName(), cache.getLocalCache()))
+                .toList();
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private TwoTierCache createTwoTierCache(String name) {
+        return twoTierCaches.computeIfAbsent(name, cacheName -> {
+            LocalCacheSpec spec = localSpecs.getOrDefault(cacheName, defaultLocalSpec);
+            Cache remote = remoteCacheManager.getCache(cacheName);
+            if (remote == null) {
+                throw new IllegalStateException("No remote cache available for " + cacheName);
+            }
+            return new TwoTierCache(cacheName, createLocalCache(spec), remote, this::publishInvalidation);
+        });
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<String, Object> createLocalCache(LocalCacheSpec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(spec.ttl())
+                .recordStats();
+        if (spec.weighElements()) {
+            builder.maximumWeight(spec.maxSize())
+                    .weigher((key, value) -> value instanceof Collection<?> elements ? Math.max(1, elements.size()) : 1);
+        } else {
+            builder.maximumSize(spec.maxSize());
+        }
+        return builder.build();
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            String payload = objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, cacheName, key));
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize cache invalidation for {}: {}", cacheName, e.getMessage());
+        } catch (RuntimeException e) {
+            // Redis unavailable: other nodes fall back to the local TTL
+            log.warn("Could not publish cache invalidation for {}: {}", cacheName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Two-tier (local Caffeine + Redis) cache manager and cross-node invalidation.
+ */
+package com.hubz.infrastructure.cache;
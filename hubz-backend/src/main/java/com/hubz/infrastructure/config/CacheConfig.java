@@ -1,6 +1,10 @@
 package com.hubz.infrastructure.config;
 
-import org.springframework.cache.CacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.service.AuthorizationService;
+import com.hubz.infrastructure.cache.LocalCacheSpec;
+import com.hubz.infrastructure.cache.RedisMembershipInvalidationRelay;
+import com.hubz.infrastructure.cache.TwoTierCacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +12,9 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -17,16 +24,20 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Redis cache configuration with per-cache TTL.
+ * Two-tier cache configuration: a per-node Caffeine near-cache in front of Redis.
  * <p>
- * Cache names and their TTLs:
+ * Cache names with their Redis TTL, local TTL and local size:
  * <ul>
- *   <li>users: 1 hour</li>
- *   <li>organizations: 30 minutes</li>
- *   <li>tasks: 15 minutes</li>
- *   <li>analytics: 5 minutes</li>
- *   <li>notifications: 2 minutes</li>
+ *   <li>users: 1 hour, 10 minutes, 10,000 entries</li>
+ *   <li>organizations: 30 minutes, 10 minutes, 5,000 entries</li>
+ *   <li>tasks: 15 minutes, 5 minutes, 20,000 tasks across the cached organization task lists</li>
+ *   <li>analytics: 5 minutes, 1 minute, 500 entries</li>
+ *   <li>notifications: 2 minutes, 30 seconds, 10,000 entries</li>
  * </ul>
+ * Writes and evictions are broadcast over Redis pub/sub so that other nodes drop their
+ * local copy; the shorter local TTL bounds staleness if a message is lost. Membership
+ * changes are relayed over the same channel to the membership checks cached by
+ * {@link AuthorizationService}.
  * <p>
  * This configuration is only active when the "test" profile is NOT active,
  * so unit tests that do not start an embedded Redis are not affected.
@@ -42,8 +53,12 @@ public class CacheConfig {
     public static final String CACHE_ANALYTICS = "analytics";
     public static final String CACHE_NOTIFICATIONS = "notifications";
 
+    private static final LocalCacheSpec DEFAULT_LOCAL_SPEC = new LocalCacheSpec(Duration.ofMinutes(1), 1_000);
+
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                            StringRedisTemplate stringRedisTemplate,
+                                            ObjectMapper objectMapper) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
@@ -58,10 +73,43 @@ public class CacheConfig {
         cacheConfigurations.put(CACHE_ANALYTICS, defaultConfig.entryTtl(Duration.ofMinutes(5)));
         cacheConfigurations.put(CACHE_NOTIFICATIONS, defaultConfig.entryTtl(Duration.ofMinutes(2)));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        Map<String, LocalCacheSpec> localSpecs = new HashMap<>();
+        localSpecs.put(CACHE_USERS, new LocalCacheSpec(Duration.ofMinutes(10), 10_000));
+        localSpecs.put(CACHE_ORGANIZATIONS, new LocalCacheSpec(Duration.ofMinutes(10), 5_000));
+        // Each entry is the whole task list of an organization; bound the tasks held, not the lists
+        localSpecs.put(CACHE_TASKS, LocalCacheSpec.ofElements(Duration.ofMinutes(5), 20_000));
+        localSpecs.put(CACHE_ANALYTICS, new LocalCacheSpec(Duration.ofMinutes(1), 500));
+        localSpecs.put(CACHE_NOTIFICATIONS, new LocalCacheSpec(Duration.ofSeconds(30), 10_000));
+
+        // Transactional deferral of puts/evictions is applied once, on the two-tier caches
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig.entryTtl(Duration.ofMinutes(10)))
                 .withInitialCacheConfigurations(cacheConfigurations)
-                .transactionAware()
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        TwoTierCacheManager cacheManager = new TwoTierCacheManager(
+                redisCacheManager, localSpecs, DEFAULT_LOCAL_SPEC, stringRedisTemplate, objectMapper);
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    @Bean
+    public RedisMembershipInvalidationRelay redisMembershipInvalidationRelay(AuthorizationService authorizationService,
+                                                                             StringRedisTemplate stringRedisTemplate,
+                                                                             ObjectMapper objectMapper) {
+        return new RedisMembershipInvalidationRelay(authorizationService, stringRedisTemplate, objectMapper);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoTierCacheManager cacheManager,
+                                                                            RedisMembershipInvalidationRelay membershipRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        ChannelTopic invalidationTopic = new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL);
+        container.addMessageListener(cacheManager, invalidationTopic);
+        container.addMessageListener(membershipRelay, invalidationTopic);
+        return container;
     }
 }
@@ -0,0 +1,40 @@
+package com.hubz.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.service.BackgroundJobDispatcher;
+import com.hubz.infrastructure.jobs.RedisJobWakeupRelay;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Relays background job wake-ups between nodes over Redis pub/sub.
+ * <p>
+ * Without this configuration each node still dispatches its own jobs immediately and
+ * picks up jobs scheduled elsewhere on the periodic sweep. Like {@link CacheConfig},
+ * it is only active when the "test" profile is NOT active.
+ */
+@Configuration
+@Profile("!test")
+public class JobWakeupConfig {
+
+    @Bean
+    public RedisJobWakeupRelay redisJobWakeupRelay(BackgroundJobDispatcher dispatcher,
+                                                   StringRedisTemplate stringRedisTemplate,
+                                                   ObjectMapper objectMapper) {
+        return new RedisJobWakeupRelay(dispatcher, stringRedisTemplate, objectMapper);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer jobWakeupListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                    RedisJobWakeupRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(RedisJobWakeupRelay.WAKEUP_CHANNEL));
+        return container;
+    }
+}
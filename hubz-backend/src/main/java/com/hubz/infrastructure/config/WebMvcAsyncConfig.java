@@ -0,0 +1,113 @@
+package com.hubz.infrastructure.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs async MVC requests, such as streamed report downloads, on their own executor instead of
+ * Boot's {@code applicationTaskExecutor}, which also drains the email outbox through {@code @Async}.
+ * A few slow downloads therefore cannot hold up outgoing email, and downloads beyond the pool and
+ * its queue, or beyond as many virtual threads, are rejected rather than waiting until their
+ * request times out.
+ * <p>
+ * The executor is deliberately not a bean: any {@code Executor} bean would replace Boot's
+ * {@code applicationTaskExecutor} and with it the executor used by {@code @Async}.
+ */
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    private static final int SHUTDOWN_GRACE_SECONDS = 30;
+
+    private final AsyncTaskExecutor asyncRequestExecutor;
+
+    public WebMvcAsyncConfig(@Value("${app.mvc.async.threads:8}") int threads,
+                             @Value("${app.mvc.async.queue-capacity:32}") int queueCapacity,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.asyncRequestExecutor = virtualThreads
+                ? createVirtualThreadExecutor(threads + queueCapacity)
+                : createPool(threads, queueCapacity);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(asyncRequestExecutor);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (asyncRequestExecutor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (asyncRequestExecutor instanceof SimpleAsyncTaskExecutor executor) {
+            executor.close();
+        }
+    }
+
+    AsyncTaskExecutor getAsyncRequestExecutor() {
+        return asyncRequestExecutor;
+    }
+
+    /**
+     * One virtual thread per request, limited to as many requests as the pool and its queue
+     * would hold; further requests are rejected like those a full pool queue turns away.
+     */
+    private static SimpleAsyncTaskExecutor createVirtualThreadExecutor(int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new RejectingVirtualThreadExecutor(concurrencyLimit);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(SHUTDOWN_GRACE_SECONDS * 1000L);
+        return executor;
+    }
+
+    private static ThreadPoolTaskExecutor createPool(int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(threads);
+        pool.setMaxPoolSize(threads);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setThreadNamePrefix("mvc-async-");
+        pool.setWaitForTasksToCompleteOnShutdown(true);
+        pool.setAwaitTerminationSeconds(SHUTDOWN_GRACE_SECONDS);
+        pool.initialize();
+        return pool;
+    }
+
+    /**
+     * {@link SimpleAsyncTaskExecutor#setConcurrencyLimit} blocks the submitting thread at the
+     * limit; this executor throws {@link TaskRejectedException} instead.
+     */
+    private static final class RejectingVirtualThreadExecutor extends SimpleAsyncTaskExecutor {
+
+        private final Semaphore permits;
+
+        private RejectingVirtualThreadExecutor(int concurrencyLimit) {
+            super("mvc-async-");
+            this.permits = new Semaphore(concurrencyLimit);
+        }
+
+        @Override
+        protected void doExecute(Runnable task) {
+            if (!permits.tryAcquire()) {
+                throw new TaskRejectedException("Async request limit reached, rejected " + task);
+            }
+            try {
+                super.doExecute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException ex) {
+                permits.release();
+                throw ex;
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.hubz.infrastructure.config;
 
-import com.hubz.infrastructure.security.JwtService;
+import com.hubz.infrastructure.security.AuthenticatedUser;
+import com.hubz.infrastructure.security.AuthenticatedUserResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +19,7 @@ import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 import java.util.Collections;
+import java.util.Optional;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -25,7 +27,7 @@ import java.util.Collections;
 @Slf4j
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
-    private final JwtService jwtService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
     private final CorsProperties corsProperties;
 
     @Override
@@ -64,12 +66,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                     if (authHeader != null && authHeader.startsWith("Bearer ")) {
                         String token = authHeader.substring(7);
 
-                        if (jwtService.validateToken(token)) {
-                            String email = jwtService.extractEmail(token);
+                        Optional<AuthenticatedUser> principal = authenticatedUserResolver.resolve(token);
+                        if (principal.isPresent()) {
                             UsernamePasswordAuthenticationToken authentication =
-                                    new UsernamePasswordAuthenticationToken(email, null, Collections.emptyList());
+                                    new UsernamePasswordAuthenticationToken(principal.get(), null, Collections.emptyList());
                             accessor.setUser(authentication);
-                            log.debug("WebSocket authenticated for user: {}", email);
+                            log.debug("WebSocket authenticated for user: {}", principal.get().email());
                         } else {
                             log.warn("Invalid JWT token in WebSocket connection");
                         }
@@ -1,14 +1,25 @@
 package com.hubz.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 @Configuration
 public class WebhookConfig {
 
+    /**
+     * Shared client for webhook deliveries. It keeps connections to each destination alive
+     * between calls, so a burst of events reuses a few pooled connections instead of opening
+     * one per request.
+     */
     @Bean
-    public RestTemplate webhookRestTemplate() {
-        return new RestTemplate();
+    public HttpClient webhookHttpClient(@Value("${app.webhooks.connect-timeout:10s}") Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
     }
 }
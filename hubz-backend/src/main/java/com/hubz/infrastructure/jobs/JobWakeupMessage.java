@@ -0,0 +1,12 @@
+package com.hubz.infrastructure.jobs;
+
+import com.hubz.domain.enums.JobType;
+
+/**
+ * Payload published on {@link RedisJobWakeupRelay#WAKEUP_CHANNEL}.
+ *
+ * @param origin id of the node that scheduled the job, so it can ignore its own message
+ * @param type   type of the job that became ready
+ */
+public record JobWakeupMessage(String origin, JobType type) {
+}
@@ -0,0 +1,72 @@
+package com.hubz.infrastructure.jobs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.service.BackgroundJobDispatcher;
+import com.hubz.domain.event.BackgroundJobScheduledEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Wakes the job dispatchers of other nodes when a job is scheduled on this one.
+ * <p>
+ * Each committed {@link BackgroundJobScheduledEvent} is published on {@link #WAKEUP_CHANNEL};
+ * messages from other nodes trigger {@link BackgroundJobDispatcher#wakeUp()} locally. Redis
+ * pub/sub is fire-and-forget, so a lost message only delays the job until the next sweep.
+ */
+@Slf4j
+public class RedisJobWakeupRelay implements MessageListener {
+
+    public static final String WAKEUP_CHANNEL = "hubz:job-wakeup";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final BackgroundJobDispatcher dispatcher;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RedisJobWakeupRelay(BackgroundJobDispatcher dispatcher,
+                               StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper) {
+        this.dispatcher = dispatcher;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobScheduled(BackgroundJobScheduledEvent event) {
+        try {
+            String payload = objectMapper.writeValueAsString(new JobWakeupMessage(nodeId, event.type()));
+            redisTemplate.convertAndSend(WAKEUP_CHANNEL, payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize job wake-up for {}: {}", event.type(), e.getMessage());
+        } catch (RuntimeException e) {
+            // Redis unavailable: other nodes pick the job up on their next sweep
+            log.warn("Could not publish job wake-up for {}: {}", event.type(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        JobWakeupMessage wakeUp;
+        try {
+            wakeUp = objectMapper.readValue(message.getBody(), JobWakeupMessage.class);
+        } catch (IOException e) {
+            log.warn("Ignoring malformed job wake-up message: {}", e.getMessage());
+            return;
+        }
+
+        if (!nodeId.equals(wakeUp.origin())) {
+            dispatcher.wakeUp();
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Cross-node signalling for the background job engine.
+ */
+package com.hubz.infrastructure.jobs;
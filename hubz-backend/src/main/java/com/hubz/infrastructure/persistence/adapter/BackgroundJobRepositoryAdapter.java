@@ -2,6 +2,7 @@ package com.hubz.infrastructure.persistence.adapter;
 
 import com.hubz.application.port.out.BackgroundJobRepositoryPort;
 import com.hubz.domain.enums.JobStatus;
+import com.hubz.domain.enums.JobType;
 import com.hubz.domain.model.BackgroundJob;
 import com.hubz.infrastructure.persistence.mapper.BackgroundJobMapper;
 import com.hubz.infrastructure.persistence.repository.BackgroundJobJpaRepository;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,6 +42,37 @@ public class BackgroundJobRepositoryAdapter implements BackgroundJobRepositoryPo
                 .toList();
     }
 
+    @Override
+    @Transactional
+    public List<BackgroundJob> claimPendingJobs(JobType type, int limit) {
+        var locked = jpaRepository.lockPendingJobs(type.name(), LocalDateTime.now(), limit);
+        List<BackgroundJob> claimed = new ArrayList<>(locked.size());
+        for (var entity : locked) {
+            BackgroundJob job = mapper.toDomain(entity);
+            if (job.getStatus() == JobStatus.RUNNING) {
+                job.markLeaseExpired();
+            } else {
+                job.markRunning();
+                claimed.add(job);
+            }
+            jpaRepository.save(mapper.toEntity(job));
+        }
+        return claimed;
+    }
+
+    @Override
+    @Transactional
+    public boolean renewLease(UUID id, LocalDateTime heldLease, LocalDateTime renewedLease) {
+        return jpaRepository.renewLease(id, heldLease, renewedLease) > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean saveIfLeaseHeld(BackgroundJob job, LocalDateTime heldLease) {
+        return jpaRepository.updateOutcomeIfLeaseHeld(job.getId(), heldLease, job.getStatus(), job.getError(),
+                job.getRetryCount(), job.getExecutedAt(), job.getRunAt()) > 0;
+    }
+
     @Override
     public List<BackgroundJob> findAll() {
         return jpaRepository.findAll().stream()
@@ -0,0 +1,126 @@
+package com.hubz.infrastructure.persistence.adapter;
+
+import com.hubz.application.port.out.DailyActivityRollupRepositoryPort;
+import com.hubz.domain.model.DailyActivityRollup;
+import com.hubz.infrastructure.persistence.entity.DailyActivityRollupEntity;
+import com.hubz.infrastructure.persistence.mapper.DailyActivityRollupMapper;
+import com.hubz.infrastructure.persistence.repository.DailyActivityRollupJpaRepository;
+import com.hubz.infrastructure.persistence.repository.GoalProgressHistoryJpaRepository;
+import com.hubz.infrastructure.persistence.repository.HabitLogJpaRepository;
+import com.hubz.infrastructure.persistence.repository.JpaTaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter implementing the DailyActivityRollupRepositoryPort.
+ * Counters are incremented with a single UPDATE statement so concurrent writers never lose updates.
+ * The first write of a day creates the row in the same transaction with an insert that skips
+ * an existing row, so two writers racing on the same new row both increment the row the first one
+ * created.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyActivityRollupRepositoryAdapter implements DailyActivityRollupRepositoryPort {
+
+    private static final String NO_SCOPE = "-";
+
+    private final DailyActivityRollupJpaRepository jpaRepository;
+    private final DailyActivityRollupMapper mapper;
+    private final JpaTaskRepository taskRepository;
+    private final HabitLogJpaRepository habitLogRepository;
+    private final GoalProgressHistoryJpaRepository goalProgressHistoryRepository;
+
+    @Override
+    @Transactional
+    public void increment(DailyActivityRollup delta) {
+        String scopeKey = scopeKey(delta.getOrganizationId(), delta.getUserId());
+        if (applyIncrement(scopeKey, delta) == 0) {
+            createRowIfMissing(scopeKey, delta);
+            applyIncrement(scopeKey, delta);
+        }
+    }
+
+    @Override
+    public List<DailyActivityRollup> findByScope(UUID organizationId, UUID userId, LocalDate startDate, LocalDate endDate) {
+        return jpaRepository.findByScopeKeyAndDateBetweenOrderByDateAsc(scopeKey(organizationId, userId), startDate, endDate)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void replaceRange(LocalDate startDate, LocalDate endDate, List<DailyActivityRollup> rollups) {
+        jpaRepository.deleteByDateRange(startDate, endDate);
+        jpaRepository.flush();
+        jpaRepository.saveAll(rollups.stream()
+                .map(this::toEntity)
+                .toList());
+    }
+
+    @Override
+    public List<Object[]> aggregateTaskCreations(LocalDateTime startDate, LocalDateTime endDate) {
+        return taskRepository.aggregateDailyCreations(startDate, endDate);
+    }
+
+    @Override
+    public List<Object[]> aggregateTaskCompletions(LocalDateTime startDate, LocalDateTime endDate) {
+        return taskRepository.aggregateDailyCompletions(startDate, endDate);
+    }
+
+    @Override
+    public List<Object[]> countInProgressTasks() {
+        return taskRepository.countInProgressByOrganizationAndAssignee();
+    }
+
+    @Override
+    public List<Object[]> aggregateHabitCompletions(LocalDate startDate, LocalDate endDate) {
+        return habitLogRepository.aggregateDailyCompletionsByUser(startDate, endDate);
+    }
+
+    @Override
+    public List<Object[]> aggregateGoalUpdates(LocalDateTime startDate, LocalDateTime endDate) {
+        return goalProgressHistoryRepository.aggregateDailyUpdates(startDate, endDate);
+    }
+
+    private int applyIncrement(String scopeKey, DailyActivityRollup delta) {
+        return jpaRepository.increment(scopeKey, delta.getDate(),
+                delta.getTasksCreated(),
+                delta.getTasksCompleted(),
+                delta.getTasksInProgress(),
+                delta.getHabitCompletions(),
+                delta.getGoalUpdates(),
+                LocalDateTime.now());
+    }
+
+    private void createRowIfMissing(String scopeKey, DailyActivityRollup delta) {
+        long inProgressSnapshot = jpaRepository
+                .findFirstByScopeKeyAndDateLessThanOrderByDateDesc(scopeKey, delta.getDate())
+                .map(DailyActivityRollupEntity::getTasksInProgress)
+                .orElse(0L);
+
+        jpaRepository.insertIfMissing(UUID.randomUUID(), scopeKey,
+                delta.getOrganizationId(),
+                delta.getUserId(),
+                delta.getDate(),
+                inProgressSnapshot,
+                LocalDateTime.now());
+    }
+
+    private DailyActivityRollupEntity toEntity(DailyActivityRollup rollup) {
+        DailyActivityRollupEntity entity = mapper.toEntity(rollup);
+        entity.setScopeKey(scopeKey(rollup.getOrganizationId(), rollup.getUserId()));
+        return entity;
+    }
+
+    private static String scopeKey(UUID organizationId, UUID userId) {
+        return (organizationId != null ? organizationId.toString() : NO_SCOPE)
+                + ":" + (userId != null ? userId.toString() : NO_SCOPE);
+    }
+}
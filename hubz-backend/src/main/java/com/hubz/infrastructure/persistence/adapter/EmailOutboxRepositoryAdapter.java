@@ -0,0 +1,54 @@
+package com.hubz.infrastructure.persistence.adapter;
+
+import com.hubz.application.port.out.EmailOutboxRepositoryPort;
+import com.hubz.domain.enums.EmailOutboxStatus;
+import com.hubz.domain.model.EmailOutboxMessage;
+import com.hubz.infrastructure.persistence.mapper.EmailOutboxMapper;
+import com.hubz.infrastructure.persistence.repository.EmailOutboxJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxRepositoryAdapter implements EmailOutboxRepositoryPort {
+
+    private final EmailOutboxJpaRepository jpaRepository;
+    private final EmailOutboxMapper mapper;
+
+    @Override
+    public EmailOutboxMessage save(EmailOutboxMessage message) {
+        var entity = mapper.toEntity(message);
+        var saved = jpaRepository.save(entity);
+        return mapper.toDomain(saved);
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<EmailOutboxMessage> messages) {
+        jpaRepository.saveAll(messages.stream().map(mapper::toEntity).toList());
+    }
+
+    @Override
+    @Transactional
+    public List<EmailOutboxMessage> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        var locked = jpaRepository.lockDueMessages(now, limit);
+        locked.forEach(entity -> {
+            entity.setStatus(EmailOutboxStatus.SENDING);
+            entity.setNextAttemptAt(now.plus(EmailOutboxMessage.SEND_LEASE));
+        });
+        return locked.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public int deleteFinishedBefore(LocalDateTime cutoffDate) {
+        return jpaRepository.deleteFinishedBefore(cutoffDate);
+    }
+}
@@ -73,6 +73,16 @@ public class EventRepositoryAdapter implements EventRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public List<Event> findPersonalEventsByUserIdsAndTimeRange(List<UUID> userIds, LocalDateTime start, LocalDateTime end) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findPersonalEventsByUserIdsAndTimeRange(userIds, start, end).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void delete(Event event) {
         jpaRepository.deleteById(event.getId());
@@ -45,6 +45,17 @@ public class GoalRepositoryAdapter implements GoalRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public List<Goal> findPersonalGoalsByUserIds(List<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByUserIdInAndOrganizationIdIsNull(userIds)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
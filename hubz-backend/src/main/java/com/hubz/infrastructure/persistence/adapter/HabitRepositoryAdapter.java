@@ -36,6 +36,17 @@ public class HabitRepositoryAdapter implements HabitRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public List<Habit> findByUserIdIn(List<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByUserIdIn(userIds)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
@@ -0,0 +1,52 @@
+package com.hubz.infrastructure.persistence.adapter;
+
+import com.hubz.application.port.out.ReportExportRepositoryPort;
+import com.hubz.domain.model.ReportExport;
+import com.hubz.infrastructure.persistence.mapper.ReportExportMapper;
+import com.hubz.infrastructure.persistence.repository.ReportExportJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ReportExportRepositoryAdapter implements ReportExportRepositoryPort {
+
+    private final ReportExportJpaRepository jpaRepository;
+    private final ReportExportMapper mapper;
+
+    @Override
+    public ReportExport save(ReportExport export) {
+        var entity = mapper.toEntity(export);
+        var saved = jpaRepository.save(entity);
+        return mapper.toDomain(saved);
+    }
+
+    @Override
+    public Optional<ReportExport> findById(UUID id) {
+        return jpaRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<ReportExport> findByUserId(UUID userId) {
+        return jpaRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<ReportExport> findCreatedBefore(LocalDateTime cutoffDate) {
+        return jpaRepository.findByCreatedAtBefore(cutoffDate).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        jpaRepository.deleteById(id);
+    }
+}
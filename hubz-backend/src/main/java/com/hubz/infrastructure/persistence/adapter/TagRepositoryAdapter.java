@@ -3,6 +3,7 @@ package com.hubz.infrastructure.persistence.adapter;
 import com.hubz.application.port.out.TagRepositoryPort;
 import com.hubz.domain.model.Tag;
 import com.hubz.infrastructure.persistence.entity.DocumentTagEntity;
+import com.hubz.infrastructure.persistence.entity.TagEntity;
 import com.hubz.infrastructure.persistence.entity.TaskTagEntity;
 import com.hubz.infrastructure.persistence.mapper.TagMapper;
 import com.hubz.infrastructure.persistence.repository.DocumentTagJpaRepository;
@@ -12,7 +13,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -21,6 +26,9 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TagRepositoryAdapter implements TagRepositoryPort {
 
+    /** Keeps IN lists well below database bind parameter limits. */
+    private static final int TASK_ID_BATCH_SIZE = 1000;
+
     private final TagJpaRepository tagJpaRepository;
     private final TaskTagJpaRepository taskTagJpaRepository;
     private final DocumentTagJpaRepository documentTagJpaRepository;
@@ -98,6 +106,21 @@ public class TagRepositoryAdapter implements TagRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public Map<UUID, List<Tag>> findTagsByTaskIds(Collection<UUID> taskIds) {
+        Map<UUID, List<Tag>> tagsByTaskId = new HashMap<>();
+        List<UUID> ids = taskIds.stream().distinct().toList();
+
+        for (int from = 0; from < ids.size(); from += TASK_ID_BATCH_SIZE) {
+            List<UUID> batch = ids.subList(from, Math.min(from + TASK_ID_BATCH_SIZE, ids.size()));
+            for (Object[] row : tagJpaRepository.findWithTaskIdByTaskIds(batch)) {
+                tagsByTaskId.computeIfAbsent((UUID) row[0], id -> new ArrayList<>())
+                        .add(mapper.toDomain((TagEntity) row[1]));
+            }
+        }
+        return tagsByTaskId;
+    }
+
     @Override
     public List<UUID> findTaskIdsByTagId(UUID tagId) {
         return taskTagJpaRepository.findByTagId(tagId).stream()
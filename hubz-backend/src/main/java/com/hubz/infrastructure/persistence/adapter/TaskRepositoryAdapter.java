@@ -1,14 +1,24 @@
 package com.hubz.infrastructure.persistence.adapter;
 
 import com.hubz.application.port.out.TaskRepositoryPort;
+import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.enums.TaskSortField;
 import com.hubz.domain.model.Task;
+import com.hubz.domain.model.TaskPageQuery;
+import com.hubz.infrastructure.persistence.entity.TaskEntity;
 import com.hubz.infrastructure.persistence.mapper.TaskMapper;
 import com.hubz.infrastructure.persistence.repository.JpaTaskRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,6 +48,31 @@ public class TaskRepositoryAdapter implements TaskRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public List<Task> findPageByOrganizationId(TaskPageQuery query) {
+        Pageable pageable = PageRequest.of(0, query.getLimit());
+        boolean byCreatedAt = query.getSortField() == TaskSortField.CREATED_AT;
+        List<TaskEntity> entities;
+
+        if (!query.hasCursor()) {
+            entities = byCreatedAt
+                    ? jpaRepository.findFirstPageOrderByCreatedAt(query.getOrganizationId(), query.getStatus(),
+                            query.getAssigneeId(), query.getPriority(), pageable)
+                    : jpaRepository.findFirstPageOrderByUpdatedAt(query.getOrganizationId(), query.getStatus(),
+                            query.getAssigneeId(), query.getPriority(), pageable);
+        } else {
+            entities = byCreatedAt
+                    ? jpaRepository.findPageAfterOrderByCreatedAt(query.getOrganizationId(), query.getStatus(),
+                            query.getAssigneeId(), query.getPriority(), query.getAfterTimestamp(), query.getAfterId(), pageable)
+                    : jpaRepository.findPageAfterOrderByUpdatedAt(query.getOrganizationId(), query.getStatus(),
+                            query.getAssigneeId(), query.getPriority(), query.getAfterTimestamp(), query.getAfterId(), pageable);
+        }
+
+        return entities.stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public List<Task> findByAssigneeId(UUID assigneeId) {
         return jpaRepository.findByAssigneeId(assigneeId).stream()
@@ -52,6 +87,16 @@ public class TaskRepositoryAdapter implements TaskRepositoryPort {
                 .toList();
     }
 
+    @Override
+    public List<Task> findCompletedByAssigneeIdsSince(List<UUID> assigneeIds, LocalDateTime since) {
+        if (assigneeIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByAssigneeIdsAndStatusUpdatedSince(assigneeIds, TaskStatus.DONE, since).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
@@ -70,4 +115,79 @@ public class TaskRepositoryAdapter implements TaskRepositoryPort {
                 .map(mapper::toDomain)
                 .toList();
     }
+
+    @Override
+    public List<Task> findForAnalyticsByOrganizationId(UUID organizationId) {
+        return jpaRepository.findAnalyticsViewByOrganizationId(organizationId).stream()
+                .map(view -> Task.builder()
+                        .id(view.getId())
+                        .status(view.getStatus())
+                        .priority(view.getPriority())
+                        .organizationId(view.getOrganizationId())
+                        .goalId(view.getGoalId())
+                        .assigneeId(view.getAssigneeId())
+                        .creatorId(view.getCreatorId())
+                        .dueDate(view.getDueDate())
+                        .createdAt(view.getCreatedAt())
+                        .updatedAt(view.getUpdatedAt())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus(UUID organizationId) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (Object[] row : jpaRepository.countByStatusForOrganization(organizationId)) {
+            counts.put((TaskStatus) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<UUID, Map<TaskStatus, Long>> countByGoalIdsAndStatus(List<UUID> goalIds) {
+        if (goalIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Map<TaskStatus, Long>> counts = new HashMap<>();
+        for (Object[] row : jpaRepository.countByGoalAndStatusForGoals(goalIds)) {
+            counts.computeIfAbsent((UUID) row[0], id -> new EnumMap<>(TaskStatus.class))
+                    .put((TaskStatus) row[1], ((Number) row[2]).longValue());
+        }
+        return counts;
+    }
+
+    @Override
+    public long countOverdue(UUID organizationId, LocalDateTime before) {
+        return jpaRepository.countOverdueForOrganization(organizationId, before);
+    }
+
+    @Override
+    public Map<LocalDate, Long> countCreatedPerDay(UUID organizationId, LocalDateTime start, LocalDateTime end) {
+        return toDailyCounts(jpaRepository.getDailyCreationsByOrganization(organizationId, start, end));
+    }
+
+    @Override
+    public Map<LocalDate, Long> countCompletedPerDay(UUID organizationId, LocalDateTime start, LocalDateTime end) {
+        return toDailyCounts(jpaRepository.getDailyCompletionsByOrganization(organizationId, start, end));
+    }
+
+    private Map<LocalDate, Long> toDailyCounts(List<Object[]> rows) {
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[0] == null) continue;
+            counts.merge(toLocalDate(row[0]), ((Number) row[1]).longValue(), Long::sum);
+        }
+        return counts;
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        } else if (value instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        } else if (value instanceof java.util.Date utilDate) {
+            return new java.sql.Date(utilDate.getTime()).toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
 }
@@ -7,6 +7,7 @@ import com.hubz.infrastructure.persistence.repository.JpaUserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,6 +24,16 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
                 .map(userMapper::toDomain);
     }
 
+    @Override
+    public List<User> findAllByIds(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaUserRepository.findAllById(ids).stream()
+                .map(userMapper::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<User> findByEmail(String email) {
         return jpaUserRepository.findByEmail(email)
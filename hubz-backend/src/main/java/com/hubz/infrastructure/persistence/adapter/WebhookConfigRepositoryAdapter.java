@@ -7,6 +7,7 @@ import com.hubz.infrastructure.persistence.mapper.WebhookConfigMapper;
 import com.hubz.infrastructure.persistence.repository.WebhookConfigJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +49,19 @@ public class WebhookConfigRepositoryAdapter implements WebhookConfigRepositoryPo
                 .toList();
     }
 
+    @Override
+    @Transactional
+    public void updateDeliveryHealth(WebhookConfig webhookConfig) {
+        jpaRepository.updateDeliveryHealth(
+                webhookConfig.getId(),
+                webhookConfig.getConsecutiveFailures(),
+                webhookConfig.getFailureRate(),
+                webhookConfig.getCircuitOpenUntil(),
+                webhookConfig.getLastFailureAt(),
+                webhookConfig.getLastError(),
+                webhookConfig.isEnabled());
+    }
+
     @Override
     public void deleteById(UUID id) {
         jpaRepository.deleteById(id);
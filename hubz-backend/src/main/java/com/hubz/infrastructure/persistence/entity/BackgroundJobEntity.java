@@ -16,7 +16,8 @@ import java.util.UUID;
 @Table(name = "background_jobs", indexes = {
     @Index(name = "idx_background_jobs_status", columnList = "status"),
     @Index(name = "idx_background_jobs_type", columnList = "type"),
-    @Index(name = "idx_background_jobs_created_at", columnList = "createdAt")
+    @Index(name = "idx_background_jobs_created_at", columnList = "createdAt"),
+    @Index(name = "idx_background_jobs_status_type_run_at", columnList = "status, type, runAt")
 })
 @Data
 @Builder
@@ -52,4 +53,12 @@ public class BackgroundJobEntity {
 
     @Column
     private LocalDateTime executedAt;
+
+    @Column
+    private LocalDateTime runAt;
+
+    // Database default so the column can be added to an existing table with rows in it
+    @Column(nullable = false, columnDefinition = "integer default 0 not null")
+    @Builder.Default
+    private Integer priority = 0;
 }
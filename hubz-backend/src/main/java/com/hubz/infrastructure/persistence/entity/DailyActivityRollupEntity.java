@@ -0,0 +1,62 @@
+package com.hubz.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "daily_activity_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_daily_activity_rollups_scope_date", columnNames = {"scope_key", "date"})
+}, indexes = {
+    @Index(name = "idx_daily_activity_rollups_org_date", columnList = "organization_id, date"),
+    @Index(name = "idx_daily_activity_rollups_user_date", columnList = "user_id, date")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyActivityRollupEntity {
+
+    @Id
+    private UUID id;
+
+    /**
+     * Non-null key identifying the (organization, user) scope, so that the unique
+     * constraint also holds for organization-only and user-only rows.
+     */
+    @Column(name = "scope_key", nullable = false, length = 80)
+    private String scopeKey;
+
+    @Column(name = "organization_id")
+    private UUID organizationId;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "tasks_created", nullable = false)
+    private long tasksCreated;
+
+    @Column(name = "tasks_completed", nullable = false)
+    private long tasksCompleted;
+
+    @Column(name = "tasks_in_progress", nullable = false)
+    private long tasksInProgress;
+
+    @Column(name = "habit_completions", nullable = false)
+    private long habitCompletions;
+
+    @Column(name = "goal_updates", nullable = false)
+    private long goalUpdates;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -17,7 +17,9 @@ import java.util.UUID;
 @Entity
 @Table(name = "events", indexes = {
     @Index(name = "idx_events_parent_event_id", columnList = "parentEventId"),
-    @Index(name = "idx_events_recurrence_type", columnList = "recurrenceType")
+    @Index(name = "idx_events_recurrence_type", columnList = "recurrenceType"),
+    @Index(name = "idx_events_org_start_time", columnList = "organization_id, start_time"),
+    @Index(name = "idx_events_user_start_time", columnList = "user_id, start_time")
 })
 @Data
 @Builder
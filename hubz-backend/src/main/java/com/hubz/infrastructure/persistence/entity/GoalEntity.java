@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "goals")
+@Table(name = "goals", indexes = {
+    @Index(name = "idx_goals_organization_id", columnList = "organization_id"),
+    @Index(name = "idx_goals_user_org", columnList = "user_id, organization_id"),
+    @Index(name = "idx_goals_deadline", columnList = "deadline")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "habits")
+@Table(name = "habits", indexes = {
+    @Index(name = "idx_habits_user_id", columnList = "user_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "notes")
+@Table(name = "notes", indexes = {
+    @Index(name = "idx_notes_org_folder_updated_at", columnList = "organization_id, folder_id, updated_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "organization_invitations")
+@Table(name = "organization_invitations", indexes = {
+    @Index(name = "idx_org_invitations_org_email", columnList = "organization_id, email")
+})
 @Data
 @Builder
 @NoArgsConstructor
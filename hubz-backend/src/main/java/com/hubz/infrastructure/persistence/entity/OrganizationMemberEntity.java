@@ -8,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -21,7 +22,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "organization_members",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"organizationId", "userId"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"organizationId", "userId"}),
+        indexes = @Index(name = "idx_org_members_user_id", columnList = "user_id"))
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,69 @@
+package com.hubz.infrastructure.persistence.entity;
+
+import com.hubz.domain.enums.ReportExportStatus;
+import com.hubz.domain.enums.ReportFormat;
+import com.hubz.domain.enums.ReportType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "report_exports", indexes = {
+    @Index(name = "idx_report_exports_user_id_created_at", columnList = "userId, createdAt"),
+    @Index(name = "idx_report_exports_created_at", columnList = "createdAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportExportEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column
+    private UUID organizationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReportType reportType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReportExportStatus status;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer progress = 0;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column
+    private String filePath;
+
+    @Column
+    private Long fileSize;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime completedAt;
+}
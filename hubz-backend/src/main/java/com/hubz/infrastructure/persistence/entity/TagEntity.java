@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -19,6 +20,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "tags", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"name", "organization_id"})
+}, indexes = {
+    @Index(name = "idx_tags_organization_id", columnList = "organization_id")
 })
 @Getter
 @Setter
@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,7 +21,16 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_org_updated_at_id", columnList = "organization_id, updated_at, id"),
+    @Index(name = "idx_tasks_org_created_at_id", columnList = "organization_id, created_at, id"),
+    @Index(name = "idx_tasks_org_status", columnList = "organization_id, status"),
+    @Index(name = "idx_tasks_org_due_date", columnList = "organization_id, due_date"),
+    @Index(name = "idx_tasks_assignee_status_updated_at", columnList = "assignee_id, status, updated_at"),
+    @Index(name = "idx_tasks_assignee_due_date", columnList = "assignee_id, due_date"),
+    @Index(name = "idx_tasks_creator_created_at", columnList = "creator_id, created_at"),
+    @Index(name = "idx_tasks_goal_id", columnList = "goal_id")
+})
 @Getter
 @Setter
 @Builder
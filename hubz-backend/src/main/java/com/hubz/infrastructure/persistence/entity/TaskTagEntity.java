@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -19,6 +20,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "task_tags", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"task_id", "tag_id"})
+}, indexes = {
+    @Index(name = "idx_task_tags_tag_id", columnList = "tag_id")
 })
 @Getter
 @Setter
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "teams")
+@Table(name = "teams", indexes = {
+    @Index(name = "idx_teams_organization_id", columnList = "organization_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
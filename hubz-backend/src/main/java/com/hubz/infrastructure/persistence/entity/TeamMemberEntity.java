@@ -13,6 +13,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "team_members", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"teamId", "userId"})
+}, indexes = {
+        @Index(name = "idx_team_members_user_id", columnList = "user_id")
 })
 @Data
 @Builder
@@ -8,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,7 +20,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "webhook_configs")
+@Table(name = "webhook_configs", indexes = {
+        @Index(name = "idx_webhook_configs_org_enabled", columnList = "organization_id, enabled")
+})
 @Getter
 @Setter
 @Builder
@@ -65,4 +68,19 @@ public class WebhookConfigEntity {
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    @Column(name = "consecutive_failures")
+    private Integer consecutiveFailures;
+
+    @Column(name = "failure_rate")
+    private Double failureRate;
+
+    @Column(name = "circuit_open_until")
+    private LocalDateTime circuitOpenUntil;
+
+    @Column(name = "last_failure_at")
+    private LocalDateTime lastFailureAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
 }
@@ -0,0 +1,14 @@
+package com.hubz.infrastructure.persistence.mapper;
+
+import com.hubz.domain.model.DailyActivityRollup;
+import com.hubz.infrastructure.persistence.entity.DailyActivityRollupEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface DailyActivityRollupMapper {
+    DailyActivityRollup toDomain(DailyActivityRollupEntity entity);
+
+    @Mapping(target = "scopeKey", ignore = true)
+    DailyActivityRollupEntity toEntity(DailyActivityRollup domain);
+}
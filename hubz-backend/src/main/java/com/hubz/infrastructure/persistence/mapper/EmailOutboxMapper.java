@@ -0,0 +1,12 @@
+package com.hubz.infrastructure.persistence.mapper;
+
+import com.hubz.domain.model.EmailOutboxMessage;
+import com.hubz.infrastructure.persistence.entity.EmailOutboxEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface EmailOutboxMapper {
+    EmailOutboxMessage toDomain(EmailOutboxEntity entity);
+    EmailOutboxEntity toEntity(EmailOutboxMessage domain);
+}
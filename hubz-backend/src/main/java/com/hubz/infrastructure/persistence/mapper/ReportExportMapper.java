@@ -0,0 +1,12 @@
+package com.hubz.infrastructure.persistence.mapper;
+
+import com.hubz.domain.model.ReportExport;
+import com.hubz.infrastructure.persistence.entity.ReportExportEntity;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface ReportExportMapper {
+    ReportExport toDomain(ReportExportEntity entity);
+    ReportExportEntity toEntity(ReportExport domain);
+}
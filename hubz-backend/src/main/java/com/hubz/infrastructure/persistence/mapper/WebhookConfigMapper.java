@@ -32,6 +32,11 @@ public class WebhookConfigMapper {
                 .createdById(domain.getCreatedById())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
+                .consecutiveFailures(domain.getConsecutiveFailures())
+                .failureRate(domain.getFailureRate())
+                .circuitOpenUntil(domain.getCircuitOpenUntil())
+                .lastFailureAt(domain.getLastFailureAt())
+                .lastError(domain.getLastError())
                 .build();
     }
 
@@ -50,6 +55,11 @@ public class WebhookConfigMapper {
                 .createdById(entity.getCreatedById())
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
+                .consecutiveFailures(entity.getConsecutiveFailures() != null ? entity.getConsecutiveFailures() : 0)
+                .failureRate(entity.getFailureRate() != null ? entity.getFailureRate() : 0)
+                .circuitOpenUntil(entity.getCircuitOpenUntil())
+                .lastFailureAt(entity.getLastFailureAt())
+                .lastError(entity.getLastError())
                 .build();
     }
 
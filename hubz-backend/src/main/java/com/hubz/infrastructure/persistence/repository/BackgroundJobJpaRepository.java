@@ -25,4 +25,41 @@ public interface BackgroundJobJpaRepository extends JpaRepository<BackgroundJobE
     int deleteByCreatedAtBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
 
     long countByStatus(JobStatus status);
+
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.runAt = :renewedLease "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND j.runAt = :heldLease")
+    int renewLease(@Param("id") UUID id,
+                   @Param("heldLease") LocalDateTime heldLease,
+                   @Param("renewedLease") LocalDateTime renewedLease);
+
+    @Modifying
+    @Query("UPDATE BackgroundJobEntity j SET j.status = :status, j.error = :error, j.retryCount = :retryCount, "
+            + "j.executedAt = :executedAt, j.runAt = :runAt "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND j.runAt = :heldLease")
+    int updateOutcomeIfLeaseHeld(@Param("id") UUID id,
+                                 @Param("heldLease") LocalDateTime heldLease,
+                                 @Param("status") JobStatus status,
+                                 @Param("error") String error,
+                                 @Param("retryCount") Integer retryCount,
+                                 @Param("executedAt") LocalDateTime executedAt,
+                                 @Param("runAt") LocalDateTime runAt);
+
+    /**
+     * Lock the next due jobs of a type, skipping rows already locked by another worker. Pending
+     * jobs are due at their run-at time; RUNNING ones once their lease (also held in run_at) has
+     * expired, e.g. because the node running them crashed, so the claimer can record the lost run.
+     * Higher priorities come first, then jobs that have not failed before, then the oldest.
+     * Must run inside a transaction; the row locks are held until it ends.
+     * H2 locks every matching row before applying the limit, so concurrent claimers there
+     * may get fewer jobs than available; Postgres only locks the rows it returns.
+     */
+    @Query(value = "SELECT * FROM background_jobs WHERE type = :type "
+            + "AND ((status = 'PENDING' AND (run_at IS NULL OR run_at <= :now)) "
+            + "OR (status = 'RUNNING' AND run_at <= :now)) "
+            + "ORDER BY priority DESC, retry_count ASC, created_at ASC "
+            + "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<BackgroundJobEntity> lockPendingJobs(@Param("type") String type,
+                                              @Param("now") LocalDateTime now,
+                                              @Param("limit") int limit);
 }
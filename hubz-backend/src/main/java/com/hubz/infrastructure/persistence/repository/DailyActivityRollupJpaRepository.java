@@ -0,0 +1,68 @@
+package com.hubz.infrastructure.persistence.repository;
+
+import com.hubz.infrastructure.persistence.entity.DailyActivityRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface DailyActivityRollupJpaRepository extends JpaRepository<DailyActivityRollupEntity, UUID> {
+
+    boolean existsByScopeKeyAndDate(String scopeKey, LocalDate date);
+
+    Optional<DailyActivityRollupEntity> findFirstByScopeKeyAndDateLessThanOrderByDateDesc(String scopeKey, LocalDate date);
+
+    List<DailyActivityRollupEntity> findByScopeKeyAndDateBetweenOrderByDateAsc(String scopeKey, LocalDate startDate, LocalDate endDate);
+
+    @Modifying
+    @Query("UPDATE DailyActivityRollupEntity r SET " +
+            "r.tasksCreated = r.tasksCreated + :tasksCreated, " +
+            "r.tasksCompleted = r.tasksCompleted + :tasksCompleted, " +
+            "r.tasksInProgress = r.tasksInProgress + :tasksInProgress, " +
+            "r.habitCompletions = r.habitCompletions + :habitCompletions, " +
+            "r.goalUpdates = r.goalUpdates + :goalUpdates, " +
+            "r.updatedAt = :updatedAt " +
+            "WHERE r.scopeKey = :scopeKey AND r.date = :date")
+    int increment(@Param("scopeKey") String scopeKey,
+                  @Param("date") LocalDate date,
+                  @Param("tasksCreated") long tasksCreated,
+                  @Param("tasksCompleted") long tasksCompleted,
+                  @Param("tasksInProgress") long tasksInProgress,
+                  @Param("habitCompletions") long habitCompletions,
+                  @Param("goalUpdates") long goalUpdates,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Create the row of a scope and day with zero counters unless it already exists.
+     * When another transaction inserts the same row first, this one waits for it to finish and then
+     * inserts nothing, so the caller can go on to increment the row the other writer created.
+     * Relies on {@code ON CONFLICT DO NOTHING}, so H2 has to run in PostgreSQL mode.
+     *
+     * @return 1 when the row was created, 0 when it already existed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_activity_rollups (id, scope_key, organization_id, user_id, date, tasks_created, "
+            + "tasks_completed, tasks_in_progress, habit_completions, goal_updates, updated_at) "
+            + "VALUES (:id, :scopeKey, :organizationId, :userId, :date, 0, 0, :tasksInProgress, 0, 0, :updatedAt) "
+            + "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfMissing(@Param("id") UUID id,
+                        @Param("scopeKey") String scopeKey,
+                        @Param("organizationId") UUID organizationId,
+                        @Param("userId") UUID userId,
+                        @Param("date") LocalDate date,
+                        @Param("tasksInProgress") long tasksInProgress,
+                        @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM DailyActivityRollupEntity r WHERE r.date >= :startDate AND r.date <= :endDate")
+    int deleteByDateRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,32 @@
+package com.hubz.infrastructure.persistence.repository;
+
+import com.hubz.infrastructure.persistence.entity.EmailOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EmailOutboxJpaRepository extends JpaRepository<EmailOutboxEntity, UUID> {
+
+    /**
+     * Lock the oldest due messages, skipping rows already locked by another node. Pending
+     * messages are due at their next attempt; SENDING ones once their lease has expired.
+     * Must run inside a transaction; see {@link BackgroundJobJpaRepository#lockPendingJobs}
+     * for how H2 differs from Postgres here.
+     */
+    @Query(value = "SELECT * FROM email_outbox WHERE status IN ('PENDING', 'SENDING') "
+            + "AND next_attempt_at <= :now "
+            + "ORDER BY created_at ASC "
+            + "LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutboxEntity> lockDueMessages(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutboxEntity m WHERE m.status IN ('SENT', 'FAILED') AND m.createdAt < :cutoffDate")
+    int deleteFinishedBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+}
@@ -35,6 +35,13 @@ public interface EventJpaRepository extends JpaRepository<EventEntity, UUID> {
             @Param("end") LocalDateTime end
     );
 
+    @Query("SELECT e FROM EventEntity e WHERE e.organizationId IS NULL AND e.userId IN :userIds AND e.startTime >= :start AND e.startTime < :end")
+    List<EventEntity> findPersonalEventsByUserIdsAndTimeRange(
+            @Param("userIds") List<UUID> userIds,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+
     @Query("SELECT e FROM EventEntity e WHERE (e.organizationId IN :orgIds OR (e.organizationId IS NULL AND e.userId = :userId)) AND (LOWER(e.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(e.description) LIKE LOWER(CONCAT('%', :query, '%')))")
     List<EventEntity> searchByTitleOrDescription(@Param("query") String query, @Param("orgIds") List<UUID> organizationIds, @Param("userId") UUID userId);
 
@@ -15,6 +15,8 @@ public interface GoalJpaRepository extends JpaRepository<GoalEntity, UUID> {
     List<GoalEntity> findByOrganizationId(UUID organizationId);
     List<GoalEntity> findByUserIdAndOrganizationIdIsNull(UUID userId);
 
+    List<GoalEntity> findByUserIdInAndOrganizationIdIsNull(List<UUID> userIds);
+
     @Query("SELECT g FROM GoalEntity g WHERE (g.organizationId IN :orgIds OR (g.organizationId IS NULL AND g.userId = :userId)) AND LOWER(g.title) LIKE LOWER(CONCAT('%', :query, '%'))")
     List<GoalEntity> searchByTitle(@Param("query") String query, @Param("orgIds") List<UUID> organizationIds, @Param("userId") UUID userId);
 
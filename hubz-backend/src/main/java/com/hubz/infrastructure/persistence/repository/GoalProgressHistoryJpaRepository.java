@@ -27,4 +27,8 @@ public interface GoalProgressHistoryJpaRepository extends JpaRepository<GoalProg
     // Activity Heatmap methods
     @Query("SELECT CAST(h.recordedAt AS date), COUNT(h) FROM GoalProgressHistoryEntity h WHERE h.goalId IN :goalIds AND h.recordedAt >= :startDate AND h.recordedAt < :endDate GROUP BY CAST(h.recordedAt AS date)")
     List<Object[]> getDailyUpdatesByGoalIds(@Param("goalIds") List<UUID> goalIds, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // Daily rollup backfill
+    @Query("SELECT g.organizationId, g.userId, CAST(h.recordedAt AS date), COUNT(h) FROM GoalProgressHistoryEntity h, GoalEntity g WHERE h.goalId = g.id AND h.recordedAt >= :startDate AND h.recordedAt < :endDate GROUP BY g.organizationId, g.userId, CAST(h.recordedAt AS date)")
+    List<Object[]> aggregateDailyUpdates(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 }
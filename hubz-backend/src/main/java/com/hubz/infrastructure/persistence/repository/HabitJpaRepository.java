@@ -10,4 +10,6 @@ import java.util.UUID;
 @Repository
 public interface HabitJpaRepository extends JpaRepository<HabitEntity, UUID> {
     List<HabitEntity> findByUserId(UUID userId);
+
+    List<HabitEntity> findByUserIdIn(List<UUID> userIds);
 }
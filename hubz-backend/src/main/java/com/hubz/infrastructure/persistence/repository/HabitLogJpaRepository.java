@@ -24,4 +24,8 @@ public interface HabitLogJpaRepository extends JpaRepository<HabitLogEntity, UUI
     // Activity Heatmap methods
     @Query("SELECT hl.date, COUNT(hl) FROM HabitLogEntity hl WHERE hl.habitId IN :habitIds AND hl.completed = true AND hl.date >= :startDate AND hl.date <= :endDate GROUP BY hl.date")
     List<Object[]> getDailyCompletionsByHabitIds(@Param("habitIds") List<UUID> habitIds, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // Daily rollup backfill
+    @Query("SELECT h.userId, hl.date, COUNT(hl) FROM HabitLogEntity hl, HabitEntity h WHERE hl.habitId = h.id AND hl.completed = true AND hl.date >= :startDate AND hl.date <= :endDate GROUP BY h.userId, hl.date")
+    List<Object[]> aggregateDailyCompletionsByUser(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 }
@@ -1,6 +1,9 @@
 package com.hubz.infrastructure.persistence.repository;
 
+import com.hubz.domain.enums.TaskPriority;
+import com.hubz.domain.enums.TaskStatus;
 import com.hubz.infrastructure.persistence.entity.TaskEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,10 +16,72 @@ public interface JpaTaskRepository extends JpaRepository<TaskEntity, UUID> {
 
     List<TaskEntity> findByOrganizationId(UUID organizationId);
 
+    // Keyset pagination, served by the (organization_id, updated_at, id) and (organization_id, created_at, id) indexes
+
+    @Query("SELECT t FROM TaskEntity t WHERE t.organizationId = :orgId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR t.assigneeId = :assigneeId) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            "ORDER BY t.updatedAt DESC, t.id DESC")
+    List<TaskEntity> findFirstPageOrderByUpdatedAt(
+            @Param("orgId") UUID orgId,
+            @Param("status") TaskStatus status,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("priority") TaskPriority priority,
+            Pageable pageable);
+
+    @Query("SELECT t FROM TaskEntity t WHERE t.organizationId = :orgId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR t.assigneeId = :assigneeId) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            "AND (t.updatedAt < :afterTimestamp OR (t.updatedAt = :afterTimestamp AND t.id < :afterId)) " +
+            "ORDER BY t.updatedAt DESC, t.id DESC")
+    List<TaskEntity> findPageAfterOrderByUpdatedAt(
+            @Param("orgId") UUID orgId,
+            @Param("status") TaskStatus status,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("priority") TaskPriority priority,
+            @Param("afterTimestamp") LocalDateTime afterTimestamp,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    @Query("SELECT t FROM TaskEntity t WHERE t.organizationId = :orgId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR t.assigneeId = :assigneeId) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskEntity> findFirstPageOrderByCreatedAt(
+            @Param("orgId") UUID orgId,
+            @Param("status") TaskStatus status,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("priority") TaskPriority priority,
+            Pageable pageable);
+
+    @Query("SELECT t FROM TaskEntity t WHERE t.organizationId = :orgId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR t.assigneeId = :assigneeId) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            "AND (t.createdAt < :afterTimestamp OR (t.createdAt = :afterTimestamp AND t.id < :afterId)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskEntity> findPageAfterOrderByCreatedAt(
+            @Param("orgId") UUID orgId,
+            @Param("status") TaskStatus status,
+            @Param("assigneeId") UUID assigneeId,
+            @Param("priority") TaskPriority priority,
+            @Param("afterTimestamp") LocalDateTime afterTimestamp,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
     List<TaskEntity> findByAssigneeId(UUID assigneeId);
 
     List<TaskEntity> findByGoalId(UUID goalId);
 
+    @Query("SELECT t FROM TaskEntity t WHERE t.assigneeId IN :assigneeIds AND t.status = :status AND t.updatedAt >= :since")
+    List<TaskEntity> findByAssigneeIdsAndStatusUpdatedSince(
+            @Param("assigneeIds") List<UUID> assigneeIds,
+            @Param("status") TaskStatus status,
+            @Param("since") LocalDateTime since);
+
     @Query("SELECT t FROM TaskEntity t WHERE t.organizationId IN :orgIds AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :query, '%')))")
     List<TaskEntity> searchByTitleOrDescription(@Param("query") String query, @Param("orgIds") List<UUID> organizationIds);
 
@@ -54,6 +119,49 @@ public interface JpaTaskRepository extends JpaRepository<TaskEntity, UUID> {
     @Query("SELECT CAST(t.updatedAt AS date), COUNT(t) FROM TaskEntity t WHERE t.organizationId = :orgId AND t.assigneeId = :userId AND t.status = 'DONE' AND t.updatedAt >= :startDate AND t.updatedAt < :endDate GROUP BY CAST(t.updatedAt AS date)")
     List<Object[]> getDailyCompletionsByOrganizationAndUser(@Param("orgId") UUID orgId, @Param("userId") UUID userId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
+    // Daily rollup backfill queries
+
+    @Query("SELECT t.organizationId, t.creatorId, CAST(t.createdAt AS date), COUNT(t) FROM TaskEntity t WHERE t.createdAt >= :startDate AND t.createdAt < :endDate GROUP BY t.organizationId, t.creatorId, CAST(t.createdAt AS date)")
+    List<Object[]> aggregateDailyCreations(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT t.organizationId, t.assigneeId, CAST(t.updatedAt AS date), COUNT(t) FROM TaskEntity t WHERE t.status = 'DONE' AND t.updatedAt >= :startDate AND t.updatedAt < :endDate GROUP BY t.organizationId, t.assigneeId, CAST(t.updatedAt AS date)")
+    List<Object[]> aggregateDailyCompletions(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT t.organizationId, t.assigneeId, COUNT(t) FROM TaskEntity t WHERE t.status = 'IN_PROGRESS' GROUP BY t.organizationId, t.assigneeId")
+    List<Object[]> countInProgressByOrganizationAndAssignee();
+
+    // Organization Analytics Queries
+
+    /**
+     * Closed projection of the columns analytics needs; title and description are never read.
+     */
+    interface AnalyticsView {
+        UUID getId();
+        TaskStatus getStatus();
+        TaskPriority getPriority();
+        UUID getOrganizationId();
+        UUID getGoalId();
+        UUID getAssigneeId();
+        UUID getCreatorId();
+        LocalDateTime getDueDate();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+    }
+
+    List<AnalyticsView> findAnalyticsViewByOrganizationId(UUID organizationId);
+
+    @Query("SELECT t.status, COUNT(t) FROM TaskEntity t WHERE t.organizationId = :orgId GROUP BY t.status")
+    List<Object[]> countByStatusForOrganization(@Param("orgId") UUID orgId);
+
+    @Query("SELECT t.goalId, t.status, COUNT(t) FROM TaskEntity t WHERE t.goalId IN :goalIds GROUP BY t.goalId, t.status")
+    List<Object[]> countByGoalAndStatusForGoals(@Param("goalIds") List<UUID> goalIds);
+
+    @Query("SELECT COUNT(t) FROM TaskEntity t WHERE t.organizationId = :orgId AND t.dueDate < :before AND t.status <> 'DONE'")
+    long countOverdueForOrganization(@Param("orgId") UUID orgId, @Param("before") LocalDateTime before);
+
+    @Query("SELECT CAST(t.createdAt AS date), COUNT(t) FROM TaskEntity t WHERE t.organizationId = :orgId AND t.createdAt >= :startDate AND t.createdAt < :endDate GROUP BY CAST(t.createdAt AS date)")
+    List<Object[]> getDailyCreationsByOrganization(@Param("orgId") UUID orgId, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
     // Deadline Reminder Query
     @Query("SELECT t FROM TaskEntity t WHERE t.assigneeId = :assigneeId AND t.dueDate >= :start AND t.dueDate <= :end AND t.status != 'DONE' ORDER BY t.dueDate ASC")
     List<TaskEntity> findByAssigneeIdAndDueDateBetween(@Param("assigneeId") UUID assigneeId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
@@ -0,0 +1,17 @@
+package com.hubz.infrastructure.persistence.repository;
+
+import com.hubz.infrastructure.persistence.entity.ReportExportEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ReportExportJpaRepository extends JpaRepository<ReportExportEntity, UUID> {
+
+    List<ReportExportEntity> findByUserIdOrderByCreatedAtDesc(UUID userId);
+
+    List<ReportExportEntity> findByCreatedAtBefore(LocalDateTime cutoffDate);
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -20,6 +21,12 @@ public interface TagJpaRepository extends JpaRepository<TagEntity, UUID> {
     @Query("SELECT t FROM TagEntity t JOIN TaskTagEntity tt ON t.id = tt.tagId WHERE tt.taskId = :taskId")
     List<TagEntity> findByTaskId(@Param("taskId") UUID taskId);
 
+    /**
+     * Returns [taskId, TagEntity] pairs for all given tasks in one query.
+     */
+    @Query("SELECT tt.taskId, t FROM TagEntity t JOIN TaskTagEntity tt ON t.id = tt.tagId WHERE tt.taskId IN :taskIds")
+    List<Object[]> findWithTaskIdByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
     @Query("SELECT t FROM TagEntity t JOIN DocumentTagEntity dt ON t.id = dt.tagId WHERE dt.documentId = :documentId")
     List<TagEntity> findByDocumentId(@Param("documentId") UUID documentId);
 }
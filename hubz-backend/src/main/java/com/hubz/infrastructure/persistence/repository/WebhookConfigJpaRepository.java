@@ -2,8 +2,12 @@ package com.hubz.infrastructure.persistence.repository;
 
 import com.hubz.infrastructure.persistence.entity.WebhookConfigEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +17,21 @@ public interface WebhookConfigJpaRepository extends JpaRepository<WebhookConfigE
     List<WebhookConfigEntity> findByOrganizationId(UUID organizationId);
 
     List<WebhookConfigEntity> findByOrganizationIdAndEnabled(UUID organizationId, boolean enabled);
+
+    @Modifying
+    @Query("UPDATE WebhookConfigEntity w SET " +
+            "w.consecutiveFailures = :consecutiveFailures, " +
+            "w.failureRate = :failureRate, " +
+            "w.circuitOpenUntil = :circuitOpenUntil, " +
+            "w.lastFailureAt = :lastFailureAt, " +
+            "w.lastError = :lastError, " +
+            "w.enabled = CASE WHEN :enabled = false THEN false ELSE w.enabled END " +
+            "WHERE w.id = :id")
+    void updateDeliveryHealth(@Param("id") UUID id,
+                              @Param("consecutiveFailures") int consecutiveFailures,
+                              @Param("failureRate") double failureRate,
+                              @Param("circuitOpenUntil") LocalDateTime circuitOpenUntil,
+                              @Param("lastFailureAt") LocalDateTime lastFailureAt,
+                              @Param("lastError") String lastError,
+                              @Param("enabled") boolean enabled);
 }
@@ -0,0 +1,18 @@
+package com.hubz.infrastructure.security;
+
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * Principal stored in the security context for JWT-authenticated requests.
+ * <p>
+ * {@link #getName()} returns the email so code relying on {@code Authentication#getName()}
+ * keeps working, while controllers read the id without a user lookup.
+ */
+public record AuthenticatedUser(UUID id, String email) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
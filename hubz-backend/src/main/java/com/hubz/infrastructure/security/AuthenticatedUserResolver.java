@@ -0,0 +1,157 @@
+package com.hubz.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hubz.application.dto.response.CacheStatsResponse;
+import com.hubz.application.port.out.UserRepositoryPort;
+import com.hubz.domain.model.User;
+import com.hubz.infrastructure.cache.CaffeineCacheStats;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Turns a bearer token into an {@link AuthenticatedUser}.
+ * <p>
+ * Tokens carry the user id as a claim, so the common path needs no database access.
+ * Tokens issued before the claim existed are resolved by email through a bounded cache.
+ * <p>
+ * Successfully verified tokens can additionally be kept in a short-lived cache keyed by
+ * the SHA-256 of the token, so repeated requests with the same token skip signature
+ * verification. An entry never outlives the expiry of its token.
+ */
+@Component
+public class AuthenticatedUserResolver {
+
+    private static final String USER_ID_CACHE_NAME = "user-ids";
+    private static final String VERIFIED_TOKEN_CACHE_NAME = "verified-tokens";
+
+    private static final Duration USER_ID_CACHE_TTL = Duration.ofMinutes(15);
+    private static final long USER_ID_CACHE_MAX_SIZE = 10_000;
+
+    private final JwtService jwtService;
+    private final UserRepositoryPort userRepositoryPort;
+
+    private final Cache<String, UUID> userIdCache = Caffeine.newBuilder()
+            .expireAfterWrite(USER_ID_CACHE_TTL)
+            .maximumSize(USER_ID_CACHE_MAX_SIZE)
+            .recordStats()
+            .build();
+
+    private final Cache<String, VerifiedToken> verifiedTokenCache;
+
+    public AuthenticatedUserResolver(JwtService jwtService,
+                                     UserRepositoryPort userRepositoryPort,
+                                     @Value("${app.security.verified-token-cache.enabled:true}") boolean verifiedTokenCacheEnabled,
+                                     @Value("${app.security.verified-token-cache.ttl:5m}") Duration verifiedTokenCacheTtl,
+                                     @Value("${app.security.verified-token-cache.max-size:10000}") long verifiedTokenCacheMaxSize) {
+        this.jwtService = jwtService;
+        this.userRepositoryPort = userRepositoryPort;
+        this.verifiedTokenCache = verifiedTokenCacheEnabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(verifiedTokenCacheMaxSize)
+                        .expireAfter(new TokenExpiry(verifiedTokenCacheTtl))
+                        .recordStats()
+                        .<String, VerifiedToken>build()
+                : null;
+    }
+
+    /**
+     * Resolve the user of a token.
+     *
+     * @return the principal, or empty when the token is invalid or its user no longer exists
+     */
+    public Optional<AuthenticatedUser> resolve(String token) {
+        if (verifiedTokenCache == null) {
+            return verify(token).map(VerifiedToken::principal);
+        }
+
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokenCache.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Optional.of(cached.principal());
+        }
+
+        Optional<VerifiedToken> verified = verify(token);
+        verified.ifPresent(value -> verifiedTokenCache.put(key, value));
+        return verified.map(VerifiedToken::principal);
+    }
+
+    public List<CacheStatsResponse> getCacheStats() {
+        List<CacheStatsResponse> stats = new ArrayList<>();
+        stats.add(CaffeineCacheStats.of(USER_ID_CACHE_NAME, userIdCache));
+        if (verifiedTokenCache != null) {
+            stats.add(CaffeineCacheStats.of(VERIFIED_TOKEN_CACHE_NAME, verifiedTokenCache));
+        }
+        return stats;
+    }
+
+    private Optional<VerifiedToken> verify(String token) {
+        Optional<Claims> parsed = jwtService.parseClaims(token);
+        if (parsed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Claims claims = parsed.get();
+        String email = claims.getSubject();
+        UUID userId = jwtService.extractUserId(claims);
+        if (userId == null) {
+            userId = userIdCache.get(email, key -> userRepositoryPort.findByEmail(key)
+                    .map(User::getId)
+                    .orElse(null));
+        }
+        if (userId == null) {
+            return Optional.empty();
+        }
+
+        Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : Instant.MAX;
+        return Optional.of(new VerifiedToken(new AuthenticatedUser(userId, email), expiresAt));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record VerifiedToken(AuthenticatedUser principal, Instant expiresAt) {
+    }
+
+    /**
+     * Expires an entry after the configured TTL or when its token expires, whichever is first.
+     */
+    private record TokenExpiry(Duration ttl) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration untilTokenExpiry = Duration.between(Instant.now(), value.expiresAt());
+            Duration lifetime = untilTokenExpiry.compareTo(ttl) < 0 ? untilTokenExpiry : ttl;
+            return Math.max(0, lifetime.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
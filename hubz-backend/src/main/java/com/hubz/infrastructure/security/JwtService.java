@@ -2,6 +2,8 @@ package com.hubz.infrastructure.security;
 
 import com.hubz.application.port.out.JwtTokenPort;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,50 +11,71 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class JwtService implements JwtTokenPort {
 
+    static final String USER_ID_CLAIM = "uid";
+
     private final SecretKey signingKey;
     private final long expiration;
+    private final JwtParser parser;
 
     public JwtService(@Value("${jwt.secret}") String secret,
                       @Value("${jwt.expiration}") long expiration) {
         this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.expiration = expiration;
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     @Override
-    public String generateToken(String email) {
+    public String generateToken(UUID userId, String email) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
                 .subject(email)
+                .claim(USER_ID_CLAIM, userId.toString())
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(signingKey)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Verify the signature and expiry of a token and return its claims in a single parse.
+     *
+     * @return the claims, or empty when the token is malformed, tampered with or expired
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            extractAllClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            return Optional.of(parser.parseSignedClaims(token).getPayload());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
+    }
+
     public String extractEmail(String token) {
         return extractAllClaims(token).getSubject();
     }
 
+    /**
+     * @return the user id claim, or {@code null} for tokens issued before the claim was added
+     */
+    public UUID extractUserId(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        return userId != null ? UUID.fromString(userId) : null;
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(signingKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -1,68 +1,124 @@
 package com.hubz.infrastructure.webhook;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hubz.application.port.out.WebhookSenderPort;
-import lombok.RequiredArgsConstructor;
+import com.hubz.domain.exception.WebhookThrottledException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-
+/**
+ * Delivers webhooks over a shared, connection-pooling {@link HttpClient}.
+ * <p>
+ * At most {@code app.webhooks.max-concurrent-per-host} requests are in flight to the same host,
+ * so a burst of events cannot flood a single receiver. The signing key for each secret is
+ * initialised once and cloned per request, as {@link Mac} instances are not thread-safe.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class WebhookSenderAdapter implements WebhookSenderPort {
 
-    private final RestTemplate webhookRestTemplate;
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MAX_CACHED_SECRETS = 1_000;
+    private static final int MAX_TRACKED_HOSTS = 10_000;
+
+    private final HttpClient webhookHttpClient;
     private final ObjectMapper objectMapper;
+    private final Duration requestTimeout;
+    private final int maxConcurrentPerHost;
+    /**
+     * Hosts idle for longer than any request can take are dropped, so their permits are all back.
+     */
+    private final Cache<String, Semaphore> hostPermits;
+    private final Cache<String, Mac> signers = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_SECRETS)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public WebhookSenderAdapter(HttpClient webhookHttpClient,
+                                ObjectMapper objectMapper,
+                                @Value("${app.webhooks.request-timeout:30s}") Duration requestTimeout,
+                                @Value("${app.webhooks.max-concurrent-per-host:4}") int maxConcurrentPerHost) {
+        this.webhookHttpClient = webhookHttpClient;
+        this.objectMapper = objectMapper;
+        this.requestTimeout = requestTimeout;
+        this.maxConcurrentPerHost = Math.max(1, maxConcurrentPerHost);
+        this.hostPermits = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_HOSTS)
+                .expireAfterAccess(requestTimeout.multipliedBy(2).plusMinutes(1))
+                .build();
+    }
 
     @Override
     public int send(String url, Map<String, Object> payload, String secret) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("User-Agent", "Hubz-Webhook/1.0");
-
             String jsonPayload = objectMapper.writeValueAsString(payload);
 
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("User-Agent", "Hubz-Webhook/1.0")
+                    .POST(HttpRequest.BodyPublishers.ofString(jsonPayload));
+
             // Add HMAC signature if secret is provided
             if (secret != null && !secret.isBlank()) {
-                String signature = computeHmacSha256(jsonPayload, secret);
-                headers.set("X-Hubz-Signature", "sha256=" + signature);
+                request.header("X-Hubz-Signature", "sha256=" + computeHmacSha256(jsonPayload, secret));
             }
 
-            HttpEntity<String> entity = new HttpEntity<>(jsonPayload, headers);
-
-            ResponseEntity<String> response = webhookRestTemplate.exchange(
-                    url, HttpMethod.POST, entity, String.class);
-
-            return response.getStatusCode().value();
+            return sendThrottled(request.build());
+        } catch (WebhookThrottledException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to send webhook to {}: {}", url, e.getMessage());
             throw new RuntimeException("Webhook delivery failed: " + e.getMessage(), e);
         }
     }
 
-    private String computeHmacSha256(String data, String secret) {
+    private int sendThrottled(HttpRequest request) throws Exception {
+        String host = request.uri().getAuthority();
+        Semaphore permits = hostPermits.get(host, h -> new Semaphore(maxConcurrentPerHost));
+        if (!permits.tryAcquire(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new WebhookThrottledException(host);
+        }
+        try {
+            return webhookHttpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } finally {
+            permits.release();
+        }
+    }
+
+    String computeHmacSha256(String data, String secret) {
         try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            SecretKeySpec keySpec = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-            mac.init(keySpec);
+            Mac mac = (Mac) signers.get(secret, WebhookSenderAdapter::newSigner).clone();
             byte[] hash = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
             return HexFormat.of().formatHex(hash);
         } catch (Exception e) {
             throw new RuntimeException("Failed to compute HMAC signature", e);
         }
     }
+
+    private static Mac newSigner(String secret) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            return mac;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to initialise HMAC signer", e);
+        }
+    }
 }
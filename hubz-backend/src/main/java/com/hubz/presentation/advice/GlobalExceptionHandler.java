@@ -3,6 +3,7 @@ package com.hubz.presentation.advice;
 import com.hubz.domain.exception.AccessDeniedException;
 import com.hubz.domain.exception.AccountDeletionException;
 import com.hubz.domain.exception.BackgroundJobNotFoundException;
+import com.hubz.domain.exception.ReportExportNotFoundException;
 import com.hubz.domain.exception.DirectMessageNotFoundException;
 import com.hubz.domain.exception.CannotChangeOwnerRoleException;
 import com.hubz.domain.exception.ChecklistItemNotFoundException;
@@ -257,6 +258,11 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
 
+    @ExceptionHandler(ReportExportNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleReportExportNotFound(ReportExportNotFoundException ex) {
+        return buildResponse(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
     @ExceptionHandler(RateLimitExceededException.class)
     public ResponseEntity<Map<String, Object>> handleRateLimitExceeded(RateLimitExceededException ex) {
         Map<String, Object> body = new HashMap<>();
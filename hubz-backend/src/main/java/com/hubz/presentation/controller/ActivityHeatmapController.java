@@ -5,6 +5,7 @@ import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.application.service.ActivityHeatmapService;
 import com.hubz.application.service.AuthorizationService;
 import com.hubz.domain.exception.UserNotFoundException;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -78,6 +79,9 @@ public class ActivityHeatmapController {
     }
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
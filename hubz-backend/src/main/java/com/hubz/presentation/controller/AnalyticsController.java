@@ -8,6 +8,7 @@ import com.hubz.application.service.CalendarAnalyticsService;
 import com.hubz.domain.enums.TaskPriority;
 import com.hubz.domain.enums.TaskStatus;
 import com.hubz.domain.exception.UserNotFoundException;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
@@ -151,6 +152,9 @@ public class AnalyticsController {
     }
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
@@ -3,8 +3,10 @@ package com.hubz.presentation.controller;
 import com.hubz.application.dto.response.BackgroundJobResponse;
 import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.application.service.BackgroundJobService;
+import com.hubz.domain.enums.JobType;
 import com.hubz.domain.exception.UserNotFoundException;
 import com.hubz.domain.model.User;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -79,7 +81,22 @@ public class BackgroundJobController {
         return ResponseEntity.ok(deleted);
     }
 
+    /**
+     * Schedule a rebuild of the daily activity rollups for the last given days.
+     */
+    @PostMapping("/rollups/backfill")
+    public ResponseEntity<BackgroundJobResponse> scheduleRollupBackfill(
+            @RequestParam(defaultValue = "371") int days,
+            Authentication authentication
+    ) {
+        resolveUserId(authentication);
+        return ResponseEntity.ok(backgroundJobService.scheduleJob(JobType.ROLLUP_BACKFILL, "{\"days\":" + days + "}"));
+    }
+
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         User user = userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email));
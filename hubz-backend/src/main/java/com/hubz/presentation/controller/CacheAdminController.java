@@ -0,0 +1,42 @@
+package com.hubz.presentation.controller;
+
+import com.hubz.application.dto.response.CacheStatsResponse;
+import com.hubz.application.service.AuthorizationService;
+import com.hubz.infrastructure.cache.TwoTierCacheManager;
+import com.hubz.infrastructure.security.AuthenticatedUserResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Admin controller exposing hit/miss statistics of the in-process caches.
+ * All endpoints require authentication; the authenticated user
+ * acts as the admin (in a real system, role-based access would be enforced).
+ */
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+public class CacheAdminController {
+
+    private final AuthorizationService authorizationService;
+    private final AuthenticatedUserResolver authenticatedUserResolver;
+    private final ObjectProvider<TwoTierCacheManager> twoTierCacheManager;
+
+    /**
+     * Statistics of every local cache.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponse>> getStats() {
+        List<CacheStatsResponse> stats = new ArrayList<>();
+        stats.add(authorizationService.getMembershipCacheStats());
+        stats.addAll(authenticatedUserResolver.getCacheStats());
+        twoTierCacheManager.ifAvailable(manager -> stats.addAll(manager.getLocalCacheStats()));
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -5,6 +5,7 @@ import com.hubz.application.dto.response.ChatbotResponse;
 import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.application.service.ChatbotService;
 import com.hubz.domain.exception.UserNotFoundException;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -46,6 +47,9 @@ public class ChatbotController {
     }
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
@@ -8,6 +8,7 @@ import com.hubz.application.dto.response.ChecklistProgressResponse;
 import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.application.service.ChecklistItemService;
 import com.hubz.domain.exception.UserNotFoundException;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -89,6 +90,9 @@ public class ChecklistItemController {
     }
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
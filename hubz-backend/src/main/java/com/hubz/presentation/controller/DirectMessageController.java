@@ -8,6 +8,7 @@ import com.hubz.application.dto.response.UnreadCountResponse;
 import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.application.service.DirectMessageService;
 import com.hubz.domain.exception.UserNotFoundException;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -105,6 +106,9 @@ public class DirectMessageController {
     }
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
@@ -3,6 +3,7 @@ package com.hubz.presentation.controller;
 import com.hubz.application.port.out.OrganizationMemberRepositoryPort;
 import com.hubz.application.port.out.OrganizationRepositoryPort;
 import com.hubz.application.port.out.UserRepositoryPort;
+import com.hubz.application.service.AuthorizationService;
 import com.hubz.domain.enums.MemberRole;
 import com.hubz.domain.model.Organization;
 import com.hubz.domain.model.OrganizationMember;
@@ -23,6 +24,7 @@ public class FixMembershipController {
     private final OrganizationRepositoryPort organizationRepository;
     private final OrganizationMemberRepositoryPort memberRepository;
     private final UserRepositoryPort userRepository;
+    private final AuthorizationService authorizationService;
     private final JwtService jwtService;
 
     @PostMapping("/membership")
@@ -80,6 +82,7 @@ public class FixMembershipController {
                                 .build();
 
                         memberRepository.save(member);
+                        authorizationService.evictMembership(org.getId(), user.getId());
                         fixed.add(org.getName() + " (" + org.getId() + ")");
                     }
                 }
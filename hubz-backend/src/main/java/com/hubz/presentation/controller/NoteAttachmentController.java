@@ -6,6 +6,7 @@ import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.application.service.NoteAttachmentService;
 import com.hubz.domain.exception.UserNotFoundException;
 import com.hubz.domain.model.NoteAttachment;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
@@ -79,6 +80,9 @@ public class NoteAttachmentController {
     }
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
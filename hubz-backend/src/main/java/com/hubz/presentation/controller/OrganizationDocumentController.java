@@ -9,6 +9,7 @@ import com.hubz.application.service.OrganizationDocumentService;
 import com.hubz.domain.exception.UserNotFoundException;
 import com.hubz.domain.model.DocumentVersion;
 import com.hubz.domain.model.OrganizationDocument;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -201,6 +202,9 @@ public class OrganizationDocumentController {
     }
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
@@ -1,18 +1,27 @@
 package com.hubz.presentation.controller;
 
+import com.hubz.application.dto.request.CreateReportExportRequest;
+import com.hubz.application.dto.response.ReportExportResponse;
 import com.hubz.application.port.out.UserRepositoryPort;
+import com.hubz.application.service.ReportExportService;
 import com.hubz.application.service.ReportService;
 import com.hubz.domain.exception.UserNotFoundException;
+import com.hubz.infrastructure.security.AuthenticatedUser;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.net.MalformedURLException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -21,6 +30,7 @@ import java.util.UUID;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportExportService reportExportService;
     private final UserRepositoryPort userRepositoryPort;
 
     private static final String CSV_CONTENT_TYPE = "text/csv";
@@ -29,13 +39,23 @@ public class ReportController {
 
     // ==================== TASKS EXPORTS ====================
 
+    /**
+     * Streamed to the client page by page, so the size of the organization does not matter.
+     */
     @GetMapping("/organizations/{orgId}/tasks/csv")
-    public ResponseEntity<byte[]> exportTasksToCsv(
+    public ResponseEntity<StreamingResponseBody> exportTasksToCsv(
             @PathVariable UUID orgId,
             Authentication authentication) {
         UUID userId = resolveUserId(authentication);
-        byte[] data = reportService.exportTasksToCsv(orgId, userId);
-        return createResponse(data, CSV_CONTENT_TYPE, "tasks_" + formatDate() + ".csv");
+        ReportService.ReportWriter writer = reportService.streamTasksToCsv(orgId, userId);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(CSV_CONTENT_TYPE));
+        headers.setContentDispositionFormData("attachment", "tasks_" + formatDate() + ".csv");
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(writer::writeTo);
     }
 
     @GetMapping("/organizations/{orgId}/tasks/excel")
@@ -131,9 +151,59 @@ public class ReportController {
         return createResponse(data, PDF_CONTENT_TYPE, "habits_" + formatDate() + ".pdf");
     }
 
+    // ==================== BACKGROUND EXPORTS ====================
+
+    /**
+     * Queue an export and return at once; poll the export until it is completed, then download it.
+     */
+    @PostMapping("/exports")
+    public ResponseEntity<ReportExportResponse> requestExport(
+            @Valid @RequestBody CreateReportExportRequest request,
+            Authentication authentication) {
+        UUID userId = resolveUserId(authentication);
+        return ResponseEntity.accepted().body(reportExportService.requestExport(request, userId));
+    }
+
+    @GetMapping("/exports")
+    public ResponseEntity<List<ReportExportResponse>> getExports(Authentication authentication) {
+        UUID userId = resolveUserId(authentication);
+        return ResponseEntity.ok(reportExportService.getExports(userId));
+    }
+
+    @GetMapping("/exports/{exportId}")
+    public ResponseEntity<ReportExportResponse> getExport(
+            @PathVariable UUID exportId,
+            Authentication authentication) {
+        UUID userId = resolveUserId(authentication);
+        return ResponseEntity.ok(reportExportService.getExport(exportId, userId));
+    }
+
+    @GetMapping("/exports/{exportId}/download")
+    public ResponseEntity<Resource> downloadExport(
+            @PathVariable UUID exportId,
+            Authentication authentication) throws MalformedURLException {
+        UUID userId = resolveUserId(authentication);
+        ReportExportResponse export = reportExportService.getExport(exportId, userId);
+        Resource resource = reportExportService.downloadExport(exportId, userId);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(export.getFormat().getContentType()));
+        headers.setContentDispositionFormData("attachment", export.getFileName());
+        if (export.getFileSize() != null) {
+            headers.setContentLength(export.getFileSize());
+        }
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(resource);
+    }
+
     // ==================== HELPER METHODS ====================
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
@@ -5,6 +5,7 @@ import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.application.service.TaskAttachmentService;
 import com.hubz.domain.exception.UserNotFoundException;
 import com.hubz.domain.model.TaskAttachment;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
@@ -92,6 +93,9 @@ public class TaskAttachmentController {
     }
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
@@ -1,13 +1,19 @@
 package com.hubz.presentation.controller;
 
 import com.hubz.application.dto.request.CreateTaskRequest;
+import com.hubz.application.dto.request.TaskPageRequest;
 import com.hubz.application.dto.request.UpdateTaskRequest;
 import com.hubz.application.dto.request.UpdateTaskStatusRequest;
 import com.hubz.application.dto.response.MessageResponse;
+import com.hubz.application.dto.response.TaskPageResponse;
 import com.hubz.application.dto.response.TaskResponse;
 import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.application.service.TaskService;
+import com.hubz.domain.enums.TaskPriority;
+import com.hubz.domain.enums.TaskSortField;
+import com.hubz.domain.enums.TaskStatus;
 import com.hubz.domain.exception.UserNotFoundException;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -28,6 +34,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -60,6 +67,41 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getByOrganization(orgId, currentUserId));
     }
 
+    @Operation(
+            summary = "Get a page of tasks by organization",
+            description = "Returns tasks of an organization newest first using keyset pagination. "
+                    + "Pass the returned nextCursor to fetch the following page. User must be a member of the organization."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TaskPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor",
+                    content = @Content(schema = @Schema(implementation = MessageResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Not authenticated"),
+            @ApiResponse(responseCode = "403", description = "Access denied - not a member")
+    })
+    @GetMapping("/api/organizations/{orgId}/tasks/page")
+    public ResponseEntity<TaskPageResponse> getPageByOrganization(
+            @Parameter(description = "Organization ID") @PathVariable UUID orgId,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (default 50, max 200)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Sort timestamp") @RequestParam(required = false) TaskSortField sort,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) UUID assigneeId,
+            @RequestParam(required = false) TaskPriority priority,
+            Authentication authentication) {
+        UUID currentUserId = resolveUserId(authentication);
+        TaskPageRequest request = TaskPageRequest.builder()
+                .cursor(cursor)
+                .limit(limit)
+                .sort(sort)
+                .status(status)
+                .assigneeId(assigneeId)
+                .priority(priority)
+                .build();
+        return ResponseEntity.ok(taskService.getPageByOrganization(orgId, request, currentUserId));
+    }
+
     @Operation(
             summary = "Create task",
             description = "Creates a new task in the specified organization. User must be a member with appropriate permissions."
@@ -160,6 +202,9 @@ public class TaskController {
     }
 
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
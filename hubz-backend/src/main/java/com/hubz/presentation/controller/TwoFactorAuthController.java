@@ -7,6 +7,7 @@ import com.hubz.application.dto.response.TwoFactorStatusResponse;
 import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.application.service.TwoFactorAuthService;
 import com.hubz.domain.exception.UserNotFoundException;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -94,6 +95,9 @@ public class TwoFactorAuthController {
      * Resolves the user ID from the authentication.
      */
     private UUID resolveUserId(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal.id();
+        }
         String email = authentication.getName();
         return userRepositoryPort.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException(email))
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -61,6 +62,9 @@ class AnalyticsServiceTest {
     @Mock
     private TaskCommentRepositoryPort taskCommentRepository;
 
+    @Spy
+    private TaskTimeSeriesEngine timeSeriesEngine = new TaskTimeSeriesEngine();
+
     @InjectMocks
     private AnalyticsService analyticsService;
 
@@ -149,6 +153,27 @@ class AnalyticsServiceTest {
         return tasks;
     }
 
+    private Map<TaskStatus, Long> testStatusCounts() {
+        return Map.of(TaskStatus.TODO, 2L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.DONE, 1L);
+    }
+
+    /**
+     * Resolve every member to a user named like {@code testUser}.
+     */
+    private void stubUsersForAllMembers() {
+        when(userRepository.findAllByIds(any())).thenAnswer(invocation -> {
+            List<UUID> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> User.builder()
+                            .id(id)
+                            .email(testUser.getEmail())
+                            .firstName(testUser.getFirstName())
+                            .lastName(testUser.getLastName())
+                            .build())
+                    .toList();
+        });
+    }
+
     private List<OrganizationMember> createTestMembers() {
         List<OrganizationMember> members = new ArrayList<>();
 
@@ -207,7 +232,7 @@ class AnalyticsServiceTest {
         void shouldReturnCorrectTaskCounts() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -224,7 +249,7 @@ class AnalyticsServiceTest {
         void shouldCalculateCorrectCompletionRate() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -239,7 +264,7 @@ class AnalyticsServiceTest {
         void shouldCountOverdueTasksCorrectly() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -253,7 +278,7 @@ class AnalyticsServiceTest {
         void shouldReturnTaskDistributionByPriority() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -271,7 +296,7 @@ class AnalyticsServiceTest {
         void shouldReturnTaskDistributionByStatus() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -288,7 +313,7 @@ class AnalyticsServiceTest {
         void shouldGenerateTimeSeriesDataForTasksCreated() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -303,7 +328,7 @@ class AnalyticsServiceTest {
         void shouldGenerateVelocityChartData() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -318,7 +343,7 @@ class AnalyticsServiceTest {
         void shouldGenerateBurndownChartData() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -333,7 +358,7 @@ class AnalyticsServiceTest {
         void shouldGenerateCumulativeFlowDiagramData() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -348,7 +373,7 @@ class AnalyticsServiceTest {
         void shouldHandleEmptyTaskList() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -376,9 +401,9 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-            when(userRepository.findById(testMembers.get(1).getUserId())).thenReturn(Optional.of(
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(userRepository.findAllByIds(any())).thenReturn(List.of(
+                    testUser,
                     User.builder()
                             .id(testMembers.get(1).getUserId())
                             .email("member2@example.com")
@@ -396,14 +421,34 @@ class AnalyticsServiceTest {
             assertThat(response.getMemberProductivity()).hasSize(2);
         }
 
+        @Test
+        @DisplayName("Should resolve the users of all members with a single query")
+        void shouldResolveMemberUsersOnce() {
+            // Given
+            doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
+            when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
+            stubUsersForAllMembers();
+            setupMemberAnalyticsMocks();
+
+            // When
+            MemberAnalyticsResponse response = analyticsService.getMemberAnalytics(organizationId, userId);
+
+            // Then
+            assertThat(response.getMemberProductivity()).hasSize(testMembers.size());
+            assertThat(response.getInactiveMembers()).isNotNull();
+            verify(userRepository).findAllByIds(testMembers.stream().map(OrganizationMember::getUserId).toList());
+            verify(userRepository, never()).findById(any());
+        }
+
         @Test
         @DisplayName("Should return member workload list")
         void shouldReturnMemberWorkloadList() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
-            when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
+            stubUsersForAllMembers();
             setupMemberAnalyticsMocks();
 
             // When
@@ -419,8 +464,8 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
-            when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
+            stubUsersForAllMembers();
             setupMemberAnalyticsMocks();
 
             // When
@@ -437,8 +482,8 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
-            when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
+            stubUsersForAllMembers();
             setupMemberAnalyticsMocks();
 
             // When
@@ -466,7 +511,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             GoalAnalyticsResponse response = analyticsService.getGoalAnalytics(organizationId, userId);
@@ -481,7 +526,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             GoalAnalyticsResponse response = analyticsService.getGoalAnalytics(organizationId, userId);
@@ -498,7 +543,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             GoalAnalyticsResponse response = analyticsService.getGoalAnalytics(organizationId, userId);
@@ -514,7 +559,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             GoalAnalyticsResponse response = analyticsService.getGoalAnalytics(organizationId, userId);
@@ -673,7 +718,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.countByStatus(organizationId)).thenReturn(testStatusCounts());
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
 
             // When
@@ -689,7 +734,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.countByStatus(organizationId)).thenReturn(testStatusCounts());
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
 
             // When
@@ -705,7 +750,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.countByStatus(organizationId)).thenReturn(testStatusCounts());
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
 
             // When
@@ -722,7 +767,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.countByStatus(organizationId)).thenReturn(testStatusCounts());
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
 
             // When
@@ -738,7 +783,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.countByStatus(organizationId)).thenReturn(testStatusCounts());
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
 
             // When
@@ -755,7 +800,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
+            when(taskRepository.countByStatus(organizationId)).thenReturn(Collections.emptyMap());
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
 
             // When
@@ -767,6 +812,33 @@ class AnalyticsServiceTest {
             assertThat(response.getTotalGoals()).isEqualTo(0);
             assertThat(response.getHealthScore()).isEqualTo(50); // Base score
         }
+
+        @Test
+        @DisplayName("Should derive weekly and monthly counts from daily aggregates")
+        void shouldDeriveWeeklyAndMonthlyCountsFromDailyAggregates() {
+            // Given
+            LocalDate today = LocalDate.now();
+            doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
+            when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
+            when(taskRepository.countByStatus(organizationId)).thenReturn(testStatusCounts());
+            when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
+            when(taskRepository.countCreatedPerDay(eq(organizationId), any(), any()))
+                    .thenReturn(Map.of(today, 3L, today.minusDays(10), 2L));
+            when(taskRepository.countCompletedPerDay(eq(organizationId), any(), any()))
+                    .thenReturn(Map.of(today.minusDays(1), 2L, today.minusDays(9), 1L));
+
+            // When
+            OrganizationAnalyticsResponse response = analyticsService.getOrganizationAnalytics(organizationId, userId);
+
+            // Then
+            assertThat(response.getTasksCreatedThisWeek()).isEqualTo(3);
+            assertThat(response.getTasksCompletedThisWeek()).isEqualTo(2);
+            assertThat(response.getTaskCompletionTrend()).isEqualTo(100.0);
+            assertThat(response.getMonthlyGrowth().get(5).getTasksCreated()).isGreaterThanOrEqualTo(3);
+            assertThat(response.getMonthlyGrowth().stream().mapToLong(OrganizationAnalyticsResponse.MonthlyGrowth::getTasksCreated).sum())
+                    .isEqualTo(5);
+            verify(taskRepository, never()).findByOrganizationId(any());
+        }
     }
 
     @Nested
@@ -778,7 +850,7 @@ class AnalyticsServiceTest {
         void shouldCheckOrganizationAccessForTaskAnalytics() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             analyticsService.getTaskAnalytics(organizationId, userId);
@@ -793,8 +865,8 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
-            when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
+            stubUsersForAllMembers();
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -812,7 +884,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             analyticsService.getGoalAnalytics(organizationId, userId);
@@ -827,7 +899,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.countByStatus(organizationId)).thenReturn(testStatusCounts());
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
 
             // When
@@ -860,7 +932,7 @@ class AnalyticsServiceTest {
         void shouldReturnBurnupChartData() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -882,7 +954,7 @@ class AnalyticsServiceTest {
         void shouldReturnThroughputChartData() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -904,7 +976,7 @@ class AnalyticsServiceTest {
         void shouldReturnCycleTimeDistribution() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -929,7 +1001,7 @@ class AnalyticsServiceTest {
         void shouldCalculateCorrectCycleTimePercentages() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -956,7 +1028,7 @@ class AnalyticsServiceTest {
         void shouldReturnLeadTimeTrendData() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -977,7 +1049,7 @@ class AnalyticsServiceTest {
         void shouldCalculateAverageLeadTime() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -999,7 +1071,7 @@ class AnalyticsServiceTest {
         void shouldReturnWIPChartData() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -1022,7 +1094,7 @@ class AnalyticsServiceTest {
         void shouldCalculateAverageWIP() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -1037,7 +1109,7 @@ class AnalyticsServiceTest {
         void shouldCalculateAverageTimeInTodoStatus() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -1059,7 +1131,7 @@ class AnalyticsServiceTest {
         void shouldCalculateAverageTimeInProgressStatus() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -1081,7 +1153,7 @@ class AnalyticsServiceTest {
         void shouldHandleEmptyTaskListForAdvancedAnalytics() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -1101,7 +1173,7 @@ class AnalyticsServiceTest {
         void burnupChartShouldShowCumulativeProgress() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId);
@@ -1351,7 +1423,7 @@ class AnalyticsServiceTest {
         void shouldApplyFiltersInTaskAnalytics() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             AnalyticsFilterRequest filters = AnalyticsFilterRequest.builder()
                     .statuses(List.of(TaskStatus.DONE))
@@ -1373,7 +1445,7 @@ class AnalyticsServiceTest {
         void shouldReturnAllTasksWhenFiltersNullInTaskAnalytics() {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             // When
             TaskAnalyticsResponse response = analyticsService.getTaskAnalytics(organizationId, userId, null);
@@ -1388,8 +1460,8 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
-            when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
+            stubUsersForAllMembers();
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -1412,7 +1484,7 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(testGoals);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
 
             AnalyticsFilterRequest filters = AnalyticsFilterRequest.builder()
                     .statuses(List.of(TaskStatus.DONE))
@@ -1522,9 +1594,8 @@ class AnalyticsServiceTest {
 
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(members);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(tasks);
-            when(userRepository.findById(fastMemberId)).thenReturn(Optional.of(fastUser));
-            when(userRepository.findById(slowMemberId)).thenReturn(Optional.of(slowUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(tasks);
+            when(userRepository.findAllByIds(any())).thenReturn(List.of(fastUser, slowUser));
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -1578,9 +1649,8 @@ class AnalyticsServiceTest {
 
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(members);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(tasks);
-            when(userRepository.findById(activeMemberId)).thenReturn(Optional.of(activeUser));
-            when(userRepository.findById(inactiveMemberId)).thenReturn(Optional.of(inactiveUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(tasks);
+            when(userRepository.findAllByIds(any())).thenReturn(List.of(activeUser, inactiveUser));
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -1637,9 +1707,8 @@ class AnalyticsServiceTest {
 
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(members);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(tasks);
-            when(userRepository.findById(activeMemberId)).thenReturn(Optional.of(activeUser));
-            when(userRepository.findById(inactiveMemberId)).thenReturn(Optional.of(inactiveUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(tasks);
+            when(userRepository.findAllByIds(any())).thenReturn(List.of(activeUser, inactiveUser));
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -1705,10 +1774,8 @@ class AnalyticsServiceTest {
 
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(members);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(tasks);
-            when(userRepository.findById(memberWithEventId)).thenReturn(Optional.of(userWithEvent));
-            when(userRepository.findById(memberWithNoteId)).thenReturn(Optional.of(userWithNote));
-            when(userRepository.findById(trulyInactiveId)).thenReturn(Optional.of(trulyInactive));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(tasks);
+            when(userRepository.findAllByIds(any())).thenReturn(List.of(userWithEvent, userWithNote, trulyInactive));
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(events);
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(notes);
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -1744,8 +1811,8 @@ class AnalyticsServiceTest {
 
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(members);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(tasks);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(tasks);
+            when(userRepository.findAllByIds(any())).thenReturn(List.of(testUser));
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -1824,9 +1891,8 @@ class AnalyticsServiceTest {
 
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(members);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(tasks);
-            when(userRepository.findById(memberAId)).thenReturn(Optional.of(memberAUser));
-            when(userRepository.findById(memberBId)).thenReturn(Optional.of(memberBUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(tasks);
+            when(userRepository.findAllByIds(any())).thenReturn(List.of(memberAUser, memberBUser));
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(teams);
@@ -1853,8 +1919,8 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
-            when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
+            stubUsersForAllMembers();
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -1904,8 +1970,8 @@ class AnalyticsServiceTest {
 
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(members);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(tasks);
-            when(userRepository.findById(memberId)).thenReturn(Optional.of(memberUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(tasks);
+            when(userRepository.findAllByIds(any())).thenReturn(List.of(memberUser));
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(teams);
@@ -1934,8 +2000,8 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(testTasks);
-            when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(testTasks);
+            stubUsersForAllMembers();
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -1995,8 +2061,8 @@ class AnalyticsServiceTest {
 
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(members);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(tasks);
-            when(userRepository.findById(memberId)).thenReturn(Optional.of(user));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(tasks);
+            when(userRepository.findAllByIds(any())).thenReturn(List.of(user));
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
@@ -2018,8 +2084,8 @@ class AnalyticsServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(memberRepository.findByOrganizationId(organizationId)).thenReturn(testMembers);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
-            when(userRepository.findById(any())).thenReturn(Optional.of(testUser));
+            when(taskRepository.findForAnalyticsByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
+            stubUsersForAllMembers();
             when(eventRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(noteRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
             when(teamRepository.findByOrganizationId(organizationId)).thenReturn(Collections.emptyList());
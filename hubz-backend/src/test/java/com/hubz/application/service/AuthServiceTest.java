@@ -100,7 +100,7 @@ class AuthServiceTest {
             when(userRepositoryPort.existsByEmail(registerRequest.getEmail())).thenReturn(false);
             when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
             when(userRepositoryPort.save(any(User.class))).thenReturn(testUser);
-            when(jwtTokenPort.generateToken(testUser.getEmail())).thenReturn("jwt.token.here");
+            when(jwtTokenPort.generateToken(testUser.getId(), testUser.getEmail())).thenReturn("jwt.token.here");
 
             // When
             AuthResponse response = authService.register(registerRequest);
@@ -116,7 +116,7 @@ class AuthServiceTest {
             verify(userRepositoryPort).existsByEmail(registerRequest.getEmail());
             verify(passwordEncoder).encode(registerRequest.getPassword());
             verify(userRepositoryPort).save(any(User.class));
-            verify(jwtTokenPort).generateToken(testUser.getEmail());
+            verify(jwtTokenPort).generateToken(testUser.getId(), testUser.getEmail());
         }
 
         @Test
@@ -126,7 +126,7 @@ class AuthServiceTest {
             when(userRepositoryPort.existsByEmail(anyString())).thenReturn(false);
             when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
             when(userRepositoryPort.save(any(User.class))).thenReturn(testUser);
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt.token.here");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt.token.here");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
@@ -147,7 +147,7 @@ class AuthServiceTest {
             when(userRepositoryPort.existsByEmail(anyString())).thenReturn(false);
             when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
             when(userRepositoryPort.save(any(User.class))).thenReturn(testUser);
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt.token.here");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt.token.here");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
@@ -174,7 +174,7 @@ class AuthServiceTest {
             verify(userRepositoryPort).existsByEmail(registerRequest.getEmail());
             verify(passwordEncoder, never()).encode(anyString());
             verify(userRepositoryPort, never()).save(any(User.class));
-            verify(jwtTokenPort, never()).generateToken(anyString());
+            verify(jwtTokenPort, never()).generateToken(any(), anyString());
         }
 
         @Test
@@ -184,7 +184,7 @@ class AuthServiceTest {
             when(userRepositoryPort.existsByEmail(anyString())).thenReturn(false);
             when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
             when(userRepositoryPort.save(any(User.class))).thenReturn(testUser);
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt.token.here");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt.token.here");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
@@ -208,7 +208,7 @@ class AuthServiceTest {
             // Given
             when(userRepositoryPort.findByEmail(loginRequest.getEmail())).thenReturn(Optional.of(testUser));
             when(passwordEncoder.matches(loginRequest.getPassword(), testUser.getPassword())).thenReturn(true);
-            when(jwtTokenPort.generateToken(testUser.getEmail())).thenReturn("jwt.token.here");
+            when(jwtTokenPort.generateToken(testUser.getId(), testUser.getEmail())).thenReturn("jwt.token.here");
 
             // When
             AuthResponse response = authService.login(loginRequest);
@@ -222,7 +222,7 @@ class AuthServiceTest {
 
             verify(userRepositoryPort).findByEmail(loginRequest.getEmail());
             verify(passwordEncoder).matches(loginRequest.getPassword(), testUser.getPassword());
-            verify(jwtTokenPort).generateToken(testUser.getEmail());
+            verify(jwtTokenPort).generateToken(testUser.getId(), testUser.getEmail());
         }
 
         @Test
@@ -237,7 +237,7 @@ class AuthServiceTest {
 
             verify(userRepositoryPort).findByEmail(loginRequest.getEmail());
             verify(passwordEncoder, never()).matches(anyString(), anyString());
-            verify(jwtTokenPort, never()).generateToken(anyString());
+            verify(jwtTokenPort, never()).generateToken(any(), anyString());
         }
 
         @Test
@@ -253,7 +253,7 @@ class AuthServiceTest {
 
             verify(userRepositoryPort).findByEmail(loginRequest.getEmail());
             verify(passwordEncoder).matches(loginRequest.getPassword(), testUser.getPassword());
-            verify(jwtTokenPort, never()).generateToken(anyString());
+            verify(jwtTokenPort, never()).generateToken(any(), anyString());
         }
 
         @Test
@@ -1,13 +1,16 @@
 package com.hubz.application.service;
 
+import com.hubz.application.port.out.MembershipCachePort;
 import com.hubz.application.port.out.OrganizationMemberRepositoryPort;
 import com.hubz.application.port.out.TaskRepositoryPort;
 import com.hubz.domain.enums.MemberRole;
 import com.hubz.domain.enums.TaskPriority;
 import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.event.MembershipChangedEvent;
 import com.hubz.domain.exception.AccessDeniedException;
 import com.hubz.domain.model.OrganizationMember;
 import com.hubz.domain.model.Task;
+import com.hubz.infrastructure.cache.CaffeineMembershipCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,7 +18,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -35,6 +40,12 @@ class AuthorizationServiceTest {
     @Mock
     private TaskRepositoryPort taskRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MembershipCachePort membershipCache = new CaffeineMembershipCache();
+
     @InjectMocks
     private AuthorizationService authorizationService;
 
@@ -387,4 +398,115 @@ class AuthorizationServiceTest {
             verify(memberRepository).findByOrganizationIdAndUserId(organizationId, userId);
         }
     }
+
+    @Nested
+    @DisplayName("Membership Cache Tests")
+    class MembershipCacheTests {
+
+        @Test
+        @DisplayName("Should serve repeated checks from the cache")
+        void shouldServeRepeatedChecksFromCache() {
+            // Given
+            when(memberRepository.findByOrganizationIdAndUserId(organizationId, userId))
+                    .thenReturn(Optional.of(adminMember));
+
+            // When
+            authorizationService.checkOrganizationAccess(organizationId, userId);
+            authorizationService.checkOrganizationAdminAccess(organizationId, userId);
+            boolean isMember = authorizationService.isOrganizationMember(organizationId, userId);
+
+            // Then
+            assertThat(isMember).isTrue();
+            verify(memberRepository, times(1)).findByOrganizationIdAndUserId(organizationId, userId);
+            assertThat(authorizationService.getMembershipCacheStats().getHitCount()).isEqualTo(2);
+            assertThat(authorizationService.getMembershipCacheStats().getMissCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should cache negative membership results")
+        void shouldCacheNegativeResults() {
+            // Given
+            when(memberRepository.findByOrganizationIdAndUserId(organizationId, userId))
+                    .thenReturn(Optional.empty());
+
+            // When
+            authorizationService.isOrganizationMember(organizationId, userId);
+            boolean isMember = authorizationService.isOrganizationMember(organizationId, userId);
+
+            // Then
+            assertThat(isMember).isFalse();
+            verify(memberRepository, times(1)).findByOrganizationIdAndUserId(organizationId, userId);
+        }
+
+        @Test
+        @DisplayName("Should reload a membership after it is evicted")
+        void shouldReloadAfterEvictMembership() {
+            // Given
+            when(memberRepository.findByOrganizationIdAndUserId(organizationId, userId))
+                    .thenReturn(Optional.of(adminMember))
+                    .thenReturn(Optional.of(viewerMember));
+            authorizationService.checkOrganizationAdminAccess(organizationId, userId);
+
+            // When
+            authorizationService.evictMembership(organizationId, userId);
+
+            // Then
+            assertThatThrownBy(() -> authorizationService.checkOrganizationAdminAccess(organizationId, userId))
+                    .isInstanceOf(AccessDeniedException.class);
+            verify(memberRepository, times(2)).findByOrganizationIdAndUserId(organizationId, userId);
+        }
+
+        @Test
+        @DisplayName("Should announce evictions so that other nodes drop their cached memberships")
+        void shouldPublishEvictions() {
+            // When
+            authorizationService.evictMembership(organizationId, userId);
+            authorizationService.evictOrganization(organizationId);
+
+            // Then
+            verify(eventPublisher).publishEvent(new MembershipChangedEvent(organizationId, userId));
+            verify(eventPublisher).publishEvent(new MembershipChangedEvent(organizationId, null));
+        }
+
+        @Test
+        @DisplayName("Should drop a membership evicted by another node without announcing it again")
+        void shouldEvictLocallyWithoutPublishing() {
+            // Given
+            when(memberRepository.findByOrganizationIdAndUserId(organizationId, userId))
+                    .thenReturn(Optional.of(regularMember))
+                    .thenReturn(Optional.empty());
+            authorizationService.isOrganizationMember(organizationId, userId);
+
+            // When
+            authorizationService.evictLocally(organizationId, userId);
+
+            // Then
+            assertThat(authorizationService.isOrganizationMember(organizationId, userId)).isFalse();
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Should drop every membership of an evicted organization only")
+        void shouldEvictOrganizationEntries() {
+            // Given
+            UUID otherUserId = UUID.randomUUID();
+            UUID otherOrganizationId = UUID.randomUUID();
+            when(memberRepository.findByOrganizationIdAndUserId(any(), any()))
+                    .thenReturn(Optional.of(regularMember));
+            authorizationService.isOrganizationMember(organizationId, userId);
+            authorizationService.isOrganizationMember(organizationId, otherUserId);
+            authorizationService.isOrganizationMember(otherOrganizationId, userId);
+
+            // When
+            authorizationService.evictOrganization(organizationId);
+            authorizationService.isOrganizationMember(organizationId, userId);
+            authorizationService.isOrganizationMember(organizationId, otherUserId);
+            authorizationService.isOrganizationMember(otherOrganizationId, userId);
+
+            // Then
+            verify(memberRepository, times(2)).findByOrganizationIdAndUserId(organizationId, userId);
+            verify(memberRepository, times(2)).findByOrganizationIdAndUserId(organizationId, otherUserId);
+            verify(memberRepository, times(1)).findByOrganizationIdAndUserId(otherOrganizationId, userId);
+        }
+    }
 }
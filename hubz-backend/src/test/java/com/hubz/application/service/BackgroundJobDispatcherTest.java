@@ -0,0 +1,303 @@
+package com.hubz.application.service;
+
+import com.hubz.application.port.in.JobExecutor;
+import com.hubz.application.port.out.BackgroundJobRepositoryPort;
+import com.hubz.domain.enums.JobStatus;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.event.BackgroundJobScheduledEvent;
+import com.hubz.domain.model.BackgroundJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BackgroundJobDispatcher Unit Tests")
+class BackgroundJobDispatcherTest {
+
+    @Mock
+    private BackgroundJobRepositoryPort jobRepository;
+
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
+    @Mock
+    private JobExecutor emailExecutor;
+
+    @Mock
+    private JobExecutor webhookExecutor;
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private final List<Runnable> wakeUps = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(emailExecutor.getJobType()).thenReturn(JobType.EMAIL_SEND);
+        lenient().when(emailExecutor.getMaxConcurrency()).thenReturn(3);
+        lenient().when(webhookExecutor.getJobType()).thenReturn(JobType.WEBHOOK_CALL);
+        lenient().when(webhookExecutor.getMaxConcurrency()).thenReturn(1);
+        lenient().when(jobRepository.claimPendingJobs(any(JobType.class), anyInt())).thenReturn(List.of());
+    }
+
+    private BackgroundJobDispatcher dispatcher(TaskExecutor workerPool) {
+        return new BackgroundJobDispatcher(jobRepository, backgroundJobService,
+                List.of(emailExecutor, webhookExecutor), workerPool, wakeUps::add);
+    }
+
+    @Nested
+    @DisplayName("Claiming")
+    class ClaimTests {
+
+        @Test
+        @DisplayName("Should claim up to the concurrency limit of each type and run the jobs")
+        void shouldClaimUpToLimitPerType() {
+            // Given
+            List<BackgroundJob> emails = jobs(JobType.EMAIL_SEND, 3);
+            when(jobRepository.claimPendingJobs(JobType.EMAIL_SEND, 3)).thenReturn(emails);
+
+            // When
+            int dispatched = dispatcher(new SyncTaskExecutor()).dispatchPendingJobs();
+
+            // Then
+            assertThat(dispatched).isEqualTo(3);
+            verify(jobRepository).claimPendingJobs(JobType.WEBHOOK_CALL, 1);
+            emails.forEach(job -> verify(backgroundJobService).runClaimedJob(job));
+        }
+
+        @Test
+        @DisplayName("Should not claim jobs of a type whose slots are all busy")
+        void shouldNotClaimWhenSlotsAreBusy() {
+            // Given
+            BackgroundJobDispatcher dispatcher = dispatcher(queued::add);
+            when(jobRepository.claimPendingJobs(JobType.EMAIL_SEND, 3)).thenReturn(jobs(JobType.EMAIL_SEND, 3));
+
+            // When
+            dispatcher.dispatchPendingJobs();
+            dispatcher.dispatchPendingJobs();
+
+            // Then
+            verify(jobRepository, times(1)).claimPendingJobs(JobType.EMAIL_SEND, 3);
+            verify(jobRepository, times(2)).claimPendingJobs(JobType.WEBHOOK_CALL, 1);
+            assertThat(queued).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("Should free the slots of finished jobs and unclaimed capacity")
+        void shouldReleaseSlots() {
+            // Given
+            BackgroundJobDispatcher dispatcher = dispatcher(queued::add);
+            when(jobRepository.claimPendingJobs(JobType.EMAIL_SEND, 3)).thenReturn(jobs(JobType.EMAIL_SEND, 2));
+            dispatcher.dispatchPendingJobs();
+
+            // When
+            queued.get(0).run();
+            dispatcher.dispatchPendingJobs();
+
+            // Then
+            verify(jobRepository).claimPendingJobs(JobType.EMAIL_SEND, 2);
+        }
+
+        @Test
+        @DisplayName("Should keep dispatching other types when claiming one type fails")
+        void shouldIsolateClaimFailures() {
+            // Given
+            when(jobRepository.claimPendingJobs(JobType.EMAIL_SEND, 3)).thenThrow(new IllegalStateException("db down"));
+            when(jobRepository.claimPendingJobs(JobType.WEBHOOK_CALL, 1)).thenReturn(jobs(JobType.WEBHOOK_CALL, 1));
+            BackgroundJobDispatcher dispatcher = dispatcher(new SyncTaskExecutor());
+
+            // When
+            int dispatched = dispatcher.dispatchPendingJobs();
+            dispatcher.dispatchPendingJobs();
+
+            // Then
+            assertThat(dispatched).isEqualTo(1);
+            verify(jobRepository, times(2)).claimPendingJobs(JobType.EMAIL_SEND, 3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Execution")
+    class ExecutionTests {
+
+        @Test
+        @DisplayName("Should free the slot when a job throws")
+        void shouldReleaseSlotWhenJobThrows() {
+            // Given
+            List<BackgroundJob> webhooks = jobs(JobType.WEBHOOK_CALL, 1);
+            when(jobRepository.claimPendingJobs(JobType.WEBHOOK_CALL, 1)).thenReturn(webhooks);
+            doThrow(new IllegalStateException("boom"))
+                    .when(backgroundJobService).runClaimedJob(webhooks.get(0));
+            BackgroundJobDispatcher dispatcher = dispatcher(new SyncTaskExecutor());
+
+            // When
+            dispatcher.dispatchPendingJobs();
+            dispatcher.dispatchPendingJobs();
+
+            // Then
+            verify(jobRepository, times(2)).claimPendingJobs(JobType.WEBHOOK_CALL, 1);
+        }
+
+        @Test
+        @DisplayName("Should return a job to the queue when the worker pool rejects it")
+        void shouldRequeueRejectedJob() {
+            // Given
+            List<BackgroundJob> webhooks = jobs(JobType.WEBHOOK_CALL, 1);
+            when(jobRepository.claimPendingJobs(JobType.WEBHOOK_CALL, 1)).thenReturn(webhooks);
+            BackgroundJobDispatcher dispatcher = dispatcher(task -> {
+                throw new TaskRejectedException("shutting down");
+            });
+
+            // When
+            dispatcher.dispatchPendingJobs();
+
+            // Then
+            assertThat(webhooks.get(0).getStatus()).isEqualTo(JobStatus.PENDING);
+            verify(jobRepository).save(webhooks.get(0));
+            verify(backgroundJobService, never()).runClaimedJob(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Wake-ups")
+    class WakeUpTests {
+
+        @Test
+        @DisplayName("Should dispatch on the dispatch thread when a job is scheduled")
+        void shouldDispatchOnJobScheduled() {
+            // Given
+            BackgroundJobDispatcher dispatcher = dispatcher(new SyncTaskExecutor());
+
+            // When
+            dispatcher.onJobScheduled(new BackgroundJobScheduledEvent(UUID.randomUUID(), JobType.EMAIL_SEND));
+
+            // Then
+            verify(jobRepository, never()).claimPendingJobs(any(JobType.class), anyInt());
+            assertThat(wakeUps).hasSize(1);
+            wakeUps.get(0).run();
+            verify(jobRepository).claimPendingJobs(JobType.EMAIL_SEND, 3);
+        }
+
+        @Test
+        @DisplayName("Should fold wake-ups requested before the dispatch round runs")
+        void shouldCoalesceWakeUps() {
+            // Given
+            BackgroundJobDispatcher dispatcher = dispatcher(new SyncTaskExecutor());
+
+            // When
+            dispatcher.wakeUp();
+            dispatcher.wakeUp();
+            wakeUps.get(0).run();
+            dispatcher.wakeUp();
+
+            // Then
+            assertThat(wakeUps).hasSize(2);
+            verify(jobRepository, times(1)).claimPendingJobs(JobType.EMAIL_SEND, 3);
+        }
+
+        @Test
+        @DisplayName("Should dispatch again when a job of a saturated type finishes")
+        void shouldWakeUpWhenSaturatedTypeFrees() {
+            // Given
+            BackgroundJobDispatcher dispatcher = dispatcher(queued::add);
+            when(jobRepository.claimPendingJobs(JobType.EMAIL_SEND, 3)).thenReturn(jobs(JobType.EMAIL_SEND, 3));
+            dispatcher.dispatchPendingJobs();
+
+            // When
+            queued.get(0).run();
+
+            // Then
+            assertThat(wakeUps).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should not dispatch again when the last claim drained the queue")
+        void shouldNotWakeUpWhenQueueDrained() {
+            // Given
+            BackgroundJobDispatcher dispatcher = dispatcher(queued::add);
+            when(jobRepository.claimPendingJobs(JobType.EMAIL_SEND, 3)).thenReturn(jobs(JobType.EMAIL_SEND, 1));
+            dispatcher.dispatchPendingJobs();
+
+            // When
+            queued.get(0).run();
+
+            // Then
+            assertThat(wakeUps).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Worker threads")
+    class WorkerThreadTests {
+
+        @Test
+        @DisplayName("Should run jobs on virtual threads when spring.threads.virtual.enabled is set")
+        void shouldRunJobsOnVirtualThreads() throws Exception {
+            assertThat(workerThreadOfDispatchedJob(true).isVirtual()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should run jobs on the platform worker pool by default")
+        void shouldRunJobsOnWorkerPool() throws Exception {
+            Thread worker = workerThreadOfDispatchedJob(false);
+
+            assertThat(worker.isVirtual()).isFalse();
+            assertThat(worker.getName()).startsWith("job-worker-");
+        }
+
+        private Thread workerThreadOfDispatchedJob(boolean virtualThreads) throws Exception {
+            // Given
+            CompletableFuture<Thread> worker = new CompletableFuture<>();
+            doAnswer(invocation -> worker.complete(Thread.currentThread()))
+                    .when(backgroundJobService).runClaimedJob(any());
+            when(jobRepository.claimPendingJobs(JobType.EMAIL_SEND, 3)).thenReturn(jobs(JobType.EMAIL_SEND, 1));
+            BackgroundJobDispatcher dispatcher = new BackgroundJobDispatcher(jobRepository, backgroundJobService,
+                    List.of(emailExecutor, webhookExecutor), virtualThreads);
+
+            // When
+            try {
+                dispatcher.dispatchPendingJobs();
+                return worker.get(10, TimeUnit.SECONDS);
+            } finally {
+                dispatcher.shutdown();
+            }
+        }
+    }
+
+    private static List<BackgroundJob> jobs(JobType type, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> BackgroundJob.builder()
+                        .id(UUID.randomUUID())
+                        .type(type)
+                        .status(JobStatus.RUNNING)
+                        .payload("{}")
+                        .retryCount(0)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+}
@@ -5,7 +5,9 @@ import com.hubz.application.port.in.JobExecutor;
 import com.hubz.application.port.out.BackgroundJobRepositoryPort;
 import com.hubz.domain.enums.JobStatus;
 import com.hubz.domain.enums.JobType;
+import com.hubz.domain.event.BackgroundJobScheduledEvent;
 import com.hubz.domain.exception.BackgroundJobNotFoundException;
+import com.hubz.domain.exception.JobDeferredException;
 import com.hubz.domain.model.BackgroundJob;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,15 +16,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,12 +42,15 @@ class BackgroundJobServiceTest {
     @Mock
     private JobExecutor emailExecutor;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private BackgroundJobService backgroundJobService;
 
     @BeforeEach
     void setUp() {
         lenient().when(emailExecutor.getJobType()).thenReturn(JobType.EMAIL_SEND);
-        backgroundJobService = new BackgroundJobService(jobRepository, List.of(emailExecutor));
+        backgroundJobService = new BackgroundJobService(jobRepository, List.of(emailExecutor), eventPublisher);
     }
 
     @Test
@@ -66,6 +76,19 @@ class BackgroundJobServiceTest {
         assertThat(captor.getValue().getCreatedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should announce a scheduled job so it can be dispatched right away")
+    void shouldPublishScheduledEvent() {
+        // Arrange
+        when(jobRepository.save(any(BackgroundJob.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        BackgroundJobResponse response = backgroundJobService.scheduleJob(JobType.REPORT_EXPORT, "{}");
+
+        // Assert
+        verify(eventPublisher).publishEvent(new BackgroundJobScheduledEvent(response.getId(), JobType.REPORT_EXPORT));
+    }
+
     @Test
     @DisplayName("Should execute a job successfully")
     void shouldExecuteJobSuccessfully() throws Exception {
@@ -83,23 +106,20 @@ class BackgroundJobServiceTest {
 
         when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
         when(jobRepository.save(any(BackgroundJob.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(jobRepository.saveIfLeaseHeld(any(BackgroundJob.class), any(LocalDateTime.class))).thenReturn(true);
         doNothing().when(emailExecutor).execute(payload);
 
         // Act
         backgroundJobService.executeJob(jobId);
 
-        // Assert
+        // Assert: saved as RUNNING under a lease, then the outcome is written under that lease
         verify(emailExecutor).execute(payload);
-        // save called 3 times: markRunning, then markCompleted
-        // Actually: findById returns the job, then save(running), then execute, then save(completed)
-        ArgumentCaptor<BackgroundJob> captor = ArgumentCaptor.forClass(BackgroundJob.class);
-        verify(jobRepository, atLeast(2)).save(captor.capture());
-
-        List<BackgroundJob> savedJobs = captor.getAllValues();
-        // Last saved job should be COMPLETED
-        BackgroundJob lastSaved = savedJobs.get(savedJobs.size() - 1);
-        assertThat(lastSaved.getStatus()).isEqualTo(JobStatus.COMPLETED);
-        assertThat(lastSaved.getExecutedAt()).isNotNull();
+        ArgumentCaptor<LocalDateTime> lease = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).save(job);
+        verify(jobRepository).saveIfLeaseHeld(eq(job), lease.capture());
+        assertThat(lease.getValue()).isAfter(LocalDateTime.now());
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+        assertThat(job.getExecutedAt()).isNotNull();
     }
 
     @Test
@@ -118,19 +138,36 @@ class BackgroundJobServiceTest {
 
         when(jobRepository.findById(jobId)).thenReturn(Optional.of(job));
         when(jobRepository.save(any(BackgroundJob.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(jobRepository.saveIfLeaseHeld(any(BackgroundJob.class), any(LocalDateTime.class))).thenReturn(true);
         doThrow(new RuntimeException("SMTP connection failed")).when(emailExecutor).execute(any());
 
         // Act
         backgroundJobService.executeJob(jobId);
 
         // Assert
-        ArgumentCaptor<BackgroundJob> captor = ArgumentCaptor.forClass(BackgroundJob.class);
-        verify(jobRepository, atLeast(2)).save(captor.capture());
+        verify(jobRepository).saveIfLeaseHeld(eq(job), any(LocalDateTime.class));
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getError()).isEqualTo("SMTP connection failed");
+        assertThat(job.getRetryCount()).isEqualTo(1);
+    }
 
-        BackgroundJob lastSaved = captor.getAllValues().get(captor.getAllValues().size() - 1);
-        assertThat(lastSaved.getStatus()).isEqualTo(JobStatus.FAILED);
-        assertThat(lastSaved.getError()).isEqualTo("SMTP connection failed");
-        assertThat(lastSaved.getRetryCount()).isEqualTo(1);
+    @Test
+    @DisplayName("Should run a claimed job without marking it running again")
+    void shouldRunClaimedJob() throws Exception {
+        // Arrange
+        BackgroundJob job = claimedJob(0);
+        LocalDateTime lease = job.getRunAt();
+        when(jobRepository.saveIfLeaseHeld(job, lease)).thenReturn(true);
+
+        // Act
+        backgroundJobService.runClaimedJob(job);
+
+        // Assert
+        verify(emailExecutor).execute("{}");
+        verify(jobRepository).saveIfLeaseHeld(job, lease);
+        verify(jobRepository, never()).save(any());
+        verify(jobRepository, never()).findById(any());
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
     }
 
     @Test
@@ -206,6 +243,153 @@ class BackgroundJobServiceTest {
         verify(jobRepository, times(2)).save(any(BackgroundJob.class));
     }
 
+    @Test
+    @DisplayName("Should push the next attempt of a failed job back exponentially")
+    void shouldBackOffFailedJob() throws Exception {
+        // Arrange
+        BackgroundJob job = claimedJob(1);
+        when(jobRepository.saveIfLeaseHeld(eq(job), any(LocalDateTime.class))).thenReturn(true);
+        doThrow(new RuntimeException("SMTP connection failed")).when(emailExecutor).execute(any());
+
+        // Act
+        LocalDateTime before = LocalDateTime.now();
+        backgroundJobService.runClaimedJob(job);
+
+        // Assert: second attempt waits 4 x 30s, give or take 20% jitter
+        assertThat(job.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(job.getRunAt()).isBetween(before.plusSeconds(96), LocalDateTime.now().plusSeconds(144));
+    }
+
+    @Test
+    @DisplayName("Should return a deferred job to the queue without counting a failed attempt")
+    void shouldDeferJobWithoutCountingFailure() throws Exception {
+        // Arrange
+        BackgroundJob job = claimedJob(1);
+        LocalDateTime lease = job.getRunAt();
+        LocalDateTime retryAt = LocalDateTime.now().plusSeconds(10);
+        when(jobRepository.saveIfLeaseHeld(job, lease)).thenReturn(true);
+        doThrow(new JobDeferredException("Too many concurrent deliveries", retryAt)).when(emailExecutor).execute(any());
+
+        // Act
+        backgroundJobService.runClaimedJob(job);
+
+        // Assert
+        verify(jobRepository).saveIfLeaseHeld(job, lease);
+        assertThat(job.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(job.getRunAt()).isEqualTo(retryAt);
+        assertThat(job.getRetryCount()).isEqualTo(1);
+        assertThat(job.getError()).isEqualTo("Too many concurrent deliveries");
+    }
+
+    @Test
+    @DisplayName("Should leave the job alone when its lease was lost before the outcome was written")
+    void shouldNotOverwriteJobAfterLosingLease() throws Exception {
+        // Arrange
+        BackgroundJob job = claimedJob(0);
+        when(jobRepository.saveIfLeaseHeld(eq(job), any(LocalDateTime.class))).thenReturn(false);
+
+        // Act
+        backgroundJobService.runClaimedJob(job);
+
+        // Assert: the conditional write was the only write
+        verify(jobRepository).saveIfLeaseHeld(eq(job), any(LocalDateTime.class));
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should renew the lease of a running job and write its outcome under the renewed lease")
+    void shouldRenewLeaseWhileJobRuns() throws Exception {
+        // Arrange
+        BackgroundJob job = claimedJob(0);
+        LocalDateTime claimedLease = job.getRunAt();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(emailExecutor).execute(any());
+        when(jobRepository.renewLease(eq(job.getId()), eq(claimedLease), any(LocalDateTime.class))).thenReturn(true);
+        when(jobRepository.saveIfLeaseHeld(eq(job), any(LocalDateTime.class))).thenReturn(true);
+        CompletableFuture<Void> run = CompletableFuture.runAsync(() -> backgroundJobService.runClaimedJob(job));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        backgroundJobService.renewLeases();
+        release.countDown();
+        run.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> renewed = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).renewLease(eq(job.getId()), eq(claimedLease), renewed.capture());
+        verify(jobRepository).saveIfLeaseHeld(job, renewed.getValue());
+        assertThat(job.getStatus()).isEqualTo(JobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should not renew leases of jobs that are no longer running")
+    void shouldNotRenewFinishedJobs() {
+        // Arrange
+        BackgroundJob job = claimedJob(0);
+        when(jobRepository.saveIfLeaseHeld(eq(job), any(LocalDateTime.class))).thenReturn(true);
+        backgroundJobService.runClaimedJob(job);
+
+        // Act
+        backgroundJobService.renewLeases();
+
+        // Assert
+        verify(jobRepository, never()).renewLease(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not requeue failed jobs before their backoff has elapsed")
+    void shouldNotRetryJobsBeforeBackoff() {
+        // Arrange
+        BackgroundJob due = BackgroundJob.builder()
+                .id(UUID.randomUUID())
+                .type(JobType.WEBHOOK_CALL)
+                .status(JobStatus.FAILED)
+                .retryCount(1)
+                .runAt(LocalDateTime.now().minusSeconds(5))
+                .createdAt(LocalDateTime.now())
+                .build();
+        BackgroundJob backingOff = BackgroundJob.builder()
+                .id(UUID.randomUUID())
+                .type(JobType.WEBHOOK_CALL)
+                .status(JobStatus.FAILED)
+                .retryCount(2)
+                .runAt(LocalDateTime.now().plusMinutes(5))
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(jobRepository.findFailedJobsForRetry(BackgroundJob.MAX_RETRIES)).thenReturn(List.of(due, backingOff));
+        when(jobRepository.save(any(BackgroundJob.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        int count = backgroundJobService.retryFailedJobs();
+
+        // Assert
+        assertThat(count).isEqualTo(1);
+        assertThat(due.getStatus()).isEqualTo(JobStatus.PENDING);
+        assertThat(backingOff.getStatus()).isEqualTo(JobStatus.FAILED);
+        verify(jobRepository, never()).save(backingOff);
+    }
+
+    @Test
+    @DisplayName("Should schedule a delayed job with the given priority")
+    void shouldScheduleDelayedJobWithPriority() {
+        // Arrange
+        LocalDateTime runAt = LocalDateTime.now().plusHours(1);
+        when(jobRepository.save(any(BackgroundJob.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        BackgroundJobResponse response = backgroundJobService.scheduleJob(
+                JobType.REPORT_EXPORT, "{}", BackgroundJob.PRIORITY_HIGH, runAt);
+
+        // Assert
+        assertThat(response.getPriority()).isEqualTo(BackgroundJob.PRIORITY_HIGH);
+        assertThat(response.getRunAt()).isEqualTo(runAt);
+    }
+
     @Test
     @DisplayName("Should retry a specific failed job")
     void shouldRetrySpecificJob() {
@@ -298,4 +482,17 @@ class BackgroundJobServiceTest {
         assertThat(jobs.get(0).getType()).isEqualTo(JobType.EMAIL_SEND);
         assertThat(jobs.get(1).getType()).isEqualTo(JobType.DATA_CLEANUP);
     }
+
+    private static BackgroundJob claimedJob(int retryCount) {
+        BackgroundJob job = BackgroundJob.builder()
+                .id(UUID.randomUUID())
+                .type(JobType.EMAIL_SEND)
+                .status(JobStatus.PENDING)
+                .payload("{}")
+                .retryCount(retryCount)
+                .createdAt(LocalDateTime.now())
+                .build();
+        job.markRunning();
+        return job;
+    }
 }
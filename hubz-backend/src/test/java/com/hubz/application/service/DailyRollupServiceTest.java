@@ -0,0 +1,301 @@
+package com.hubz.application.service;
+
+import com.hubz.application.port.out.DailyActivityRollupRepositoryPort;
+import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.model.DailyActivityRollup;
+import com.hubz.domain.model.Goal;
+import com.hubz.domain.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyRollupService Unit Tests")
+class DailyRollupServiceTest {
+
+    @Mock
+    private DailyActivityRollupRepositoryPort rollupRepository;
+
+    @InjectMocks
+    private DailyRollupService dailyRollupService;
+
+    private UUID organizationId;
+    private UUID creatorId;
+    private UUID assigneeId;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        organizationId = UUID.randomUUID();
+        creatorId = UUID.randomUUID();
+        assigneeId = UUID.randomUUID();
+        today = LocalDate.now();
+    }
+
+    private Task createTask(TaskStatus status) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title("Task")
+                .status(status)
+                .organizationId(organizationId)
+                .creatorId(creatorId)
+                .assigneeId(assigneeId)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private List<DailyActivityRollup> captureIncrements(int expected) {
+        ArgumentCaptor<DailyActivityRollup> captor = ArgumentCaptor.forClass(DailyActivityRollup.class);
+        verify(rollupRepository, times(expected)).increment(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @Nested
+    @DisplayName("Task Events")
+    class TaskEventTests {
+
+        @Test
+        @DisplayName("Should count a created task for the organization, creator and member rows")
+        void shouldRecordTaskCreated() {
+            // When
+            dailyRollupService.recordTaskCreated(createTask(TaskStatus.TODO));
+
+            // Then
+            List<DailyActivityRollup> deltas = captureIncrements(3);
+            assertThat(deltas).allSatisfy(delta -> {
+                assertThat(delta.getDate()).isEqualTo(today);
+                assertThat(delta.getTasksCreated()).isEqualTo(1);
+                assertThat(delta.getTasksInProgress()).isZero();
+            });
+            assertThat(deltas).extracting(DailyActivityRollup::getOrganizationId, DailyActivityRollup::getUserId)
+                    .containsExactlyInAnyOrder(
+                            tuple(organizationId, null),
+                            tuple(null, creatorId),
+                            tuple(organizationId, creatorId));
+        }
+
+        @Test
+        @DisplayName("Should count a completion and leave the in-progress snapshot")
+        void shouldRecordCompletionFromInProgress() {
+            // When
+            dailyRollupService.recordTaskStatusChange(createTask(TaskStatus.DONE), TaskStatus.IN_PROGRESS);
+
+            // Then
+            List<DailyActivityRollup> deltas = captureIncrements(3);
+            assertThat(deltas).allSatisfy(delta -> {
+                assertThat(delta.getTasksCompleted()).isEqualTo(1);
+                assertThat(delta.getTasksInProgress()).isEqualTo(-1);
+            });
+            assertThat(deltas).extracting(DailyActivityRollup::getUserId).contains(assigneeId);
+        }
+
+        @Test
+        @DisplayName("Should only update the organization row for unassigned tasks")
+        void shouldRecordUnassignedTaskOnOrganizationRow() {
+            // Given
+            Task task = createTask(TaskStatus.IN_PROGRESS);
+            task.setAssigneeId(null);
+
+            // When
+            dailyRollupService.recordTaskStatusChange(task, TaskStatus.TODO);
+
+            // Then
+            DailyActivityRollup delta = captureIncrements(1).get(0);
+            assertThat(delta.getOrganizationId()).isEqualTo(organizationId);
+            assertThat(delta.getUserId()).isNull();
+            assertThat(delta.getTasksInProgress()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should ignore transitions that change no counter")
+        void shouldIgnoreNeutralTransitions() {
+            // When
+            dailyRollupService.recordTaskStatusChange(createTask(TaskStatus.TODO), TaskStatus.DONE);
+            dailyRollupService.recordTaskStatusChange(createTask(TaskStatus.DONE), TaskStatus.DONE);
+
+            // Then
+            verifyNoInteractions(rollupRepository);
+        }
+
+        @Test
+        @DisplayName("Should move the in-progress snapshot to the new assignee")
+        void shouldRecordReassignment() {
+            // Given
+            UUID previousAssigneeId = UUID.randomUUID();
+
+            // When
+            dailyRollupService.recordTaskReassigned(createTask(TaskStatus.IN_PROGRESS), previousAssigneeId);
+
+            // Then
+            Map<UUID, Long> deltasByMember = captureIncrements(4).stream()
+                    .filter(delta -> delta.getOrganizationId() != null)
+                    .collect(Collectors.toMap(DailyActivityRollup::getUserId, DailyActivityRollup::getTasksInProgress));
+            assertThat(deltasByMember).containsEntry(previousAssigneeId, -1L).containsEntry(assigneeId, 1L);
+        }
+
+        @Test
+        @DisplayName("Should remove a deleted in-progress task from the snapshot")
+        void shouldRecordDeletedInProgressTask() {
+            // When
+            dailyRollupService.recordTaskDeleted(createTask(TaskStatus.IN_PROGRESS));
+            dailyRollupService.recordTaskDeleted(createTask(TaskStatus.TODO));
+
+            // Then
+            assertThat(captureIncrements(3)).allSatisfy(delta ->
+                    assertThat(delta.getTasksInProgress()).isEqualTo(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Habit and Goal Events")
+    class HabitAndGoalEventTests {
+
+        @Test
+        @DisplayName("Should count a habit completion on the logged date")
+        void shouldRecordHabitCompletion() {
+            // Given
+            LocalDate loggedDate = today.minusDays(2);
+
+            // When
+            dailyRollupService.recordHabitLog(creatorId, loggedDate, false, true);
+
+            // Then
+            DailyActivityRollup delta = captureIncrements(1).get(0);
+            assertThat(delta.getUserId()).isEqualTo(creatorId);
+            assertThat(delta.getOrganizationId()).isNull();
+            assertThat(delta.getDate()).isEqualTo(loggedDate);
+            assertThat(delta.getHabitCompletions()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should revert a habit completion that is unchecked")
+        void shouldRevertHabitCompletion() {
+            // When
+            dailyRollupService.recordHabitLog(creatorId, today, true, false);
+            dailyRollupService.recordHabitLog(creatorId, today, true, true);
+
+            // Then
+            assertThat(captureIncrements(1).get(0).getHabitCompletions()).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("Should count personal goal updates for the owner")
+        void shouldRecordPersonalGoalUpdate() {
+            // Given
+            Goal goal = Goal.builder().id(UUID.randomUUID()).userId(creatorId).build();
+
+            // When
+            dailyRollupService.recordGoalUpdate(goal);
+
+            // Then
+            DailyActivityRollup delta = captureIncrements(1).get(0);
+            assertThat(delta.getUserId()).isEqualTo(creatorId);
+            assertThat(delta.getOrganizationId()).isNull();
+            assertThat(delta.getGoalUpdates()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should count organization goal updates for the organization")
+        void shouldRecordOrganizationGoalUpdate() {
+            // Given
+            Goal goal = Goal.builder().id(UUID.randomUUID()).organizationId(organizationId).userId(creatorId).build();
+
+            // When
+            dailyRollupService.recordGoalUpdate(goal);
+
+            // Then
+            DailyActivityRollup delta = captureIncrements(1).get(0);
+            assertThat(delta.getOrganizationId()).isEqualTo(organizationId);
+            assertThat(delta.getUserId()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Backfill")
+    class BackfillTests {
+
+        @Test
+        @DisplayName("Should rebuild rollups from raw aggregates")
+        @SuppressWarnings("unchecked")
+        void shouldBackfillFromRawAggregates() {
+            // Given
+            LocalDate yesterday = today.minusDays(1);
+            when(rollupRepository.aggregateTaskCreations(any(), any())).thenReturn(List.<Object[]>of(
+                    new Object[]{organizationId, creatorId, java.sql.Date.valueOf(yesterday), 3L}
+            ));
+            when(rollupRepository.aggregateTaskCompletions(any(), any())).thenReturn(List.<Object[]>of(
+                    new Object[]{organizationId, assigneeId, java.sql.Date.valueOf(yesterday), 2L},
+                    new Object[]{organizationId, null, java.sql.Date.valueOf(yesterday), 1L}
+            ));
+            when(rollupRepository.aggregateHabitCompletions(any(), any())).thenReturn(List.<Object[]>of(
+                    new Object[]{creatorId, yesterday, 4L}
+            ));
+            when(rollupRepository.aggregateGoalUpdates(any(), any())).thenReturn(List.<Object[]>of(
+                    new Object[]{null, creatorId, java.sql.Date.valueOf(today), 1L}
+            ));
+            when(rollupRepository.countInProgressTasks()).thenReturn(List.<Object[]>of(
+                    new Object[]{organizationId, assigneeId, 5L}
+            ));
+
+            // When
+            int rows = dailyRollupService.backfill(today.minusDays(7), today);
+
+            // Then
+            ArgumentCaptor<List<DailyActivityRollup>> captor = ArgumentCaptor.forClass(List.class);
+            verify(rollupRepository).replaceRange(eq(today.minusDays(7)), eq(today), captor.capture());
+            Map<String, DailyActivityRollup> byScope = captor.getValue().stream()
+                    .collect(Collectors.toMap(
+                            r -> r.getOrganizationId() + ":" + r.getUserId() + ":" + r.getDate(),
+                            Function.identity()));
+            assertThat(rows).isEqualTo(byScope.size());
+
+            DailyActivityRollup orgYesterday = byScope.get(organizationId + ":null:" + yesterday);
+            assertThat(orgYesterday.getTasksCreated()).isEqualTo(3);
+            assertThat(orgYesterday.getTasksCompleted()).isEqualTo(3);
+
+            DailyActivityRollup creatorYesterday = byScope.get("null:" + creatorId + ":" + yesterday);
+            assertThat(creatorYesterday.getTasksCreated()).isEqualTo(3);
+            assertThat(creatorYesterday.getHabitCompletions()).isEqualTo(4);
+            assertThat(creatorYesterday.getContributions()).isEqualTo(7);
+
+            assertThat(byScope.get(organizationId + ":" + assigneeId + ":" + yesterday).getTasksCompleted()).isEqualTo(2);
+            assertThat(byScope.get("null:" + creatorId + ":" + today).getGoalUpdates()).isEqualTo(1);
+            assertThat(byScope.get(organizationId + ":null:" + today).getTasksInProgress()).isEqualTo(5);
+            assertThat(captor.getValue()).allSatisfy(r -> assertThat(r.getId()).isNotNull());
+        }
+
+        @Test
+        @DisplayName("Should not set the in-progress snapshot for past ranges")
+        void shouldSkipSnapshotForPastRanges() {
+            // When
+            int rows = dailyRollupService.backfill(today.minusDays(30), today.minusDays(10));
+
+            // Then
+            assertThat(rows).isZero();
+            verify(rollupRepository, never()).countInProgressTasks();
+            verify(rollupRepository).replaceRange(any(), any(), anyList());
+        }
+    }
+}
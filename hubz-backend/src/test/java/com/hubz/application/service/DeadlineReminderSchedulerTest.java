@@ -1,18 +1,21 @@
 package com.hubz.application.service;
 
 import com.hubz.application.port.out.UserPreferencesRepositoryPort;
+import com.hubz.application.service.email.BulkEmailSender;
 import com.hubz.domain.enums.ReminderFrequency;
 import com.hubz.domain.model.UserPreferences;
+import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSender;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -27,7 +30,15 @@ class DeadlineReminderSchedulerTest {
     @Mock
     private DeadlineReminderService deadlineReminderService;
 
-    @InjectMocks
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private MimeMessage reminder1;
+
+    @Mock
+    private MimeMessage reminder2;
+
     private DeadlineReminderScheduler scheduler;
 
     private UUID userId1;
@@ -37,6 +48,9 @@ class DeadlineReminderSchedulerTest {
 
     @BeforeEach
     void setUp() {
+        scheduler = new DeadlineReminderScheduler(
+                preferencesRepository, deadlineReminderService, new BulkEmailSender(mailSender, 50, 0));
+
         userId1 = UUID.randomUUID();
         userId2 = UUID.randomUUID();
 
@@ -57,7 +71,7 @@ class DeadlineReminderSchedulerTest {
 
     @Test
     @DisplayName("should do nothing when no users have reminders enabled")
-    void shouldDoNothingWhenNoUsersHaveRemindersEnabled() {
+    void shouldDoNothingWhenNoUsersHaveRemindersEnabled() throws Exception {
         // Given
         when(preferencesRepository.findByReminderEnabledTrue()).thenReturn(Collections.emptyList());
 
@@ -65,94 +79,81 @@ class DeadlineReminderSchedulerTest {
         scheduler.sendDeadlineReminders();
 
         // Then
-        verify(deadlineReminderService, never()).generateReminders(any(), any());
-        verify(deadlineReminderService, never()).sendDeadlineReminder(any(), any());
+        verify(deadlineReminderService, never()).createDeadlineReminderEmail(any(), any());
+        verify(mailSender, never()).send(any(MimeMessage[].class));
     }
 
     @Test
     @DisplayName("should process all users with reminders enabled")
-    void shouldProcessAllUsersWithRemindersEnabled() {
+    void shouldProcessAllUsersWithRemindersEnabled() throws Exception {
         // Given
         when(preferencesRepository.findByReminderEnabledTrue()).thenReturn(List.of(prefs1, prefs2));
-
-        DeadlineReminderService.DeadlineReminderData emptyData =
-                new DeadlineReminderService.DeadlineReminderData(
-                        Collections.emptyList(),
-                        Collections.emptyList(),
-                        Collections.emptyList()
-                );
-        when(deadlineReminderService.generateReminders(any(), any())).thenReturn(emptyData);
+        when(deadlineReminderService.createDeadlineReminderEmail(any(), any())).thenReturn(Optional.empty());
 
         // When
         scheduler.sendDeadlineReminders();
 
         // Then
-        verify(deadlineReminderService).generateReminders(eq(userId1), eq(prefs1));
-        verify(deadlineReminderService).generateReminders(eq(userId2), eq(prefs2));
+        verify(deadlineReminderService).createDeadlineReminderEmail(eq(userId1), eq(prefs1));
+        verify(deadlineReminderService).createDeadlineReminderEmail(eq(userId2), eq(prefs2));
     }
 
     @Test
     @DisplayName("should send reminders only when user has items")
-    void shouldSendRemindersOnlyWhenUserHasItems() {
+    void shouldSendRemindersOnlyWhenUserHasItems() throws Exception {
         // Given
         when(preferencesRepository.findByReminderEnabledTrue()).thenReturn(List.of(prefs1, prefs2));
 
-        DeadlineReminderService.DeadlineItem item = new DeadlineReminderService.DeadlineItem(
-                "Tache", "Test Task", java.time.LocalDate.now(), "Demain", UUID.randomUUID(), null
-        );
-        DeadlineReminderService.DeadlineReminderData dataWithItems =
-                new DeadlineReminderService.DeadlineReminderData(
-                        List.of(item),
-                        Collections.emptyList(),
-                        Collections.emptyList()
-                );
-        DeadlineReminderService.DeadlineReminderData emptyData =
-                new DeadlineReminderService.DeadlineReminderData(
-                        Collections.emptyList(),
-                        Collections.emptyList(),
-                        Collections.emptyList()
-                );
-
         // User 1 has items, user 2 does not
-        when(deadlineReminderService.generateReminders(eq(userId1), eq(prefs1))).thenReturn(dataWithItems);
-        when(deadlineReminderService.generateReminders(eq(userId2), eq(prefs2))).thenReturn(emptyData);
+        when(deadlineReminderService.createDeadlineReminderEmail(eq(userId1), eq(prefs1)))
+                .thenReturn(Optional.of(reminder1));
+        when(deadlineReminderService.createDeadlineReminderEmail(eq(userId2), eq(prefs2)))
+                .thenReturn(Optional.empty());
 
         // When
         scheduler.sendDeadlineReminders();
 
         // Then
-        verify(deadlineReminderService).sendDeadlineReminder(eq(userId1), eq(prefs1));
-        verify(deadlineReminderService, never()).sendDeadlineReminder(eq(userId2), any());
+        verify(mailSender).send(new MimeMessage[]{reminder1});
+        verifyNoMoreInteractions(mailSender);
     }
 
     @Test
-    @DisplayName("should continue processing other users when one fails")
-    void shouldContinueProcessingWhenOneFails() {
+    @DisplayName("should send all reminders of a run in one batch")
+    void shouldSendRemindersInOneBatch() throws Exception {
         // Given
         when(preferencesRepository.findByReminderEnabledTrue()).thenReturn(List.of(prefs1, prefs2));
+        when(deadlineReminderService.createDeadlineReminderEmail(eq(userId1), eq(prefs1)))
+                .thenReturn(Optional.of(reminder1));
+        when(deadlineReminderService.createDeadlineReminderEmail(eq(userId2), eq(prefs2)))
+                .thenReturn(Optional.of(reminder2));
 
-        DeadlineReminderService.DeadlineItem item = new DeadlineReminderService.DeadlineItem(
-                "Tache", "Test Task", java.time.LocalDate.now(), "Demain", UUID.randomUUID(), null
-        );
-        DeadlineReminderService.DeadlineReminderData dataWithItems =
-                new DeadlineReminderService.DeadlineReminderData(
-                        List.of(item),
-                        Collections.emptyList(),
-                        Collections.emptyList()
-                );
+        // When
+        scheduler.sendDeadlineReminders();
+
+        // Then
+        verify(mailSender).send(reminder1, reminder2);
+    }
+
+    @Test
+    @DisplayName("should continue processing other users when one fails")
+    void shouldContinueProcessingWhenOneFails() throws Exception {
+        // Given
+        when(preferencesRepository.findByReminderEnabledTrue()).thenReturn(List.of(prefs1, prefs2));
 
         // First user throws exception
-        when(deadlineReminderService.generateReminders(eq(userId1), eq(prefs1)))
+        when(deadlineReminderService.createDeadlineReminderEmail(eq(userId1), eq(prefs1)))
                 .thenThrow(new RuntimeException("Test error"));
         // Second user succeeds
-        when(deadlineReminderService.generateReminders(eq(userId2), eq(prefs2))).thenReturn(dataWithItems);
+        when(deadlineReminderService.createDeadlineReminderEmail(eq(userId2), eq(prefs2)))
+                .thenReturn(Optional.of(reminder2));
 
         // When
         scheduler.sendDeadlineReminders();
 
         // Then - second user should still be processed
-        verify(deadlineReminderService).generateReminders(eq(userId2), eq(prefs2));
-        verify(deadlineReminderService).sendDeadlineReminder(eq(userId2), eq(prefs2));
+        verify(deadlineReminderService).createDeadlineReminderEmail(eq(userId2), eq(prefs2));
+        verify(mailSender).send(new MimeMessage[]{reminder2});
     }
 
     @Test
@@ -12,6 +12,7 @@ import com.hubz.domain.model.Goal;
 import com.hubz.domain.model.Task;
 import com.hubz.domain.model.User;
 import com.hubz.domain.model.UserPreferences;
+import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -461,6 +462,78 @@ class DeadlineReminderServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("createDeadlineReminderEmail")
+    class CreateDeadlineReminderEmailTests {
+
+        @Test
+        @DisplayName("should return empty when user not found")
+        void shouldReturnEmptyWhenUserNotFound() throws Exception {
+            // Given
+            when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+            // When
+            Optional<MimeMessage> email = deadlineReminderService.createDeadlineReminderEmail(userId, testPreferences);
+
+            // Then
+            assertThat(email).isEmpty();
+            verifyNoInteractions(emailService);
+        }
+
+        @Test
+        @DisplayName("should return empty when no reminders")
+        void shouldReturnEmptyWhenNoReminders() throws Exception {
+            // Given
+            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(taskRepository.findByAssigneeIdAndDueDateBetween(eq(userId), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(goalRepository.findPersonalGoalsByDeadlineBetween(eq(userId), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(eventRepository.findPersonalEventsByTimeRange(eq(userId), any(), any()))
+                    .thenReturn(Collections.emptyList());
+
+            // When
+            Optional<MimeMessage> email = deadlineReminderService.createDeadlineReminderEmail(userId, testPreferences);
+
+            // Then
+            assertThat(email).isEmpty();
+            verifyNoInteractions(emailService);
+        }
+
+        @Test
+        @DisplayName("should build the reminder email without sending it")
+        void shouldBuildReminderEmail() throws Exception {
+            // Given
+            Task task = Task.builder()
+                    .id(UUID.randomUUID())
+                    .title("Test Task")
+                    .status(TaskStatus.TODO)
+                    .dueDate(LocalDate.now().plusDays(1).atTime(12, 0))
+                    .assigneeId(userId)
+                    .build();
+            MimeMessage message = mock(MimeMessage.class);
+
+            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(taskRepository.findByAssigneeIdAndDueDateBetween(eq(userId), any(), any()))
+                    .thenReturn(List.of(task));
+            when(goalRepository.findPersonalGoalsByDeadlineBetween(eq(userId), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(eventRepository.findPersonalEventsByTimeRange(eq(userId), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(emailService.createDeadlineReminderEmail(
+                    eq(testUser.getEmail()), eq(testUser.getFirstName()),
+                    any(DeadlineReminderService.DeadlineReminderData.class)))
+                    .thenReturn(message);
+
+            // When
+            Optional<MimeMessage> email = deadlineReminderService.createDeadlineReminderEmail(userId, testPreferences);
+
+            // Then
+            assertThat(email).contains(message);
+            verify(emailService, never()).sendDeadlineReminderEmail(any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("getReminderDaysForFrequency")
     class GetReminderDaysTests {
@@ -0,0 +1,182 @@
+package com.hubz.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.port.out.EmailOutboxRepositoryPort;
+import com.hubz.application.service.executor.EmailJobExecutor;
+import com.hubz.domain.enums.EmailOutboxStatus;
+import com.hubz.domain.event.EmailQueuedEvent;
+import com.hubz.domain.model.EmailOutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailOutboxService Unit Tests")
+class EmailOutboxServiceTest {
+
+    @Mock
+    private EmailOutboxRepositoryPort outboxRepository;
+
+    @Mock
+    private EmailJobExecutor emailJobExecutor;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmailOutboxService emailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxService = new EmailOutboxService(outboxRepository, emailJobExecutor, eventPublisher, objectMapper);
+    }
+
+    @Nested
+    @DisplayName("Enqueue")
+    class EnqueueTests {
+
+        @Test
+        @DisplayName("Should write a pending notification email and announce it")
+        void shouldWritePendingMessage() throws Exception {
+            // Given
+            UUID messageId = UUID.randomUUID();
+            ArgumentCaptor<EmailOutboxMessage> captor = ArgumentCaptor.forClass(EmailOutboxMessage.class);
+            when(outboxRepository.save(captor.capture())).thenAnswer(invocation -> {
+                EmailOutboxMessage message = invocation.getArgument(0);
+                message.setId(messageId);
+                return message;
+            });
+
+            // When
+            emailOutboxService.enqueueNotificationEmail("john@example.com", "John", "MENTION",
+                    "Mention", "Alice mentioned you", "/org/1/tasks");
+
+            // Then
+            EmailOutboxMessage message = captor.getValue();
+            assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+            assertThat(message.getRecipient()).isEqualTo("john@example.com");
+            assertThat(message.getNextAttemptAt()).isBeforeOrEqualTo(LocalDateTime.now());
+            JsonNode payload = objectMapper.readTree(message.getPayload());
+            assertThat(payload.get("emailType").asText()).isEqualTo("NOTIFICATION");
+            assertThat(payload.get("notificationType").asText()).isEqualTo("MENTION");
+            assertThat(payload.get("link").asText()).isEqualTo("/org/1/tasks");
+            verify(eventPublisher).publishEvent(new EmailQueuedEvent(messageId));
+        }
+    }
+
+    @Nested
+    @DisplayName("Drain")
+    class DrainTests {
+
+        @Test
+        @DisplayName("Should send each claimed message and record the outcomes in one write")
+        void shouldSendClaimedBatch() throws Exception {
+            // Given
+            List<EmailOutboxMessage> batch = messages(3);
+            when(outboxRepository.claimBatch(EmailOutboxService.BATCH_SIZE)).thenReturn(batch);
+            doNothing().when(emailJobExecutor).execute(anyString());
+            doThrow(new IllegalStateException("SMTP down")).when(emailJobExecutor).execute(batch.get(1).getPayload());
+
+            // When
+            int sent = emailOutboxService.drain();
+
+            // Then
+            assertThat(sent).isEqualTo(2);
+            assertThat(batch).extracting(EmailOutboxMessage::getStatus)
+                    .containsExactly(EmailOutboxStatus.SENT, EmailOutboxStatus.PENDING, EmailOutboxStatus.SENT);
+            assertThat(batch.get(1).getAttempts()).isEqualTo(1);
+            assertThat(batch.get(1).getNextAttemptAt()).isAfter(LocalDateTime.now());
+            assertThat(batch.get(1).getError()).isEqualTo("SMTP down");
+            verify(outboxRepository).saveAll(batch);
+        }
+
+        @Test
+        @DisplayName("Should keep claiming while batches come back full")
+        void shouldClaimUntilDrained() throws Exception {
+            // Given
+            when(outboxRepository.claimBatch(EmailOutboxService.BATCH_SIZE))
+                    .thenReturn(messages(EmailOutboxService.BATCH_SIZE))
+                    .thenReturn(messages(1));
+
+            // When
+            int sent = emailOutboxService.drain();
+
+            // Then
+            assertThat(sent).isEqualTo(EmailOutboxService.BATCH_SIZE + 1);
+            verify(outboxRepository, times(2)).claimBatch(EmailOutboxService.BATCH_SIZE);
+        }
+
+        @Test
+        @DisplayName("Should fold a drain requested while one is running into it")
+        void shouldCoalesceConcurrentDrains() throws Exception {
+            // Given
+            int[] nestedResult = new int[1];
+            when(outboxRepository.claimBatch(EmailOutboxService.BATCH_SIZE))
+                    .thenAnswer(invocation -> {
+                        nestedResult[0] = emailOutboxService.drain();
+                        return messages(1);
+                    })
+                    .thenReturn(List.of());
+
+            // When
+            int sent = emailOutboxService.drain();
+
+            // Then
+            assertThat(nestedResult[0]).isZero();
+            assertThat(sent).isEqualTo(1);
+            verify(outboxRepository, times(2)).claimBatch(EmailOutboxService.BATCH_SIZE);
+        }
+
+        @Test
+        @DisplayName("Should give up on a message after the maximum number of attempts")
+        void shouldGiveUpAfterMaxAttempts() throws Exception {
+            // Given
+            EmailOutboxMessage message = messages(1).get(0);
+            message.setAttempts(EmailOutboxMessage.MAX_ATTEMPTS - 1);
+            when(outboxRepository.claimBatch(EmailOutboxService.BATCH_SIZE)).thenReturn(List.of(message));
+            doThrow(new IllegalStateException("Mailbox unavailable")).when(emailJobExecutor).execute(anyString());
+
+            // When
+            emailOutboxService.drain();
+
+            // Then
+            assertThat(message.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+            assertThat(message.getNextAttemptAt()).isNull();
+            verify(outboxRepository).saveAll(any());
+        }
+    }
+
+    private static List<EmailOutboxMessage> messages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> EmailOutboxMessage.builder()
+                        .id(UUID.randomUUID())
+                        .recipient("user" + i + "@example.com")
+                        .payload("{\"emailType\":\"WELCOME\",\"to\":\"user" + i + "@example.com\"}")
+                        .status(EmailOutboxStatus.SENDING)
+                        .createdAt(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+}
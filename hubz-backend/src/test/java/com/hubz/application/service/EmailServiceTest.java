@@ -1,5 +1,6 @@
 package com.hubz.application.service;
 
+import com.hubz.application.service.email.EmailTemplates;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,7 +29,7 @@ class EmailServiceTest {
 
     @BeforeEach
     void setUp() {
-        emailService = new EmailService(mailSender);
+        emailService = new EmailService(mailSender, new EmailTemplates());
         ReflectionTestUtils.setField(emailService, "fromEmail", "noreply@hubz.com");
         ReflectionTestUtils.setField(emailService, "frontendUrl", "http://localhost:5175");
     }
@@ -0,0 +1,157 @@
+package com.hubz.application.service;
+
+import com.hubz.application.service.email.EmailTemplates;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares rendering digest-sized emails from the compiled templates with the per-send
+ * construction {@link EmailService} used before: the same HTML as a format string, filled
+ * with {@code String.formatted} for every email and every deadline item.
+ * <p>
+ * Not part of the test suite. Run with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp target/test-classes:target/classes:$(cat target/test.classpath) \
+ *     com.hubz.application.service.EmailTemplateBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\w+}}");
+    private static final DateTimeFormatter DUE_DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String DASHBOARD_URL = "https://app.hubz.com/personal";
+
+    @State(Scope.Benchmark)
+    public static class Emails {
+
+        /** Deadline items in each of the three reminder sections. */
+        @Param({"5", "50"})
+        int itemsPerSection;
+
+        EmailService emailService;
+        DeadlineReminderService.DeadlineReminderData reminders;
+
+        String digestFormat;
+        String achievementFormat;
+        String reminderFormat;
+        String sectionFormat;
+        String itemFormat;
+
+        @Setup
+        public void setUp() {
+            emailService = new EmailService(null, new EmailTemplates());
+            reminders = new DeadlineReminderService.DeadlineReminderData(
+                    items("Aujourd'hui"), items("Dans 3 jours"), items("Dans 10 jours"));
+
+            digestFormat = legacyFormat("weekly-digest");
+            achievementFormat = legacyFormat("weekly-digest-achievement");
+            reminderFormat = legacyFormat("deadline-reminder");
+            sectionFormat = legacyFormat("deadline-reminder-section");
+            itemFormat = legacyFormat("deadline-reminder-item");
+
+            // Both sides must produce the very same email for the comparison to mean anything
+            EmailTemplateBenchmark benchmark = new EmailTemplateBenchmark();
+            if (!benchmark.legacyWeeklyDigest(this).equals(benchmark.compiledWeeklyDigest(this))
+                    || !benchmark.legacyDeadlineReminder(this).equals(benchmark.compiledDeadlineReminder(this))) {
+                throw new IllegalStateException("Legacy and compiled renderings differ");
+            }
+        }
+
+        private List<DeadlineReminderService.DeadlineItem> items(String urgency) {
+            List<DeadlineReminderService.DeadlineItem> items = new ArrayList<>(itemsPerSection);
+            for (int i = 0; i < itemsPerSection; i++) {
+                items.add(new DeadlineReminderService.DeadlineItem(
+                        i % 2 == 0 ? "Tache" : "Objectif", "Livrer le lot " + i,
+                        LocalDate.of(2026, 3, 1).plusDays(i), urgency, UUID.randomUUID(), UUID.randomUUID()));
+            }
+            return items;
+        }
+
+        private static String legacyFormat(String template) {
+            try {
+                String source = new ClassPathResource("templates/email/" + template + ".html")
+                        .getContentAsString(StandardCharsets.UTF_8);
+                return PLACEHOLDER.matcher(source.replace("%", "%%")).replaceAll("%s");
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public String compiledWeeklyDigest(Emails emails) {
+        return emails.emailService.buildWeeklyDigestTemplate(
+                "Camille", 12, 9, 3, 1, 72, 4, "Objectif Q1 atteint", DASHBOARD_URL);
+    }
+
+    @Benchmark
+    public String legacyWeeklyDigest(Emails emails) {
+        String trend = "<div class=\"stat-trend trend-up\">+%d vs semaine derniere</div>".formatted(12 - 9);
+        String achievement = emails.achievementFormat.formatted("Objectif Q1 atteint");
+        return emails.digestFormat.formatted(
+                "Camille", 12, trend, 3, 1, 4, String.valueOf(72), "#F59E0B", 72, achievement, 4, DASHBOARD_URL);
+    }
+
+    @Benchmark
+    public String compiledDeadlineReminder(Emails emails) {
+        return emails.emailService.buildDeadlineReminderTemplate("Camille", emails.reminders, DASHBOARD_URL);
+    }
+
+    @Benchmark
+    public String legacyDeadlineReminder(Emails emails) {
+        DeadlineReminderService.DeadlineReminderData reminders = emails.reminders;
+        String today = legacySection(emails, reminders.todayItems(), "urgent", "Aujourd'hui / Demain", "#EF4444");
+        String thisWeek = legacySection(emails, reminders.thisWeekItems(), "warning", "Cette semaine", "#F59E0B");
+        String nextWeek = legacySection(emails, reminders.nextWeekItems(), "info", "Semaine prochaine", "#3B82F6");
+        return emails.reminderFormat.formatted(
+                "Camille", reminders.totalCount(), today, thisWeek, nextWeek, DASHBOARD_URL);
+    }
+
+    private static String legacySection(Emails emails, List<DeadlineReminderService.DeadlineItem> items,
+                                        String severity, String label, String borderColor) {
+        if (items.isEmpty()) {
+            return "";
+        }
+        StringBuilder html = new StringBuilder();
+        for (DeadlineReminderService.DeadlineItem item : items) {
+            html.append(emails.itemFormat.formatted(
+                    borderColor, item.title(), item.type(), item.urgency(), item.dueDate().format(DUE_DATE_FORMAT)));
+        }
+        return emails.sectionFormat.formatted(severity, label, items.size(), html);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,215 @@
+package com.hubz.application.service;
+
+import com.hubz.application.port.out.TaskRepositoryPort;
+import com.hubz.domain.enums.TaskPriority;
+import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.model.Task;
+import com.hubz.domain.model.TaskPageQuery;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Peak heap and duration of a tasks Excel export, streamed through {@link ReportService}
+ * compared with the in-memory {@link XSSFWorkbook} it used before, which loaded every task and
+ * kept every row on the heap until the workbook was written.
+ * <p>
+ * Peak heap is reported as the secondary {@code peakHeapMb} result (see {@link PeakHeap}). The
+ * in-memory variant may run out of memory at 1M rows within the 4 GB heap of the fork, and takes
+ * minutes per run at that size as it auto-sizes columns over every row.
+ * <p>
+ * Not part of the test suite. Run with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp target/test-classes:target/classes:$(cat target/test.classpath) \
+ *     com.hubz.application.service.ExcelExportBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Xmn32m", "-Djava.awt.headless=true"})
+public class ExcelExportBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final UUID ORGANIZATION_ID = UUID.randomUUID();
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @State(Scope.Benchmark)
+    public static class Export {
+
+        @Param({"10000", "100000", "1000000"})
+        int rows;
+    }
+
+    /**
+     * Highest heap use seen right after a garbage collection during the export, that is the most
+     * data the export kept reachable at once. The small young generation the fork runs with makes
+     * collections frequent enough for this to be close to the real peak.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakHeap {
+
+        public long peakHeapMb;
+
+        private final AtomicLong peakAfterGc = new AtomicLong();
+        private final NotificationListener listener = (notification, handback) -> {
+            if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                long used = info.getGcInfo().getMemoryUsageAfterGc().values().stream()
+                        .mapToLong(MemoryUsage::getUsed)
+                        .sum();
+                peakAfterGc.accumulateAndGet(used, Math::max);
+            }
+        };
+
+        @Setup(Level.Invocation)
+        public void start() {
+            System.gc();
+            peakAfterGc.set(0);
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) collector).addNotificationListener(listener, null, null);
+            }
+        }
+
+        @TearDown(Level.Invocation)
+        public void stop() throws ListenerNotFoundException {
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                ((NotificationEmitter) collector).removeNotificationListener(listener);
+            }
+            peakHeapMb = peakAfterGc.get() / (1024 * 1024);
+        }
+    }
+
+    @Benchmark
+    public byte[] streamed(Export export, PeakHeap peakHeap) throws IOException {
+        ReportService reportService = new ReportService(
+                pagedTaskRepository(export.rows), null, null, null, new AuthorizationService(null, null, null, null) {
+                    @Override
+                    public void checkOrganizationAccess(UUID organizationId, UUID userId) {
+                        // Every user is a member: access checks are not what is measured here
+                    }
+                });
+        return reportService.exportTasksToExcel(ORGANIZATION_ID, UUID.randomUUID());
+    }
+
+    @Benchmark
+    public byte[] inMemory(Export export, PeakHeap peakHeap) throws IOException {
+        List<Task> tasks = tasks(0, export.rows);
+
+        try (Workbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("Tasks");
+            Row headerRow = sheet.createRow(0);
+            String[] headers = {"ID", "Title", "Description", "Status", "Priority", "Due Date", "Created At", "Updated At"};
+            for (int i = 0; i < headers.length; i++) {
+                headerRow.createCell(i).setCellValue(headers[i]);
+            }
+
+            int rowNum = 1;
+            for (Task task : tasks) {
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(task.getId().toString());
+                row.createCell(1).setCellValue(task.getTitle());
+                row.createCell(2).setCellValue(task.getDescription() != null ? task.getDescription() : "");
+                row.createCell(3).setCellValue(task.getStatus().name());
+                row.createCell(4).setCellValue(task.getPriority().name());
+                row.createCell(5).setCellValue(task.getDueDate() != null ? task.getDueDate().format(DATE_FORMATTER) : "");
+                row.createCell(6).setCellValue(task.getCreatedAt().format(DATE_FORMATTER));
+                row.createCell(7).setCellValue(task.getUpdatedAt() != null ? task.getUpdatedAt().format(DATE_FORMATTER) : "");
+            }
+
+            for (int i = 0; i < headers.length; i++) {
+                sheet.autoSizeColumn(i);
+            }
+
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            workbook.write(baos);
+            return baos.toByteArray();
+        }
+    }
+
+    /**
+     * Task repository generating {@code total} tasks one page at a time, so the streamed export
+     * holds no more tasks than a real paged query would return.
+     */
+    private static TaskRepositoryPort pagedTaskRepository(int total) {
+        int[] served = {0};
+        return (TaskRepositoryPort) Proxy.newProxyInstance(
+                TaskRepositoryPort.class.getClassLoader(),
+                new Class<?>[]{TaskRepositoryPort.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findPageByOrganizationId")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    TaskPageQuery query = (TaskPageQuery) args[0];
+                    List<Task> page = tasks(served[0], Math.min(query.getLimit(), total - served[0]));
+                    served[0] += page.size();
+                    return page;
+                });
+    }
+
+    private static List<Task> tasks(int from, int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            tasks.add(Task.builder()
+                    .id(UUID.randomUUID())
+                    .title("Livrer le lot " + i)
+                    .description("Preparer, relire et livrer le lot " + i + " avant la fin du sprint")
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(TaskPriority.values()[i % TaskPriority.values().length])
+                    .organizationId(ORGANIZATION_ID)
+                    .dueDate(i % 3 == 0 ? NOW.plusDays(i % 30) : null)
+                    .createdAt(NOW.minusMinutes(i))
+                    .updatedAt(NOW.minusMinutes(i / 2))
+                    .build());
+        }
+        return tasks;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ExcelExportBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
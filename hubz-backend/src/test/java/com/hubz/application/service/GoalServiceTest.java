@@ -6,6 +6,7 @@ import com.hubz.application.dto.response.GoalResponse;
 import com.hubz.application.dto.response.TaskResponse;
 import com.hubz.application.port.out.GoalDeadlineNotificationRepositoryPort;
 import com.hubz.application.port.out.GoalRepositoryPort;
+import com.hubz.application.port.out.TagRepositoryPort;
 import com.hubz.application.port.out.TaskRepositoryPort;
 import com.hubz.domain.enums.GoalType;
 import com.hubz.domain.enums.TaskPriority;
@@ -22,6 +23,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -50,6 +52,12 @@ class GoalServiceTest {
     @Mock
     private GoalDeadlineNotificationRepositoryPort deadlineNotificationRepository;
 
+    @Mock
+    private DailyRollupService dailyRollupService;
+
+    @Mock
+    private TagRepositoryPort tagRepository;
+
     @InjectMocks
     private GoalService goalService;
 
@@ -65,6 +73,8 @@ class GoalServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(goalService, "taskResponseAssembler", new TaskResponseAssembler(tagRepository));
+
         organizationId = UUID.randomUUID();
         userId = UUID.randomUUID();
         goalId = UUID.randomUUID();
@@ -42,6 +42,9 @@ class HabitServiceTest {
     @Mock
     private HabitLogRepositoryPort habitLogRepository;
 
+    @Mock
+    private DailyRollupService dailyRollupService;
+
     @InjectMocks
     private HabitService habitService;
 
@@ -27,7 +27,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -135,10 +137,10 @@ class InsightServiceTest {
             // Set up goals at risk
             Goal goal = createGoal("Important Goal", today.plusDays(3));
             when(goalRepository.findPersonalGoals(userId)).thenReturn(List.of(goal));
-            when(taskRepository.findByGoalId(goal.getId())).thenReturn(List.of(
+            when(taskRepository.countByGoalIdsAndStatus(List.of(goal.getId()))).thenReturn(taskCountsOf(goal, List.of(
                     createTask("Task 1", TaskStatus.TODO, today.plusDays(1)),
                     createTask("Task 2", TaskStatus.IN_PROGRESS, today.plusDays(2))
-            ));
+            )));
 
             // Set up heavy workload
             List<Task> manyTasks = new ArrayList<>();
@@ -353,7 +355,7 @@ class InsightServiceTest {
                     createTask("Task 2", TaskStatus.TODO, today.plusDays(3)),
                     createTask("Task 3", TaskStatus.DONE, today.minusDays(1))
             );
-            when(taskRepository.findByGoalId(goal.getId())).thenReturn(tasks);
+            when(taskRepository.countByGoalIdsAndStatus(List.of(goal.getId()))).thenReturn(taskCountsOf(goal, tasks));
 
             setupEmptyOtherInsightsExceptGoal();
 
@@ -380,7 +382,7 @@ class InsightServiceTest {
                     createTask("Task 2", TaskStatus.DONE, today.minusDays(2)),
                     createTask("Task 3", TaskStatus.TODO, today.plusDays(1))
             );
-            when(taskRepository.findByGoalId(goal.getId())).thenReturn(tasks);
+            when(taskRepository.countByGoalIdsAndStatus(List.of(goal.getId()))).thenReturn(taskCountsOf(goal, tasks));
 
             setupEmptyOtherInsightsExceptGoal();
 
@@ -406,7 +408,7 @@ class InsightServiceTest {
                 tasks.add(createTask("Chapter " + i, TaskStatus.DONE, today.minusDays(i)));
             }
             tasks.add(createTask("Final Chapter", TaskStatus.IN_PROGRESS, today.plusDays(5)));
-            when(taskRepository.findByGoalId(goal.getId())).thenReturn(tasks);
+            when(taskRepository.countByGoalIdsAndStatus(List.of(goal.getId()))).thenReturn(taskCountsOf(goal, tasks));
 
             setupEmptyOtherInsightsExceptGoal();
 
@@ -432,7 +434,7 @@ class InsightServiceTest {
                     createTask("Module 2", TaskStatus.DONE, today.minusDays(3)),
                     createTask("Module 3", TaskStatus.DONE, today.minusDays(1))
             );
-            when(taskRepository.findByGoalId(goal.getId())).thenReturn(tasks);
+            when(taskRepository.countByGoalIdsAndStatus(List.of(goal.getId()))).thenReturn(taskCountsOf(goal, tasks));
 
             setupEmptyOtherInsightsExceptGoal();
 
@@ -457,7 +459,7 @@ class InsightServiceTest {
                     createTask("Task 1", TaskStatus.DONE, today.minusDays(10)),
                     createTask("Task 2", TaskStatus.TODO, today.minusDays(2))
             );
-            when(taskRepository.findByGoalId(goal.getId())).thenReturn(tasks);
+            when(taskRepository.countByGoalIdsAndStatus(List.of(goal.getId()))).thenReturn(taskCountsOf(goal, tasks));
 
             setupEmptyOtherInsightsExceptGoal();
 
@@ -882,6 +884,11 @@ class InsightServiceTest {
                 .build();
     }
 
+    private Map<UUID, Map<TaskStatus, Long>> taskCountsOf(Goal goal, List<Task> tasks) {
+        return Map.of(goal.getId(), tasks.stream()
+                .collect(Collectors.groupingBy(Task::getStatus, Collectors.counting())));
+    }
+
     private void setupEmptyOtherInsights() {
         when(goalRepository.findPersonalGoals(userId)).thenReturn(List.of());
         when(taskRepository.findByAssigneeId(userId)).thenReturn(List.of());
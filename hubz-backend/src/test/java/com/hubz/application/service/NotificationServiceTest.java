@@ -2,10 +2,14 @@ package com.hubz.application.service;
 
 import com.hubz.application.dto.response.NotificationCountResponse;
 import com.hubz.application.dto.response.NotificationResponse;
+import com.hubz.application.port.out.NotificationPreferencesRepositoryPort;
 import com.hubz.application.port.out.NotificationRepositoryPort;
+import com.hubz.application.port.out.UserRepositoryPort;
 import com.hubz.domain.enums.NotificationType;
 import com.hubz.domain.exception.NotificationNotFoundException;
 import com.hubz.domain.model.Notification;
+import com.hubz.domain.model.NotificationPreferences;
+import com.hubz.domain.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -36,6 +40,15 @@ class NotificationServiceTest {
     @Mock
     private NotificationRepositoryPort notificationRepository;
 
+    @Mock
+    private NotificationPreferencesRepositoryPort preferencesRepository;
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -341,6 +354,50 @@ class NotificationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Email Notifications")
+    class EmailNotificationTests {
+
+        private User user;
+
+        @BeforeEach
+        void setUp() {
+            user = User.builder().id(userId).email("john@example.com").firstName("John").build();
+            when(notificationRepository.save(any(Notification.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        }
+
+        @Test
+        @DisplayName("Should queue the email in the outbox instead of sending it")
+        void shouldQueueEmailInOutbox() {
+            // Given
+            when(preferencesRepository.findByUserId(userId)).thenReturn(Optional.empty());
+
+            // When
+            notificationService.createNotification(userId, NotificationType.DIRECT_MESSAGE, "New message",
+                    "Alice sent you a message", "/messages", null, null);
+
+            // Then
+            verify(emailOutboxService).enqueueNotificationEmail("john@example.com", "John",
+                    "DIRECT_MESSAGE", "New message", "Alice sent you a message", "/messages");
+        }
+
+        @Test
+        @DisplayName("Should not queue an email when the user disabled it for the type")
+        void shouldNotQueueWhenDisabled() {
+            // Given
+            NotificationPreferences preferences = NotificationPreferences.createDefault(userId);
+            preferences.setTaskAssigned(false);
+            when(preferencesRepository.findByUserId(userId)).thenReturn(Optional.of(preferences));
+
+            // When
+            notificationService.notifyTaskAssigned(userId, UUID.randomUUID(), "Write docs", organizationId);
+
+            // Then
+            verify(emailOutboxService, never()).enqueueNotificationEmail(any(), any(), any(), any(), any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("Convenience Notification Methods")
     class ConvenienceMethodsTests {
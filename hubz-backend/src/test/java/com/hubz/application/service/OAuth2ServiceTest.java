@@ -105,7 +105,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code-123")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.empty());
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken("john.doe@gmail.com")).thenReturn("jwt-token-123");
+            when(jwtTokenPort.generateToken(any(), eq("john.doe@gmail.com"))).thenReturn("jwt-token-123");
 
             // When
             AuthResponse response = oAuth2Service.handleGoogleCallback("auth-code-123");
@@ -121,7 +121,7 @@ class OAuth2ServiceTest {
             assertThat(response.isRequires2FA()).isFalse();
 
             verify(userRepositoryPort).save(any(User.class));
-            verify(jwtTokenPort).generateToken("john.doe@gmail.com");
+            verify(jwtTokenPort).generateToken(any(), eq("john.doe@gmail.com"));
         }
 
         @Test
@@ -131,7 +131,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.empty());
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt-token");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt-token");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
@@ -151,7 +151,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.empty());
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt-token");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt-token");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
@@ -172,7 +172,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.empty());
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt-token");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt-token");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
@@ -192,7 +192,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.empty());
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt-token");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt-token");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
@@ -212,7 +212,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.empty());
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt-token");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt-token");
 
             // When
             oAuth2Service.handleGoogleCallback("auth-code");
@@ -228,7 +228,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.empty());
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt-token");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt-token");
             doThrow(new RuntimeException("SMTP error")).when(emailService).sendWelcomeEmail(anyString(), anyString());
 
             // When
@@ -248,7 +248,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.empty());
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt-token");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt-token");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
@@ -273,7 +273,7 @@ class OAuth2ServiceTest {
             // Given
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.of(existingUser));
-            when(jwtTokenPort.generateToken("john.doe@gmail.com")).thenReturn("jwt-token-existing");
+            when(jwtTokenPort.generateToken(any(), eq("john.doe@gmail.com"))).thenReturn("jwt-token-existing");
 
             // When
             AuthResponse response = oAuth2Service.handleGoogleCallback("auth-code");
@@ -311,7 +311,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.of(userWithoutOAuth));
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken("john.doe@gmail.com")).thenReturn("jwt-token-linked");
+            when(jwtTokenPort.generateToken(any(), eq("john.doe@gmail.com"))).thenReturn("jwt-token-linked");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
@@ -406,7 +406,7 @@ class OAuth2ServiceTest {
             when(googleOAuth2Port.exchangeCodeForUserInfo("auth-code")).thenReturn(googleUserInfo);
             when(userRepositoryPort.findByEmail("john.doe@gmail.com")).thenReturn(Optional.empty());
             when(userRepositoryPort.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
-            when(jwtTokenPort.generateToken(anyString())).thenReturn("jwt-token");
+            when(jwtTokenPort.generateToken(any(), anyString())).thenReturn("jwt-token");
 
             ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
 
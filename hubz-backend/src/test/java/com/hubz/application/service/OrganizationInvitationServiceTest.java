@@ -310,6 +310,7 @@ class OrganizationInvitationServiceTest {
 
             // Then
             verify(memberRepository).save(any(OrganizationMember.class));
+            verify(authorizationService).evictMembership(organizationId, userId);
             verify(invitationRepository).save(any(OrganizationInvitation.class));
         }
 
@@ -0,0 +1,235 @@
+package com.hubz.application.service;
+
+import com.hubz.application.dto.request.CreateReportExportRequest;
+import com.hubz.application.dto.response.ReportExportResponse;
+import com.hubz.application.port.out.ReportExportRepositoryPort;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.enums.ReportExportStatus;
+import com.hubz.domain.enums.ReportFormat;
+import com.hubz.domain.enums.ReportType;
+import com.hubz.domain.exception.AccessDeniedException;
+import com.hubz.domain.model.ReportExport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportExportService Unit Tests")
+class ReportExportServiceTest {
+
+    @Mock
+    private ReportExportRepositoryPort exportRepository;
+
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+    private ReportExportService reportExportService;
+
+    private UUID userId;
+    private UUID orgId;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(uploadDir.toString());
+        reportExportService = new ReportExportService(
+                exportRepository, fileStorageService, backgroundJobService, authorizationService);
+        userId = UUID.randomUUID();
+        orgId = UUID.randomUUID();
+    }
+
+    private ReportExport export(ReportExportStatus status) {
+        return ReportExport.builder()
+                .id(UUID.randomUUID())
+                .userId(userId)
+                .organizationId(orgId)
+                .reportType(ReportType.TASKS)
+                .format(ReportFormat.CSV)
+                .status(status)
+                .fileName("tasks_2026-01-05.csv")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Request Export Tests")
+    class RequestExportTests {
+
+        @Test
+        @DisplayName("Should record a pending export and schedule its job")
+        void shouldRecordExportAndScheduleJob() {
+            // Given
+            UUID exportId = UUID.randomUUID();
+            CreateReportExportRequest request = new CreateReportExportRequest(ReportType.TASKS, ReportFormat.EXCEL, orgId);
+            when(exportRepository.save(any(ReportExport.class))).thenAnswer(invocation -> {
+                ReportExport saved = invocation.getArgument(0);
+                saved.setId(exportId);
+                return saved;
+            });
+
+            // When
+            ReportExportResponse response = reportExportService.requestExport(request, userId);
+
+            // Then
+            assertThat(response.getId()).isEqualTo(exportId);
+            assertThat(response.getStatus()).isEqualTo(ReportExportStatus.PENDING);
+            assertThat(response.getProgress()).isZero();
+            assertThat(response.getFileName()).startsWith("tasks_").endsWith(".xlsx");
+            assertThat(response.getDownloadUrl()).isNull();
+            verify(authorizationService).checkOrganizationAccess(orgId, userId);
+            verify(backgroundJobService).scheduleJob(JobType.REPORT_EXPORT, "{\"exportId\":\"" + exportId + "\"}");
+        }
+
+        @Test
+        @DisplayName("Should name personal goal exports after the user's goals")
+        void shouldNamePersonalGoalExports() {
+            // Given
+            CreateReportExportRequest request = new CreateReportExportRequest(ReportType.GOALS, ReportFormat.PDF, null);
+            when(exportRepository.save(any(ReportExport.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // When
+            ReportExportResponse response = reportExportService.requestExport(request, userId);
+
+            // Then
+            assertThat(response.getFileName()).startsWith("personal_goals_").endsWith(".pdf");
+            verifyNoInteractions(authorizationService);
+        }
+
+        @Test
+        @DisplayName("Should reject task exports without an organization")
+        void shouldRejectTaskExportWithoutOrganization() {
+            // Given
+            CreateReportExportRequest request = new CreateReportExportRequest(ReportType.TASKS, ReportFormat.CSV, null);
+
+            // When & Then
+            assertThatThrownBy(() -> reportExportService.requestExport(request, userId))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(exportRepository, backgroundJobService);
+        }
+
+        @Test
+        @DisplayName("Should not schedule anything when the user cannot access the organization")
+        void shouldNotScheduleWithoutAccess() {
+            // Given
+            CreateReportExportRequest request = new CreateReportExportRequest(ReportType.TASKS, ReportFormat.CSV, orgId);
+            doThrow(AccessDeniedException.notMember()).when(authorizationService).checkOrganizationAccess(orgId, userId);
+
+            // When & Then
+            assertThatThrownBy(() -> reportExportService.requestExport(request, userId))
+                    .isInstanceOf(AccessDeniedException.class);
+            verifyNoInteractions(exportRepository, backgroundJobService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Get And Download Tests")
+    class GetAndDownloadTests {
+
+        @Test
+        @DisplayName("Should expose the download URL once completed")
+        void shouldExposeDownloadUrlWhenCompleted() {
+            // Given
+            ReportExport export = export(ReportExportStatus.RUNNING);
+            export.markCompleted("report-exports/" + export.getId() + ".csv", 42);
+            when(exportRepository.findById(export.getId())).thenReturn(Optional.of(export));
+
+            // When
+            ReportExportResponse response = reportExportService.getExport(export.getId(), userId);
+
+            // Then
+            assertThat(response.getProgress()).isEqualTo(100);
+            assertThat(response.getFileSize()).isEqualTo(42);
+            assertThat(response.getDownloadUrl()).isEqualTo("/api/reports/exports/" + export.getId() + "/download");
+        }
+
+        @Test
+        @DisplayName("Should deny access to another user's export")
+        void shouldDenyOtherUsersExport() {
+            // Given
+            ReportExport export = export(ReportExportStatus.PENDING);
+            when(exportRepository.findById(export.getId())).thenReturn(Optional.of(export));
+
+            // When & Then
+            assertThatThrownBy(() -> reportExportService.getExport(export.getId(), UUID.randomUUID()))
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+
+        @Test
+        @DisplayName("Should return the stored file of a completed export")
+        void shouldDownloadCompletedExport() throws Exception {
+            // Given
+            ReportExport export = export(ReportExportStatus.RUNNING);
+            String filePath = fileStorageService.storeReportExport("a,b".getBytes(), export.getId(), ".csv");
+            export.markCompleted(filePath, 3);
+            when(exportRepository.findById(export.getId())).thenReturn(Optional.of(export));
+
+            // When
+            Resource resource = reportExportService.downloadExport(export.getId(), userId);
+
+            // Then
+            assertThat(resource.getContentAsByteArray()).isEqualTo("a,b".getBytes());
+        }
+
+        @Test
+        @DisplayName("Should refuse to download an export that is still running")
+        void shouldRefuseDownloadWhileRunning() {
+            // Given
+            ReportExport export = export(ReportExportStatus.RUNNING);
+            when(exportRepository.findById(export.getId())).thenReturn(Optional.of(export));
+
+            // When & Then
+            assertThatThrownBy(() -> reportExportService.downloadExport(export.getId(), userId))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("RUNNING");
+        }
+    }
+
+    @Nested
+    @DisplayName("Cleanup Tests")
+    class CleanupTests {
+
+        @Test
+        @DisplayName("Should delete expired exports and their files")
+        void shouldDeleteExpiredExports() throws Exception {
+            // Given
+            ReportExport completed = export(ReportExportStatus.RUNNING);
+            String filePath = fileStorageService.storeReportExport("a,b".getBytes(), completed.getId(), ".csv");
+            completed.markCompleted(filePath, 3);
+            ReportExport failed = export(ReportExportStatus.FAILED);
+            when(exportRepository.findCreatedBefore(any(LocalDateTime.class))).thenReturn(List.of(completed, failed));
+
+            // When
+            int deleted = reportExportService.cleanupExpiredExports();
+
+            // Then
+            assertThat(deleted).isEqualTo(2);
+            assertThat(Files.exists(fileStorageService.getFilePath(filePath))).isFalse();
+            verify(exportRepository).deleteById(completed.getId());
+            verify(exportRepository).deleteById(failed.getId());
+        }
+    }
+}
@@ -8,10 +8,14 @@ import com.hubz.domain.enums.GoalType;
 import com.hubz.domain.enums.HabitFrequency;
 import com.hubz.domain.enums.TaskPriority;
 import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.exception.AccessDeniedException;
 import com.hubz.domain.model.Goal;
 import com.hubz.domain.model.Habit;
 import com.hubz.domain.model.HabitLog;
 import com.hubz.domain.model.Task;
+import com.hubz.domain.model.TaskPageQuery;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,13 +25,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -140,7 +151,7 @@ class ReportServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(List.of(testGoal));
-            when(taskRepository.findByGoalId(any())).thenReturn(List.of());
+            when(taskRepository.countByGoalIdsAndStatus(any())).thenReturn(Map.of());
 
             // When
             byte[] result = reportService.exportGoalsToCsv(organizationId, userId);
@@ -158,7 +169,7 @@ class ReportServiceTest {
         void shouldExportPersonalGoalsToCsv() {
             // Given
             when(goalRepository.findPersonalGoals(userId)).thenReturn(List.of(testGoal));
-            when(taskRepository.findByGoalId(any())).thenReturn(List.of());
+            when(taskRepository.countByGoalIdsAndStatus(any())).thenReturn(Map.of());
 
             // When
             byte[] result = reportService.exportGoalsToCsv(null, userId);
@@ -209,6 +220,107 @@ class ReportServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Streaming CSV Export Tests")
+    class StreamingCsvExportTests {
+
+        @Test
+        @DisplayName("Should write the same CSV as the in-memory export")
+        void shouldWriteSameCsvAsInMemoryExport() throws IOException {
+            // Given
+            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(List.of(testTask));
+            when(taskRepository.findPageByOrganizationId(any(TaskPageQuery.class))).thenReturn(List.of(testTask));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            reportService.streamTasksToCsv(organizationId, userId).writeTo(out);
+
+            // Then
+            assertThat(out.toByteArray()).isEqualTo(reportService.exportTasksToCsv(organizationId, userId));
+        }
+
+        @Test
+        @DisplayName("Should read tasks page by page from the last written task")
+        void shouldReadTasksPageByPage() throws IOException {
+            // Given
+            List<Task> firstPage = tasks(ReportService.EXPORT_PAGE_SIZE);
+            List<Task> secondPage = tasks(1);
+            List<TaskPageQuery> queries = new ArrayList<>();
+            when(taskRepository.findPageByOrganizationId(any(TaskPageQuery.class))).thenAnswer(invocation -> {
+                TaskPageQuery query = invocation.getArgument(0);
+                queries.add(TaskPageQuery.builder()
+                        .afterTimestamp(query.getAfterTimestamp())
+                        .afterId(query.getAfterId())
+                        .limit(query.getLimit())
+                        .build());
+                return queries.size() == 1 ? firstPage : secondPage;
+            });
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            reportService.streamTasksToCsv(organizationId, userId).writeTo(out);
+
+            // Then
+            String csv = out.toString(StandardCharsets.UTF_8);
+            assertThat(csv.lines()).hasSize(1 + ReportService.EXPORT_PAGE_SIZE + 1);
+            assertThat(queries).hasSize(2);
+            assertThat(queries.get(0).hasCursor()).isFalse();
+            assertThat(queries.get(0).getLimit()).isEqualTo(ReportService.EXPORT_PAGE_SIZE);
+            Task last = firstPage.get(firstPage.size() - 1);
+            assertThat(queries.get(1).getAfterId()).isEqualTo(last.getId());
+            assertThat(queries.get(1).getAfterTimestamp()).isEqualTo(last.getCreatedAt());
+            verify(taskRepository, never()).findByOrganizationId(any());
+        }
+
+        @Test
+        @DisplayName("Should check access before anything is written")
+        void shouldCheckAccessEagerly() {
+            // Given
+            doThrow(new AccessDeniedException("Not a member"))
+                    .when(authorizationService).checkOrganizationAccess(organizationId, userId);
+
+            // When / Then
+            assertThatThrownBy(() -> reportService.streamTasksToCsv(organizationId, userId))
+                    .isInstanceOf(AccessDeniedException.class);
+            verifyNoInteractions(taskRepository);
+        }
+
+        @Test
+        @DisplayName("Should stop reading tasks once the client is gone")
+        void shouldStopWhenClientDisconnects() {
+            // Given
+            when(taskRepository.findPageByOrganizationId(any(TaskPageQuery.class)))
+                    .thenReturn(tasks(ReportService.EXPORT_PAGE_SIZE));
+            OutputStream closed = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken pipe");
+                }
+            };
+
+            // When / Then
+            assertThatThrownBy(() -> reportService.streamTasksToCsv(organizationId, userId).writeTo(closed))
+                    .isInstanceOf(IOException.class);
+            verify(taskRepository, times(1)).findPageByOrganizationId(any(TaskPageQuery.class));
+        }
+
+        private List<Task> tasks(int count) {
+            LocalDateTime createdAt = LocalDateTime.now();
+            List<Task> tasks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                tasks.add(Task.builder()
+                        .id(UUID.randomUUID())
+                        .title("Task " + i)
+                        .status(TaskStatus.TODO)
+                        .priority(TaskPriority.MEDIUM)
+                        .organizationId(organizationId)
+                        .createdAt(createdAt.minusMinutes(i))
+                        .build());
+            }
+            return tasks;
+        }
+    }
+
     @Nested
     @DisplayName("Excel Export Tests")
     class ExcelExportTests {
@@ -218,7 +330,7 @@ class ReportServiceTest {
         void shouldExportTasksToExcel() throws IOException {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
-            when(taskRepository.findByOrganizationId(organizationId)).thenReturn(List.of(testTask));
+            when(taskRepository.findPageByOrganizationId(any(TaskPageQuery.class))).thenReturn(List.of(testTask));
 
             // When
             byte[] result = reportService.exportTasksToExcel(organizationId, userId);
@@ -237,7 +349,7 @@ class ReportServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(List.of(testGoal));
-            when(taskRepository.findByGoalId(any())).thenReturn(List.of());
+            when(taskRepository.countByGoalIdsAndStatus(any())).thenReturn(Map.of());
 
             // When
             byte[] result = reportService.exportGoalsToExcel(organizationId, userId);
@@ -262,6 +374,43 @@ class ReportServiceTest {
             assertThat(result.length).isGreaterThan(0);
             // Excel file should be created with summary and logs sheets
         }
+
+        @Test
+        @DisplayName("Should write every task when there are more than the rows kept in memory")
+        void shouldWriteTasksBeyondRowWindow() throws IOException {
+            // Given
+            int taskCount = ReportService.EXPORT_PAGE_SIZE + ReportService.EXCEL_ROW_WINDOW;
+            List<Task> tasks = new ArrayList<>(taskCount);
+            LocalDateTime createdAt = LocalDateTime.now();
+            for (int i = 0; i < taskCount; i++) {
+                tasks.add(Task.builder()
+                        .id(UUID.randomUUID())
+                        .title("Task " + i)
+                        .status(TaskStatus.TODO)
+                        .priority(TaskPriority.MEDIUM)
+                        .organizationId(organizationId)
+                        .createdAt(createdAt.minusMinutes(i))
+                        .build());
+            }
+            when(taskRepository.findPageByOrganizationId(any(TaskPageQuery.class)))
+                    .thenReturn(tasks.subList(0, ReportService.EXPORT_PAGE_SIZE))
+                    .thenReturn(tasks.subList(ReportService.EXPORT_PAGE_SIZE, taskCount));
+
+            // When
+            byte[] result = reportService.exportTasksToExcel(organizationId, userId);
+
+            // Then
+            try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(result))) {
+                Sheet sheet = workbook.getSheet("Tasks");
+                assertThat(sheet.getLastRowNum()).isEqualTo(taskCount);
+                assertThat(sheet.getRow(0).getCell(1).getStringCellValue()).isEqualTo("Title");
+                assertThat(sheet.getRow(1).getCell(1).getStringCellValue()).isEqualTo("Task 0");
+                assertThat(sheet.getRow(taskCount).getCell(1).getStringCellValue()).isEqualTo("Task " + (taskCount - 1));
+                // Widths come from the longest value: a UUID in the ID column
+                assertThat(sheet.getColumnWidth(0)).isEqualTo((36 + 2) * 256);
+            }
+            verify(taskRepository, never()).findByOrganizationId(any());
+        }
     }
 
     @Nested
@@ -292,7 +441,7 @@ class ReportServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(List.of(testGoal));
-            when(taskRepository.findByGoalId(any())).thenReturn(List.of());
+            when(taskRepository.countByGoalIdsAndStatus(any())).thenReturn(Map.of());
 
             // When
             byte[] result = reportService.exportGoalsToPdf(organizationId, userId);
@@ -350,24 +499,11 @@ class ReportServiceTest {
         @Test
         @DisplayName("Should calculate correct progress in CSV export")
         void shouldCalculateCorrectProgressInCsv() {
-            // Given
-            Task completedTask = Task.builder()
-                    .id(UUID.randomUUID())
-                    .status(TaskStatus.DONE)
-                    .goalId(testGoal.getId())
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            Task pendingTask = Task.builder()
-                    .id(UUID.randomUUID())
-                    .status(TaskStatus.TODO)
-                    .goalId(testGoal.getId())
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
+            // Given - one completed and one pending task linked to the goal
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
             when(goalRepository.findByOrganizationId(organizationId)).thenReturn(List.of(testGoal));
-            when(taskRepository.findByGoalId(testGoal.getId())).thenReturn(List.of(completedTask, pendingTask));
+            when(taskRepository.countByGoalIdsAndStatus(List.of(testGoal.getId())))
+                    .thenReturn(Map.of(testGoal.getId(), Map.of(TaskStatus.DONE, 1L, TaskStatus.TODO, 1L)));
 
             // When
             byte[] result = reportService.exportGoalsToCsv(organizationId, userId);
@@ -377,5 +513,31 @@ class ReportServiceTest {
             // Check that progress contains 50 (format may vary: 50.0%, 50,0%, etc.)
             assertThat(csv).containsPattern("50[.,]0%");
         }
+
+        @Test
+        @DisplayName("Should count the tasks of all goals with a single query")
+        void shouldCountGoalTasksInOneQuery() throws IOException {
+            // Given
+            Goal otherGoal = Goal.builder()
+                    .id(UUID.randomUUID())
+                    .title("Other Goal")
+                    .type(GoalType.LONG)
+                    .userId(userId)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+            doNothing().when(authorizationService).checkOrganizationAccess(organizationId, userId);
+            when(goalRepository.findByOrganizationId(organizationId)).thenReturn(List.of(testGoal, otherGoal));
+            when(taskRepository.countByGoalIdsAndStatus(List.of(testGoal.getId(), otherGoal.getId())))
+                    .thenReturn(Map.of(testGoal.getId(), Map.of(TaskStatus.DONE, 3L, TaskStatus.IN_PROGRESS, 1L)));
+
+            // When
+            byte[] result = reportService.exportGoalsToPdf(organizationId, userId);
+            reportService.exportGoalsToExcel(organizationId, userId);
+
+            // Then
+            assertThat(result).isNotEmpty();
+            verify(taskRepository, times(2)).countByGoalIdsAndStatus(any());
+            verify(taskRepository, never()).findByGoalId(any());
+        }
     }
 }
@@ -0,0 +1,103 @@
+package com.hubz.application.service;
+
+import com.hubz.application.dto.response.TagResponse;
+import com.hubz.application.dto.response.TaskResponse;
+import com.hubz.application.port.out.TagRepositoryPort;
+import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.model.Tag;
+import com.hubz.domain.model.Task;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskResponseAssembler Unit Tests")
+class TaskResponseAssemblerTest {
+
+    @Mock
+    private TagRepositoryPort tagRepository;
+
+    @InjectMocks
+    private TaskResponseAssembler taskResponseAssembler;
+
+    private Task createTask(String title) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .status(TaskStatus.TODO)
+                .organizationId(UUID.randomUUID())
+                .creatorId(UUID.randomUUID())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Tag createTag(String name) {
+        return Tag.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .color("#FF0000")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should load tags of all tasks with a single bulk lookup")
+    void shouldLoadTagsInBulk() {
+        // Given
+        Task tagged = createTask("Tagged");
+        Task untagged = createTask("Untagged");
+        Tag urgent = createTag("urgent");
+        Tag backend = createTag("backend");
+        when(tagRepository.findTagsByTaskIds(List.of(tagged.getId(), untagged.getId())))
+                .thenReturn(Map.of(tagged.getId(), List.of(urgent, backend)));
+
+        // When
+        List<TaskResponse> responses = taskResponseAssembler.toResponses(List.of(tagged, untagged));
+
+        // Then
+        assertThat(responses).extracting(TaskResponse::getTitle).containsExactly("Tagged", "Untagged");
+        assertThat(responses.get(0).getTags()).extracting(TagResponse::getName).containsExactly("urgent", "backend");
+        assertThat(responses.get(1).getTags()).isEmpty();
+        verify(tagRepository, times(1)).findTagsByTaskIds(any());
+        verify(tagRepository, never()).findTagsByTaskId(any());
+    }
+
+    @Test
+    @DisplayName("Should not query tags for an empty list")
+    void shouldSkipLookupForEmptyList() {
+        // When
+        List<TaskResponse> responses = taskResponseAssembler.toResponses(List.of());
+
+        // Then
+        assertThat(responses).isEmpty();
+        verifyNoInteractions(tagRepository);
+    }
+
+    @Test
+    @DisplayName("Should build a single response with its tags")
+    void shouldBuildSingleResponse() {
+        // Given
+        Task task = createTask("Single");
+        when(tagRepository.findTagsByTaskId(task.getId())).thenReturn(List.of(createTag("docs")));
+
+        // When
+        TaskResponse response = taskResponseAssembler.toResponse(task);
+
+        // Then
+        assertThat(response.getId()).isEqualTo(task.getId());
+        assertThat(response.getTags()).extracting(TagResponse::getName).containsExactly("docs");
+    }
+}
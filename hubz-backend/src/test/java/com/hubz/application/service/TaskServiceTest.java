@@ -1,17 +1,21 @@
 package com.hubz.application.service;
 
 import com.hubz.application.dto.request.CreateTaskRequest;
+import com.hubz.application.dto.request.TaskPageRequest;
 import com.hubz.application.dto.request.UpdateTaskRequest;
 import com.hubz.application.dto.request.UpdateTaskStatusRequest;
+import com.hubz.application.dto.response.TaskPageResponse;
 import com.hubz.application.dto.response.TaskResponse;
 import com.hubz.application.port.out.TagRepositoryPort;
 import com.hubz.application.port.out.TaskHistoryRepositoryPort;
 import com.hubz.application.port.out.TaskRepositoryPort;
 import com.hubz.domain.enums.TaskPriority;
+import com.hubz.domain.enums.TaskSortField;
 import com.hubz.domain.enums.TaskStatus;
 import com.hubz.domain.exception.TaskNotFoundException;
 import com.hubz.domain.model.Task;
 import com.hubz.domain.model.TaskHistory;
+import com.hubz.domain.model.TaskPageQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,6 +25,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -49,6 +54,9 @@ class TaskServiceTest {
     @Mock
     private AuthorizationService authorizationService;
 
+    @Mock
+    private DailyRollupService dailyRollupService;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -62,6 +70,8 @@ class TaskServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(taskService, "taskResponseAssembler", new TaskResponseAssembler(tagRepository));
+
         organizationId = UUID.randomUUID();
         creatorId = UUID.randomUUID();
         assigneeId = UUID.randomUUID();
@@ -187,7 +197,7 @@ class TaskServiceTest {
             // Given
             doNothing().when(authorizationService).checkOrganizationAccess(organizationId, creatorId);
             when(taskRepository.findByOrganizationId(organizationId)).thenReturn(List.of(testTask));
-            when(tagRepository.findTagsByTaskId(any())).thenReturn(Collections.emptyList());
+            when(tagRepository.findTagsByTaskIds(any())).thenReturn(Collections.emptyMap());
 
             // When
             List<TaskResponse> tasks = taskService.getByOrganization(organizationId, creatorId);
@@ -197,6 +207,8 @@ class TaskServiceTest {
             assertThat(tasks.get(0).getTitle()).isEqualTo(testTask.getTitle());
             verify(authorizationService).checkOrganizationAccess(organizationId, creatorId);
             verify(taskRepository).findByOrganizationId(organizationId);
+            verify(tagRepository).findTagsByTaskIds(List.of(testTask.getId()));
+            verify(tagRepository, never()).findTagsByTaskId(any());
         }
 
         @Test
@@ -214,6 +226,113 @@ class TaskServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Task Page By Organization Tests")
+    class GetPageByOrganizationTests {
+
+        private Task taskAt(LocalDateTime timestamp) {
+            return Task.builder()
+                    .id(UUID.randomUUID())
+                    .title("Task " + timestamp)
+                    .status(TaskStatus.TODO)
+                    .organizationId(organizationId)
+                    .creatorId(creatorId)
+                    .createdAt(timestamp)
+                    .updatedAt(timestamp)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should return first page with cursor when more tasks exist")
+        void shouldReturnFirstPageWithCursor() {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            Task newest = taskAt(now);
+            Task middle = taskAt(now.minusHours(1));
+            Task extra = taskAt(now.minusHours(2));
+            when(taskRepository.findPageByOrganizationId(any())).thenReturn(List.of(newest, middle, extra));
+            when(tagRepository.findTagsByTaskIds(any())).thenReturn(Collections.emptyMap());
+
+            // When
+            TaskPageResponse page = taskService.getPageByOrganization(organizationId,
+                    TaskPageRequest.builder().limit(2).status(TaskStatus.TODO).build(), creatorId);
+
+            // Then
+            assertThat(page.getItems()).extracting(TaskResponse::getId).containsExactly(newest.getId(), middle.getId());
+            assertThat(page.isHasMore()).isTrue();
+            assertThat(page.getNextCursor()).isNotBlank();
+
+            ArgumentCaptor<TaskPageQuery> captor = ArgumentCaptor.forClass(TaskPageQuery.class);
+            verify(taskRepository).findPageByOrganizationId(captor.capture());
+            TaskPageQuery query = captor.getValue();
+            assertThat(query.getLimit()).isEqualTo(3);
+            assertThat(query.getSortField()).isEqualTo(TaskSortField.UPDATED_AT);
+            assertThat(query.getStatus()).isEqualTo(TaskStatus.TODO);
+            assertThat(query.hasCursor()).isFalse();
+            verify(authorizationService).checkOrganizationAccess(organizationId, creatorId);
+        }
+
+        @Test
+        @DisplayName("Should resume after the last task of the previous page")
+        void shouldResumeFromCursor() {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            Task last = taskAt(now.minusHours(1));
+            when(taskRepository.findPageByOrganizationId(any()))
+                    .thenReturn(List.of(taskAt(now), last, taskAt(now.minusHours(2))))
+                    .thenReturn(List.of());
+            when(tagRepository.findTagsByTaskIds(any())).thenReturn(Collections.emptyMap());
+            String cursor = taskService.getPageByOrganization(organizationId,
+                    TaskPageRequest.builder().limit(2).sort(TaskSortField.CREATED_AT).build(), creatorId).getNextCursor();
+
+            // When
+            TaskPageResponse page = taskService.getPageByOrganization(organizationId,
+                    TaskPageRequest.builder().limit(2).sort(TaskSortField.CREATED_AT).cursor(cursor).build(), creatorId);
+
+            // Then
+            assertThat(page.getItems()).isEmpty();
+            assertThat(page.isHasMore()).isFalse();
+            assertThat(page.getNextCursor()).isNull();
+
+            ArgumentCaptor<TaskPageQuery> captor = ArgumentCaptor.forClass(TaskPageQuery.class);
+            verify(taskRepository, times(2)).findPageByOrganizationId(captor.capture());
+            TaskPageQuery query = captor.getAllValues().get(1);
+            assertThat(query.getAfterTimestamp()).isEqualTo(last.getCreatedAt());
+            assertThat(query.getAfterId()).isEqualTo(last.getId());
+        }
+
+        @Test
+        @DisplayName("Should cap page size")
+        void shouldCapPageSize() {
+            // Given
+            when(taskRepository.findPageByOrganizationId(any())).thenReturn(List.of());
+
+            // When
+            taskService.getPageByOrganization(organizationId, TaskPageRequest.builder().limit(10_000).build(), creatorId);
+
+            // Then
+            verify(taskRepository).findPageByOrganizationId(argThat(query -> query.getLimit() == 201));
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed cursor or a cursor of another sort")
+        void shouldRejectInvalidCursor() {
+            // Given
+            when(taskRepository.findPageByOrganizationId(any())).thenReturn(List.of(taskAt(LocalDateTime.now()), taskAt(LocalDateTime.now().minusHours(1))));
+            when(tagRepository.findTagsByTaskIds(any())).thenReturn(Collections.emptyMap());
+            String updatedAtCursor = taskService.getPageByOrganization(organizationId,
+                    TaskPageRequest.builder().limit(1).build(), creatorId).getNextCursor();
+
+            // When & Then
+            assertThatThrownBy(() -> taskService.getPageByOrganization(organizationId,
+                    TaskPageRequest.builder().cursor("not-a-cursor").build(), creatorId))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> taskService.getPageByOrganization(organizationId,
+                    TaskPageRequest.builder().sort(TaskSortField.CREATED_AT).cursor(updatedAtCursor).build(), creatorId))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Get Tasks By User Tests")
     class GetByUserTests {
@@ -223,7 +342,7 @@ class TaskServiceTest {
         void shouldGetTasksByAssignee() {
             // Given
             when(taskRepository.findByAssigneeId(assigneeId)).thenReturn(List.of(testTask));
-            when(tagRepository.findTagsByTaskId(any())).thenReturn(Collections.emptyList());
+            when(tagRepository.findTagsByTaskIds(any())).thenReturn(Collections.emptyMap());
 
             // When
             List<TaskResponse> tasks = taskService.getByUser(assigneeId);
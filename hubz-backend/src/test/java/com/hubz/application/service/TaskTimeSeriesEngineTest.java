@@ -0,0 +1,374 @@
+package com.hubz.application.service;
+
+import com.hubz.application.dto.response.TaskAnalyticsResponse.*;
+import com.hubz.application.service.TaskTimeSeriesEngine.TaskTimeSeries;
+import com.hubz.domain.enums.TaskPriority;
+import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.WeekFields;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TaskTimeSeriesEngine Unit Tests")
+class TaskTimeSeriesEngineTest {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private TaskTimeSeriesEngine engine;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        engine = new TaskTimeSeriesEngine();
+        today = LocalDate.of(2026, 3, 18);
+    }
+
+    private List<Task> randomTasks(long seed, int count) {
+        Random random = new Random(seed);
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        LocalDateTime now = today.atTime(12, 0);
+        List<Task> tasks = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            LocalDateTime createdAt = random.nextInt(20) == 0
+                    ? null
+                    : now.minusHours(random.nextInt(200 * 24)).plusHours(random.nextInt(5 * 24));
+            LocalDateTime updatedAt = random.nextInt(20) == 0 || createdAt == null
+                    ? null
+                    : createdAt.plusHours(random.nextInt(40 * 24));
+
+            tasks.add(Task.builder()
+                    .id(UUID.randomUUID())
+                    .title("Task " + i)
+                    .status(random.nextInt(30) == 0 ? null : statuses[random.nextInt(statuses.length)])
+                    .priority(priorities[random.nextInt(priorities.length)])
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build());
+        }
+        return tasks;
+    }
+
+    private Task task(TaskStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title("Task")
+                .status(status)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Regression against legacy per-chart loops")
+    class RegressionTests {
+
+        @Test
+        @DisplayName("Should match legacy output for random task sets")
+        void shouldMatchLegacyOutputForRandomTaskSets() {
+            for (long seed = 1; seed <= 20; seed++) {
+                List<Task> tasks = randomTasks(seed, 300);
+
+                TaskTimeSeries result = engine.compute(tasks, today, 30, 12);
+
+                assertThat(result.getTasksCreatedOverTime()).isEqualTo(LegacyCharts.createdOverTime(tasks, today, 30));
+                assertThat(result.getTasksCompletedOverTime()).isEqualTo(LegacyCharts.completedOverTime(tasks, today, 30));
+                assertThat(result.getBurndownChart()).isEqualTo(LegacyCharts.burndown(tasks, today, 30));
+                assertThat(result.getBurnupChart()).isEqualTo(LegacyCharts.burnup(tasks, today, 30));
+                assertThat(result.getCumulativeFlowDiagram()).isEqualTo(LegacyCharts.cumulativeFlow(tasks, today, 30));
+                assertThat(result.getThroughputChart()).isEqualTo(LegacyCharts.throughput(tasks, today, 30));
+                assertThat(result.getWipChart()).isEqualTo(LegacyCharts.wip(tasks, today, 30));
+                assertThat(result.getVelocityChart()).isEqualTo(LegacyCharts.velocity(tasks, today, 12));
+                assertThat(result.getLeadTimeTrend()).isEqualTo(LegacyCharts.leadTime(tasks, today, 12));
+            }
+        }
+
+        @Test
+        @DisplayName("Should match legacy output for a 90-day window")
+        void shouldMatchLegacyOutputForNinetyDayWindow() {
+            List<Task> tasks = randomTasks(42, 500);
+
+            TaskTimeSeries result = engine.compute(tasks, today, 90, 12);
+
+            assertThat(result.getBurndownChart()).isEqualTo(LegacyCharts.burndown(tasks, today, 90));
+            assertThat(result.getCumulativeFlowDiagram()).isEqualTo(LegacyCharts.cumulativeFlow(tasks, today, 90));
+            assertThat(result.getThroughputChart()).isEqualTo(LegacyCharts.throughput(tasks, today, 90));
+        }
+
+        @Test
+        @DisplayName("Should return empty-valued series when there are no tasks")
+        void shouldReturnEmptyValuedSeriesWhenNoTasks() {
+            TaskTimeSeries result = engine.compute(List.of(), today, 30, 12);
+
+            assertThat(result.getBurndownChart()).isEqualTo(LegacyCharts.burndown(List.of(), today, 30));
+            assertThat(result.getVelocityChart()).isEqualTo(LegacyCharts.velocity(List.of(), today, 12));
+            assertThat(result.getLeadTimeTrend()).allMatch(l -> l.getAverageLeadTimeHours() == null);
+        }
+    }
+
+    @Nested
+    @DisplayName("Series shape")
+    class SeriesShapeTests {
+
+        @Test
+        @DisplayName("Should cover the window inclusively")
+        void shouldCoverWindowInclusively() {
+            TaskTimeSeries result = engine.compute(List.of(), today, 30, 12);
+
+            assertThat(result.getTasksCreatedOverTime()).hasSize(31);
+            assertThat(result.getTasksCreatedOverTime().get(0).getDate()).isEqualTo("2026-02-16");
+            assertThat(result.getTasksCreatedOverTime().get(30).getDate()).isEqualTo("2026-03-18");
+            assertThat(result.getVelocityChart()).hasSize(12);
+        }
+
+        @Test
+        @DisplayName("Should fold tasks created before the window into the starting totals")
+        void shouldFoldTasksCreatedBeforeWindow() {
+            List<Task> tasks = List.of(
+                    task(TaskStatus.TODO, today.minusDays(100).atStartOfDay(), null),
+                    task(TaskStatus.IN_PROGRESS, today.minusDays(2).atStartOfDay(), null),
+                    task(TaskStatus.DONE, today.minusDays(50).atStartOfDay(), today.minusDays(1).atTime(10, 0)));
+
+            TaskTimeSeries result = engine.compute(tasks, today, 30, 12);
+
+            CumulativeFlowData first = result.getCumulativeFlowDiagram().get(0);
+            CumulativeFlowData last = result.getCumulativeFlowDiagram().get(30);
+            assertThat(first.getTodo()).isEqualTo(1);
+            assertThat(first.getInProgress()).isZero();
+            assertThat(last.getInProgress()).isEqualTo(1);
+            assertThat(last.getDone()).isEqualTo(1);
+            assertThat(result.getBurnupChart().get(0).getTotalScope()).isEqualTo(2);
+            assertThat(result.getBurnupChart().get(30).getTotalScope()).isEqualTo(3);
+        }
+    }
+
+    /**
+     * Reference copy of the original O(days x tasks) chart loops from AnalyticsService,
+     * kept to guard the single-pass engine against behavioural drift.
+     */
+    private static final class LegacyCharts {
+
+        static List<TimeSeriesData> createdOverTime(List<Task> tasks, LocalDate endDate, int days) {
+            LocalDate startDate = endDate.minusDays(days);
+            Map<LocalDate, Long> countByDate = tasks.stream()
+                    .filter(t -> t.getCreatedAt() != null)
+                    .filter(t -> !t.getCreatedAt().toLocalDate().isBefore(startDate))
+                    .collect(Collectors.groupingBy(t -> t.getCreatedAt().toLocalDate(), Collectors.counting()));
+
+            List<TimeSeriesData> result = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                result.add(TimeSeriesData.builder()
+                        .date(date.format(DATE_FORMATTER))
+                        .count(countByDate.getOrDefault(date, 0L))
+                        .build());
+            }
+            return result;
+        }
+
+        static List<TimeSeriesData> completedOverTime(List<Task> tasks, LocalDate endDate, int days) {
+            LocalDate startDate = endDate.minusDays(days);
+            Map<LocalDate, Long> countByDate = tasks.stream()
+                    .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null)
+                    .filter(t -> !t.getUpdatedAt().toLocalDate().isBefore(startDate))
+                    .collect(Collectors.groupingBy(t -> t.getUpdatedAt().toLocalDate(), Collectors.counting()));
+
+            List<TimeSeriesData> result = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                result.add(TimeSeriesData.builder()
+                        .date(date.format(DATE_FORMATTER))
+                        .count(countByDate.getOrDefault(date, 0L))
+                        .build());
+            }
+            return result;
+        }
+
+        static List<BurndownData> burndown(List<Task> tasks, LocalDate endDate, int days) {
+            LocalDate startDate = endDate.minusDays(days);
+            long cumulative = tasks.stream()
+                    .filter(t -> t.getCreatedAt() != null && !t.getCreatedAt().toLocalDate().isAfter(startDate))
+                    .count();
+
+            List<BurndownData> result = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                final LocalDate currentDate = date;
+                long createdOnDate = tasks.stream()
+                        .filter(t -> t.getCreatedAt() != null && t.getCreatedAt().toLocalDate().equals(currentDate))
+                        .count();
+                long completedOnDate = tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null
+                                && t.getUpdatedAt().toLocalDate().equals(currentDate))
+                        .count();
+                cumulative = cumulative + createdOnDate;
+                long remaining = cumulative - tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null
+                                && !t.getUpdatedAt().toLocalDate().isAfter(currentDate))
+                        .count();
+                result.add(BurndownData.builder()
+                        .date(currentDate.format(DATE_FORMATTER))
+                        .remainingTasks(remaining)
+                        .completedTasks(completedOnDate)
+                        .totalTasks(cumulative)
+                        .build());
+            }
+            return result;
+        }
+
+        static List<BurnupData> burnup(List<Task> tasks, LocalDate endDate, int days) {
+            LocalDate startDate = endDate.minusDays(days);
+            List<BurnupData> result = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                final LocalDate currentDate = date;
+                long cumulativeCompleted = tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null
+                                && !t.getUpdatedAt().toLocalDate().isAfter(currentDate))
+                        .count();
+                long totalScope = tasks.stream()
+                        .filter(t -> t.getCreatedAt() != null && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
+                        .count();
+                result.add(BurnupData.builder()
+                        .date(currentDate.format(DATE_FORMATTER))
+                        .cumulativeCompleted(cumulativeCompleted)
+                        .totalScope(totalScope)
+                        .build());
+            }
+            return result;
+        }
+
+        static List<CumulativeFlowData> cumulativeFlow(List<Task> tasks, LocalDate endDate, int days) {
+            LocalDate startDate = endDate.minusDays(days);
+            List<CumulativeFlowData> result = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                final LocalDate currentDate = date;
+                long todoCount = tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.TODO && t.getCreatedAt() != null
+                                && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
+                        .count();
+                long inProgressCount = tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS && t.getCreatedAt() != null
+                                && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
+                        .count();
+                long doneCount = tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null
+                                && !t.getUpdatedAt().toLocalDate().isAfter(currentDate))
+                        .count();
+                result.add(CumulativeFlowData.builder()
+                        .date(currentDate.format(DATE_FORMATTER))
+                        .todo(todoCount)
+                        .inProgress(inProgressCount)
+                        .done(doneCount)
+                        .build());
+            }
+            return result;
+        }
+
+        static List<ThroughputData> throughput(List<Task> tasks, LocalDate endDate, int days) {
+            LocalDate startDate = endDate.minusDays(days);
+            Map<LocalDate, Long> dailyCompletions = tasks.stream()
+                    .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null)
+                    .filter(t -> !t.getUpdatedAt().toLocalDate().isBefore(startDate))
+                    .collect(Collectors.groupingBy(t -> t.getUpdatedAt().toLocalDate(), Collectors.counting()));
+
+            List<ThroughputData> result = new ArrayList<>();
+            List<Long> last7Days = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                long completedCount = dailyCompletions.getOrDefault(date, 0L);
+                last7Days.add(completedCount);
+                if (last7Days.size() > 7) {
+                    last7Days.remove(0);
+                }
+                double rollingAverage = last7Days.stream().mapToLong(Long::longValue).average().orElse(0.0);
+                result.add(ThroughputData.builder()
+                        .date(date.format(DATE_FORMATTER))
+                        .completedCount(completedCount)
+                        .rollingAverage(Math.round(rollingAverage * 100.0) / 100.0)
+                        .build());
+            }
+            return result;
+        }
+
+        static List<WIPData> wip(List<Task> tasks, LocalDate endDate, int days) {
+            LocalDate startDate = endDate.minusDays(days);
+            List<WIPData> result = new ArrayList<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                final LocalDate currentDate = date;
+                long wipCount = tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.IN_PROGRESS && t.getCreatedAt() != null
+                                && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
+                        .count();
+                long todoCount = tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.TODO && t.getCreatedAt() != null
+                                && !t.getCreatedAt().toLocalDate().isAfter(currentDate))
+                        .count();
+                result.add(WIPData.builder()
+                        .date(currentDate.format(DATE_FORMATTER))
+                        .wipCount(wipCount)
+                        .todoCount(todoCount)
+                        .totalActive(wipCount + todoCount)
+                        .build());
+            }
+            return result;
+        }
+
+        static List<VelocityData> velocity(List<Task> tasks, LocalDate endDate, int weeks) {
+            WeekFields weekFields = WeekFields.of(Locale.getDefault());
+            List<VelocityData> result = new ArrayList<>();
+            for (int i = weeks - 1; i >= 0; i--) {
+                LocalDate weekStart = endDate.minusWeeks(i).with(weekFields.dayOfWeek(), 1);
+                LocalDate weekEnd = weekStart.plusDays(6);
+                long completed = tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.DONE && t.getUpdatedAt() != null)
+                        .filter(t -> {
+                            LocalDate completedDate = t.getUpdatedAt().toLocalDate();
+                            return !completedDate.isBefore(weekStart) && !completedDate.isAfter(weekEnd);
+                        })
+                        .count();
+                result.add(VelocityData.builder()
+                        .weekStart(weekStart.format(DATE_FORMATTER))
+                        .completedTasks(completed)
+                        .build());
+            }
+            return result;
+        }
+
+        static List<LeadTimeData> leadTime(List<Task> tasks, LocalDate endDate, int weeks) {
+            WeekFields weekFields = WeekFields.of(Locale.getDefault());
+            List<LeadTimeData> result = new ArrayList<>();
+            for (int i = weeks - 1; i >= 0; i--) {
+                LocalDate weekStart = endDate.minusWeeks(i).with(weekFields.dayOfWeek(), 1);
+                LocalDate weekEnd = weekStart.plusDays(6);
+                List<Task> weekTasks = tasks.stream()
+                        .filter(t -> t.getStatus() == TaskStatus.DONE && t.getCreatedAt() != null && t.getUpdatedAt() != null)
+                        .filter(t -> {
+                            LocalDate completedDate = t.getUpdatedAt().toLocalDate();
+                            return !completedDate.isBefore(weekStart) && !completedDate.isAfter(weekEnd);
+                        })
+                        .toList();
+                Double averageLeadTime = null;
+                if (!weekTasks.isEmpty()) {
+                    double totalHours = weekTasks.stream()
+                            .mapToDouble(t -> ChronoUnit.HOURS.between(t.getCreatedAt(), t.getUpdatedAt()))
+                            .sum();
+                    averageLeadTime = Math.round(totalHours / weekTasks.size() * 100.0) / 100.0;
+                }
+                result.add(LeadTimeData.builder()
+                        .date(weekStart.format(DATE_FORMATTER))
+                        .averageLeadTimeHours(averageLeadTime)
+                        .taskCount(weekTasks.size())
+                        .build());
+            }
+            return result;
+        }
+    }
+}
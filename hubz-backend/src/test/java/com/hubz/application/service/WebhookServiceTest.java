@@ -1,15 +1,20 @@
 package com.hubz.application.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubz.application.dto.request.CreateWebhookConfigRequest;
 import com.hubz.application.dto.request.UpdateWebhookConfigRequest;
 import com.hubz.application.dto.response.WebhookConfigResponse;
 import com.hubz.application.dto.response.WebhookTestResponse;
 import com.hubz.application.port.out.WebhookConfigRepositoryPort;
 import com.hubz.application.port.out.WebhookSenderPort;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.enums.WebhookCircuitState;
 import com.hubz.domain.enums.WebhookEventType;
 import com.hubz.domain.enums.WebhookServiceType;
 import com.hubz.domain.exception.AccessDeniedException;
 import com.hubz.domain.exception.WebhookConfigNotFoundException;
+import com.hubz.domain.model.BackgroundJob;
 import com.hubz.domain.model.WebhookConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,9 +24,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -47,6 +54,12 @@ class WebhookServiceTest {
     @Mock
     private AuthorizationService authorizationService;
 
+    @Mock
+    private BackgroundJobService backgroundJobService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @InjectMocks
     private WebhookService webhookService;
 
@@ -271,6 +284,28 @@ class WebhookServiceTest {
             assertThat(updated.getService()).isEqualTo(WebhookServiceType.SLACK);
         }
 
+        @Test
+        @DisplayName("Should forget past delivery failures when an admin re-enables the webhook")
+        void shouldResetHealthWhenReEnabled() {
+            // Given
+            testConfig.setEnabled(false);
+            testConfig.setConsecutiveFailures(WebhookConfig.AUTO_DISABLE_THRESHOLD);
+            testConfig.setFailureRate(0.9);
+            when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(testConfig));
+            ArgumentCaptor<WebhookConfig> captor = ArgumentCaptor.forClass(WebhookConfig.class);
+            when(webhookConfigRepository.save(captor.capture())).thenReturn(testConfig);
+
+            // When
+            webhookService.update(webhookId, UpdateWebhookConfigRequest.builder().enabled(true).build(), userId);
+
+            // Then
+            WebhookConfig updated = captor.getValue();
+            assertThat(updated.isEnabled()).isTrue();
+            assertThat(updated.getConsecutiveFailures()).isZero();
+            assertThat(updated.getFailureRate()).isZero();
+            assertThat(updated.circuitState(LocalDateTime.now())).isEqualTo(WebhookCircuitState.CLOSED);
+        }
+
         @Test
         @DisplayName("Should throw when webhook not found for update")
         void shouldThrowWhenWebhookNotFoundForUpdate() {
@@ -397,8 +432,8 @@ class WebhookServiceTest {
     class HandleWebhookEventTests {
 
         @Test
-        @DisplayName("Should send webhook to all matching enabled configs")
-        void shouldSendToAllMatchingConfigs() {
+        @DisplayName("Should queue one delivery job per matching enabled config")
+        void shouldQueueJobForAllMatchingConfigs() throws Exception {
             // Given
             WebhookConfig config2 = WebhookConfig.builder()
                     .id(UUID.randomUUID())
@@ -416,7 +451,6 @@ class WebhookServiceTest {
             when(webhookConfigRepository.findByOrganizationIdAndEnabledAndEventsContaining(
                     organizationId, true, WebhookEventType.TASK_CREATED))
                     .thenReturn(List.of(testConfig, config2));
-            when(webhookSender.send(anyString(), any(Map.class), any())).thenReturn(200);
 
             Map<String, Object> data = Map.of("taskId", UUID.randomUUID().toString(), "title", "Test Task");
 
@@ -424,11 +458,23 @@ class WebhookServiceTest {
             webhookService.handleWebhookEvent(organizationId, WebhookEventType.TASK_CREATED, data);
 
             // Then
-            verify(webhookSender, times(2)).send(anyString(), any(Map.class), any());
+            ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+            verify(backgroundJobService, times(2)).scheduleJob(eq(JobType.WEBHOOK_CALL), payloads.capture());
+            List<JsonNode> jobs = new ArrayList<>();
+            for (String payload : payloads.getAllValues()) {
+                jobs.add(objectMapper.readTree(payload));
+            }
+            assertThat(jobs).extracting(job -> job.get("webhookId").asText())
+                    .containsExactly(webhookId.toString(), config2.getId().toString());
+            assertThat(jobs).allSatisfy(job -> {
+                assertThat(job.at("/body/event").asText()).isEqualTo("task.created");
+                assertThat(job.at("/body/organizationId").asText()).isEqualTo(organizationId.toString());
+                assertThat(job.at("/body/data/title").asText()).isEqualTo("Test Task");
+            });
         }
 
         @Test
-        @DisplayName("Should not fail when no matching configs exist")
+        @DisplayName("Should not queue anything when no matching configs exist")
         void shouldNotFailWhenNoMatchingConfigs() {
             // Given
             when(webhookConfigRepository.findByOrganizationIdAndEnabledAndEventsContaining(
@@ -441,42 +487,46 @@ class WebhookServiceTest {
             webhookService.handleWebhookEvent(organizationId, WebhookEventType.GOAL_COMPLETED, data);
 
             // Then
+            verify(backgroundJobService, never()).scheduleJob(any(), anyString());
             verify(webhookSender, never()).send(anyString(), any(), any());
         }
 
         @Test
-        @DisplayName("Should continue sending to other configs when one fails")
-        void shouldContinueSendingWhenOneFails() {
+        @DisplayName("Should hold deliveries to webhooks whose circuit is open until it reopens")
+        void shouldDelayDeliveriesWhileCircuitOpen() {
             // Given
-            WebhookConfig failingConfig = WebhookConfig.builder()
-                    .id(UUID.randomUUID())
-                    .organizationId(organizationId)
-                    .service(WebhookServiceType.CUSTOM)
-                    .webhookUrl("https://failing-webhook.example.com")
-                    .name("Failing Webhook")
-                    .events(List.of(WebhookEventType.TASK_CREATED))
-                    .enabled(true)
-                    .createdById(userId)
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .build();
-
+            LocalDateTime openUntil = LocalDateTime.now().plusMinutes(5);
+            testConfig.setConsecutiveFailures(WebhookConfig.CIRCUIT_FAILURE_THRESHOLD);
+            testConfig.setCircuitOpenUntil(openUntil);
             when(webhookConfigRepository.findByOrganizationIdAndEnabledAndEventsContaining(
                     organizationId, true, WebhookEventType.TASK_CREATED))
-                    .thenReturn(List.of(failingConfig, testConfig));
+                    .thenReturn(List.of(testConfig));
 
-            when(webhookSender.send(eq("https://failing-webhook.example.com"), any(Map.class), any()))
-                    .thenThrow(new RuntimeException("Connection timeout"));
-            when(webhookSender.send(eq("https://hooks.slack.com/services/test"), any(Map.class), any()))
-                    .thenReturn(200);
+            // When
+            webhookService.handleWebhookEvent(organizationId, WebhookEventType.TASK_CREATED, Map.of());
+
+            // Then
+            verify(backgroundJobService).scheduleJob(eq(JobType.WEBHOOK_CALL), anyString(),
+                    eq(BackgroundJob.PRIORITY_NORMAL), eq(openUntil));
+            verify(backgroundJobService, never()).scheduleJob(any(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should not call webhook endpoints on the caller's thread")
+        void shouldNotSendSynchronously() {
+            // Given
+            when(webhookConfigRepository.findByOrganizationIdAndEnabledAndEventsContaining(
+                    organizationId, true, WebhookEventType.TASK_CREATED))
+                    .thenReturn(List.of(testConfig));
 
             Map<String, Object> data = Map.of("taskId", UUID.randomUUID().toString());
 
-            // When - should not throw despite one failure
+            // When
             webhookService.handleWebhookEvent(organizationId, WebhookEventType.TASK_CREATED, data);
 
-            // Then - both should have been attempted
-            verify(webhookSender, times(2)).send(anyString(), any(Map.class), any());
+            // Then
+            verify(backgroundJobService).scheduleJob(eq(JobType.WEBHOOK_CALL), anyString());
+            verifyNoInteractions(webhookSender);
         }
     }
 
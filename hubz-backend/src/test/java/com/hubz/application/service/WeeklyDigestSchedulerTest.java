@@ -1,20 +1,25 @@
 package com.hubz.application.service;
 
 import com.hubz.application.port.out.UserPreferencesRepositoryPort;
+import com.hubz.application.service.email.BulkEmailSender;
 import com.hubz.domain.model.UserPreferences;
+import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSender;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +32,15 @@ class WeeklyDigestSchedulerTest {
     @Mock
     private WeeklyDigestService weeklyDigestService;
 
-    @InjectMocks
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private MimeMessage digest1;
+
+    @Mock
+    private MimeMessage digest2;
+
     private WeeklyDigestScheduler weeklyDigestScheduler;
 
     private UserPreferences userPrefs1;
@@ -35,35 +48,45 @@ class WeeklyDigestSchedulerTest {
 
     @BeforeEach
     void setUp() {
+        weeklyDigestScheduler = scheduler(500, 4, 0, 1, 50);
+
+        // UUID hash codes 1 and 2: user 1 falls in shard 1 of 2, user 2 in shard 0
         userPrefs1 = UserPreferences.builder()
                 .id(UUID.randomUUID())
-                .userId(UUID.randomUUID())
+                .userId(new UUID(0, 1))
                 .digestEnabled(true)
                 .createdAt(LocalDateTime.now())
                 .build();
 
         userPrefs2 = UserPreferences.builder()
                 .id(UUID.randomUUID())
-                .userId(UUID.randomUUID())
+                .userId(new UUID(0, 2))
                 .digestEnabled(true)
                 .createdAt(LocalDateTime.now())
                 .build();
     }
 
+    private WeeklyDigestScheduler scheduler(int batchSize, int parallelism, int shardIndex, int shardCount,
+                                            int emailBatchSize) {
+        return new WeeklyDigestScheduler(preferencesRepository, weeklyDigestService,
+                new BulkEmailSender(mailSender, emailBatchSize, 0), batchSize, parallelism, shardIndex, shardCount);
+    }
+
     @Test
     @DisplayName("Should send digest to all users with digest enabled")
     void shouldSendDigestToAllUsersWithDigestEnabled() {
         // Given
         when(preferencesRepository.findByDigestEnabledTrue())
                 .thenReturn(List.of(userPrefs1, userPrefs2));
+        when(weeklyDigestService.createWeeklyDigestEmails(List.of(userPrefs1.getUserId(), userPrefs2.getUserId())))
+                .thenReturn(List.of(digest1, digest2));
 
         // When
         weeklyDigestScheduler.sendWeeklyDigests();
 
         // Then
-        verify(weeklyDigestService).sendWeeklyDigest(userPrefs1.getUserId());
-        verify(weeklyDigestService).sendWeeklyDigest(userPrefs2.getUserId());
-        verify(weeklyDigestService, times(2)).sendWeeklyDigest(any(UUID.class));
+        verify(weeklyDigestService).createWeeklyDigestEmails(anyList());
+        verify(mailSender).send(digest1, digest2);
     }
 
     @Test
@@ -77,24 +100,94 @@ class WeeklyDigestSchedulerTest {
         weeklyDigestScheduler.sendWeeklyDigests();
 
         // Then
-        verify(weeklyDigestService, never()).sendWeeklyDigest(any(UUID.class));
+        verify(weeklyDigestService, never()).createWeeklyDigestEmails(anyList());
+        verify(mailSender, never()).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    @DisplayName("Should build digests for batches of users on separate workers")
+    void shouldBuildDigestsPerBatch() {
+        // Given
+        weeklyDigestScheduler = scheduler(1, 2, 0, 1, 50);
+        when(preferencesRepository.findByDigestEnabledTrue())
+                .thenReturn(List.of(userPrefs1, userPrefs2));
+        when(weeklyDigestService.createWeeklyDigestEmails(List.of(userPrefs1.getUserId())))
+                .thenReturn(List.of(digest1));
+        when(weeklyDigestService.createWeeklyDigestEmails(List.of(userPrefs2.getUserId())))
+                .thenReturn(List.of(digest2));
+
+        // When
+        weeklyDigestScheduler.sendWeeklyDigests();
+
+        // Then
+        verify(mailSender).send(new MimeMessage[]{digest1});
+        verify(mailSender).send(new MimeMessage[]{digest2});
     }
 
     @Test
-    @DisplayName("Should continue processing other users when one fails")
+    @DisplayName("Should continue processing other batches when one fails")
     void shouldContinueProcessingWhenOneFails() {
         // Given
+        weeklyDigestScheduler = scheduler(1, 2, 0, 1, 50);
         when(preferencesRepository.findByDigestEnabledTrue())
                 .thenReturn(List.of(userPrefs1, userPrefs2));
-        doThrow(new RuntimeException("Failed")).when(weeklyDigestService)
-                .sendWeeklyDigest(userPrefs1.getUserId());
+        when(weeklyDigestService.createWeeklyDigestEmails(List.of(userPrefs1.getUserId())))
+                .thenThrow(new RuntimeException("Failed"));
+        when(weeklyDigestService.createWeeklyDigestEmails(List.of(userPrefs2.getUserId())))
+                .thenReturn(List.of(digest2));
 
         // When
         weeklyDigestScheduler.sendWeeklyDigests();
 
         // Then
-        verify(weeklyDigestService).sendWeeklyDigest(userPrefs1.getUserId());
-        verify(weeklyDigestService).sendWeeklyDigest(userPrefs2.getUserId());
+        verify(mailSender).send(new MimeMessage[]{digest2});
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    @DisplayName("Should send digests in batches over one connection each")
+    void shouldSendDigestsInBatches() {
+        // Given
+        weeklyDigestScheduler = scheduler(500, 4, 0, 1, 1);
+        when(preferencesRepository.findByDigestEnabledTrue())
+                .thenReturn(List.of(userPrefs1, userPrefs2));
+        when(weeklyDigestService.createWeeklyDigestEmails(anyList())).thenReturn(List.of(digest1, digest2));
+
+        // When
+        weeklyDigestScheduler.sendWeeklyDigests();
+
+        // Then
+        verify(mailSender).send(new MimeMessage[]{digest1});
+        verify(mailSender).send(new MimeMessage[]{digest2});
+    }
+
+    @Test
+    @DisplayName("Should only process the users of its own shard")
+    void shouldOnlyProcessOwnShard() {
+        // Given
+        when(preferencesRepository.findByDigestEnabledTrue())
+                .thenReturn(List.of(userPrefs1, userPrefs2));
+        when(weeklyDigestService.createWeeklyDigestEmails(List.of(userPrefs1.getUserId())))
+                .thenReturn(List.of(digest1));
+        when(weeklyDigestService.createWeeklyDigestEmails(List.of(userPrefs2.getUserId())))
+                .thenReturn(List.of(digest2));
+
+        // When
+        scheduler(500, 4, 0, 2, 50).sendWeeklyDigests();
+        scheduler(500, 4, 1, 2, 50).sendWeeklyDigests();
+
+        // Then - each user is handled by exactly one of the two shards
+        verify(weeklyDigestService, times(2)).createWeeklyDigestEmails(anyList());
+        verify(mailSender).send(new MimeMessage[]{digest1});
+        verify(mailSender).send(new MimeMessage[]{digest2});
+    }
+
+    @Test
+    @DisplayName("Should reject a shard index outside the shard count")
+    void shouldRejectInvalidShard() {
+        assertThatThrownBy(() -> scheduler(500, 4, 2, 2, 50))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("shard");
     }
 
     @Test
@@ -103,11 +196,14 @@ class WeeklyDigestSchedulerTest {
         // Given
         when(preferencesRepository.findByDigestEnabledTrue())
                 .thenReturn(List.of(userPrefs1));
+        when(weeklyDigestService.createWeeklyDigestEmails(List.of(userPrefs1.getUserId())))
+                .thenReturn(List.of(digest1));
 
         // When
         weeklyDigestScheduler.sendWeeklyDigestsManually();
 
         // Then
-        verify(weeklyDigestService).sendWeeklyDigest(userPrefs1.getUserId());
+        verify(weeklyDigestService).createWeeklyDigestEmails(List.of(userPrefs1.getUserId()));
+        verify(mailSender).send(new MimeMessage[]{digest1});
     }
 }
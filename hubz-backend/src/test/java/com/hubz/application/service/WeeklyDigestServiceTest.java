@@ -15,6 +15,8 @@ import com.hubz.domain.model.Habit;
 import com.hubz.domain.model.HabitLog;
 import com.hubz.domain.model.Task;
 import com.hubz.domain.model.User;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -27,6 +29,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -144,22 +147,11 @@ class WeeklyDigestServiceTest {
                     .type(GoalType.MEDIUM)
                     .build();
 
-            Task completedTask = Task.builder()
-                    .id(UUID.randomUUID())
-                    .goalId(goalId1)
-                    .status(TaskStatus.DONE)
-                    .build();
-
-            Task incompleteTask = Task.builder()
-                    .id(UUID.randomUUID())
-                    .goalId(goalId2)
-                    .status(TaskStatus.TODO)
-                    .build();
-
             when(taskRepository.findByAssigneeId(userId)).thenReturn(Collections.emptyList());
             when(goalRepository.findPersonalGoals(userId)).thenReturn(List.of(completedGoal, inProgressGoal));
-            when(taskRepository.findByGoalId(goalId1)).thenReturn(List.of(completedTask));
-            when(taskRepository.findByGoalId(goalId2)).thenReturn(List.of(incompleteTask));
+            when(taskRepository.countByGoalIdsAndStatus(List.of(goalId1, goalId2))).thenReturn(Map.of(
+                    goalId1, Map.of(TaskStatus.DONE, 1L),
+                    goalId2, Map.of(TaskStatus.TODO, 1L)));
             when(habitRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
             when(eventRepository.findPersonalEventsByTimeRange(eq(userId), any(), any()))
                     .thenReturn(Collections.emptyList());
@@ -264,15 +256,10 @@ class WeeklyDigestServiceTest {
                     .type(GoalType.SHORT)
                     .build();
 
-            Task completedTask = Task.builder()
-                    .id(UUID.randomUUID())
-                    .goalId(goalId)
-                    .status(TaskStatus.DONE)
-                    .build();
-
             when(taskRepository.findByAssigneeId(userId)).thenReturn(Collections.emptyList());
             when(goalRepository.findPersonalGoals(userId)).thenReturn(List.of(goal));
-            when(taskRepository.findByGoalId(goalId)).thenReturn(List.of(completedTask));
+            when(taskRepository.countByGoalIdsAndStatus(List.of(goalId)))
+                    .thenReturn(Map.of(goalId, Map.of(TaskStatus.DONE, 1L)));
             when(habitRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
             when(eventRepository.findPersonalEventsByTimeRange(eq(userId), any(), any()))
                     .thenReturn(Collections.emptyList());
@@ -353,4 +340,149 @@ class WeeklyDigestServiceTest {
             );
         }
     }
+
+    @Nested
+    @DisplayName("Generate Digests Tests")
+    class GenerateDigestsTests {
+
+        @Test
+        @DisplayName("Should compute each user's digest from bulk-loaded data")
+        void shouldComputeDigestPerUser() {
+            // Given
+            UUID otherUserId = UUID.randomUUID();
+            UUID goalId = UUID.randomUUID();
+            UUID habitId = UUID.randomUUID();
+            Task doneThisWeek = Task.builder()
+                    .id(UUID.randomUUID())
+                    .assigneeId(userId)
+                    .status(TaskStatus.DONE)
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            Goal goal = Goal.builder()
+                    .id(goalId)
+                    .userId(otherUserId)
+                    .title("Read more")
+                    .type(GoalType.SHORT)
+                    .build();
+            Habit habit = Habit.builder()
+                    .id(habitId)
+                    .userId(otherUserId)
+                    .name("Exercise")
+                    .frequency(HabitFrequency.DAILY)
+                    .build();
+            Event event = Event.builder()
+                    .id(UUID.randomUUID())
+                    .title("Meeting")
+                    .userId(userId)
+                    .build();
+
+            List<UUID> userIds = List.of(userId, otherUserId);
+            when(taskRepository.findCompletedByAssigneeIdsSince(eq(userIds), any()))
+                    .thenReturn(List.of(doneThisWeek));
+            when(goalRepository.findPersonalGoalsByUserIds(userIds)).thenReturn(List.of(goal));
+            when(taskRepository.countByGoalIdsAndStatus(List.of(goalId)))
+                    .thenReturn(Map.of(goalId, Map.of(TaskStatus.DONE, 1L)));
+            when(habitRepository.findByUserIdIn(userIds)).thenReturn(List.of(habit));
+            when(habitLogRepository.findByHabitIdInAndDateRange(eq(List.of(habitId)), any(), any()))
+                    .thenReturn(Collections.emptyList());
+            when(eventRepository.findPersonalEventsByUserIdsAndTimeRange(eq(userIds), any(), any()))
+                    .thenReturn(List.of(event));
+
+            // When
+            Map<UUID, WeeklyDigestService.WeeklyDigestData> digests = weeklyDigestService.generateDigests(userIds);
+
+            // Then
+            assertThat(digests).containsOnlyKeys(userId, otherUserId);
+            assertThat(digests.get(userId).tasksCompletedThisWeek()).isEqualTo(1);
+            assertThat(digests.get(userId).upcomingEventsCount()).isEqualTo(1);
+            assertThat(digests.get(userId).goalsCompleted()).isZero();
+            assertThat(digests.get(userId).habitsCompletionRate()).isEqualTo(100);
+            assertThat(digests.get(otherUserId).tasksCompletedThisWeek()).isZero();
+            assertThat(digests.get(otherUserId).goalsCompleted()).isEqualTo(1);
+            assertThat(digests.get(otherUserId).habitsCompletionRate()).isZero();
+            verify(taskRepository, never()).findByGoalId(any());
+            verify(taskRepository, never()).findByAssigneeId(any());
+        }
+
+        @Test
+        @DisplayName("Should match the digest generated for a single user")
+        void shouldMatchSingleUserDigest() {
+            // Given
+            Task doneLastWeek = Task.builder()
+                    .id(UUID.randomUUID())
+                    .assigneeId(userId)
+                    .status(TaskStatus.DONE)
+                    .updatedAt(LocalDateTime.now().minusWeeks(1))
+                    .build();
+            when(taskRepository.findByAssigneeId(userId)).thenReturn(List.of(doneLastWeek));
+            when(taskRepository.findCompletedByAssigneeIdsSince(eq(List.of(userId)), any()))
+                    .thenReturn(List.of(doneLastWeek));
+            when(eventRepository.findPersonalEventsByTimeRange(eq(userId), any(), any()))
+                    .thenReturn(Collections.emptyList());
+
+            // When
+            WeeklyDigestService.WeeklyDigestData single = weeklyDigestService.generateDigest(userId);
+            Map<UUID, WeeklyDigestService.WeeklyDigestData> bulk = weeklyDigestService.generateDigests(List.of(userId));
+
+            // Then
+            assertThat(bulk.get(userId)).isEqualTo(single);
+            verify(habitLogRepository, never()).findByHabitIdInAndDateRange(anyList(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not query anything for an empty user list")
+        void shouldNotQueryForEmptyList() {
+            // When
+            Map<UUID, WeeklyDigestService.WeeklyDigestData> digests =
+                    weeklyDigestService.generateDigests(Collections.emptyList());
+
+            // Then
+            assertThat(digests).isEmpty();
+            verifyNoInteractions(taskRepository, goalRepository, habitRepository, eventRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Create Weekly Digest Emails Tests")
+    class CreateWeeklyDigestEmailsTests {
+
+        @Test
+        @DisplayName("Should build the digest emails without sending them")
+        void shouldBuildDigestEmails() throws Exception {
+            // Given
+            MimeMessage message = mock(MimeMessage.class);
+            UUID missingUserId = UUID.randomUUID();
+            List<UUID> userIds = List.of(userId, missingUserId);
+            when(userRepository.findAllByIds(userIds)).thenReturn(List.of(testUser));
+            when(emailService.createWeeklyDigestEmail(
+                    eq(testUser.getEmail()), eq(testUser.getFirstName()),
+                    anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any()))
+                    .thenReturn(message);
+
+            // When
+            List<MimeMessage> emails = weeklyDigestService.createWeeklyDigestEmails(userIds);
+
+            // Then
+            assertThat(emails).containsExactly(message);
+            verify(userRepository, never()).findById(any());
+            verify(emailService, never()).sendWeeklyDigestEmail(
+                    any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("Should skip users whose email cannot be built")
+        void shouldSkipUsersWhoseEmailFails() throws Exception {
+            // Given
+            when(userRepository.findAllByIds(List.of(userId))).thenReturn(List.of(testUser));
+            when(emailService.createWeeklyDigestEmail(
+                    any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any()))
+                    .thenThrow(new MessagingException("Invalid address"));
+
+            // When
+            List<MimeMessage> emails = weeklyDigestService.createWeeklyDigestEmails(List.of(userId));
+
+            // Then
+            assertThat(emails).isEmpty();
+        }
+    }
 }
@@ -0,0 +1,285 @@
+package com.hubz.application.service.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkEmailSender Unit Tests")
+@Slf4j
+class BulkEmailSenderTest {
+
+    @Nested
+    @DisplayName("Batching Tests")
+    class BatchingTests {
+
+        @Mock
+        private JavaMailSender mailSender;
+
+        @Test
+        @DisplayName("Should send a batch as soon as it is full")
+        void shouldSendFullBatches() {
+            // Given
+            BulkEmailSender sender = new BulkEmailSender(mailSender, 2, 0);
+            MimeMessage first = mock(MimeMessage.class);
+            MimeMessage second = mock(MimeMessage.class);
+            MimeMessage third = mock(MimeMessage.class);
+            BulkEmailSender.Batch batch = sender.newBatch();
+
+            // When
+            batch.add(first);
+            batch.add(second);
+            batch.add(third);
+
+            // Then
+            verify(mailSender).send(first, second);
+            verify(mailSender, never()).send(new MimeMessage[]{third});
+            assertThat(batch.getSent()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should send the remaining messages on flush")
+        void shouldSendRemainderOnFlush() {
+            // Given
+            BulkEmailSender sender = new BulkEmailSender(mailSender, 2, 0);
+            MimeMessage first = mock(MimeMessage.class);
+            MimeMessage second = mock(MimeMessage.class);
+            MimeMessage third = mock(MimeMessage.class);
+            BulkEmailSender.Batch batch = sender.newBatch();
+            batch.add(first);
+            batch.add(second);
+            batch.add(third);
+
+            // When
+            batch.flush();
+            batch.flush();
+
+            // Then
+            verify(mailSender).send(new MimeMessage[]{third});
+            verify(mailSender, times(2)).send(any(MimeMessage[].class));
+            assertThat(batch.getSent()).isEqualTo(3);
+            assertThat(batch.getFailed()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should not send anything when no message was added")
+        void shouldNotSendEmptyBatch() {
+            // Given
+            BulkEmailSender.Batch batch = new BulkEmailSender(mailSender, 2, 0).newBatch();
+
+            // When
+            batch.flush();
+
+            // Then
+            verify(mailSender, never()).send(any(MimeMessage[].class));
+        }
+
+        @Test
+        @DisplayName("Should count only the messages the server rejected as failed")
+        void shouldCountRejectedMessages() {
+            // Given
+            BulkEmailSender sender = new BulkEmailSender(mailSender, 3, 0);
+            MimeMessage accepted = mock(MimeMessage.class);
+            MimeMessage rejected = mock(MimeMessage.class);
+            doThrow(new MailSendException("Failed messages", null,
+                    Map.of(rejected, new MessagingException("550 Mailbox unavailable"))))
+                    .when(mailSender).send(accepted, rejected);
+            BulkEmailSender.Batch batch = sender.newBatch();
+            batch.add(accepted);
+            batch.add(rejected);
+
+            // When
+            batch.flush();
+
+            // Then
+            assertThat(batch.getSent()).isEqualTo(1);
+            assertThat(batch.getFailed()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should count the whole batch as failed when the server cannot be reached")
+        void shouldCountWholeBatchWhenConnectionFails() {
+            // Given
+            BulkEmailSender sender = new BulkEmailSender(mailSender, 2, 0);
+            doThrow(new MailAuthenticationException("Bad credentials"))
+                    .when(mailSender).send(any(MimeMessage[].class));
+            BulkEmailSender.Batch batch = sender.newBatch();
+
+            // When
+            batch.add(mock(MimeMessage.class));
+            batch.add(mock(MimeMessage.class));
+            batch.add(mock(MimeMessage.class));
+            batch.flush();
+
+            // Then
+            assertThat(batch.getSent()).isZero();
+            assertThat(batch.getFailed()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should pause between batches to stay under the configured rate")
+        void shouldThrottleToMaxPerSecond() {
+            // Given
+            BulkEmailSender sender = new BulkEmailSender(mailSender, 5, 50);
+            BulkEmailSender.Batch batch = sender.newBatch();
+            long start = System.nanoTime();
+
+            // When
+            for (int i = 0; i < 15; i++) {
+                batch.add(mock(MimeMessage.class));
+            }
+
+            // Then - the third batch of 5 at 50 per second cannot start before 200 ms
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+            assertThat(batch.getSent()).isEqualTo(15);
+        }
+
+        @Test
+        @DisplayName("Should share the rate between batches sent from several threads")
+        void shouldThrottleAcrossThreads() throws Exception {
+            // Given
+            BulkEmailSender sender = new BulkEmailSender(mailSender, 5, 50);
+            long start = System.nanoTime();
+
+            // When
+            List<BulkEmailSender.Batch> batches;
+            try (ExecutorService threads = Executors.newFixedThreadPool(4)) {
+                List<Future<BulkEmailSender.Batch>> results = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    results.add(threads.submit(() -> {
+                        BulkEmailSender.Batch batch = sender.newBatch();
+                        batch.add(mock(MimeMessage.class));
+                        batch.add(mock(MimeMessage.class));
+                        batch.add(mock(MimeMessage.class));
+                        batch.add(mock(MimeMessage.class));
+                        batch.add(mock(MimeMessage.class));
+                        return batch;
+                    }));
+                }
+                batches = new ArrayList<>();
+                for (Future<BulkEmailSender.Batch> result : results) {
+                    batches.add(result.get());
+                }
+            }
+
+            // Then - 4 batches of 5 at 50 per second in total, so the last one starts after 300 ms
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(300));
+            assertThat(batches).allSatisfy(batch -> assertThat(batch.getSent()).isEqualTo(5));
+        }
+    }
+
+    @Nested
+    @DisplayName("SMTP Delivery Tests")
+    class SmtpDeliveryTests {
+
+        private static final int MESSAGES = 100;
+        private static final Duration SESSION_SETUP = Duration.ofMillis(10);
+
+        private FakeSmtpServer smtpServer;
+        private JavaMailSenderImpl mailSender;
+
+        @BeforeEach
+        void setUp() throws Exception {
+            smtpServer = new FakeSmtpServer(SESSION_SETUP);
+            mailSender = new JavaMailSenderImpl();
+            mailSender.setHost("localhost");
+            mailSender.setPort(smtpServer.getPort());
+        }
+
+        @AfterEach
+        void tearDown() throws Exception {
+            smtpServer.close();
+        }
+
+        @Test
+        @DisplayName("Should deliver every message over one SMTP session per batch")
+        void shouldReuseSessionPerBatch() throws Exception {
+            // Given
+            BulkEmailSender.Batch batch = new BulkEmailSender(mailSender, 25, 0).newBatch();
+            List<MimeMessage> messages = messages(MESSAGES);
+
+            // When
+            messages.forEach(batch::add);
+            batch.flush();
+
+            // Then
+            assertThat(batch.getSent()).isEqualTo(MESSAGES);
+            assertThat(smtpServer.getMessageCount()).isEqualTo(MESSAGES);
+            assertThat(smtpServer.getSessionCount()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should send faster in batches than one message per session")
+        void shouldSendFasterThanOneSessionPerMessage() throws Exception {
+            // Given
+            List<MimeMessage> messages = messages(MESSAGES);
+
+            // When
+            long start = System.nanoTime();
+            messages.forEach(mailSender::send);
+            Duration oneByOne = Duration.ofNanos(System.nanoTime() - start);
+            int oneByOneSessions = smtpServer.getSessionCount();
+
+            BulkEmailSender.Batch batch = new BulkEmailSender(mailSender, 50, 0).newBatch();
+            start = System.nanoTime();
+            messages.forEach(batch::add);
+            batch.flush();
+            Duration batched = Duration.ofNanos(System.nanoTime() - start);
+
+            // Then
+            log.info("{} emails: {} msg/s one per session, {} msg/s in batches of 50",
+                    MESSAGES, perSecond(oneByOne), perSecond(batched));
+            assertThat(oneByOneSessions).isEqualTo(MESSAGES);
+            assertThat(smtpServer.getSessionCount() - oneByOneSessions).isEqualTo(2);
+            assertThat(smtpServer.getMessageCount()).isEqualTo(2 * MESSAGES);
+            assertThat(batched).isLessThan(oneByOne);
+        }
+
+        private List<MimeMessage> messages(int count) throws MessagingException {
+            List<MimeMessage> messages = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+                helper.setFrom("noreply@hubz.com");
+                helper.setTo("user" + i + "@hubz.com");
+                helper.setSubject("Votre recap hebdomadaire Hubz");
+                helper.setText("<p>Bonjour " + i + "</p>", true);
+                messages.add(message);
+            }
+            return messages;
+        }
+
+        private long perSecond(Duration elapsed) {
+            return MESSAGES * 1_000L / Math.max(1, elapsed.toMillis());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.hubz.application.service.email;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EmailTemplate Unit Tests")
+class EmailTemplateTest {
+
+    @Nested
+    @DisplayName("Compile Tests")
+    class CompileTests {
+
+        @Test
+        @DisplayName("Should reject an unclosed placeholder")
+        void shouldRejectUnclosedPlaceholder() {
+            assertThatThrownBy(() -> EmailTemplate.compile("broken", "<p>{{firstName</p>"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("broken");
+        }
+
+        @Test
+        @DisplayName("Should reject a placeholder with an invalid name")
+        void shouldRejectInvalidPlaceholderName() {
+            assertThatThrownBy(() -> EmailTemplate.compile("broken", "<p>{{first name}}</p>"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("{{first name}}");
+        }
+
+        @Test
+        @DisplayName("Should load and compile every email template")
+        void shouldLoadAllTemplates() {
+            // When
+            EmailTemplates templates = new EmailTemplates();
+
+            // Then
+            assertThat(templates.getWeeklyDigest().getName()).isEqualTo("weekly-digest");
+            assertThat(templates.getDeadlineReminderItem().getName()).isEqualTo("deadline-reminder-item");
+        }
+    }
+
+    @Nested
+    @DisplayName("Render Tests")
+    class RenderTests {
+
+        @Test
+        @DisplayName("Should replace every occurrence of each placeholder")
+        void shouldReplacePlaceholders() {
+            // Given
+            EmailTemplate template = EmailTemplate.compile("test",
+                    "<a href=\"{{url}}\">{{url}}</a> {{ firstName }}, 100% {{count}}");
+            Map<String, Object> values = new HashMap<>();
+            values.put("url", "https://hubz.com");
+            values.put("firstName", "Jean");
+            values.put("count", 3);
+
+            // When
+            String html = template.render(values);
+
+            // Then
+            assertThat(html).isEqualTo("<a href=\"https://hubz.com\">https://hubz.com</a> Jean, 100% 3");
+        }
+
+        @Test
+        @DisplayName("Should insert values verbatim without reinterpreting them")
+        void shouldInsertValuesVerbatim() {
+            // Given
+            EmailTemplate template = EmailTemplate.compile("test", "<p>{{message}}</p>");
+
+            // When
+            String html = template.render(Map.of("message", "{{message}} %s <b>"));
+
+            // Then
+            assertThat(html).isEqualTo("<p>{{message}} %s <b></p>");
+        }
+
+        @Test
+        @DisplayName("Should render null values as null")
+        void shouldRenderNullValues() {
+            // Given
+            EmailTemplate template = EmailTemplate.compile("test", "Bonjour {{firstName}}");
+            Map<String, Object> values = new HashMap<>();
+            values.put("firstName", null);
+
+            // When & Then
+            assertThat(template.render(values)).isEqualTo("Bonjour null");
+        }
+
+        @Test
+        @DisplayName("Should throw when a placeholder has no value")
+        void shouldThrowWhenValueMissing() {
+            // Given
+            EmailTemplate template = EmailTemplate.compile("test", "Bonjour {{firstName}}");
+
+            // When & Then
+            assertThatThrownBy(() -> template.render(Map.of()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("{{firstName}}");
+        }
+
+        @Test
+        @DisplayName("Should append fragments rendered into a buffer")
+        void shouldAppendFragments() {
+            // Given
+            EmailTemplate item = EmailTemplate.compile("item", "<li>{{title}}</li>");
+            EmailTemplate list = EmailTemplate.compile("list", "<ul>{{items}}</ul>");
+            StringBuilder items = new StringBuilder();
+            item.renderTo(items, Map.of("title", "A"));
+            item.renderTo(items, Map.of("title", "B"));
+
+            // When
+            String html = list.render(Map.of("items", items));
+
+            // Then
+            assertThat(html).isEqualTo("<ul><li>A</li><li>B</li></ul>");
+        }
+
+        @Test
+        @DisplayName("Should not leak content between renders on the same thread")
+        void shouldReuseBufferCleanly() {
+            // Given
+            EmailTemplate template = EmailTemplate.compile("test", "[{{value}}]");
+
+            // When
+            String first = template.render(Map.of("value", "a much longer first value"));
+            String second = template.render(Map.of("value", "b"));
+
+            // Then
+            assertThat(first).isEqualTo("[a much longer first value]");
+            assertThat(second).isEqualTo("[b]");
+        }
+    }
+}
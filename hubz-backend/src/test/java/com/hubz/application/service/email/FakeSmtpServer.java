@@ -0,0 +1,106 @@
+package com.hubz.application.service.email;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local SMTP server for tests. Accepts any sender and recipient without TLS or authentication
+ * and counts the sessions opened and the messages received. Each session waits
+ * {@code sessionSetupLatency} before greeting the client, standing in for the TLS handshake
+ * and login of a real server.
+ */
+class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Duration sessionSetupLatency;
+    private final ExecutorService sessions = Executors.newCachedThreadPool();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final AtomicInteger messageCount = new AtomicInteger();
+
+    FakeSmtpServer(Duration sessionSetupLatency) throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.sessionSetupLatency = sessionSetupLatency;
+        sessions.execute(this::acceptSessions);
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    int getSessionCount() {
+        return sessionCount.get();
+    }
+
+    int getMessageCount() {
+        return messageCount.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        sessions.shutdownNow();
+    }
+
+    private void acceptSessions() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                sessions.execute(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII)) {
+            sessionCount.incrementAndGet();
+            Thread.sleep(sessionSetupLatency);
+            reply(out, "220 localhost ESMTP fake");
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() < 4 ? line : line.substring(0, 4).toUpperCase(Locale.ROOT);
+                switch (command) {
+                    case "EHLO", "HELO", "MAIL", "RCPT", "RSET", "NOOP" -> reply(out, "250 OK");
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // Discard the message content
+                        }
+                        messageCount.incrementAndGet();
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            // Client went away
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void reply(Writer out, String response) throws IOException {
+        out.write(response + "\r\n");
+        out.flush();
+    }
+}
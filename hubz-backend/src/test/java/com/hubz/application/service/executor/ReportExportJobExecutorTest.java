@@ -0,0 +1,149 @@
+package com.hubz.application.service.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.port.out.ReportExportRepositoryPort;
+import com.hubz.application.service.FileStorageService;
+import com.hubz.application.service.ReportService;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.enums.ReportExportStatus;
+import com.hubz.domain.enums.ReportFormat;
+import com.hubz.domain.enums.ReportType;
+import com.hubz.domain.exception.AccessDeniedException;
+import com.hubz.domain.exception.ReportExportNotFoundException;
+import com.hubz.domain.model.ReportExport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportExportJobExecutor Unit Tests")
+class ReportExportJobExecutorTest {
+
+    @Mock
+    private ReportExportRepositoryPort exportRepository;
+
+    @Mock
+    private ReportService reportService;
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageService fileStorageService;
+    private ReportExportJobExecutor executor;
+
+    private UUID exportId;
+    private UUID userId;
+    private UUID orgId;
+    private List<ReportExportStatus> savedStatuses;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageService = new FileStorageService(uploadDir.toString());
+        executor = new ReportExportJobExecutor(exportRepository, reportService, fileStorageService, new ObjectMapper());
+        exportId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        orgId = UUID.randomUUID();
+        savedStatuses = new ArrayList<>();
+    }
+
+    private ReportExport givenExport(ReportType reportType, ReportFormat format, UUID organizationId) {
+        ReportExport export = ReportExport.pending(userId, organizationId, reportType, format, "report" + format.getExtension());
+        export.setId(exportId);
+        when(exportRepository.findById(exportId)).thenReturn(Optional.of(export));
+        when(exportRepository.save(any(ReportExport.class))).thenAnswer(invocation -> {
+            ReportExport saved = invocation.getArgument(0);
+            savedStatuses.add(saved.getStatus());
+            return saved;
+        });
+        return export;
+    }
+
+    private String payload() {
+        return "{\"exportId\":\"" + exportId + "\"}";
+    }
+
+    @Test
+    @DisplayName("Should return REPORT_EXPORT as job type")
+    void shouldReturnCorrectJobType() {
+        assertThat(executor.getJobType()).isEqualTo(JobType.REPORT_EXPORT);
+    }
+
+    @Test
+    @DisplayName("Should render the report, store it and mark the export completed")
+    void shouldGenerateAndStoreReport() throws Exception {
+        // Given
+        ReportExport export = givenExport(ReportType.TASKS, ReportFormat.CSV, orgId);
+        byte[] csv = "ID,Title\n1,Task".getBytes();
+        when(reportService.exportTasksToCsv(orgId, userId)).thenReturn(csv);
+
+        // When
+        executor.execute(payload());
+
+        // Then
+        assertThat(export.getStatus()).isEqualTo(ReportExportStatus.COMPLETED);
+        assertThat(export.getProgress()).isEqualTo(100);
+        assertThat(export.getFileSize()).isEqualTo(csv.length);
+        assertThat(export.getFilePath()).isEqualTo("report-exports/" + exportId + ".csv");
+        assertThat(Files.readAllBytes(fileStorageService.getFilePath(export.getFilePath()))).isEqualTo(csv);
+        assertThat(savedStatuses).containsExactly(
+                ReportExportStatus.RUNNING, ReportExportStatus.RUNNING, ReportExportStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should render personal reports for the requesting user")
+    void shouldRenderPersonalReports() throws Exception {
+        // Given
+        givenExport(ReportType.HABITS, ReportFormat.EXCEL, null);
+        when(reportService.exportHabitsToExcel(userId)).thenReturn(new byte[]{1, 2, 3});
+
+        // When
+        executor.execute(payload());
+
+        // Then
+        verify(reportService).exportHabitsToExcel(userId);
+        assertThat(Files.exists(uploadDir.resolve("report-exports").resolve(exportId + ".xlsx"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should mark the export failed and rethrow so the job is retried")
+    void shouldMarkFailedAndRethrow() {
+        // Given
+        ReportExport export = givenExport(ReportType.GOALS, ReportFormat.PDF, orgId);
+        when(reportService.exportGoalsToPdf(orgId, userId)).thenThrow(AccessDeniedException.notMember());
+
+        // When & Then
+        assertThatThrownBy(() -> executor.execute(payload()))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(export.getStatus()).isEqualTo(ReportExportStatus.FAILED);
+        assertThat(export.getError()).isEqualTo("You are not a member of this organization");
+        assertThat(export.getFilePath()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fail when the export no longer exists")
+    void shouldFailWhenExportMissing() {
+        // Given
+        when(exportRepository.findById(exportId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> executor.execute(payload()))
+                .isInstanceOf(ReportExportNotFoundException.class);
+        verifyNoInteractions(reportService);
+    }
+}
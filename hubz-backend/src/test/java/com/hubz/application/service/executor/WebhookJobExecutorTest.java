@@ -0,0 +1,265 @@
+package com.hubz.application.service.executor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.port.out.WebhookConfigRepositoryPort;
+import com.hubz.application.port.out.WebhookSenderPort;
+import com.hubz.application.service.NotificationService;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.enums.WebhookCircuitState;
+import com.hubz.domain.exception.JobDeferredException;
+import com.hubz.domain.exception.WebhookThrottledException;
+import com.hubz.domain.model.WebhookConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookJobExecutor Unit Tests")
+class WebhookJobExecutorTest {
+
+    @Mock
+    private WebhookConfigRepositoryPort webhookConfigRepository;
+
+    @Mock
+    private WebhookSenderPort webhookSender;
+
+    @Mock
+    private NotificationService notificationService;
+
+    private WebhookJobExecutor webhookJobExecutor;
+
+    private UUID webhookId;
+    private String payload;
+
+    @BeforeEach
+    void setUp() {
+        webhookJobExecutor = new WebhookJobExecutor(webhookConfigRepository, webhookSender, notificationService, new ObjectMapper());
+        webhookId = UUID.randomUUID();
+        payload = """
+                {
+                    "webhookId": "%s",
+                    "body": { "event": "task.created", "data": { "title": "Test Task" } }
+                }
+                """.formatted(webhookId);
+    }
+
+    @Test
+    @DisplayName("Should return WEBHOOK_CALL as job type")
+    void shouldReturnCorrectJobType() {
+        assertThat(webhookJobExecutor.getJobType()).isEqualTo(JobType.WEBHOOK_CALL);
+    }
+
+    @Test
+    @DisplayName("Should send the queued body to the current URL and secret of the webhook")
+    void shouldDeliverToConfiguredWebhook() throws Exception {
+        // Given
+        when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(config(true)));
+        when(webhookSender.send(anyString(), any(), any())).thenReturn(204);
+
+        // When
+        webhookJobExecutor.execute(payload);
+
+        // Then
+        verify(webhookSender).send("https://example.com/hook",
+                Map.of("event", "task.created", "data", Map.of("title", "Test Task")), "secret");
+    }
+
+    @Test
+    @DisplayName("Should fail the job when the receiver answers with a non-2xx status")
+    void shouldFailOnErrorStatus() {
+        // Given
+        when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(config(true)));
+        when(webhookSender.send(anyString(), any(), any())).thenReturn(503);
+
+        // When & Then
+        assertThatThrownBy(() -> webhookJobExecutor.execute(payload))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("503");
+    }
+
+    @Test
+    @DisplayName("Should defer a delivery held back by the per-host limit without recording a failure")
+    void shouldDeferThrottledDelivery() {
+        // Given
+        when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(config(true)));
+        when(webhookSender.send(anyString(), any(), any())).thenThrow(new WebhookThrottledException("example.com"));
+
+        // When & Then
+        assertThatThrownBy(() -> webhookJobExecutor.execute(payload))
+                .isInstanceOf(JobDeferredException.class)
+                .satisfies(e -> assertThat(((JobDeferredException) e).getRetryAt()).isAfter(LocalDateTime.now()));
+        verify(webhookConfigRepository, never()).updateDeliveryHealth(any());
+    }
+
+    @Test
+    @DisplayName("Should skip deliveries to webhooks disabled or deleted since the event")
+    void shouldSkipDisabledOrDeletedWebhooks() throws Exception {
+        // Given
+        when(webhookConfigRepository.findById(webhookId))
+                .thenReturn(Optional.of(config(false)))
+                .thenReturn(Optional.empty());
+
+        // When
+        webhookJobExecutor.execute(payload);
+        webhookJobExecutor.execute(payload);
+
+        // Then
+        verify(webhookSender, never()).send(anyString(), any(), any());
+    }
+
+    @Nested
+    @DisplayName("Circuit breaker")
+    class CircuitBreakerTests {
+
+        @Test
+        @DisplayName("Should defer the delivery until the circuit reopens without calling the endpoint")
+        void shouldDeferWhileOpen() {
+            // Given
+            WebhookConfig config = config(true);
+            config.setConsecutiveFailures(WebhookConfig.CIRCUIT_FAILURE_THRESHOLD);
+            LocalDateTime openUntil = LocalDateTime.now().plusMinutes(1);
+            config.setCircuitOpenUntil(openUntil);
+            when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(config));
+
+            // When & Then
+            assertThatThrownBy(() -> webhookJobExecutor.execute(payload))
+                    .isInstanceOf(JobDeferredException.class)
+                    .hasMessageContaining("Circuit open")
+                    .satisfies(e -> assertThat(((JobDeferredException) e).getRetryAt()).isEqualTo(openUntil));
+            verifyNoInteractions(webhookSender);
+            verify(webhookConfigRepository, never()).updateDeliveryHealth(any());
+        }
+
+        @Test
+        @DisplayName("Should open the circuit after consecutive failures")
+        void shouldOpenAfterConsecutiveFailures() {
+            // Given
+            WebhookConfig config = config(true);
+            config.setConsecutiveFailures(WebhookConfig.CIRCUIT_FAILURE_THRESHOLD - 1);
+            when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(config));
+            when(webhookSender.send(anyString(), any(), any())).thenThrow(new RuntimeException("Connect timed out"));
+
+            // When
+            assertThatThrownBy(() -> webhookJobExecutor.execute(payload)).hasMessage("Connect timed out");
+
+            // Then
+            ArgumentCaptor<WebhookConfig> saved = ArgumentCaptor.forClass(WebhookConfig.class);
+            verify(webhookConfigRepository).updateDeliveryHealth(saved.capture());
+            assertThat(saved.getValue().circuitState(LocalDateTime.now())).isEqualTo(WebhookCircuitState.OPEN);
+            assertThat(saved.getValue().getLastError()).isEqualTo("Connect timed out");
+            assertThat(saved.getValue().getFailureRate()).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should send one trial delivery once the open period ends and close the circuit on success")
+        void shouldCloseAfterSuccessfulTrial() throws Exception {
+            // Given
+            WebhookConfig config = config(true);
+            config.setConsecutiveFailures(WebhookConfig.CIRCUIT_FAILURE_THRESHOLD);
+            config.setFailureRate(0.5);
+            config.setCircuitOpenUntil(LocalDateTime.now().minusSeconds(1));
+            List<LocalDateTime> persistedOpenUntil = new ArrayList<>();
+            doAnswer(invocation -> persistedOpenUntil.add(invocation.<WebhookConfig>getArgument(0).getCircuitOpenUntil()))
+                    .when(webhookConfigRepository).updateDeliveryHealth(any());
+            when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(config));
+            when(webhookSender.send(anyString(), any(), any())).thenReturn(200);
+
+            // When
+            webhookJobExecutor.execute(payload);
+
+            // Then
+            assertThat(persistedOpenUntil).hasSize(2);
+            assertThat(persistedOpenUntil.get(0)).isAfter(LocalDateTime.now());
+            assertThat(persistedOpenUntil.get(1)).isNull();
+            assertThat(config.getConsecutiveFailures()).isZero();
+            assertThat(config.getFailureRate()).isLessThan(0.5);
+        }
+
+        @Test
+        @DisplayName("Should reopen the circuit for longer when the trial fails")
+        void shouldReopenAfterFailedTrial() {
+            // Given
+            WebhookConfig config = config(true);
+            config.setConsecutiveFailures(WebhookConfig.CIRCUIT_FAILURE_THRESHOLD);
+            config.setCircuitOpenUntil(LocalDateTime.now().minusSeconds(1));
+            when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(config));
+            when(webhookSender.send(anyString(), any(), any())).thenReturn(502);
+
+            // When
+            assertThatThrownBy(() -> webhookJobExecutor.execute(payload)).hasMessageContaining("502");
+
+            // Then
+            assertThat(config.getCircuitOpenUntil())
+                    .isAfter(LocalDateTime.now().plus(WebhookConfig.CIRCUIT_BASE_OPEN_DURATION));
+        }
+
+        @Test
+        @DisplayName("Should not write anything for a healthy webhook delivering successfully")
+        void shouldNotWriteHealthWhenHealthy() throws Exception {
+            // Given
+            when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(config(true)));
+            when(webhookSender.send(anyString(), any(), any())).thenReturn(200);
+
+            // When
+            webhookJobExecutor.execute(payload);
+
+            // Then
+            verify(webhookConfigRepository, never()).updateDeliveryHealth(any());
+        }
+
+        @Test
+        @DisplayName("Should disable the webhook and notify its creator after sustained failures")
+        void shouldDisableAfterSustainedFailures() {
+            // Given
+            WebhookConfig config = config(true);
+            config.setConsecutiveFailures(WebhookConfig.AUTO_DISABLE_THRESHOLD - 1);
+            config.setCircuitOpenUntil(LocalDateTime.now().minusSeconds(1));
+            when(webhookConfigRepository.findById(webhookId)).thenReturn(Optional.of(config));
+            when(webhookSender.send(anyString(), any(), any())).thenReturn(404);
+
+            // When
+            assertThatThrownBy(() -> webhookJobExecutor.execute(payload)).hasMessageContaining("404");
+
+            // Then
+            assertThat(config.isEnabled()).isFalse();
+            verify(webhookConfigRepository, times(2)).updateDeliveryHealth(config);
+            verify(notificationService).notifyWebhookDisabled(
+                    config.getCreatedById(), webhookId, config.getName(), config.getOrganizationId());
+        }
+    }
+
+    private WebhookConfig config(boolean enabled) {
+        return WebhookConfig.builder()
+                .id(webhookId)
+                .organizationId(UUID.randomUUID())
+                .name("Slack")
+                .webhookUrl("https://example.com/hook")
+                .secret("secret")
+                .enabled(enabled)
+                .createdById(UUID.randomUUID())
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.hubz.infrastructure.cache;
+
+import com.hubz.application.dto.response.CacheStatsResponse;
+import com.hubz.domain.enums.MemberRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CaffeineMembershipCache Tests")
+class CaffeineMembershipCacheTest {
+
+    private CaffeineMembershipCache cache;
+    private UUID organizationId;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineMembershipCache();
+        organizationId = UUID.randomUUID();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should load a membership once and count the hits")
+    void shouldLoadOnceAndCountHits() {
+        // Given
+        UUID userId = UUID.randomUUID();
+
+        // When
+        cache.get(organizationId, userId, loader(MemberRole.ADMIN));
+        Optional<MemberRole> role = cache.get(organizationId, userId, loader(MemberRole.ADMIN));
+
+        // Then
+        assertThat(role).contains(MemberRole.ADMIN);
+        assertThat(loads).hasValue(1);
+        CacheStatsResponse stats = cache.getStats();
+        assertThat(stats.getName()).isEqualTo("membership");
+        assertThat(stats.getSize()).isEqualTo(1);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should drop only the memberships of the evicted organization")
+    void shouldEvictOrganization() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UUID otherOrganizationId = UUID.randomUUID();
+        cache.get(organizationId, userId, loader(MemberRole.MEMBER));
+        cache.get(otherOrganizationId, userId, loader(MemberRole.MEMBER));
+
+        // When
+        cache.evictOrganization(organizationId);
+        cache.get(organizationId, userId, loader(MemberRole.MEMBER));
+        cache.get(otherOrganizationId, userId, loader(MemberRole.MEMBER));
+
+        // Then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should report a hit rate of 1.0 before the first lookup")
+    void shouldReportFullHitRateWhenUnused() {
+        assertThat(cache.getStats().getHitRate()).isEqualTo(1.0);
+    }
+
+    private Supplier<Optional<MemberRole>> loader(MemberRole role) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(role);
+        };
+    }
+}
@@ -0,0 +1,108 @@
+package com.hubz.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.service.AuthorizationService;
+import com.hubz.domain.event.MembershipChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisMembershipInvalidationRelay Tests")
+class RedisMembershipInvalidationRelayTest {
+
+    @Mock
+    private AuthorizationService authorizationService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RedisMembershipInvalidationRelay relay;
+
+    private final UUID organizationId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        relay = new RedisMembershipInvalidationRelay(authorizationService, redisTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should publish a changed membership on the cache invalidation channel")
+    void shouldPublishMembershipInvalidation() throws Exception {
+        // When
+        relay.onMembershipChanged(new MembershipChangedEvent(organizationId, userId));
+
+        // Then
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), payload.capture());
+        CacheInvalidationMessage message = objectMapper.readValue(payload.getValue(), CacheInvalidationMessage.class);
+        assertThat(message).isEqualTo(new CacheInvalidationMessage(
+                relay.getNodeId(), RedisMembershipInvalidationRelay.CACHE_NAME, organizationId + ":" + userId));
+    }
+
+    @Test
+    @DisplayName("Should tolerate an unavailable Redis when publishing")
+    void shouldTolerateUnavailablePublisher() {
+        // Given
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new IllegalStateException("down"));
+
+        // When / Then
+        assertThatCode(() -> relay.onMembershipChanged(new MembershipChangedEvent(organizationId, null)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should evict memberships changed on another node")
+    void shouldEvictOnRemoteMessage() throws Exception {
+        // When
+        relay.onMessage(message(new CacheInvalidationMessage(
+                "other-node", RedisMembershipInvalidationRelay.CACHE_NAME, organizationId + ":" + userId)), null);
+        relay.onMessage(message(new CacheInvalidationMessage(
+                "other-node", RedisMembershipInvalidationRelay.CACHE_NAME, organizationId.toString())), null);
+
+        // Then
+        verify(authorizationService).evictLocally(organizationId, userId);
+        verify(authorizationService).evictLocally(organizationId, null);
+    }
+
+    @Test
+    @DisplayName("Should ignore its own messages, other caches and malformed payloads")
+    void shouldIgnoreUnrelatedMessages() throws Exception {
+        // When
+        relay.onMessage(message(new CacheInvalidationMessage(
+                relay.getNodeId(), RedisMembershipInvalidationRelay.CACHE_NAME, organizationId.toString())), null);
+        relay.onMessage(message(new CacheInvalidationMessage("other-node", "tasks", organizationId.toString())), null);
+        relay.onMessage(message(new CacheInvalidationMessage(
+                "other-node", RedisMembershipInvalidationRelay.CACHE_NAME, "not-a-uuid")), null);
+        relay.onMessage(new DefaultMessage(new byte[0], "not json".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        verifyNoInteractions(authorizationService);
+    }
+
+    private DefaultMessage message(CacheInvalidationMessage invalidation) throws Exception {
+        return new DefaultMessage(
+                TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(invalidation));
+    }
+}
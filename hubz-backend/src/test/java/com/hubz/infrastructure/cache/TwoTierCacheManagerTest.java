@@ -0,0 +1,242 @@
+package com.hubz.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.dto.response.CacheStatsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoTierCacheManager Tests")
+class TwoTierCacheManagerTest {
+
+    private static final String CACHE_NAME = "users";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private TwoTierCacheManager cacheManager;
+    private Cache remote;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        cacheManager = new TwoTierCacheManager(
+                remoteCacheManager,
+                Map.of(CACHE_NAME, new LocalCacheSpec(Duration.ofMinutes(5), 100)),
+                new LocalCacheSpec(Duration.ofMinutes(1), 10),
+                redisTemplate,
+                objectMapper);
+        cacheManager.afterPropertiesSet();
+        cache = cacheManager.getCache(CACHE_NAME);
+        remote = remoteCacheManager.getCache(CACHE_NAME);
+    }
+
+    @Nested
+    @DisplayName("Reads")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should serve an entry from the local tier after the first remote read")
+        void shouldPopulateLocalTierFromRemote() {
+            // Given
+            UUID key = UUID.randomUUID();
+            remote.put(key, "john");
+
+            // When
+            Object first = cache.get(key).get();
+            remote.evict(key);
+            Object second = cache.get(key).get();
+
+            // Then
+            assertThat(first).isEqualTo("john");
+            assertThat(second).isEqualTo("john");
+        }
+
+        @Test
+        @DisplayName("Should load through the remote tier on a miss")
+        void shouldLoadThroughRemoteTier() {
+            // Given
+            UUID key = UUID.randomUUID();
+
+            // When
+            String value = cache.get(key, () -> "loaded");
+
+            // Then
+            assertThat(value).isEqualTo("loaded");
+            assertThat(remote.get(key).get()).isEqualTo("loaded");
+            assertThat(cache.get(key, () -> "reloaded")).isEqualTo("loaded");
+        }
+
+        @Test
+        @DisplayName("Should create caches with default local sizing for unknown names")
+        void shouldCreateMissingCaches() {
+            // When
+            Cache other = cacheManager.getCache("reports");
+            other.put("key", "value");
+
+            // Then
+            assertThat(other.get("key").get()).isEqualTo("value");
+            assertThat(cacheManager.getLocalCacheStats())
+                    .extracting(CacheStatsResponse::getName)
+                    .containsExactly("local:reports", "local:users");
+        }
+    }
+
+    @Nested
+    @DisplayName("Local tier sizing")
+    class SizingTests {
+
+        @Test
+        @DisplayName("Should bound an element-weighed local tier by the elements of its cached lists")
+        void shouldBoundLocalTierByElements() {
+            // Given
+            cacheManager = new TwoTierCacheManager(
+                    remoteCacheManager,
+                    Map.of(CACHE_NAME, LocalCacheSpec.ofElements(Duration.ofMinutes(5), 100)),
+                    new LocalCacheSpec(Duration.ofMinutes(1), 10),
+                    redisTemplate,
+                    objectMapper);
+            cacheManager.afterPropertiesSet();
+            cache = cacheManager.getCache(CACHE_NAME);
+
+            // When
+            for (int i = 0; i < 5; i++) {
+                cache.put("org-" + i, Collections.nCopies(40, "task"));
+            }
+
+            // Then
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local =
+                    ((TwoTierCache) cache).getLocalCache();
+            local.cleanUp();
+            assertThat(local.policy().eviction().orElseThrow().weightedSize().orElseThrow()).isLessThanOrEqualTo(100);
+            assertThat(local.estimatedSize()).isLessThanOrEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Writes and evictions")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should evict both tiers and announce the eviction")
+        void shouldEvictBothTiersAndPublish() throws Exception {
+            // Given
+            UUID key = UUID.randomUUID();
+            cache.put(key, "john");
+
+            // When
+            cache.evict(key);
+
+            // Then
+            assertThat(cache.get(key)).isNull();
+            assertThat(remote.get(key)).isNull();
+            ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate, times(2))
+                    .convertAndSend(eq(TwoTierCacheManager.INVALIDATION_CHANNEL), payload.capture());
+            CacheInvalidationMessage message = objectMapper.readValue(payload.getValue(), CacheInvalidationMessage.class);
+            assertThat(message.cacheName()).isEqualTo(CACHE_NAME);
+            assertThat(message.key()).isEqualTo(key.toString());
+            assertThat(message.origin()).isEqualTo(cacheManager.getNodeId());
+        }
+
+        @Test
+        @DisplayName("Should keep working when the invalidation cannot be published")
+        void shouldTolerateUnavailablePublisher() {
+            // Given
+            when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new IllegalStateException("down"));
+
+            // When
+            cache.put("key", "value");
+
+            // Then
+            assertThat(cache.get("key").get()).isEqualTo("value");
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation messages")
+    class InvalidationMessageTests {
+
+        @Test
+        @DisplayName("Should drop the local copy when another node evicts an entry")
+        void shouldEvictLocalCopyOnRemoteMessage() throws Exception {
+            // Given
+            UUID key = UUID.randomUUID();
+            remote.put(key, "stale");
+            cache.get(key);
+            remote.put(key, "fresh");
+
+            // When
+            cacheManager.onMessage(message(new CacheInvalidationMessage("other-node", CACHE_NAME, key.toString())), null);
+
+            // Then
+            assertThat(cache.get(key).get()).isEqualTo("fresh");
+        }
+
+        @Test
+        @DisplayName("Should clear the local tier when another node clears the cache")
+        void shouldClearLocalTierOnRemoteClear() throws Exception {
+            // Given
+            remote.put("a", "stale");
+            cache.get("a");
+            remote.put("a", "fresh");
+
+            // When
+            cacheManager.onMessage(message(new CacheInvalidationMessage("other-node", CACHE_NAME, null)), null);
+
+            // Then
+            assertThat(cache.get("a").get()).isEqualTo("fresh");
+        }
+
+        @Test
+        @DisplayName("Should ignore its own messages and malformed payloads")
+        void shouldIgnoreOwnAndMalformedMessages() throws Exception {
+            // Given
+            remote.put("a", "stale");
+            cache.get("a");
+            remote.put("a", "fresh");
+
+            // When
+            cacheManager.onMessage(message(new CacheInvalidationMessage(cacheManager.getNodeId(), CACHE_NAME, "a")), null);
+            cacheManager.onMessage(new DefaultMessage(new byte[0], "not json".getBytes(StandardCharsets.UTF_8)), null);
+
+            // Then
+            assertThat(cache.get("a").get()).isEqualTo("stale");
+            verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+
+        private DefaultMessage message(CacheInvalidationMessage invalidation) throws Exception {
+            return new DefaultMessage(
+                    TwoTierCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    objectMapper.writeValueAsBytes(invalidation));
+        }
+    }
+}
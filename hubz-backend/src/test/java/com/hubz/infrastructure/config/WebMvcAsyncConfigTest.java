@@ -0,0 +1,122 @@
+package com.hubz.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WebMvcAsyncConfig Tests")
+class WebMvcAsyncConfigTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private WebMvcAsyncConfig config;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        config.shutdown();
+    }
+
+    @Nested
+    @DisplayName("with platform threads")
+    class PlatformThreads {
+
+        @Test
+        @DisplayName("Should reject requests beyond the pool and its queue")
+        void shouldRejectBeyondPoolAndQueue() {
+            // Given
+            config = new WebMvcAsyncConfig(1, 1, false);
+            AsyncTaskExecutor executor = config.getAsyncRequestExecutor();
+            executor.execute(blockUntilReleased());
+            executor.execute(blockUntilReleased());
+
+            // When / Then
+            assertThatThrownBy(() -> executor.execute(blockUntilReleased()))
+                    .isInstanceOf(TaskRejectedException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("with virtual threads")
+    class VirtualThreads {
+
+        @Test
+        @DisplayName("Should run each request on its own virtual thread")
+        void shouldRunOnVirtualThread() throws Exception {
+            // Given
+            config = new WebMvcAsyncConfig(1, 1, true);
+
+            // When
+            Future<Boolean> virtual = config.getAsyncRequestExecutor().submit(() -> Thread.currentThread().isVirtual());
+
+            // Then
+            assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should reject requests beyond the limit instead of blocking the caller")
+        void shouldRejectBeyondLimit() {
+            // Given
+            config = new WebMvcAsyncConfig(1, 1, true);
+            AsyncTaskExecutor executor = config.getAsyncRequestExecutor();
+            executor.execute(blockUntilReleased());
+            executor.execute(blockUntilReleased());
+
+            // When / Then
+            assertThatThrownBy(() -> executor.execute(blockUntilReleased()))
+                    .isInstanceOf(TaskRejectedException.class);
+        }
+
+        @Test
+        @DisplayName("Should accept requests again once running ones finish")
+        void shouldAcceptAgainAfterRequestsFinish() throws Exception {
+            // Given
+            config = new WebMvcAsyncConfig(1, 0, true);
+            AsyncTaskExecutor executor = config.getAsyncRequestExecutor();
+            Future<?> running = executor.submit(blockUntilReleased());
+            assertThatThrownBy(() -> executor.execute(blockUntilReleased()))
+                    .isInstanceOf(TaskRejectedException.class);
+
+            // When
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+
+            // Then: the permit is released after the task returns, so wait for it briefly
+            Future<String> next = submitWhenAccepted(executor);
+            assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        }
+    }
+
+    private Runnable blockUntilReleased() {
+        return () -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static Future<String> submitWhenAccepted(AsyncTaskExecutor executor) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            try {
+                return executor.submit(() -> "done");
+            } catch (TaskRejectedException e) {
+                if (System.nanoTime() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+}
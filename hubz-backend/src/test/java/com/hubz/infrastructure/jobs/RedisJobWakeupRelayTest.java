@@ -0,0 +1,97 @@
+package com.hubz.infrastructure.jobs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.service.BackgroundJobDispatcher;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.event.BackgroundJobScheduledEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisJobWakeupRelay Tests")
+class RedisJobWakeupRelayTest {
+
+    @Mock
+    private BackgroundJobDispatcher dispatcher;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RedisJobWakeupRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new RedisJobWakeupRelay(dispatcher, redisTemplate, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should publish a wake-up when a job is scheduled")
+    void shouldPublishWakeUp() throws Exception {
+        // When
+        relay.onJobScheduled(new BackgroundJobScheduledEvent(UUID.randomUUID(), JobType.REPORT_EXPORT));
+
+        // Then
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(RedisJobWakeupRelay.WAKEUP_CHANNEL), payload.capture());
+        JobWakeupMessage message = objectMapper.readValue(payload.getValue(), JobWakeupMessage.class);
+        assertThat(message).isEqualTo(new JobWakeupMessage(relay.getNodeId(), JobType.REPORT_EXPORT));
+    }
+
+    @Test
+    @DisplayName("Should tolerate an unavailable Redis when publishing")
+    void shouldTolerateUnavailablePublisher() {
+        // Given
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenThrow(new IllegalStateException("down"));
+
+        // When / Then
+        assertThatCode(() -> relay.onJobScheduled(new BackgroundJobScheduledEvent(UUID.randomUUID(), JobType.EMAIL_SEND)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should wake the local dispatcher for jobs scheduled on another node")
+    void shouldWakeUpOnRemoteMessage() throws Exception {
+        // When
+        relay.onMessage(message(new JobWakeupMessage("other-node", JobType.EMAIL_SEND)), null);
+
+        // Then
+        verify(dispatcher).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should ignore its own messages and malformed payloads")
+    void shouldIgnoreOwnAndMalformedMessages() throws Exception {
+        // When
+        relay.onMessage(message(new JobWakeupMessage(relay.getNodeId(), JobType.EMAIL_SEND)), null);
+        relay.onMessage(new DefaultMessage(new byte[0], "not json".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        verify(dispatcher, never()).wakeUp();
+    }
+
+    private DefaultMessage message(JobWakeupMessage wakeUp) throws Exception {
+        return new DefaultMessage(
+                RedisJobWakeupRelay.WAKEUP_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                objectMapper.writeValueAsBytes(wakeUp));
+    }
+}
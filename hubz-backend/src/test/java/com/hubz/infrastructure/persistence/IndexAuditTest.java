@@ -0,0 +1,377 @@
+package com.hubz.infrastructure.persistence;
+
+import com.hubz.infrastructure.persistence.repository.DailyActivityRollupJpaRepository;
+import com.hubz.infrastructure.persistence.repository.DirectMessageJpaRepository;
+import com.hubz.infrastructure.persistence.repository.EventJpaRepository;
+import com.hubz.infrastructure.persistence.repository.GoalJpaRepository;
+import com.hubz.infrastructure.persistence.repository.HabitJpaRepository;
+import com.hubz.infrastructure.persistence.repository.HabitLogJpaRepository;
+import com.hubz.infrastructure.persistence.repository.JpaOrganizationInvitationRepository;
+import com.hubz.infrastructure.persistence.repository.JpaOrganizationMemberRepository;
+import com.hubz.infrastructure.persistence.repository.JpaTaskRepository;
+import com.hubz.infrastructure.persistence.repository.NoteJpaRepository;
+import com.hubz.infrastructure.persistence.repository.NotificationJpaRepository;
+import com.hubz.infrastructure.persistence.repository.TagJpaRepository;
+import com.hubz.infrastructure.persistence.repository.TaskTagJpaRepository;
+import com.hubz.infrastructure.persistence.repository.TeamJpaRepository;
+import com.hubz.infrastructure.persistence.repository.WebhookConfigJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the hot lookup paths of the persistence adapters against full table scans.
+ * <p>
+ * Each test calls a repository method, captures the SQL Hibernate generates for it and runs
+ * {@code EXPLAIN} on that SQL against the schema generated from the entity mappings. It fails when
+ * the planner falls back to a table scan, i.e. when an {@code @Index} the query relies on has been
+ * dropped or renamed, or when the query was changed in a way no index serves.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.hubz.infrastructure.persistence.IndexAuditTest$CapturingStatementInspector")
+@DisplayName("Index Audit Tests")
+class IndexAuditTest {
+
+    private static final UUID ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID OTHER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 2, 1, 0, 0);
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JpaTaskRepository taskRepository;
+
+    @Autowired
+    private JpaOrganizationMemberRepository memberRepository;
+
+    @Autowired
+    private JpaOrganizationInvitationRepository invitationRepository;
+
+    @Autowired
+    private TeamJpaRepository teamRepository;
+
+    @Autowired
+    private WebhookConfigJpaRepository webhookRepository;
+
+    @Autowired
+    private TagJpaRepository tagRepository;
+
+    @Autowired
+    private TaskTagJpaRepository taskTagRepository;
+
+    @Autowired
+    private GoalJpaRepository goalRepository;
+
+    @Autowired
+    private HabitJpaRepository habitRepository;
+
+    @Autowired
+    private HabitLogJpaRepository habitLogRepository;
+
+    @Autowired
+    private NotificationJpaRepository notificationRepository;
+
+    @Autowired
+    private DirectMessageJpaRepository directMessageRepository;
+
+    @Autowired
+    private EventJpaRepository eventRepository;
+
+    @Autowired
+    private NoteJpaRepository noteRepository;
+
+    @Autowired
+    private DailyActivityRollupJpaRepository rollupRepository;
+
+    @Nested
+    @DisplayName("tasks")
+    class TaskQueries {
+
+        @Test
+        @DisplayName("Should use an index for status counts of an organization")
+        void shouldIndexStatusCountsByOrganization() {
+            assertUsesIndex(() -> taskRepository.countByStatusForOrganization(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for overdue tasks of an organization")
+        void shouldIndexOverdueTasksByOrganization() {
+            assertUsesIndex(() -> taskRepository.countOverdueForOrganization(ID, FROM));
+        }
+
+        @Test
+        @DisplayName("Should use an index for the analytics projection of an organization")
+        void shouldIndexAnalyticsByOrganization() {
+            assertUsesIndex(() -> taskRepository.findAnalyticsViewByOrganizationId(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for keyset pages ordered by update time")
+        void shouldIndexPagesByUpdatedAt() {
+            assertUsesIndex(() -> taskRepository.findFirstPageOrderByUpdatedAt(ID, null, null, null, PAGE));
+            assertUsesIndex(() -> taskRepository.findPageAfterOrderByUpdatedAt(ID, null, null, null, FROM, ID, PAGE));
+        }
+
+        @Test
+        @DisplayName("Should use an index for keyset pages ordered by creation time")
+        void shouldIndexPagesByCreatedAt() {
+            assertUsesIndex(() -> taskRepository.findFirstPageOrderByCreatedAt(ID, null, null, null, PAGE));
+            assertUsesIndex(() -> taskRepository.findPageAfterOrderByCreatedAt(ID, null, null, null, FROM, ID, PAGE));
+        }
+
+        @Test
+        @DisplayName("Should use an index for completed tasks of an assignee in a range")
+        void shouldIndexCompletedTasksByAssignee() {
+            assertUsesIndex(() -> taskRepository.countCompletedTasksByUserInRange(ID, FROM, TO));
+        }
+
+        @Test
+        @DisplayName("Should use an index for upcoming deadlines of an assignee")
+        void shouldIndexDeadlinesByAssignee() {
+            assertUsesIndex(() -> taskRepository.findByAssigneeIdAndDueDateBetween(ID, FROM, TO));
+        }
+
+        @Test
+        @DisplayName("Should use an index for tasks created by a user in a range")
+        void shouldIndexCreationsByCreator() {
+            assertUsesIndex(() -> taskRepository.getDailyTaskCreationsByUser(ID, FROM, TO));
+        }
+
+        @Test
+        @DisplayName("Should use an index for tasks of a goal")
+        void shouldIndexTasksByGoal() {
+            assertUsesIndex(() -> taskRepository.findByGoalId(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for status counts of several goals")
+        void shouldIndexStatusCountsByGoals() {
+            assertUsesIndex(() -> taskRepository.countByGoalAndStatusForGoals(List.of(ID, OTHER_ID)));
+        }
+    }
+
+    @Nested
+    @DisplayName("organizations and teams")
+    class MembershipQueries {
+
+        @Test
+        @DisplayName("Should use an index for the membership check")
+        void shouldIndexMembershipCheck() {
+            assertUsesIndex(() -> memberRepository.existsByOrganizationIdAndUserId(ID, OTHER_ID));
+            assertUsesIndex(() -> memberRepository.findByOrganizationIdAndUserId(ID, OTHER_ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for the organizations of a user")
+        void shouldIndexOrganizationsOfUser() {
+            assertUsesIndex(() -> memberRepository.findByUserId(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for the teams of an organization")
+        void shouldIndexTeamsOfOrganization() {
+            assertUsesIndex(() -> teamRepository.findByOrganizationIdOrderByCreatedAtDesc(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for pending invitations by email")
+        void shouldIndexInvitationsByEmail() {
+            assertUsesIndex(() -> invitationRepository.findByOrganizationIdAndEmailAndUsedFalse(ID, "jane@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should use an index for enabled webhooks of an organization")
+        void shouldIndexEnabledWebhooks() {
+            assertUsesIndex(() -> webhookRepository.findByOrganizationIdAndEnabled(ID, true));
+        }
+    }
+
+    @Nested
+    @DisplayName("tags")
+    class TagQueries {
+
+        @Test
+        @DisplayName("Should use an index for the tags of an organization")
+        void shouldIndexTagsOfOrganization() {
+            assertUsesIndex(() -> tagRepository.findByOrganizationId(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for the tags of a task")
+        void shouldIndexTagsOfTask() {
+            assertUsesIndex(() -> tagRepository.findByTaskId(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index when a tag is detached from all tasks")
+        void shouldIndexTasksOfTag() {
+            assertUsesIndex(() -> taskTagRepository.deleteAllByTagId(ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("goals and habits")
+    class GoalAndHabitQueries {
+
+        @Test
+        @DisplayName("Should use an index for the goals of an organization")
+        void shouldIndexGoalsOfOrganization() {
+            assertUsesIndex(() -> goalRepository.findByOrganizationId(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for personal goals")
+        void shouldIndexPersonalGoals() {
+            assertUsesIndex(() -> goalRepository.findByUserIdAndOrganizationIdIsNull(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for goals reaching their deadline")
+        void shouldIndexGoalsByDeadline() {
+            assertUsesIndex(() -> goalRepository.findByDeadlineBetween(LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 8)));
+        }
+
+        @Test
+        @DisplayName("Should use an index for the habits of a user")
+        void shouldIndexHabitsOfUser() {
+            assertUsesIndex(() -> habitRepository.findByUserId(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for the logs of a habit")
+        void shouldIndexLogsOfHabit() {
+            assertUsesIndex(() -> habitLogRepository.findByHabitId(ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("notifications, messages, events and notes")
+    class InboxAndCalendarQueries {
+
+        @Test
+        @DisplayName("Should use an index for unread notifications of a user")
+        void shouldIndexUnreadNotifications() {
+            assertUsesIndex(() -> notificationRepository.countByUserIdAndReadFalse(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for unread direct messages of a user")
+        void shouldIndexUnreadDirectMessages() {
+            assertUsesIndex(() -> directMessageRepository.countUnreadByReceiverId(ID));
+        }
+
+        @Test
+        @DisplayName("Should use an index for events of an organization in a time range")
+        void shouldIndexOrganizationEvents() {
+            assertUsesIndex(() -> eventRepository.findByOrganizationAndTimeRange(ID, FROM, TO));
+        }
+
+        @Test
+        @DisplayName("Should use an index for personal events in a time range")
+        void shouldIndexPersonalEvents() {
+            assertUsesIndex(() -> eventRepository.findPersonalEventsByTimeRange(ID, FROM, TO));
+        }
+
+        @Test
+        @DisplayName("Should use an index for the notes of a folder")
+        void shouldIndexNotesOfFolder() {
+            assertUsesIndex(() -> noteRepository.findByOrganizationIdAndFolderIdOrderByUpdatedAtDesc(ID, OTHER_ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("daily activity rollups")
+    class RollupQueries {
+
+        @Test
+        @DisplayName("Should use an index for the rollup rows of a scope in a range")
+        void shouldIndexRollupsOfScopeInRange() {
+            assertUsesIndex(() -> rollupRepository.findByScopeKeyAndDateBetweenOrderByDateAsc(
+                    "org:" + ID, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)));
+        }
+
+        @Test
+        @DisplayName("Should use an index for the last rollup row of a scope before a day")
+        void shouldIndexLastRollupOfScope() {
+            assertUsesIndex(() -> rollupRepository.findFirstByScopeKeyAndDateLessThanOrderByDateDesc(
+                    "org:" + ID, LocalDate.of(2026, 1, 1)));
+        }
+
+        @Test
+        @DisplayName("Should use an index when a rollup row is incremented")
+        void shouldIndexRollupIncrement() {
+            assertUsesIndex(() -> rollupRepository.increment(
+                    "org:" + ID, LocalDate.of(2026, 1, 1), 1, 0, 0, 0, 0, FROM));
+        }
+    }
+
+    /**
+     * Run the repository call, then {@code EXPLAIN} every statement Hibernate sent for it.
+     * The statements are explained with their parameters unbound, as H2 plans them, in a
+     * transaction that is rolled back so updates and deletes can be audited too.
+     */
+    private void assertUsesIndex(Runnable repositoryCall) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            CapturingStatementInspector.STATEMENTS.clear();
+            repositoryCall.run();
+            List<String> statements = List.copyOf(CapturingStatementInspector.STATEMENTS);
+
+            assertThat(statements).as("Statements sent by the repository call").isNotEmpty();
+            for (String sql : statements) {
+                assertThat(explain(sql))
+                        .as("Query plan of [%s]", sql)
+                        .doesNotContainIgnoringCase(".tableScan");
+            }
+            status.setRollbackOnly();
+        });
+    }
+
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+                 ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        });
+    }
+
+    /**
+     * Records the SQL of every statement Hibernate prepares, unchanged.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
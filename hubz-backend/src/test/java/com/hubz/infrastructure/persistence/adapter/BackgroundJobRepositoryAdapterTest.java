@@ -0,0 +1,149 @@
+package com.hubz.infrastructure.persistence.adapter;
+
+import com.hubz.domain.enums.JobStatus;
+import com.hubz.domain.enums.JobType;
+import com.hubz.domain.model.BackgroundJob;
+import com.hubz.infrastructure.persistence.entity.BackgroundJobEntity;
+import com.hubz.infrastructure.persistence.mapper.BackgroundJobMapperImpl;
+import com.hubz.infrastructure.persistence.repository.BackgroundJobJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import({BackgroundJobRepositoryAdapter.class, BackgroundJobMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("BackgroundJobRepositoryAdapter Tests")
+class BackgroundJobRepositoryAdapterTest {
+
+    @Autowired
+    private BackgroundJobRepositoryAdapter adapter;
+
+    @Autowired
+    private BackgroundJobJpaRepository jpaRepository;
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should claim a pending job under a lease")
+    void shouldClaimPendingJobUnderLease() {
+        // Given
+        UUID id = persistJob(JobStatus.PENDING, 0, LocalDateTime.now().minusSeconds(1));
+
+        // When
+        List<BackgroundJob> claimed = adapter.claimPendingJobs(JobType.EMAIL_SEND, 10);
+
+        // Then
+        assertThat(claimed).extracting(BackgroundJob::getId).containsExactly(id);
+        BackgroundJobEntity stored = jpaRepository.findById(id).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(stored.getRunAt()).isEqualTo(claimed.get(0).getRunAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Should count an expired lease as a failed attempt instead of running the job again")
+    void shouldFailJobWithExpiredLease() {
+        // Given
+        UUID id = persistJob(JobStatus.RUNNING, 1, LocalDateTime.now().minusSeconds(1));
+
+        // When
+        List<BackgroundJob> claimed = adapter.claimPendingJobs(JobType.EMAIL_SEND, 10);
+
+        // Then
+        assertThat(claimed).isEmpty();
+        BackgroundJobEntity stored = jpaRepository.findById(id).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(stored.getRetryCount()).isEqualTo(2);
+        assertThat(stored.getError()).contains("lease expired");
+    }
+
+    @Test
+    @DisplayName("Should give up on a job whose lease expired on its last attempt")
+    void shouldNotRetryExpiredLeasePastMaxRetries() {
+        // Given
+        UUID id = persistJob(JobStatus.RUNNING, BackgroundJob.MAX_RETRIES - 1, LocalDateTime.now().minusSeconds(1));
+
+        // When
+        adapter.claimPendingJobs(JobType.EMAIL_SEND, 10);
+
+        // Then
+        BackgroundJobEntity stored = jpaRepository.findById(id).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(JobStatus.FAILED);
+        assertThat(stored.getRetryCount()).isEqualTo(BackgroundJob.MAX_RETRIES);
+        assertThat(stored.getRunAt()).isNull();
+        assertThat(jpaRepository.findFailedJobsForRetry(BackgroundJob.MAX_RETRIES)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should renew a lease only while it is still held")
+    void shouldRenewHeldLeaseOnly() {
+        // Given
+        BackgroundJob job = claimOne();
+        LocalDateTime held = job.getRunAt();
+        LocalDateTime renewed = BackgroundJob.leaseFrom(LocalDateTime.now().plusMinutes(1));
+
+        // When / Then
+        assertThat(adapter.renewLease(job.getId(), held, renewed)).isTrue();
+        assertThat(adapter.renewLease(job.getId(), held, renewed.plusMinutes(1))).isFalse();
+        assertThat(jpaRepository.findById(job.getId()).orElseThrow().getRunAt()).isEqualTo(renewed);
+    }
+
+    @Test
+    @DisplayName("Should write the outcome of a run only while its lease is held")
+    void shouldWriteOutcomeUnderHeldLeaseOnly() {
+        // Given: the first run lost its lease and the job was claimed again
+        BackgroundJob firstRun = claimOne();
+        LocalDateTime firstLease = firstRun.getRunAt();
+        LocalDateTime secondLease = BackgroundJob.leaseFrom(LocalDateTime.now().plusMinutes(1));
+        adapter.renewLease(firstRun.getId(), firstLease, secondLease);
+
+        // When
+        firstRun.markFailed("Timed out");
+        boolean written = adapter.saveIfLeaseHeld(firstRun, firstLease);
+
+        // Then
+        assertThat(written).isFalse();
+        BackgroundJobEntity stored = jpaRepository.findById(firstRun.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(stored.getRetryCount()).isZero();
+
+        // When the run holding the lease completes
+        BackgroundJob secondRun = adapter.findById(firstRun.getId()).orElseThrow();
+        secondRun.markCompleted();
+
+        // Then
+        assertThat(adapter.saveIfLeaseHeld(secondRun, secondLease)).isTrue();
+        assertThat(jpaRepository.findById(firstRun.getId()).orElseThrow().getStatus()).isEqualTo(JobStatus.COMPLETED);
+    }
+
+    private BackgroundJob claimOne() {
+        persistJob(JobStatus.PENDING, 0, null);
+        List<BackgroundJob> claimed = adapter.claimPendingJobs(JobType.EMAIL_SEND, 1);
+        assertThat(claimed).hasSize(1);
+        return claimed.get(0);
+    }
+
+    private UUID persistJob(JobStatus status, int retryCount, LocalDateTime runAt) {
+        return jpaRepository.save(BackgroundJobEntity.builder()
+                .type(JobType.EMAIL_SEND)
+                .status(status)
+                .payload("{}")
+                .retryCount(retryCount)
+                .runAt(runAt)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,115 @@
+package com.hubz.infrastructure.persistence.adapter;
+
+import com.hubz.domain.model.DailyActivityRollup;
+import com.hubz.infrastructure.persistence.entity.DailyActivityRollupEntity;
+import com.hubz.infrastructure.persistence.mapper.DailyActivityRollupMapperImpl;
+import com.hubz.infrastructure.persistence.repository.DailyActivityRollupJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:rollup-adapter;MODE=PostgreSQL")
+@Import({DailyActivityRollupRepositoryAdapter.class, DailyActivityRollupMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("DailyActivityRollupRepositoryAdapter Tests")
+class DailyActivityRollupRepositoryAdapterTest {
+
+    @Autowired
+    private DailyActivityRollupRepositoryAdapter adapter;
+
+    @Autowired
+    private DailyActivityRollupJpaRepository jpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create the row of a new day and increment it")
+    void shouldCreateRowOnFirstWrite() {
+        // Given
+        UUID organizationId = UUID.randomUUID();
+
+        // When
+        adapter.increment(taskCreated(organizationId));
+        adapter.increment(taskCreated(organizationId));
+
+        // Then
+        List<DailyActivityRollup> rows = adapter.findByScope(organizationId, null, LocalDate.now(), LocalDate.now());
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getTasksCreated()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count both of two concurrent first writes of a day without failing either")
+    void shouldCountConcurrentFirstWrites() throws Exception {
+        // Given
+        UUID organizationId = UUID.randomUUID();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    adapter.increment(taskCreated(organizationId));
+                    firstWritten.countDown();
+                    await(release);
+                }));
+        assertThat(firstWritten.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When: the second writer misses the uncommitted row and blocks on its insert
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> adapter.increment(taskCreated(organizationId))));
+        Thread.sleep(200);
+        release.countDown();
+
+        // Then
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        List<DailyActivityRollupEntity> rows = jpaRepository.findAll().stream()
+                .filter(row -> organizationId.equals(row.getOrganizationId()))
+                .toList();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getTasksCreated()).isEqualTo(2);
+    }
+
+    private static DailyActivityRollup taskCreated(UUID organizationId) {
+        return DailyActivityRollup.builder()
+                .organizationId(organizationId)
+                .date(LocalDate.now())
+                .tasksCreated(1)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.hubz.infrastructure.persistence.repository;
+
+import com.hubz.domain.enums.JobStatus;
+import com.hubz.domain.enums.JobType;
+import com.hubz.infrastructure.persistence.entity.BackgroundJobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("BackgroundJobJpaRepository Tests")
+class BackgroundJobJpaRepositoryTest {
+
+    @Autowired
+    private BackgroundJobJpaRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should lock only pending jobs of the requested type, oldest first")
+    void shouldLockPendingJobsOfType() throws Exception {
+        // Given
+        UUID first = persistJob(JobType.EMAIL_SEND, JobStatus.PENDING);
+        UUID second = persistJob(JobType.EMAIL_SEND, JobStatus.PENDING);
+        persistJob(JobType.EMAIL_SEND, JobStatus.PENDING);
+        persistJob(JobType.EMAIL_SEND, JobStatus.RUNNING);
+        persistJob(JobType.WEBHOOK_CALL, JobStatus.PENDING);
+
+        // When
+        List<UUID> locked = transactionTemplate.execute(status ->
+                ids(jobRepository.lockPendingJobs(JobType.EMAIL_SEND.name(), LocalDateTime.now(), 2)));
+
+        // Then
+        assertThat(locked).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("Should lock higher priorities first and fresh jobs before retries")
+    void shouldOrderByPriorityThenRetries() throws Exception {
+        // Given
+        UUID retried = persistJob(JobType.WEBHOOK_CALL, 0, 2, null);
+        UUID fresh = persistJob(JobType.WEBHOOK_CALL, 0, 0, null);
+        UUID urgent = persistJob(JobType.WEBHOOK_CALL, 10, 0, null);
+        UUID background = persistJob(JobType.WEBHOOK_CALL, -10, 0, null);
+
+        // When
+        List<UUID> locked = transactionTemplate.execute(status ->
+                ids(jobRepository.lockPendingJobs(JobType.WEBHOOK_CALL.name(), LocalDateTime.now(), 10)));
+
+        // Then
+        assertThat(locked).containsExactly(urgent, fresh, retried, background);
+    }
+
+    @Test
+    @DisplayName("Should not lock jobs whose run-at time is still in the future")
+    void shouldSkipJobsNotYetDue() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        UUID due = persistJob(JobType.REPORT_EXPORT, 0, 0, now.minusSeconds(1));
+        persistJob(JobType.REPORT_EXPORT, 10, 1, now.plusMinutes(2));
+
+        // When
+        List<UUID> locked = transactionTemplate.execute(status ->
+                ids(jobRepository.lockPendingJobs(JobType.REPORT_EXPORT.name(), now, 10)));
+
+        // Then
+        assertThat(locked).containsExactly(due);
+    }
+
+    @Test
+    @DisplayName("Should lock running jobs again once their lease has expired")
+    void shouldReclaimRunningJobsWithExpiredLease() throws Exception {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        UUID abandoned = persistJob(JobType.EMAIL_SEND, JobStatus.RUNNING, 0, 0, now.minusSeconds(1));
+        persistJob(JobType.EMAIL_SEND, JobStatus.RUNNING, 0, 0, now.plusMinutes(30));
+
+        // When
+        List<UUID> locked = transactionTemplate.execute(status ->
+                ids(jobRepository.lockPendingJobs(JobType.EMAIL_SEND.name(), now, 10)));
+
+        // Then
+        assertThat(locked).containsExactly(abandoned);
+    }
+
+    @Test
+    @DisplayName("Should skip jobs locked by another transaction instead of waiting")
+    void shouldSkipLockedJobs() throws Exception {
+        // Given
+        persistJob(JobType.EMAIL_SEND, JobStatus.PENDING);
+        persistJob(JobType.EMAIL_SEND, JobStatus.PENDING);
+        persistJob(JobType.EMAIL_SEND, JobStatus.PENDING);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<List<UUID>> otherWorker = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<UUID> ids = ids(jobRepository.lockPendingJobs(JobType.EMAIL_SEND.name(), LocalDateTime.now(), 2));
+                    locked.countDown();
+                    await(release);
+                    return ids;
+                }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        List<UUID> claimed = transactionTemplate.execute(status ->
+                ids(jobRepository.lockPendingJobs(JobType.EMAIL_SEND.name(), LocalDateTime.now(), 3)));
+        release.countDown();
+
+        // Then
+        List<UUID> lockedByOther = otherWorker.get(10, TimeUnit.SECONDS);
+        assertThat(lockedByOther).hasSize(2);
+        assertThat(claimed).noneMatch(lockedByOther::contains);
+    }
+
+    private UUID persistJob(JobType type, JobStatus status) throws InterruptedException {
+        return persistJob(type, status, 0, 0, null);
+    }
+
+    private UUID persistJob(JobType type, int priority, int retryCount, LocalDateTime runAt) throws InterruptedException {
+        return persistJob(type, JobStatus.PENDING, priority, retryCount, runAt);
+    }
+
+    private UUID persistJob(JobType type, JobStatus status, int priority, int retryCount, LocalDateTime runAt)
+            throws InterruptedException {
+        BackgroundJobEntity saved = jobRepository.save(BackgroundJobEntity.builder()
+                .type(type)
+                .status(status)
+                .payload("{}")
+                .priority(priority)
+                .retryCount(retryCount)
+                .runAt(runAt)
+                .build());
+        // Distinct creation timestamps keep the claim order deterministic
+        Thread.sleep(5);
+        return saved.getId();
+    }
+
+    private static List<UUID> ids(List<BackgroundJobEntity> jobs) {
+        return jobs.stream().map(BackgroundJobEntity::getId).toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.hubz.infrastructure.persistence.repository;
+
+import com.hubz.infrastructure.persistence.entity.DailyActivityRollupEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:rollups;MODE=PostgreSQL")
+@DisplayName("DailyActivityRollupJpaRepository Tests")
+class DailyActivityRollupJpaRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DailyActivityRollupJpaRepository rollupRepository;
+
+    private String scopeKey;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        scopeKey = UUID.randomUUID() + ":-";
+        today = LocalDate.now();
+
+        persistRollup(today.minusDays(3), 2);
+        persistRollup(today.minusDays(1), 5);
+        persistRollup(today, 4);
+    }
+
+    @Test
+    @DisplayName("Should increment counters of an existing row in place")
+    void shouldIncrementExistingRow() {
+        // When
+        int updated = rollupRepository.increment(scopeKey, today, 1, 2, -1, 0, 3, LocalDateTime.now());
+        entityManager.clear();
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+        DailyActivityRollupEntity row = rollupRepository.findByScopeKeyAndDateBetweenOrderByDateAsc(scopeKey, today, today).get(0);
+        assertThat(row.getTasksCreated()).isEqualTo(1);
+        assertThat(row.getTasksCompleted()).isEqualTo(2);
+        assertThat(row.getTasksInProgress()).isEqualTo(3);
+        assertThat(row.getGoalUpdates()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should report no updated row when the day has no rollup yet")
+    void shouldNotUpdateMissingRow() {
+        // When
+        int updated = rollupRepository.increment(scopeKey, today.plusDays(1), 1, 0, 0, 0, 0, LocalDateTime.now());
+
+        // Then
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    @DisplayName("Should create a missing row once and leave an existing row untouched")
+    void shouldInsertRowOnlyIfMissing() {
+        // Given
+        UUID organizationId = UUID.randomUUID();
+        LocalDate tomorrow = today.plusDays(1);
+
+        // When
+        int created = rollupRepository.insertIfMissing(UUID.randomUUID(), scopeKey, organizationId, null,
+                tomorrow, 4, LocalDateTime.now());
+        int createdAgain = rollupRepository.insertIfMissing(UUID.randomUUID(), scopeKey, organizationId, null,
+                tomorrow, 9, LocalDateTime.now());
+        entityManager.clear();
+
+        // Then
+        assertThat(created).isEqualTo(1);
+        assertThat(createdAgain).isZero();
+        List<DailyActivityRollupEntity> rows =
+                rollupRepository.findByScopeKeyAndDateBetweenOrderByDateAsc(scopeKey, tomorrow, tomorrow);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getOrganizationId()).isEqualTo(organizationId);
+        assertThat(rows.get(0).getUserId()).isNull();
+        assertThat(rows.get(0).getTasksInProgress()).isEqualTo(4);
+        assertThat(rows.get(0).getTasksCreated()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should find the latest row before a date")
+    void shouldFindLatestRowBeforeDate() {
+        // When
+        Optional<DailyActivityRollupEntity> latest =
+                rollupRepository.findFirstByScopeKeyAndDateLessThanOrderByDateDesc(scopeKey, today);
+
+        // Then
+        assertThat(latest).isPresent();
+        assertThat(latest.get().getDate()).isEqualTo(today.minusDays(1));
+        assertThat(latest.get().getTasksInProgress()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should return rows of a scope in date order")
+    void shouldFindRowsInRange() {
+        // Given
+        persistRollup(UUID.randomUUID() + ":-", today, 1);
+
+        // When
+        List<DailyActivityRollupEntity> rows =
+                rollupRepository.findByScopeKeyAndDateBetweenOrderByDateAsc(scopeKey, today.minusDays(2), today);
+
+        // Then
+        assertThat(rows).extracting(DailyActivityRollupEntity::getDate)
+                .containsExactly(today.minusDays(1), today);
+    }
+
+    @Test
+    @DisplayName("Should delete rows within a date range")
+    void shouldDeleteRowsInRange() {
+        // When
+        int deleted = rollupRepository.deleteByDateRange(today.minusDays(1), today);
+
+        // Then
+        assertThat(deleted).isGreaterThanOrEqualTo(2);
+        assertThat(rollupRepository.existsByScopeKeyAndDate(scopeKey, today)).isFalse();
+        assertThat(rollupRepository.existsByScopeKeyAndDate(scopeKey, today.minusDays(3))).isTrue();
+    }
+
+    private void persistRollup(LocalDate date, long tasksInProgress) {
+        persistRollup(scopeKey, date, tasksInProgress);
+    }
+
+    private void persistRollup(String key, LocalDate date, long tasksInProgress) {
+        entityManager.persistAndFlush(DailyActivityRollupEntity.builder()
+                .id(UUID.randomUUID())
+                .scopeKey(key)
+                .date(date)
+                .tasksInProgress(tasksInProgress)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+}
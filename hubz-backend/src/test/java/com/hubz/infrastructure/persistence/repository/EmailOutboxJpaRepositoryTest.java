@@ -0,0 +1,77 @@
+package com.hubz.infrastructure.persistence.repository;
+
+import com.hubz.domain.enums.EmailOutboxStatus;
+import com.hubz.infrastructure.persistence.entity.EmailOutboxEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("EmailOutboxJpaRepository Tests")
+class EmailOutboxJpaRepositoryTest {
+
+    @Autowired
+    private EmailOutboxJpaRepository outboxRepository;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should lock due pending messages and expired leases, oldest first")
+    void shouldLockDueMessages() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        UUID expiredLease = persist(EmailOutboxStatus.SENDING, now.minusMinutes(3), now.minusSeconds(1));
+        UUID due = persist(EmailOutboxStatus.PENDING, now.minusMinutes(2), now.minusMinutes(2));
+        persist(EmailOutboxStatus.PENDING, now.minusMinutes(1), now.plusMinutes(5));
+        persist(EmailOutboxStatus.SENDING, now.minusMinutes(1), now.plusMinutes(9));
+        persist(EmailOutboxStatus.SENT, now.minusMinutes(4), null);
+
+        // When
+        List<UUID> locked = outboxRepository.lockDueMessages(now, 10).stream()
+                .map(EmailOutboxEntity::getId)
+                .toList();
+
+        // Then
+        assertThat(locked).containsExactly(expiredLease, due);
+    }
+
+    @Test
+    @DisplayName("Should delete only finished messages older than the cutoff")
+    void shouldDeleteFinishedMessages() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        persist(EmailOutboxStatus.SENT, now.minusDays(8), null);
+        persist(EmailOutboxStatus.FAILED, now.minusDays(8), null);
+        UUID pending = persist(EmailOutboxStatus.PENDING, now.minusDays(8), now);
+        UUID recent = persist(EmailOutboxStatus.SENT, now.minusDays(1), null);
+
+        // When
+        int deleted = outboxRepository.deleteFinishedBefore(now.minusDays(7));
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(outboxRepository.findAll()).extracting(EmailOutboxEntity::getId)
+                .containsExactlyInAnyOrder(pending, recent);
+    }
+
+    private UUID persist(EmailOutboxStatus status, LocalDateTime createdAt, LocalDateTime nextAttemptAt) {
+        return outboxRepository.save(EmailOutboxEntity.builder()
+                .recipient("john@example.com")
+                .payload("{}")
+                .status(status)
+                .createdAt(createdAt)
+                .nextAttemptAt(nextAttemptAt)
+                .build()).getId();
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -52,6 +53,76 @@ class JpaTaskRepositoryTest {
                 .build();
     }
 
+    @Nested
+    @DisplayName("Keyset pagination")
+    class KeysetPaginationTests {
+
+        private TaskEntity persistTask(TaskStatus status, LocalDateTime timestamp) {
+            return entityManager.persistAndFlush(TaskEntity.builder()
+                    .title("Task " + timestamp)
+                    .status(status)
+                    .organizationId(organizationId)
+                    .creatorId(creatorId)
+                    .assigneeId(assigneeId)
+                    .createdAt(timestamp)
+                    .updatedAt(timestamp)
+                    .build());
+        }
+
+        @Test
+        @DisplayName("Should walk all tasks newest first without gaps or duplicates, including timestamp ties")
+        void shouldWalkAllPagesByUpdatedAt() {
+            // Given
+            LocalDateTime base = LocalDateTime.of(2025, 1, 10, 12, 0);
+            persistTask(TaskStatus.TODO, base.minusHours(3));
+            persistTask(TaskStatus.TODO, base.minusHours(1));
+            persistTask(TaskStatus.DONE, base.minusHours(1));
+            persistTask(TaskStatus.TODO, base.minusHours(1));
+            persistTask(TaskStatus.IN_PROGRESS, base);
+            PageRequest pageable = PageRequest.of(0, 2);
+
+            // When
+            List<TaskEntity> seen = new java.util.ArrayList<>(taskRepository.findFirstPageOrderByUpdatedAt(
+                    organizationId, null, null, null, pageable));
+            while (true) {
+                TaskEntity last = seen.get(seen.size() - 1);
+                List<TaskEntity> next = taskRepository.findPageAfterOrderByUpdatedAt(
+                        organizationId, null, null, null, last.getUpdatedAt(), last.getId(), pageable);
+                if (next.isEmpty()) {
+                    break;
+                }
+                seen.addAll(next);
+            }
+
+            // Then
+            assertThat(seen).hasSize(5);
+            assertThat(seen).extracting(TaskEntity::getId).doesNotHaveDuplicates();
+            assertThat(seen).extracting(TaskEntity::getUpdatedAt).isSortedAccordingTo(java.util.Comparator.reverseOrder());
+        }
+
+        @Test
+        @DisplayName("Should apply optional filters and sort by creation date")
+        void shouldFilterAndSortByCreatedAt() {
+            // Given
+            LocalDateTime base = LocalDateTime.of(2025, 1, 10, 12, 0);
+            TaskEntity older = persistTask(TaskStatus.TODO, base.minusDays(1));
+            TaskEntity newer = persistTask(TaskStatus.TODO, base);
+            persistTask(TaskStatus.DONE, base.plusHours(1));
+
+            // When
+            List<TaskEntity> firstPage = taskRepository.findFirstPageOrderByCreatedAt(
+                    organizationId, TaskStatus.TODO, assigneeId, null, PageRequest.of(0, 1));
+            List<TaskEntity> secondPage = taskRepository.findPageAfterOrderByCreatedAt(
+                    organizationId, TaskStatus.TODO, assigneeId, null, newer.getCreatedAt(), newer.getId(), PageRequest.of(0, 1));
+
+            // Then
+            assertThat(firstPage).extracting(TaskEntity::getId).containsExactly(newer.getId());
+            assertThat(secondPage).extracting(TaskEntity::getId).containsExactly(older.getId());
+            assertThat(taskRepository.findFirstPageOrderByCreatedAt(
+                    organizationId, null, null, TaskPriority.URGENT, PageRequest.of(0, 10))).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("findByOrganizationId")
     class FindByOrganizationIdTests {
@@ -183,6 +254,47 @@ class JpaTaskRepositoryTest {
             // Then
             assertThat(tasks).isEmpty();
         }
+
+        @Test
+        @DisplayName("Should count the tasks of several goals by goal and status")
+        void shouldCountTasksByGoalAndStatus() {
+            // Given
+            UUID goalId = UUID.randomUUID();
+            UUID otherGoalId = UUID.randomUUID();
+            persistGoalTask(goalId, TaskStatus.DONE);
+            persistGoalTask(goalId, TaskStatus.DONE);
+            persistGoalTask(goalId, TaskStatus.TODO);
+            persistGoalTask(otherGoalId, TaskStatus.IN_PROGRESS);
+            persistGoalTask(UUID.randomUUID(), TaskStatus.DONE);
+
+            // When
+            List<Object[]> rows = taskRepository.countByGoalAndStatusForGoals(List.of(goalId, otherGoalId));
+
+            // Then
+            assertThat(rows).hasSize(3);
+            assertThat(rows).anySatisfy(row -> {
+                assertThat(row[0]).isEqualTo(goalId);
+                assertThat(row[1]).isEqualTo(TaskStatus.DONE);
+                assertThat(((Number) row[2]).longValue()).isEqualTo(2L);
+            });
+            assertThat(rows).anySatisfy(row -> {
+                assertThat(row[0]).isEqualTo(otherGoalId);
+                assertThat(row[1]).isEqualTo(TaskStatus.IN_PROGRESS);
+                assertThat(((Number) row[2]).longValue()).isEqualTo(1L);
+            });
+        }
+
+        private void persistGoalTask(UUID goalId, TaskStatus status) {
+            entityManager.persistAndFlush(TaskEntity.builder()
+                    .title("Goal Task")
+                    .status(status)
+                    .organizationId(organizationId)
+                    .creatorId(creatorId)
+                    .goalId(goalId)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
     }
 
     @Nested
@@ -358,4 +470,137 @@ class JpaTaskRepositoryTest {
             assertThat(tasks).hasSize(TaskPriority.values().length);
         }
     }
+
+    @Nested
+    @DisplayName("Organization analytics aggregates")
+    class AnalyticsAggregateTests {
+
+        private TaskEntity persistTask(TaskStatus status, TaskPriority priority, UUID assignee,
+                                       LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime dueDate) {
+            return entityManager.persistAndFlush(TaskEntity.builder()
+                    .title("Task " + status)
+                    .description("Long description")
+                    .status(status)
+                    .priority(priority)
+                    .organizationId(organizationId)
+                    .creatorId(creatorId)
+                    .assigneeId(assignee)
+                    .dueDate(dueDate)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build());
+        }
+
+        @Test
+        @DisplayName("Should group counts by status")
+        void shouldGroupCounts() {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            persistTask(TaskStatus.TODO, TaskPriority.HIGH, assigneeId, now, now, null);
+            persistTask(TaskStatus.TODO, TaskPriority.LOW, assigneeId, now, now, null);
+            persistTask(TaskStatus.DONE, TaskPriority.HIGH, assigneeId, now, now, null);
+            persistTask(TaskStatus.IN_PROGRESS, null, null, now, now, null);
+
+            // When
+            List<Object[]> byStatus = taskRepository.countByStatusForOrganization(organizationId);
+
+            // Then
+            assertThat(byStatus).hasSize(3);
+            assertThat(byStatus).anySatisfy(row -> {
+                assertThat(row[0]).isEqualTo(TaskStatus.TODO);
+                assertThat(((Number) row[1]).longValue()).isEqualTo(2L);
+            });
+        }
+
+        @Test
+        @DisplayName("Should count overdue tasks that are not done")
+        void shouldCountOverdueTasks() {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            persistTask(TaskStatus.TODO, null, null, now, now, now.minusDays(3));
+            persistTask(TaskStatus.DONE, null, null, now, now, now.minusDays(3));
+            persistTask(TaskStatus.TODO, null, null, now, now, now.plusDays(3));
+
+            // When
+            long overdue = taskRepository.countOverdueForOrganization(organizationId, now.toLocalDate().atStartOfDay());
+
+            // Then
+            assertThat(overdue).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should count creations per day within the range")
+        void shouldCountCreationsPerDay() {
+            // Given
+            LocalDateTime day = LocalDateTime.of(2026, 1, 15, 10, 0);
+            persistTask(TaskStatus.TODO, null, null, day, day, null);
+            persistTask(TaskStatus.TODO, null, null, day.plusHours(5), day, null);
+            persistTask(TaskStatus.TODO, null, null, day.plusDays(1), day, null);
+            persistTask(TaskStatus.TODO, null, null, day.plusDays(40), day, null);
+
+            // When
+            List<Object[]> rows = taskRepository.getDailyCreationsByOrganization(
+                    organizationId, day.toLocalDate().atStartOfDay(), day.plusDays(10));
+
+            // Then
+            assertThat(rows).hasSize(2);
+            assertThat(rows.stream().mapToLong(row -> ((Number) row[1]).longValue()).sum()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Should load the analytics projection without text columns")
+        void shouldLoadAnalyticsProjection() {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            TaskEntity saved = persistTask(TaskStatus.DONE, TaskPriority.URGENT, assigneeId, now.minusDays(2), now, null);
+
+            // When
+            List<JpaTaskRepository.AnalyticsView> views = taskRepository.findAnalyticsViewByOrganizationId(organizationId);
+
+            // Then
+            assertThat(views).hasSize(1);
+            JpaTaskRepository.AnalyticsView view = views.get(0);
+            assertThat(view.getId()).isEqualTo(saved.getId());
+            assertThat(view.getStatus()).isEqualTo(TaskStatus.DONE);
+            assertThat(view.getPriority()).isEqualTo(TaskPriority.URGENT);
+            assertThat(view.getAssigneeId()).isEqualTo(assigneeId);
+            assertThat(view.getCreatedAt()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("findByAssigneeIdsAndStatusUpdatedSince")
+    class FindCompletedByAssigneesTests {
+
+        @Test
+        @DisplayName("Should return tasks of any of the assignees in the status updated since the given time")
+        void shouldFindCompletedTasksOfAssignees() {
+            // Given
+            UUID otherAssigneeId = UUID.randomUUID();
+            LocalDateTime since = LocalDateTime.of(2025, 1, 6, 0, 0);
+            TaskEntity recent = entityManager.persistAndFlush(TaskEntity.builder()
+                    .title("Recent").status(TaskStatus.DONE).organizationId(organizationId).creatorId(creatorId)
+                    .assigneeId(assigneeId).createdAt(since).updatedAt(since.plusDays(2)).build());
+            TaskEntity otherAssignee = entityManager.persistAndFlush(TaskEntity.builder()
+                    .title("Other").status(TaskStatus.DONE).organizationId(organizationId).creatorId(creatorId)
+                    .assigneeId(otherAssigneeId).createdAt(since).updatedAt(since).build());
+            entityManager.persistAndFlush(TaskEntity.builder()
+                    .title("Too old").status(TaskStatus.DONE).organizationId(organizationId).creatorId(creatorId)
+                    .assigneeId(assigneeId).createdAt(since).updatedAt(since.minusMinutes(1)).build());
+            entityManager.persistAndFlush(TaskEntity.builder()
+                    .title("Not done").status(TaskStatus.IN_PROGRESS).organizationId(organizationId).creatorId(creatorId)
+                    .assigneeId(assigneeId).createdAt(since).updatedAt(since.plusDays(1)).build());
+            entityManager.persistAndFlush(TaskEntity.builder()
+                    .title("Someone else").status(TaskStatus.DONE).organizationId(organizationId).creatorId(creatorId)
+                    .assigneeId(UUID.randomUUID()).createdAt(since).updatedAt(since.plusDays(1)).build());
+
+            // When
+            List<TaskEntity> tasks = taskRepository.findByAssigneeIdsAndStatusUpdatedSince(
+                    List.of(assigneeId, otherAssigneeId), TaskStatus.DONE, since);
+
+            // Then
+            assertThat(tasks).extracting(TaskEntity::getId)
+                    .containsExactlyInAnyOrder(recent.getId(), otherAssignee.getId());
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package com.hubz.infrastructure.persistence.repository;
+
+import com.hubz.domain.enums.WebhookServiceType;
+import com.hubz.infrastructure.persistence.entity.WebhookConfigEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("WebhookConfigJpaRepository Tests")
+class WebhookConfigJpaRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private WebhookConfigJpaRepository webhookConfigRepository;
+
+    private WebhookConfigEntity webhook;
+
+    @BeforeEach
+    void setUp() {
+        webhook = entityManager.persistAndFlush(WebhookConfigEntity.builder()
+                .organizationId(UUID.randomUUID())
+                .service(WebhookServiceType.SLACK)
+                .webhookUrl("https://hooks.slack.com/services/test")
+                .name("Slack")
+                .events("TASK_CREATED")
+                .enabled(true)
+                .createdById(UUID.randomUUID())
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Should update delivery health without touching admin-edited fields")
+    void shouldUpdateDeliveryHealth() {
+        // Given
+        LocalDateTime openUntil = LocalDateTime.now().plusMinutes(1).withNano(0);
+
+        // When
+        webhookConfigRepository.updateDeliveryHealth(webhook.getId(), 5, 0.4, openUntil, openUntil, "timeout", true);
+        entityManager.clear();
+
+        // Then
+        WebhookConfigEntity updated = entityManager.find(WebhookConfigEntity.class, webhook.getId());
+        assertThat(updated.getConsecutiveFailures()).isEqualTo(5);
+        assertThat(updated.getFailureRate()).isEqualTo(0.4);
+        assertThat(updated.getCircuitOpenUntil()).isEqualTo(openUntil);
+        assertThat(updated.getLastError()).isEqualTo("timeout");
+        assertThat(updated.getName()).isEqualTo("Slack");
+        assertThat(updated.isEnabled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should disable but never re-enable a webhook")
+    void shouldOnlyEverDisable() {
+        // Given
+        webhookConfigRepository.updateDeliveryHealth(webhook.getId(), 25, 0.9, null, null, "gone", false);
+        entityManager.clear();
+
+        // When
+        webhookConfigRepository.updateDeliveryHealth(webhook.getId(), 0, 0, null, null, null, true);
+        entityManager.clear();
+
+        // Then
+        assertThat(entityManager.find(WebhookConfigEntity.class, webhook.getId()).isEnabled()).isFalse();
+    }
+}
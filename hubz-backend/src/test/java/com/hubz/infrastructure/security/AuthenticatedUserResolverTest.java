@@ -0,0 +1,184 @@
+package com.hubz.infrastructure.security;
+
+import com.hubz.application.dto.response.CacheStatsResponse;
+import com.hubz.application.port.out.UserRepositoryPort;
+import com.hubz.domain.model.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthenticatedUserResolver Tests")
+class AuthenticatedUserResolverTest {
+
+    private static final String SECRET = "testSecretKeyForTestingPurposesOnlyNotForProduction123456789";
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+
+    private JwtService jwtService;
+    private AuthenticatedUserResolver resolver;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = spy(new JwtService(SECRET, 3_600_000));
+        resolver = new AuthenticatedUserResolver(jwtService, userRepositoryPort, false, Duration.ofMinutes(5), 100);
+        userId = UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("Tokens with a user id claim")
+    class UserIdClaimTests {
+
+        @Test
+        @DisplayName("Should resolve id and email from the token without a user lookup")
+        void shouldResolveFromClaims() {
+            // Given
+            String token = jwtService.generateToken(userId, EMAIL);
+
+            // When
+            Optional<AuthenticatedUser> principal = resolver.resolve(token);
+
+            // Then
+            assertThat(principal).contains(new AuthenticatedUser(userId, EMAIL));
+            assertThat(principal.get().getName()).isEqualTo(EMAIL);
+            verify(userRepositoryPort, never()).findByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject an invalid token")
+        void shouldRejectInvalidToken() {
+            // When
+            Optional<AuthenticatedUser> principal = resolver.resolve("not.a.token");
+
+            // Then
+            assertThat(principal).isEmpty();
+            verify(userRepositoryPort, never()).findByEmail(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Tokens without a user id claim")
+    class LegacyTokenTests {
+
+        @Test
+        @DisplayName("Should resolve the user id once and serve later requests from the cache")
+        void shouldCacheUserIdLookup() {
+            // Given
+            String token = legacyToken();
+            when(userRepositoryPort.findByEmail(EMAIL))
+                    .thenReturn(Optional.of(User.builder().id(userId).email(EMAIL).build()));
+
+            // When
+            Optional<AuthenticatedUser> first = resolver.resolve(token);
+            Optional<AuthenticatedUser> second = resolver.resolve(token);
+
+            // Then
+            assertThat(first).contains(new AuthenticatedUser(userId, EMAIL));
+            assertThat(second).contains(new AuthenticatedUser(userId, EMAIL));
+            verify(userRepositoryPort, times(1)).findByEmail(EMAIL);
+            assertThat(resolver.getCacheStats().get(0).getHitCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should not authenticate a token whose user no longer exists")
+        void shouldRejectUnknownUser() {
+            // Given
+            when(userRepositoryPort.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+            // When
+            Optional<AuthenticatedUser> principal = resolver.resolve(legacyToken());
+
+            // Then
+            assertThat(principal).isEmpty();
+        }
+
+        private String legacyToken() {
+            return Jwts.builder()
+                    .subject(EMAIL)
+                    .issuedAt(new Date())
+                    .expiration(new Date(System.currentTimeMillis() + 60_000))
+                    .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                    .compact();
+        }
+    }
+
+    @Nested
+    @DisplayName("Verified token cache")
+    class VerifiedTokenCacheTests {
+
+        @Test
+        @DisplayName("Should verify a token once and serve repeated requests from the cache")
+        void shouldSkipVerificationForCachedToken() {
+            // Given
+            resolver = new AuthenticatedUserResolver(jwtService, userRepositoryPort, true, Duration.ofMinutes(5), 100);
+            String token = jwtService.generateToken(userId, EMAIL);
+
+            // When
+            Optional<AuthenticatedUser> first = resolver.resolve(token);
+            Optional<AuthenticatedUser> second = resolver.resolve(token);
+
+            // Then
+            assertThat(first).contains(new AuthenticatedUser(userId, EMAIL));
+            assertThat(second).contains(new AuthenticatedUser(userId, EMAIL));
+            verify(jwtService, times(1)).parseClaims(token);
+            assertThat(resolver.getCacheStats())
+                    .extracting(CacheStatsResponse::getName)
+                    .containsExactly("user-ids", "verified-tokens");
+        }
+
+        @Test
+        @DisplayName("Should verify every request when the cache is disabled")
+        void shouldVerifyEveryRequestWhenDisabled() {
+            // Given
+            String token = jwtService.generateToken(userId, EMAIL);
+
+            // When
+            resolver.resolve(token);
+            resolver.resolve(token);
+
+            // Then
+            verify(jwtService, times(2)).parseClaims(token);
+            assertThat(resolver.getCacheStats()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Should not cache tokens that fail verification")
+        void shouldNotCacheRejectedTokens() {
+            // Given
+            resolver = new AuthenticatedUserResolver(jwtService, userRepositoryPort, true, Duration.ofMinutes(5), 100);
+            String tampered = new JwtService("anotherSecretKeyForTestingPurposesOnlyNotForProduction987654321", 3_600_000)
+                    .generateToken(userId, EMAIL);
+
+            // When
+            Optional<AuthenticatedUser> first = resolver.resolve(tampered);
+            Optional<AuthenticatedUser> second = resolver.resolve(tampered);
+
+            // Then
+            assertThat(first).isEmpty();
+            assertThat(second).isEmpty();
+            verify(jwtService, times(2)).parseClaims(tampered);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.hubz.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtService Tests")
+class JwtServiceTest {
+
+    private static final String SECRET = "testSecretKeyForTestingPurposesOnlyNotForProduction123456789";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 3_600_000);
+    }
+
+    @Test
+    @DisplayName("Should return subject, user id and expiry from a single parse")
+    void shouldParseClaimsOnce() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        String token = jwtService.generateToken(userId, "john@example.com");
+
+        // When
+        Optional<Claims> claims = jwtService.parseClaims(token);
+
+        // Then
+        assertThat(claims).isPresent();
+        assertThat(claims.get().getSubject()).isEqualTo("john@example.com");
+        assertThat(jwtService.extractUserId(claims.get())).isEqualTo(userId);
+        assertThat(claims.get().getExpiration()).isInTheFuture();
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with another key")
+    void shouldRejectForeignSignature() {
+        // Given
+        JwtService other = new JwtService("anotherSecretKeyForTestingPurposesOnlyNotForProduction987654321", 3_600_000);
+        String token = other.generateToken(UUID.randomUUID(), "john@example.com");
+
+        // When & Then
+        assertThat(jwtService.parseClaims(token)).isEmpty();
+        assertThat(jwtService.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject expired and malformed tokens")
+    void shouldRejectExpiredAndMalformedTokens() {
+        // Given
+        JwtService expired = new JwtService(SECRET, -1_000);
+        String token = expired.generateToken(UUID.randomUUID(), "john@example.com");
+
+        // When & Then
+        assertThat(jwtService.parseClaims(token)).isEmpty();
+        assertThat(jwtService.parseClaims("garbage")).isEmpty();
+        assertThat(jwtService.parseClaims("")).isEmpty();
+    }
+}
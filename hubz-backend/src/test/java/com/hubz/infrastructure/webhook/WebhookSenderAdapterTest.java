@@ -0,0 +1,234 @@
+package com.hubz.infrastructure.webhook;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.domain.exception.WebhookThrottledException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("WebhookSenderAdapter Tests")
+class WebhookSenderAdapterTest {
+
+    private static final int MAX_CONCURRENT_PER_HOST = 2;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentLinkedQueue<HttpExchange> exchanges = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<String> bodies = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private HttpServer server;
+    private HttpClient httpClient;
+    private WebhookSenderAdapter sender;
+    private volatile int responseStatus = 200;
+    private volatile long responseDelayMillis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/hook", this::handle);
+        server.start();
+
+        httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        sender = new WebhookSenderAdapter(httpClient, objectMapper, Duration.ofSeconds(10), MAX_CONCURRENT_PER_HOST);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        httpClient.close();
+    }
+
+    @Nested
+    @DisplayName("Delivery")
+    class DeliveryTests {
+
+        @Test
+        @DisplayName("Should post the JSON payload and return the receiver's status")
+        void shouldPostPayload() throws Exception {
+            // Given
+            responseStatus = 202;
+
+            // When
+            int status = sender.send(url(), Map.of("event", "task.created"), null);
+
+            // Then
+            assertThat(status).isEqualTo(202);
+            HttpExchange exchange = exchanges.peek();
+            assertThat(exchange.getRequestMethod()).isEqualTo("POST");
+            assertThat(exchange.getRequestHeaders().getFirst("Content-Type")).isEqualTo("application/json");
+            assertThat(exchange.getRequestHeaders().getFirst("User-Agent")).isEqualTo("Hubz-Webhook/1.0");
+            assertThat(exchange.getRequestHeaders().containsKey("X-Hubz-Signature")).isFalse();
+            assertThat(objectMapper.readTree(bodies.peek()).get("event").asText()).isEqualTo("task.created");
+        }
+
+        @Test
+        @DisplayName("Should return error statuses instead of throwing")
+        void shouldReturnErrorStatus() {
+            // Given
+            responseStatus = 500;
+
+            // When
+            int status = sender.send(url(), Map.of("event", "task.created"), null);
+
+            // Then
+            assertThat(status).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("Should throw when the receiver cannot be reached")
+        void shouldThrowWhenUnreachable() {
+            // Given
+            server.stop(0);
+
+            // When & Then
+            assertThatThrownBy(() -> sender.send(url(), Map.of("event", "task.created"), null))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessageStartingWith("Webhook delivery failed");
+        }
+
+        @Test
+        @DisplayName("Should keep at most the configured number of requests in flight per host")
+        void shouldLimitConcurrencyPerHost() {
+            // Given
+            responseDelayMillis = 100;
+            ExecutorService callers = Executors.newFixedThreadPool(8);
+
+            // When
+            List<CompletableFuture<Integer>> calls = IntStream.range(0, 8)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> sender.send(url(), Map.of("n", i), null), callers))
+                    .toList();
+            calls.forEach(CompletableFuture::join);
+            callers.shutdown();
+
+            // Then
+            assertThat(exchanges).hasSize(8);
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENT_PER_HOST);
+        }
+
+        @Test
+        @DisplayName("Should report a throttled delivery distinctly when no turn frees up in time")
+        void shouldThrowThrottledWhenHostIsBusy() throws Exception {
+            // Given: a client whose only request to the host hangs until released
+            HttpClient hangingClient = mock(HttpClient.class);
+            CountDownLatch sent = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(hangingClient.send(any(), any())).thenAnswer(invocation -> {
+                sent.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                return null;
+            });
+            WebhookSenderAdapter busySender =
+                    new WebhookSenderAdapter(hangingClient, objectMapper, Duration.ofMillis(200), 1);
+            CompletableFuture<Integer> hanging = CompletableFuture.supplyAsync(
+                    () -> busySender.send(url(), Map.of("n", 1), null));
+            assertThat(sent.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // When & Then
+            assertThatThrownBy(() -> busySender.send(url(), Map.of("n", 2), null))
+                    .isInstanceOf(WebhookThrottledException.class);
+            release.countDown();
+            hanging.exceptionally(e -> 0).join();
+        }
+    }
+
+    @Nested
+    @DisplayName("Signing")
+    class SigningTests {
+
+        @Test
+        @DisplayName("Should sign the exact body sent with the webhook secret")
+        void shouldSignBody() throws Exception {
+            // When
+            sender.send(url(), Map.of("event", "task.created"), "my-secret");
+            sender.send(url(), Map.of("event", "task.completed"), "my-secret");
+
+            // Then
+            List<HttpExchange> received = List.copyOf(exchanges);
+            List<String> sentBodies = List.copyOf(bodies);
+            for (int i = 0; i < received.size(); i++) {
+                assertThat(received.get(i).getRequestHeaders().getFirst("X-Hubz-Signature"))
+                        .isEqualTo("sha256=" + hmac(sentBodies.get(i), "my-secret"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep signatures of different secrets apart when signing concurrently")
+        void shouldSignConcurrentlyWithCachedKeys() throws Exception {
+            // When
+            List<CompletableFuture<Boolean>> checks = IntStream.range(0, 200)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        String secret = "secret-" + (i % 3);
+                        String body = "payload-" + i;
+                        return sender.computeHmacSha256(body, secret).equals(hmac(body, secret));
+                    }))
+                    .toList();
+
+            // Then
+            assertThat(checks).allSatisfy(check -> assertThat(check.join()).isTrue());
+        }
+    }
+
+    private String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchanges.add(exchange);
+            if (responseDelayMillis > 0) {
+                Thread.sleep(responseDelayMillis);
+            }
+            exchange.sendResponseHeaders(responseStatus, -1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static String hmac(String data, String secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
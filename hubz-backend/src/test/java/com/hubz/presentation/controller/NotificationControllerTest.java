@@ -3,11 +3,14 @@ package com.hubz.presentation.controller;
 import com.hubz.application.dto.response.NotificationCountResponse;
 import com.hubz.application.dto.response.NotificationResponse;
 import com.hubz.application.port.out.UserRepositoryPort;
+import com.hubz.application.service.NotificationPreferencesService;
 import com.hubz.application.service.NotificationService;
 import com.hubz.domain.enums.NotificationType;
 import com.hubz.domain.exception.NotificationNotFoundException;
 import com.hubz.domain.model.User;
 import com.hubz.infrastructure.config.CorsProperties;
+import com.hubz.infrastructure.config.RateLimitConfig;
+import com.hubz.infrastructure.security.AuthenticatedUser;
 import com.hubz.infrastructure.security.JwtAuthenticationFilter;
 import com.hubz.infrastructure.security.JwtService;
 import com.hubz.presentation.advice.GlobalExceptionHandler;
@@ -23,10 +26,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -47,7 +52,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 classes = {JwtAuthenticationFilter.class, JwtService.class, CorsProperties.class}
         )
 )
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, RateLimitConfig.class})
 @DisplayName("NotificationController Unit Tests")
 class NotificationControllerTest {
 
@@ -57,6 +62,9 @@ class NotificationControllerTest {
     @MockBean
     private NotificationService notificationService;
 
+    @MockBean
+    private NotificationPreferencesService notificationPreferencesService;
+
     @MockBean
     private UserRepositoryPort userRepositoryPort;
 
@@ -122,6 +130,23 @@ class NotificationControllerTest {
             verify(notificationService).getNotifications(userId, 50);
         }
 
+        @Test
+        @DisplayName("Should take the user id from the JWT principal without a user lookup")
+        void shouldResolveUserIdFromPrincipal() throws Exception {
+            // Given
+            Authentication jwtAuth = new UsernamePasswordAuthenticationToken(
+                    new AuthenticatedUser(userId, "test@example.com"), null, Collections.emptyList());
+            when(notificationService.getNotifications(userId, 50)).thenReturn(List.of());
+
+            // When & Then
+            mockMvc.perform(get("/api/notifications")
+                            .principal(jwtAuth))
+                    .andExpect(status().isOk());
+
+            verify(notificationService).getNotifications(userId, 50);
+            verify(userRepositoryPort, never()).findByEmail(anyString());
+        }
+
         @Test
         @DisplayName("Should return 200 with custom limit")
         void shouldGetNotificationsWithCustomLimit() throws Exception {
@@ -1,11 +1,19 @@
 package com.hubz.presentation.controller;
 
+import com.hubz.application.dto.request.CreateReportExportRequest;
+import com.hubz.application.dto.response.ReportExportResponse;
 import com.hubz.application.port.out.UserRepositoryPort;
+import com.hubz.application.service.ReportExportService;
 import com.hubz.application.service.ReportService;
+import com.hubz.domain.enums.ReportExportStatus;
+import com.hubz.domain.enums.ReportFormat;
+import com.hubz.domain.enums.ReportType;
 import com.hubz.domain.exception.AccessDeniedException;
 import com.hubz.domain.exception.OrganizationNotFoundException;
+import com.hubz.domain.exception.ReportExportNotFoundException;
 import com.hubz.domain.model.User;
 import com.hubz.infrastructure.config.CorsProperties;
+import com.hubz.infrastructure.config.RateLimitConfig;
 import com.hubz.infrastructure.security.JwtAuthenticationFilter;
 import com.hubz.infrastructure.security.JwtService;
 import com.hubz.presentation.advice.GlobalExceptionHandler;
@@ -21,15 +29,21 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(
@@ -43,7 +57,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 classes = {JwtAuthenticationFilter.class, JwtService.class, CorsProperties.class}
         )
 )
-@Import(GlobalExceptionHandler.class)
+@Import({GlobalExceptionHandler.class, RateLimitConfig.class})
 @DisplayName("ReportController Unit Tests")
 class ReportControllerTest {
 
@@ -53,6 +67,9 @@ class ReportControllerTest {
     @MockBean
     private ReportService reportService;
 
+    @MockBean
+    private ReportExportService reportExportService;
+
     @MockBean
     private UserRepositoryPort userRepositoryPort;
 
@@ -87,16 +104,23 @@ class ReportControllerTest {
         void shouldExportTasksToCsv() throws Exception {
             // Given
             byte[] csvData = "id,title,status\n1,Task1,TODO".getBytes();
-            when(reportService.exportTasksToCsv(orgId, userId)).thenReturn(csvData);
+            when(reportService.streamTasksToCsv(orgId, userId)).thenReturn(out -> out.write(csvData));
 
-            // When & Then
-            mockMvc.perform(get("/api/reports/organizations/{orgId}/tasks/csv", orgId)
+            // When
+            MvcResult result = mockMvc.perform(get("/api/reports/organizations/{orgId}/tasks/csv", orgId)
                             .principal(mockAuth))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // Then
+            mockMvc.perform(asyncDispatch(result))
                     .andExpect(status().isOk())
                     .andExpect(content().contentType("text/csv"))
-                    .andExpect(header().exists("Content-Disposition"));
+                    .andExpect(header().exists("Content-Disposition"))
+                    .andExpect(content().bytes(csvData));
 
-            verify(reportService).exportTasksToCsv(orgId, userId);
+            verify(reportService).streamTasksToCsv(orgId, userId);
+            verify(reportService, never()).exportTasksToCsv(any(), any());
         }
 
         @Test
@@ -137,7 +161,7 @@ class ReportControllerTest {
         @DisplayName("Should return 404 when organization not found")
         void shouldReturn404WhenOrgNotFound() throws Exception {
             // Given
-            when(reportService.exportTasksToCsv(orgId, userId))
+            when(reportService.streamTasksToCsv(orgId, userId))
                     .thenThrow(new OrganizationNotFoundException(orgId));
 
             // When & Then
@@ -150,7 +174,7 @@ class ReportControllerTest {
         @DisplayName("Should return 403 when user is not authorized")
         void shouldReturn403WhenNotAuthorized() throws Exception {
             // Given
-            when(reportService.exportTasksToCsv(orgId, userId))
+            when(reportService.streamTasksToCsv(orgId, userId))
                     .thenThrow(new AccessDeniedException("Not authorized"));
 
             // When & Then
@@ -318,4 +342,120 @@ class ReportControllerTest {
             verify(reportService).exportHabitsToPdf(userId);
         }
     }
+
+    @Nested
+    @DisplayName("Background Export Endpoints")
+    class BackgroundExportTests {
+
+        private ReportExportResponse export(ReportExportStatus status) {
+            UUID exportId = UUID.randomUUID();
+            return ReportExportResponse.builder()
+                    .id(exportId)
+                    .organizationId(orgId)
+                    .reportType(ReportType.TASKS)
+                    .format(ReportFormat.CSV)
+                    .status(status)
+                    .progress(status == ReportExportStatus.COMPLETED ? 100 : 0)
+                    .fileName("tasks_2026-01-05.csv")
+                    .fileSize(status == ReportExportStatus.COMPLETED ? 11L : null)
+                    .downloadUrl(status == ReportExportStatus.COMPLETED
+                            ? "/api/reports/exports/" + exportId + "/download" : null)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("POST /api/reports/exports - Should queue the export and return 202")
+        void shouldQueueExport() throws Exception {
+            // Given
+            ReportExportResponse pending = export(ReportExportStatus.PENDING);
+            when(reportExportService.requestExport(any(CreateReportExportRequest.class), eq(userId)))
+                    .thenReturn(pending);
+
+            // When & Then
+            mockMvc.perform(post("/api/reports/exports")
+                            .principal(mockAuth)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"reportType\":\"TASKS\",\"format\":\"CSV\",\"organizationId\":\"" + orgId + "\"}"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.id").value(pending.getId().toString()))
+                    .andExpect(jsonPath("$.status").value("PENDING"));
+
+            verify(reportService, never()).exportTasksToCsv(any(), any());
+        }
+
+        @Test
+        @DisplayName("POST /api/reports/exports - Should return 400 when the format is missing")
+        void shouldRejectExportWithoutFormat() throws Exception {
+            mockMvc.perform(post("/api/reports/exports")
+                            .principal(mockAuth)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"reportType\":\"TASKS\"}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(reportExportService);
+        }
+
+        @Test
+        @DisplayName("GET /api/reports/exports/{exportId} - Should return the export progress")
+        void shouldReturnExportProgress() throws Exception {
+            // Given
+            ReportExportResponse running = export(ReportExportStatus.RUNNING);
+            when(reportExportService.getExport(running.getId(), userId)).thenReturn(running);
+
+            // When & Then
+            mockMvc.perform(get("/api/reports/exports/{exportId}", running.getId())
+                            .principal(mockAuth))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("RUNNING"))
+                    .andExpect(jsonPath("$.progress").value(0));
+        }
+
+        @Test
+        @DisplayName("GET /api/reports/exports/{exportId} - Should return 404 when the export does not exist")
+        void shouldReturn404WhenExportNotFound() throws Exception {
+            // Given
+            UUID exportId = UUID.randomUUID();
+            when(reportExportService.getExport(exportId, userId))
+                    .thenThrow(new ReportExportNotFoundException(exportId));
+
+            // When & Then
+            mockMvc.perform(get("/api/reports/exports/{exportId}", exportId)
+                            .principal(mockAuth))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("GET /api/reports/exports/{exportId}/download - Should download the generated file")
+        void shouldDownloadExport() throws Exception {
+            // Given
+            ReportExportResponse completed = export(ReportExportStatus.COMPLETED);
+            when(reportExportService.getExport(completed.getId(), userId)).thenReturn(completed);
+            when(reportExportService.downloadExport(completed.getId(), userId))
+                    .thenReturn(new ByteArrayResource("CSV content".getBytes()));
+
+            // When & Then
+            mockMvc.perform(get("/api/reports/exports/{exportId}/download", completed.getId())
+                            .principal(mockAuth))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("text/csv"))
+                    .andExpect(header().string("Content-Disposition",
+                            org.hamcrest.Matchers.containsString("tasks_2026-01-05.csv")))
+                    .andExpect(content().string("CSV content"));
+        }
+
+        @Test
+        @DisplayName("GET /api/reports/exports/{exportId}/download - Should return 400 while the export is running")
+        void shouldRejectDownloadWhileRunning() throws Exception {
+            // Given
+            ReportExportResponse running = export(ReportExportStatus.RUNNING);
+            when(reportExportService.getExport(running.getId(), userId)).thenReturn(running);
+            when(reportExportService.downloadExport(running.getId(), userId))
+                    .thenThrow(new IllegalStateException("Report export is not ready for download. Status: RUNNING"));
+
+            // When & Then
+            mockMvc.perform(get("/api/reports/exports/{exportId}/download", running.getId())
+                            .principal(mockAuth))
+                    .andExpect(status().isBadRequest());
+        }
+    }
 }
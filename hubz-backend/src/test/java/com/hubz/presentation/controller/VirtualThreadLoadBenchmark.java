@@ -0,0 +1,301 @@
+package com.hubz.presentation.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hubz.application.port.out.OllamaPort;
+import com.hubz.application.port.out.TaskRepositoryPort;
+import com.hubz.application.port.out.UserRepositoryPort;
+import com.hubz.application.service.AuthorizationService;
+import com.hubz.application.service.ChatbotService;
+import com.hubz.application.service.ReportExportService;
+import com.hubz.application.service.ReportService;
+import com.hubz.domain.enums.TaskPriority;
+import com.hubz.domain.enums.TaskStatus;
+import com.hubz.domain.model.Task;
+import com.hubz.infrastructure.config.WebMvcAsyncConfig;
+import com.hubz.infrastructure.security.AuthenticatedUser;
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.Principal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to serve a burst of concurrent chatbot messages and task CSV downloads, with and without
+ * {@code spring.threads.virtual.enabled}.
+ * <p>
+ * Each mode starts the real {@link ChatbotController} and {@link ReportController} with their
+ * services on an embedded Tomcat. Only the blocking calls are stubbed, each taking
+ * {@link #BLOCKING_LATENCY}: the Ollama generation behind the chatbot and the task page query
+ * behind the CSV export. The streamed CSV runs on the MVC async executor, sized here like Tomcat's
+ * 200 platform threads so both endpoints compare Tomcat's defaults with virtual threads.
+ * <p>
+ * On platform threads a burst cannot take less than three rounds of the latency, 200 requests at a
+ * time; with virtual threads every request waits at once and the rest is CPU time.
+ * <p>
+ * Not part of the test suite. Run with:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp target/test-classes:target/classes:$(cat target/test.classpath) \
+ *     com.hubz.presentation.controller.VirtualThreadLoadBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class VirtualThreadLoadBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 600;
+    private static final Duration BLOCKING_LATENCY = Duration.ofSeconds(1);
+    private static final int TASKS_PER_EXPORT = 50;
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID ORGANIZATION_ID = UUID.randomUUID();
+
+    @State(Scope.Benchmark)
+    public static class Server {
+
+        @Param({"false", "true"})
+        boolean virtualThreads;
+
+        private ConfigurableApplicationContext context;
+        private HttpClient client;
+        private URI baseUri;
+
+        @Setup(Level.Trial)
+        public void start() {
+            context = new SpringApplicationBuilder(LoadTestApplication.class).run(
+                    "--spring.threads.virtual.enabled=" + virtualThreads,
+                    "--server.port=0",
+                    // Backlog for the burst of connections, so none waits for a SYN retransmit
+                    "--server.tomcat.accept-count=" + CONCURRENT_REQUESTS,
+                    "--app.mvc.async.threads=200",
+                    "--app.mvc.async.queue-capacity=" + CONCURRENT_REQUESTS,
+                    "--spring.main.banner-mode=off",
+                    "--logging.level.root=WARN");
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            baseUri = URI.create("http://localhost:" + port);
+            client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            client.close();
+            context.close();
+        }
+
+        /**
+         * Send {@link #CONCURRENT_REQUESTS} copies of the request at once and wait for every response.
+         */
+        int burst(HttpRequest request) {
+            List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(CONCURRENT_REQUESTS);
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+            for (CompletableFuture<HttpResponse<Void>> response : responses) {
+                int status = response.join().statusCode();
+                if (status != 200) {
+                    throw new IllegalStateException(request.uri() + " answered " + status);
+                }
+            }
+            return responses.size();
+        }
+    }
+
+    @Benchmark
+    public int chatbot(Server server) {
+        return server.burst(HttpRequest.newBuilder(server.baseUri.resolve("/api/chatbot/message"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"bonjour\"}"))
+                .build());
+    }
+
+    @Benchmark
+    public int tasksCsv(Server server) {
+        return server.burst(HttpRequest.newBuilder(
+                        server.baseUri.resolve("/api/reports/organizations/" + ORGANIZATION_ID + "/tasks/csv"))
+                .GET()
+                .build());
+    }
+
+    /**
+     * Just the web stack and the two controllers, so the measurement is not skewed by the
+     * database, Redis or security filters the full application would start.
+     */
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            ValidationAutoConfiguration.class
+    })
+    @Import({ChatbotController.class, ReportController.class, WebMvcAsyncConfig.class})
+    static class LoadTestApplication {
+
+        @Bean
+        ChatbotService chatbotService(ObjectMapper objectMapper) {
+            return new ChatbotService(null, null, null, null, null, null, slowOllama(), objectMapper);
+        }
+
+        @Bean
+        ReportService reportService() {
+            return new ReportService(slowTaskRepository(), null, null, null, new AuthorizationService(null, null, null, null) {
+                @Override
+                public void checkOrganizationAccess(UUID organizationId, UUID userId) {
+                    // Every user is a member: access checks are not what is measured here
+                }
+            });
+        }
+
+        @Bean
+        ReportExportService reportExportService() {
+            return Mockito.mock(ReportExportService.class);
+        }
+
+        @Bean
+        UserRepositoryPort userRepositoryPort() {
+            return Mockito.mock(UserRepositoryPort.class);
+        }
+
+        /**
+         * Authenticates every request as the same user, as the JWT filter would.
+         */
+        @Bean
+        Filter authenticatedUserFilter() {
+            Principal principal = new UsernamePasswordAuthenticationToken(
+                    new AuthenticatedUser(USER_ID, "load@hubz.com"), null, List.of());
+            return (request, response, chain) -> chain.doFilter(
+                    new HttpServletRequestWrapper((HttpServletRequest) request) {
+                        @Override
+                        public Principal getUserPrincipal() {
+                            return principal;
+                        }
+                    }, response);
+        }
+    }
+
+    /**
+     * Ollama answering every message after {@link #BLOCKING_LATENCY} with an intent it did not
+     * recognize, so the chatbot falls back to its own parser and touches no other service.
+     */
+    private static OllamaPort slowOllama() {
+        return new OllamaPort() {
+            @Override
+            public String generateResponse(String prompt, String systemPrompt) {
+                return generateResponseWithHistory(prompt, systemPrompt, "");
+            }
+
+            @Override
+            public String generateResponseWithHistory(String prompt, String systemPrompt, String conversationHistory) {
+                block();
+                return "{\"intent\":\"UNKNOWN\",\"entities\":{}}";
+            }
+
+            @Override
+            public boolean isAvailable() {
+                return true;
+            }
+
+            @Override
+            public String getModelName() {
+                return "stub";
+            }
+        };
+    }
+
+    /**
+     * Task repository answering the single export page after {@link #BLOCKING_LATENCY}.
+     */
+    private static TaskRepositoryPort slowTaskRepository() {
+        List<Task> tasks = tasks();
+        return (TaskRepositoryPort) Proxy.newProxyInstance(
+                TaskRepositoryPort.class.getClassLoader(),
+                new Class<?>[]{TaskRepositoryPort.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findPageByOrganizationId")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    block();
+                    return tasks;
+                });
+    }
+
+    private static List<Task> tasks() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(TASKS_PER_EXPORT);
+        for (int i = 0; i < TASKS_PER_EXPORT; i++) {
+            tasks.add(Task.builder()
+                    .id(UUID.randomUUID())
+                    .title("Livrer le lot " + i)
+                    .status(TaskStatus.values()[i % TaskStatus.values().length])
+                    .priority(TaskPriority.values()[i % TaskPriority.values().length])
+                    .organizationId(ORGANIZATION_ID)
+                    .createdAt(now.minusMinutes(i))
+                    .build());
+        }
+        return tasks;
+    }
+
+    private static void block() {
+        try {
+            Thread.sleep(BLOCKING_LATENCY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VirtualThreadLoadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}